@@ -23,6 +23,9 @@ create table REVINFO (
     primary key (REV)
 )
 
+create index IDXjhb8w4q6mt7gxuw1hj4iueuyd
+    on Customer_AUD (REV, REVEND)
+
 alter table Customer_AUD
     add constraint FK5ecvi1a0ykunrriib7j28vpdj
     foreign key (REV)
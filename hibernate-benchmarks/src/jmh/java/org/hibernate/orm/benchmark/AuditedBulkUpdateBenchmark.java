@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.Audited;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures committing a transaction updating many audited entities with the
+ * {@link ValidityAuditStrategy}, which sets the end revision of the previous audit
+ * row of each entity, either with one statement per entity, or in JDBC batches of
+ * {@value EnversSettings#AUDIT_STRATEGY_VALIDITY_REVEND_UPDATE_BATCH_SIZE}.
+ * Each invocation adds a new revision of all the entities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AuditedBulkUpdateBenchmark {
+
+	@Param({ "1000", "10000" })
+	public int entities;
+
+	@Param({ "0", "50" })
+	public int revisionEndBatchSize;
+
+	private SessionFactory sessionFactory;
+	private Session session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final Map<String, Object> settings = BenchmarkSupport.defaultSettings( "audited_update" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "50" );
+		settings.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		settings.put(
+				EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_UPDATE_BATCH_SIZE,
+				Integer.toString( revisionEndBatchSize )
+		);
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySettings( settings )
+				.build();
+		try {
+			sessionFactory = new MetadataSources( registry )
+					.addAnnotatedClass( Account.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+
+		sessionFactory.inTransaction(
+				session -> {
+					for ( int i = 0; i < entities; i++ ) {
+						session.persist( new Account( i ) );
+						if ( i % 1000 == 0 ) {
+							session.flush();
+							session.clear();
+						}
+					}
+				}
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Invocation)
+	public void updateAccounts() {
+		session = sessionFactory.openSession();
+		session.beginTransaction();
+		final List<Account> accounts = session.createQuery( "from Account", Account.class ).list();
+		for ( Account account : accounts ) {
+			account.balance++;
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void closeSession() {
+		session.close();
+	}
+
+	@Benchmark
+	public void commit() {
+		session.getTransaction().commit();
+	}
+
+	@Entity(name = "Account")
+	@Audited
+	public static class Account {
+		@Id
+		private Integer id;
+
+		private long balance;
+
+		public Account() {
+		}
+
+		public Account(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+/**
+ * Bootstraps SessionFactory instances backed by a private in-memory H2 database.
+ */
+public final class BenchmarkSupport {
+
+	private BenchmarkSupport() {
+	}
+
+	public static Map<String, Object> defaultSettings(String databaseName) {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.URL, "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1" );
+		settings.put( AvailableSettings.USER, "sa" );
+		settings.put( AvailableSettings.PASS, "" );
+		settings.put( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+		settings.put( AvailableSettings.SHOW_SQL, "false" );
+		return settings;
+	}
+
+	public static SessionFactory buildSessionFactory(Map<String, Object> settings) {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySettings( settings )
+				.build();
+		try {
+			return new MetadataSources( registry )
+					.addAnnotatedClass( Person.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Inserts {@code count} Person rows, returning the identifier of the first one;
+	 * identifiers are allocated sequentially.
+	 */
+	public static long populate(SessionFactory sessionFactory, int count) {
+		return sessionFactory.fromTransaction(
+				session -> {
+					Long firstId = null;
+					for ( int i = 0; i < count; i++ ) {
+						final Person person = new Person(
+								"Person #" + i,
+								20 + i % 50,
+								BigDecimal.valueOf( 1000L + i, 2 ),
+								LocalDate.of( 1950, 1, 1 ).plusDays( i % 20_000 )
+						);
+						session.persist( person );
+						if ( firstId == null ) {
+							firstId = person.getId();
+						}
+						if ( i % 1000 == 0 ) {
+							session.flush();
+							session.clear();
+						}
+					}
+					return firstId;
+				}
+		);
+	}
+}
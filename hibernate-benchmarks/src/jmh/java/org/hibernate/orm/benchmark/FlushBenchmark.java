@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures flush-time dirty checking, done by
+ * {@link org.hibernate.event.internal.DefaultFlushEntityEventListener}, for
+ * sessions holding many managed entities of which only a few were modified.
+ * Each invocation flushes a freshly loaded session and rolls back afterwards,
+ * so the database content stays stable.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FlushBenchmark {
+
+	@Param({ "1000", "50000" })
+	public int managedEntities;
+
+	@Param({ "0", "10" })
+	public int dirtyPercent;
+
+	private SessionFactory sessionFactory;
+	private Session session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory( BenchmarkSupport.defaultSettings( "flush" ) );
+		BenchmarkSupport.populate( sessionFactory, managedEntities );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Invocation)
+	public void loadSession() {
+		session = sessionFactory.openSession();
+		session.beginTransaction();
+		final List<Person> people = session.createQuery( "select p from Person p", Person.class ).list();
+		final int dirtyCount = people.size() * dirtyPercent / 100;
+		for ( int i = 0; i < dirtyCount; i++ ) {
+			final Person person = people.get( i );
+			person.setAge( person.getAge() + 1 );
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		session.flush();
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures how identifier generation scales with the number of threads, for the
+ * synchronized pooled optimizers and for {@link org.hibernate.id.enhanced.PooledLoConcurrentOptimizer}.
+ * <p>
+ * The {@code generate} benchmarks call the optimizer directly, with a sequence
+ * simulating a round trip of {@value #ROUND_TRIP_MICROS} microseconds, which is
+ * where the synchronized optimizers make the other threads wait. The {@code persist}
+ * benchmarks insert a {@link Person} per transaction into H2, so that the inserts per
+ * second can be compared across thread counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdGenerationBenchmark {
+
+	private static final int ALLOCATION_SIZE = 100;
+	private static final long ROUND_TRIP_MICROS = 100;
+
+	@Param({ "pooled", "pooled-lo", "pooled-lo-concurrent" })
+	public String optimizer;
+
+	private SessionFactory sessionFactory;
+	private Optimizer idOptimizer;
+	private AccessCallback sequence;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final Map<String, Object> settings = BenchmarkSupport.defaultSettings( "ids_" + optimizer.replace( '-', '_' ) );
+		settings.put( AvailableSettings.PREFERRED_POOLED_OPTIMIZER, optimizer );
+		sessionFactory = BenchmarkSupport.buildSessionFactory( settings );
+
+		idOptimizer = OptimizerFactory.buildOptimizer( optimizer, Long.class, ALLOCATION_SIZE, 1 );
+		sequence = new SimulatedSequence();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Serializable generate1Thread() {
+		return idOptimizer.generate( sequence );
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Serializable generate4Threads() {
+		return idOptimizer.generate( sequence );
+	}
+
+	@Benchmark
+	@Threads(16)
+	public Serializable generate16Threads() {
+		return idOptimizer.generate( sequence );
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Long persist1Thread() {
+		return persist();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Long persist4Threads() {
+		return persist();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public Long persist16Threads() {
+		return persist();
+	}
+
+	private Long persist() {
+		return sessionFactory.fromTransaction( session -> {
+			final Person person = new Person( "Person", 42, BigDecimal.TEN, LocalDate.of( 1980, 1, 1 ) );
+			session.persist( person );
+			return person.getId();
+		} );
+	}
+
+	/**
+	 * A sequence incremented by the allocation size, which takes a while to answer.
+	 */
+	private static class SimulatedSequence implements AccessCallback {
+		private final AtomicLong value = new AtomicLong( 1 );
+
+		@Override
+		public IntegralDataTypeHolder getNextValue() {
+			LockSupport.parkNanos( TimeUnit.MICROSECONDS.toNanos( ROUND_TRIP_MICROS ) );
+			return IdentifierGeneratorHelper.getIntegralDataTypeHolder( Long.class )
+					.initialize( value.getAndAdd( ALLOCATION_SIZE ) );
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.FlushMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the sorting of the insert actions of a flush, with {@code hibernate.order_inserts}
+ * enabled, for a model of {@value #ENTITY_TYPES} entity types, each one referencing the
+ * previous one.
+ * <p>
+ * In the {@code acyclic} model, the actions are sorted with the order of the entity types
+ * computed from the mapping model, by {@link org.hibernate.engine.internal.EntityInsertOrdering}.
+ * The {@code cyclic} model adds a reference from the first entity type to the last one,
+ * which is never set, so that the same actions are sorted by looking at the values being
+ * inserted, which is how all inserts used to be sorted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InsertOrderingBenchmark {
+
+	private static final int ENTITY_TYPES = 120;
+
+	@Param({ "acyclic", "cyclic" })
+	public String model;
+
+	@Param({ "1000", "20000" })
+	public int insertions;
+
+	private SessionFactory sessionFactory;
+	private SessionImplementor session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final Map<String, Object> settings = BenchmarkSupport.defaultSettings( "ordering_" + model );
+		settings.put( AvailableSettings.ORDER_INSERTS, "true" );
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySettings( settings )
+				.build();
+		try {
+			sessionFactory = new MetadataSources( registry )
+					.addInputStream( new ByteArrayInputStream( mapping().getBytes( StandardCharsets.UTF_8 ) ) )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	/**
+	 * Queues the inserts of the entities, which reference the entity of the previous
+	 * type created in the same round, in the order they were created.
+	 */
+	@Setup(Level.Invocation)
+	public void queueInsertions() {
+		session = (SessionImplementor) sessionFactory.openSession();
+		session.setHibernateFlushMode( FlushMode.MANUAL );
+		Map<String, Object> previous = null;
+		for ( int i = 0; i < insertions; i++ ) {
+			final int type = i % ENTITY_TYPES;
+			final Map<String, Object> entity = new HashMap<>();
+			entity.put( "id", (long) i );
+			entity.put( "name", "Entity #" + i );
+			if ( type > 0 ) {
+				entity.put( "previous", previous );
+			}
+			session.persist( entityName( type ), entity );
+			previous = entity;
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void closeSession() {
+		session.close();
+	}
+
+	@Benchmark
+	public void sortInsertions() {
+		session.getActionQueue().sortActions();
+	}
+
+	private String mapping() {
+		final StringBuilder mapping = new StringBuilder( "<hibernate-mapping>" );
+		for ( int type = 0; type < ENTITY_TYPES; type++ ) {
+			mapping.append( "<class entity-name=\"" ).append( entityName( type ) )
+					.append( "\" table=\"ordering_" ).append( type ).append( "\">" )
+					.append( "<id name=\"id\" type=\"long\"><generator class=\"assigned\"/></id>" )
+					.append( "<property name=\"name\" type=\"string\"/>" );
+			if ( type > 0 ) {
+				mapping.append( "<many-to-one name=\"previous\" entity-name=\"" ).append( entityName( type - 1 ) )
+						.append( "\"/>" );
+			}
+			else if ( "cyclic".equals( model ) ) {
+				mapping.append( "<many-to-one name=\"last\" entity-name=\"" ).append( entityName( ENTITY_TYPES - 1 ) )
+						.append( "\"/>" );
+			}
+			mapping.append( "</class>" );
+		}
+		return mapping.append( "</hibernate-mapping>" ).toString();
+	}
+
+	private static String entityName( int type ) {
+		return "Type" + type;
+	}
+}
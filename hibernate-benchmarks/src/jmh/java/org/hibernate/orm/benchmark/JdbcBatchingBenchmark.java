@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures inserting a block of entities in one transaction, with and without
+ * JDBC batching through {@link org.hibernate.engine.jdbc.batch.internal.BatchingBatch}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JdbcBatchingBenchmark {
+
+	private static final int ENTITIES_PER_TRANSACTION = 1000;
+
+	@Param({ "1", "50" })
+	public int batchSize;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final Map<String, Object> settings = BenchmarkSupport.defaultSettings( "batch" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString( batchSize ) );
+		sessionFactory = BenchmarkSupport.buildSessionFactory( settings );
+	}
+
+	@TearDown(Level.Iteration)
+	public void deleteRows() {
+		sessionFactory.inTransaction(
+				session -> session.createMutationQuery( "delete from Person" ).executeUpdate()
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void insert() {
+		sessionFactory.inTransaction(
+				session -> {
+					for ( int i = 0; i < ENTITIES_PER_TRANSACTION; i++ ) {
+						session.persist(
+								new Person( "Person #" + i, i % 80, BigDecimal.TEN, LocalDate.of( 2000, 1, 1 ) )
+						);
+					}
+				}
+		);
+	}
+}
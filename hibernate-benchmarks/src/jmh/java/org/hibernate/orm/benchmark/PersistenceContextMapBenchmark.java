@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the map implementations considered for the persistence context's
+ * {@code entitiesByKey}: populating it and looking every key up again.
+ * The {@code gc} profiler output shows the per-entry footprint difference.
+ * <p>
+ * The {@code lookup} benchmarks always use {@link OpenAddressingHashMap}, and
+ * compare looking entries up by key with looking them up by primitive identifier.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersistenceContextMapBenchmark {
+
+	@Param({ "HashMap", "OpenAddressingHashMap" })
+	public String implementation;
+
+	@Param({ "1000", "500000" })
+	public int size;
+
+	private Key[] keys;
+	private OpenAddressingHashMap<Key, Object> populated;
+	private final IdMatcher matcher = new IdMatcher();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		keys = new Key[size];
+		for ( int i = 0; i < size; i++ ) {
+			keys[i] = new Key( "Person", (long) i );
+		}
+		populated = new OpenAddressingHashMap<>( size );
+		for ( Key key : keys ) {
+			populated.put( key, key );
+		}
+	}
+
+	@Benchmark
+	public void populateAndLookup(Blackhole blackhole) {
+		final Map<Key, Object> map = "HashMap".equals( implementation )
+				? new HashMap<>()
+				: new OpenAddressingHashMap<>();
+		for ( Key key : keys ) {
+			map.put( key, key );
+		}
+		for ( Key key : keys ) {
+			// use an equal, but not identical, key as a new EntityKey would be
+			blackhole.consume( map.get( new Key( key.entityName, key.id ) ) );
+		}
+	}
+
+	/**
+	 * Looks every key of a populated map up with an equal, but not identical, key.
+	 */
+	@Benchmark
+	public void lookupByKey(Blackhole blackhole) {
+		final Map<Key, Object> map = populated;
+		for ( long id = 0; id < size; id++ ) {
+			blackhole.consume( map.get( new Key( "Person", id ) ) );
+		}
+	}
+
+	/**
+	 * Looks every key of a populated map up by entity name and primitive
+	 * identifier, as the persistence context does for {@code long} and
+	 * {@code int} identifiers: neither a key nor a {@code Long} is created.
+	 */
+	@Benchmark
+	public void lookupByMatcher(Blackhole blackhole) {
+		final OpenAddressingHashMap<Key, Object> map = populated;
+		final IdMatcher matcher = this.matcher;
+		matcher.entityName = "Person";
+		final int entityNameHashCode = 37 * ( 37 * 17 + matcher.entityName.hashCode() );
+		for ( long id = 0; id < size; id++ ) {
+			matcher.id = id;
+			blackhole.consume( map.get( entityNameHashCode + Long.hashCode( id ), matcher ) );
+		}
+	}
+
+	private static final class IdMatcher implements OpenAddressingHashMap.KeyMatcher<Key> {
+		private String entityName;
+		private long id;
+
+		@Override
+		public boolean matches(Key key) {
+			return key.id == id && key.entityName.equals( entityName );
+		}
+	}
+
+	/**
+	 * Mimics {@link org.hibernate.engine.spi.EntityKey}: cached hash code,
+	 * equality on entity name and identifier.
+	 */
+	private static final class Key {
+		private final String entityName;
+		private final Long id;
+		private final int hashCode;
+
+		private Key(String entityName, Long id) {
+			this.entityName = entityName;
+			this.id = id;
+			this.hashCode = 37 * ( 37 * 17 + entityName.hashCode() ) + id.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Key ) ) {
+				return false;
+			}
+			final Key other = (Key) o;
+			return id.equals( other.id ) && entityName.equals( other.entityName );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures HQL parsing and semantic interpretation as done by
+ * {@link org.hibernate.query.internal.QueryInterpretationCacheStandardImpl}.
+ * With the plan cache disabled every call parses the query string again,
+ * with it enabled the benchmark measures the cache lookup path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class QueryInterpretationBenchmark {
+
+	private static final String[] QUERIES = {
+			"select p from Person p",
+			"select p from Person p where p.id = :id",
+			"select p from Person p where p.name like :name order by p.age",
+			"select p.name, p.salary from Person p where p.age between :min and :max",
+			"select count(p) from Person p where p.birthDate > :date",
+			"select p.age, avg(p.salary) from Person p group by p.age having count(p) > 1",
+			"select p from Person p where p.id in (select p2.id from Person p2 where p2.age > 30)",
+			"update Person p set p.age = p.age + 1 where p.name = :name",
+	};
+
+	@Param({ "true", "false" })
+	public boolean planCacheEnabled;
+
+	private SessionFactory sessionFactory;
+	private Session session;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final Map<String, Object> settings = BenchmarkSupport.defaultSettings( "hql" );
+		settings.put( AvailableSettings.QUERY_PLAN_CACHE_ENABLED, Boolean.toString( planCacheEnabled ) );
+		sessionFactory = BenchmarkSupport.buildSessionFactory( settings );
+		session = sessionFactory.openSession();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Object createQuery() {
+		final String hql = QUERIES[next++ % QUERIES.length];
+		return session.createQuery( hql );
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures result set processing through
+ * {@link org.hibernate.sql.results.internal.StandardRowReader}, for both
+ * entity results and scalar projections, and the reading of scalar
+ * projections by columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RowReadingBenchmark {
+
+	private static final int ROWS = 10_000;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory( BenchmarkSupport.defaultSettings( "rows" ) );
+		BenchmarkSupport.populate( sessionFactory, ROWS );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Person> readEntities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.setDefaultReadOnly( true );
+			return session.createQuery( "select p from Person p", Person.class ).list();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> readScalars() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery( "select p.id, p.age, p.salary from Person p", Object[].class ).list();
+		}
+	}
+
+	@Benchmark
+	public long sumScalarRows() {
+		try ( Session session = sessionFactory.openSession() ) {
+			long sum = 0;
+			for ( Object[] row : session.createQuery( "select p.id, p.age from Person p", Object[].class ).list() ) {
+				sum += (Long) row[0] + (Integer) row[1];
+			}
+			return sum;
+		}
+	}
+
+	@Benchmark
+	public long sumScalarColumns() {
+		try ( Session session = sessionFactory.openSession() ) {
+			final long[] sum = new long[1];
+			session.createQuery( "select p.id, p.age from Person p", Object[].class )
+					.consumeColumns( 256, batch -> {
+						final long[] ids = batch.getLongs( 0 );
+						final long[] ages = batch.getLongs( 1 );
+						for ( int row = 0; row < batch.getRowCount(); row++ ) {
+							sum[0] += ids[row] + ages[row];
+						}
+					} );
+			return sum[0];
+		}
+	}
+}
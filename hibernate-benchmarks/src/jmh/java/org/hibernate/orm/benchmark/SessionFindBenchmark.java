@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@code Session.find}, which goes through
+ * {@link org.hibernate.loader.ast.internal.SingleIdEntityLoaderStandardImpl}
+ * and registers each loaded instance with the persistence context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SessionFindBenchmark {
+
+	private static final int ROWS = 10_000;
+
+	private SessionFactory sessionFactory;
+	private long firstId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory( BenchmarkSupport.defaultSettings( "find" ) );
+		firstId = BenchmarkSupport.populate( sessionFactory, ROWS );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	/**
+	 * A single lookup in a fresh session: the round trip to the database dominates.
+	 */
+	@Benchmark
+	public Person findInNewSession() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.find( Person.class, randomId() );
+		}
+	}
+
+	/**
+	 * Loads every row into one session, exercising the persistence context as it grows.
+	 */
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@BenchmarkMode(Mode.AverageTime)
+	public void findAllInOneSession(Blackhole blackhole) {
+		try ( Session session = sessionFactory.openSession() ) {
+			for ( int i = 0; i < ROWS; i++ ) {
+				blackhole.consume( session.find( Person.class, firstId + i ) );
+			}
+			// second pass is served by the persistence context
+			for ( int i = 0; i < ROWS; i++ ) {
+				blackhole.consume( session.find( Person.class, firstId + i ) );
+			}
+		}
+	}
+
+	private long randomId() {
+		return firstId + ThreadLocalRandom.current().nextInt( ROWS );
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the cost of collecting statistics from all available cores, with the
+ * shared counters of {@link org.hibernate.stat.internal.StatisticsImpl} and with
+ * the thread-local buffers of {@link org.hibernate.stat.internal.BufferedStatisticsImpl}.
+ * <p>
+ * {@code recordEvents} isolates the statistics themselves, while
+ * {@code findInNewSession} shows the effect on a short unit of work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(Threads.MAX)
+public class StatisticsBenchmark {
+
+	private static final int ROWS = 1_000;
+
+	@Param({ "disabled", "standard", "buffered" })
+	public String statistics;
+
+	private SessionFactory sessionFactory;
+	private StatisticsImplementor statisticsImplementor;
+	private String entityName;
+	private long firstId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final Map<String, Object> settings = BenchmarkSupport.defaultSettings( "statistics_" + statistics );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, Boolean.toString( !"disabled".equals( statistics ) ) );
+		settings.put( AvailableSettings.STATISTICS_BUFFERING, Boolean.toString( "buffered".equals( statistics ) ) );
+		sessionFactory = BenchmarkSupport.buildSessionFactory( settings );
+		statisticsImplementor = sessionFactory.unwrap( SessionFactoryImplementor.class ).getStatistics();
+		entityName = Person.class.getName();
+		firstId = BenchmarkSupport.populate( sessionFactory, ROWS );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	/**
+	 * The events recorded for loading a single entity, guarded the way the
+	 * engine guards them.
+	 */
+	@Benchmark
+	public void recordEvents() {
+		if ( statisticsImplementor.isStatisticsEnabled() ) {
+			statisticsImplementor.connect();
+			statisticsImplementor.prepareStatement();
+			statisticsImplementor.loadEntity( entityName );
+			statisticsImplementor.closeStatement();
+		}
+	}
+
+	@Benchmark
+	public Person findInNewSession() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.find( Person.class, firstId + ThreadLocalRandom.current().nextInt( ROWS ) );
+		}
+	}
+}
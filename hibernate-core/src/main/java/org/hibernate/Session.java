@@ -10,6 +10,7 @@ import java.util.List;
 
 import org.hibernate.graph.RootGraph;
 import org.hibernate.query.Query;
+import org.hibernate.query.SelectionQuery;
 import org.hibernate.stat.SessionStatistics;
 
 import jakarta.persistence.EntityGraph;
@@ -1280,6 +1281,35 @@ public interface Session extends SharedSessionContract, EntityManager {
 	 */
 	void addEventListeners(SessionEventListener... listeners);
 
+	/**
+	 * Execute the given independent selection queries of this session, and return the
+	 * list of results of each, in the order of the queries.
+	 * <p>
+	 * When the session is not in a transaction, or when its transaction reads committed
+	 * data at most, did not execute any statement yet, and has no changes to flush, the
+	 * database work of the queries is performed concurrently, each
+	 * query using a connection of its own, so that the queries cost about one round trip
+	 * to the database instead of one per query. Their results are then assembled by the
+	 * calling thread, one query after the other, so that the persistence context is left
+	 * in the same state as if the queries had been listed in order. Otherwise, since the
+	 * other connections would neither see the changes made by the transaction of the
+	 * session, nor share its view of the database, the queries are listed one after the
+	 * other. This is also the case of a query whose flush executes statements, and of the
+	 * queries after it.
+	 * <p>
+	 * Queries acquiring pessimistic locks, queries whose results are cached, native queries,
+	 * queries reading LOBs, and queries which specify their own {@link FlushMode} or
+	 * {@link CacheMode}, are always listed on the connection of the session, in their turn.
+	 *
+	 * @param queries the queries, which must have been created by this session
+	 *
+	 * @return the list of results of each query
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	List<List<?>> listAll(SelectionQuery<?>... queries);
+
 	@Override
 	<T> RootGraph<T> createEntityGraph(Class<T> rootType);
 
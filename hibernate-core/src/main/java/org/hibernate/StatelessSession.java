@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.List;
+
 /**
  * A command-oriented API for performing bulk operations against a database.
  * <p>
@@ -47,6 +49,24 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	Object insert(String entityName, Object entity);
 
+	/**
+	 * Insert multiple rows, using a single insert statement for each run of
+	 * consecutive entities of the same type when the database supports a list
+	 * of values in an insert statement. The statement holds as many rows as the
+	 * configured JDBC batch size, or 100 rows if JDBC batching is disabled, within
+	 * the limits of the database.
+	 * <p>
+	 * Entities with identifiers generated by the insert statement are still
+	 * inserted one at a time.
+	 *
+	 * @param entities new transient instances
+	 *
+	 * @return the identifiers of the instances, in the same order
+	 *
+	 * @since 6.2
+	 */
+	List<Object> insertMultiple(List<?> entities);
+
 	/**
 	 * Update a row.
 	 *
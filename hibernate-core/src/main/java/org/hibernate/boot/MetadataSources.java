@@ -327,9 +327,7 @@ public class MetadataSources implements Serializable {
 	 * @return this (for method chaining purposes)
 	 */
 	public MetadataSources addResource(String name) {
-		final XmlSource xmlSource = XmlSources.fromResource( name, classLoaderService );
-		final XmlMappingBinderAccess binderAccess = getXmlMappingBinderAccess();
-		getXmlBindingsForWrite().add( xmlSource.doBind( binderAccess.getMappingBinder()  ) );
+		getXmlBindingsForWrite().add( getXmlMappingBinderAccess().bind( name ) );
 		return this;
 	}
 
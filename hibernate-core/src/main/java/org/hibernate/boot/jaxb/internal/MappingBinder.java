@@ -214,15 +214,7 @@ public class MappingBinder extends AbstractBinder<BindableMappingDescriptor> {
 			final JaxbHbmHibernateMapping hbmBindings = jaxb( hbmReader, MappingXsdSupport.INSTANCE.hbmXsd()
 					.getSchema(), hbmJaxbContext(), origin );
 
-			if ( optionsAccess.get().transformHbmMappings() ) {
-				JaxbLogger.JAXB_LOGGER.tracef( "Performing on-the-fly hbm.xml -> mapping.xml transformation - %s ", origin );
-				//noinspection unchecked
-				return new Binding<>( (X) HbmXmlTransformer.transform( hbmBindings, origin, unsupportedHandlingAccess::get ), origin );
-			}
-
-			DeprecationLogger.DEPRECATION_LOGGER.logDeprecatedHbmXmlProcessing( origin.getType(), origin.getName() );
-			//noinspection unchecked
-			return new Binding<>( (X) hbmBindings, origin );
+			return hbmBinding( hbmBindings, origin );
 		}
 		else {
 			assert "entity-mappings".equals( rootElementLocalName );
@@ -241,6 +233,36 @@ public class MappingBinder extends AbstractBinder<BindableMappingDescriptor> {
 		}
 	}
 
+	private <X extends BindableMappingDescriptor> Binding<X> hbmBinding(JaxbHbmHibernateMapping hbmBindings, Origin origin) {
+		if ( optionsAccess.get().transformHbmMappings() ) {
+			JaxbLogger.JAXB_LOGGER.tracef( "Performing on-the-fly hbm.xml -> mapping.xml transformation - %s ", origin );
+			//noinspection unchecked
+			return new Binding<>( (X) HbmXmlTransformer.transform( hbmBindings, origin, unsupportedHandlingAccess::get ), origin );
+		}
+
+		DeprecationLogger.DEPRECATION_LOGGER.logDeprecatedHbmXmlProcessing( origin.getType(), origin.getName() );
+		//noinspection unchecked
+		return new Binding<>( (X) hbmBindings, origin );
+	}
+
+	/**
+	 * Produces the binding of a mapping document from its JAXB representation, as bound
+	 * ahead of time by {@link PreboundXmlMappings}, applying the same options as when
+	 * binding the XML document itself.
+	 *
+	 * @param root The JAXB representation of the document
+	 * @param origin The origin of the document
+	 *
+	 * @since 6.2
+	 */
+	public <X extends BindableMappingDescriptor> Binding<X> bind(BindableMappingDescriptor root, Origin origin) {
+		if ( root instanceof JaxbHbmHibernateMapping ) {
+			return hbmBinding( (JaxbHbmHibernateMapping) root, origin );
+		}
+		//noinspection unchecked
+		return new Binding<>( (X) root, origin );
+	}
+
 	private JAXBContext hbmJaxbContext() {
 		if ( hbmJaxbContext == null ) {
 			try {
@@ -0,0 +1,216 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.jaxb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.SourceType;
+import org.hibernate.boot.jaxb.spi.BindableMappingDescriptor;
+import org.hibernate.boot.jaxb.spi.Binder;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+import static org.hibernate.boot.jaxb.JaxbLogger.JAXB_LOGGER;
+
+/**
+ * The JAXB representations of {@code hbm.xml} and {@code orm.xml} mapping resources,
+ * bound at build time, so that they need neither be parsed nor validated when
+ * bootstrapping Hibernate.
+ * <p>
+ * This only saves the binding of the XML documents.  The mappings are still
+ * processed, along with the annotations, when building the metadata.
+ * <p>
+ * The bindings are written by the build tooling to the {@value #RESOURCE_NAME}
+ * resource of the application, and found on the classpath at runtime.  Each mapping
+ * document is recorded along with a digest of its XML, and is only used as long as the
+ * digest of the resource on the classpath matches.  A resource which changed since it
+ * was bound is bound again from its XML, as are all resources bound by another version
+ * of Hibernate.
+ *
+ * @see CacheableFileXmlSource
+ *
+ * @since 6.2
+ */
+public class PreboundXmlMappings implements Serializable {
+	/**
+	 * The name of the resource holding the pre-bound mappings of an application
+	 */
+	public static final String RESOURCE_NAME = "META-INF/hibernate-prebound-xml-mappings.bin";
+
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+
+	private static final String HBM_ROOT_ELEMENT = "hibernate-mapping";
+	private static final String ORM_ROOT_ELEMENT = "entity-mappings";
+
+	private final String hibernateVersion;
+	private final Map<String, Entry> entries = new HashMap<>();
+
+	public PreboundXmlMappings() {
+		this.hibernateVersion = Version.getVersionString();
+	}
+
+	/**
+	 * Binds the given XML of a mapping resource, and adds it to these mappings, unless
+	 * it is not a mapping document.
+	 *
+	 * @param resourceName The name of the resource, relative to the root of the classpath
+	 * @param xml The content of the resource
+	 * @param binder The binder to use
+	 *
+	 * @return {@code true} if the resource was added, {@code false} if its root element is
+	 * not the one of a {@code hbm.xml} or {@code orm.xml} document
+	 */
+	public boolean add(String resourceName, byte[] xml, Binder<?> binder) {
+		if ( !isMappingDocument( xml ) ) {
+			JAXB_LOGGER.debugf( "Skipping resource `%s`, which is not a mapping document", resourceName );
+			return false;
+		}
+		final Origin origin = new Origin( SourceType.RESOURCE, resourceName );
+		final Binding<?> binding = InputStreamXmlSource.doBind( binder, new ByteArrayInputStream( xml ), origin, true );
+		entries.put( resourceName, new Entry( digest( xml ), (BindableMappingDescriptor) binding.getRoot() ) );
+		return true;
+	}
+
+	/**
+	 * The JAXB representation of the given mapping resource, if it is part of these mappings
+	 * and the given XML is the one it was bound from.
+	 *
+	 * @param resourceName The name of the resource, relative to the root of the classpath
+	 * @param xml The current content of the resource
+	 *
+	 * @return The JAXB representation, or {@code null} if the resource must be bound from its XML
+	 */
+	public BindableMappingDescriptor getRoot(String resourceName, byte[] xml) {
+		final Entry entry = entries.get( resourceName );
+		if ( entry == null ) {
+			return null;
+		}
+		if ( !Arrays.equals( entry.digest, digest( xml ) ) ) {
+			JAXB_LOGGER.debugf( "Pre-bound mapping of resource `%s` is obsolete", resourceName );
+			return null;
+		}
+		return entry.root;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public void write(OutputStream outputStream) {
+		SerializationHelper.serialize( this, outputStream );
+	}
+
+	/**
+	 * Loads the pre-bound mappings found on the classpath, the first of them taking
+	 * precedence for a resource part of several.
+	 *
+	 * @return The merged mappings, or {@code null} if there are none
+	 */
+	public static PreboundXmlMappings load(ClassLoaderService classLoaderService) {
+		PreboundXmlMappings merged = null;
+		for ( URL url : classLoaderService.locateResources( RESOURCE_NAME ) ) {
+			final PreboundXmlMappings mappings = read( url );
+			if ( mappings == null ) {
+				continue;
+			}
+			if ( merged == null ) {
+				merged = mappings;
+			}
+			else {
+				mappings.entries.forEach( merged.entries::putIfAbsent );
+			}
+		}
+		return merged;
+	}
+
+	private static PreboundXmlMappings read(URL url) {
+		final PreboundXmlMappings mappings;
+		try ( InputStream inputStream = url.openStream() ) {
+			mappings = (PreboundXmlMappings) SerializationHelper.deserialize(
+					inputStream,
+					PreboundXmlMappings.class.getClassLoader()
+			);
+		}
+		catch (IOException | SerializationException | ClassCastException e) {
+			JAXB_LOGGER.debugf( e, "Ignoring unreadable pre-bound mappings `%s`", url );
+			return null;
+		}
+
+		if ( !Version.getVersionString().equals( mappings.hibernateVersion ) ) {
+			JAXB_LOGGER.debugf(
+					"Ignoring pre-bound mappings `%s` created by Hibernate %s",
+					url,
+					mappings.hibernateVersion
+			);
+			return null;
+		}
+		JAXB_LOGGER.debugf( "Using pre-bound mappings `%s` of %s resources", url, mappings.size() );
+		return mappings;
+	}
+
+	private static boolean isMappingDocument(byte[] xml) {
+		final XMLInputFactory staxFactory = XMLInputFactory.newInstance();
+		// only the root element is of interest
+		staxFactory.setProperty( XMLInputFactory.SUPPORT_DTD, false );
+		try {
+			final XMLStreamReader reader = staxFactory.createXMLStreamReader( new ByteArrayInputStream( xml ) );
+			try {
+				while ( reader.hasNext() ) {
+					if ( reader.next() == XMLStreamConstants.START_ELEMENT ) {
+						return HBM_ROOT_ELEMENT.equals( reader.getLocalName() )
+								|| ORM_ROOT_ELEMENT.equals( reader.getLocalName() );
+					}
+				}
+				return false;
+			}
+			finally {
+				reader.close();
+			}
+		}
+		catch (XMLStreamException e) {
+			return false;
+		}
+	}
+
+	private static byte[] digest(byte[] xml) {
+		try {
+			return MessageDigest.getInstance( DIGEST_ALGORITHM ).digest( xml );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to compute the digest of mapping XML", e );
+		}
+	}
+
+	private static class Entry implements Serializable {
+		private final byte[] digest;
+		private final BindableMappingDescriptor root;
+
+		private Entry(byte[] digest, BindableMappingDescriptor root) {
+			this.digest = digest;
+			this.root = root;
+		}
+	}
+}
@@ -204,7 +204,9 @@ public class ScanningCoordinator {
 
 		if ( xmlMappingBinderAccess != null ) { // xml mapping is not disabled
 			for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
-				managedResources.addXmlBinding( xmlMappingBinderAccess.bind( mappingFileDescriptor.getStreamAccess() ) );
+				managedResources.addXmlBinding(
+						xmlMappingBinderAccess.bind( mappingFileDescriptor.getName(), mappingFileDescriptor.getStreamAccess() )
+				);
 				nonLocatedMappingFileNames.remove( mappingFileDescriptor.getName() );
 			}
 
@@ -217,7 +219,7 @@ public class ScanningCoordinator {
 					);
 				}
 				final UrlInputStreamAccess inputStreamAccess = new UrlInputStreamAccess( url );
-				managedResources.addXmlBinding( xmlMappingBinderAccess.bind( inputStreamAccess ) );
+				managedResources.addXmlBinding( xmlMappingBinderAccess.bind( name, inputStreamAccess ) );
 			}
 		}
 
@@ -21,9 +21,11 @@ import org.hibernate.boot.registry.selector.StrategyRegistrationProvider;
 import org.hibernate.boot.registry.selector.spi.DialectSelector;
 import org.hibernate.boot.registry.selector.spi.StrategySelectionException;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.cache.internal.CompactCacheEntryCodec;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
 import org.hibernate.cache.internal.SimpleCacheKeysFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.id.enhanced.ImplicitDatabaseObjectNamingStrategy;
@@ -115,6 +117,7 @@ public class StrategySelectorBuilder {
 		addSqmMultiTableMutationStrategies( strategySelector );
 		addImplicitNamingStrategies( strategySelector );
 		addCacheKeysFactories( strategySelector );
+		addCacheEntryCodecs( strategySelector );
 		addJsonFormatMappers( strategySelector );
 		addXmlFormatMappers( strategySelector );
 
@@ -256,6 +259,14 @@ public class StrategySelectorBuilder {
 		);
 	}
 
+	private static void addCacheEntryCodecs(StrategySelectorImpl strategySelector) {
+		strategySelector.registerStrategyImplementor(
+			CacheEntryCodec.class,
+			CompactCacheEntryCodec.SHORT_NAME,
+			CompactCacheEntryCodec.class
+		);
+	}
+
 	private static void addJsonFormatMappers(StrategySelectorImpl strategySelector) {
 		strategySelector.registerStrategyImplementor(
 				FormatMapper.class,
@@ -19,6 +19,7 @@ import org.hibernate.boot.SchemaAutoTooling;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -172,6 +173,30 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isDirectReferenceCacheEntriesEnabled();
 
+	/**
+	 * The codec for the entries of the second-level cache, or {@code null} if the
+	 * entries are stored as objects.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_ENTRY_CODEC
+	 *
+	 * @since 6.2
+	 */
+	default CacheEntryCodec getCacheEntryCodec() {
+		return null;
+	}
+
+	/**
+	 * The number of managed entities from which a flush compares the entities with
+	 * their loaded state in parallel, or zero if it never does.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+	 *
+	 * @since 6.2
+	 */
+	default int getParallelDirtyCheckThreshold() {
+		return 0;
+	}
+
 	boolean isAutoEvictCollectionCache();
 
 	SchemaAutoTooling getSchemaAutoTooling();
@@ -261,6 +286,13 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#USE_ARRAY_PARAMETER_FOR_ID_LOADING
+	 */
+	default boolean useArrayParameterForIdLoading() {
+		return false;
+	}
+
 	default int getQueryStatisticsMaxSize() {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
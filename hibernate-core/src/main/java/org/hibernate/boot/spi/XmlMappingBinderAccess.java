@@ -6,12 +6,14 @@
  */
 package org.hibernate.boot.spi;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.function.Function;
 
+import org.hibernate.boot.MappingException;
 import org.hibernate.boot.MappingNotFoundException;
 import org.hibernate.boot.archive.spi.InputStreamAccess;
 import org.hibernate.boot.jaxb.Origin;
@@ -19,6 +21,7 @@ import org.hibernate.boot.jaxb.SourceType;
 import org.hibernate.boot.jaxb.internal.FileXmlSource;
 import org.hibernate.boot.jaxb.internal.InputStreamXmlSource;
 import org.hibernate.boot.jaxb.internal.MappingBinder;
+import org.hibernate.boot.jaxb.internal.PreboundXmlMappings;
 import org.hibernate.boot.jaxb.internal.UrlXmlSource;
 import org.hibernate.boot.jaxb.spi.BindableMappingDescriptor;
 import org.hibernate.boot.jaxb.spi.Binding;
@@ -39,6 +42,9 @@ public class XmlMappingBinderAccess {
 	private final ClassLoaderService classLoaderService;
 	private final MappingBinder mappingBinder;
 
+	private PreboundXmlMappings preboundXmlMappings;
+	private boolean preboundXmlMappingsLoaded;
+
 	public XmlMappingBinderAccess(ServiceRegistry serviceRegistry) {
 		this.classLoaderService = serviceRegistry.getService( ClassLoaderService.class );
 		this.mappingBinder = new MappingBinder( serviceRegistry );
@@ -62,8 +68,63 @@ public class XmlMappingBinderAccess {
 			throw new MappingNotFoundException( origin );
 		}
 
+		if ( getPreboundXmlMappings() == null ) {
+			//noinspection unchecked
+			return new UrlXmlSource( origin, url ).doBind( getMappingBinder() );
+		}
+
+		try {
+			return bindResource( resource, url.openStream(), origin );
+		}
+		catch (IOException e) {
+			throw new MappingException( "Unable to open URL InputStream", e, origin );
+		}
+	}
+
+	/**
+	 * Binds a mapping resource accessed through an {@link InputStreamAccess}, using its
+	 * {@linkplain PreboundXmlMappings pre-bound mapping} if it has one.
+	 *
+	 * @param resourceName The name of the resource, relative to the root of the classpath
+	 *
+	 * @since 6.2
+	 */
+	public <X extends BindableMappingDescriptor> Binding<X> bind(String resourceName, InputStreamAccess xmlInputStreamAccess) {
+		if ( getPreboundXmlMappings() == null ) {
+			return bind( xmlInputStreamAccess );
+		}
+
+		LOG.tracef( "reading mappings from InputStreamAccess : %s", xmlInputStreamAccess.getStreamName() );
+		final Origin origin = new Origin( SourceType.INPUT_STREAM, xmlInputStreamAccess.getStreamName() );
+		return bindResource( resourceName, xmlInputStreamAccess.accessInputStream(), origin );
+	}
+
+	private <X extends BindableMappingDescriptor> Binding<X> bindResource(
+			String resourceName,
+			InputStream xmlInputStream,
+			Origin origin) {
+		final byte[] xml;
+		try ( InputStream inputStream = xmlInputStream ) {
+			xml = inputStream.readAllBytes();
+		}
+		catch (IOException e) {
+			throw new MappingException( "Unable to read mapping XML", e, origin );
+		}
+
+		final BindableMappingDescriptor root = preboundXmlMappings.getRoot( resourceName, xml );
+		if ( root != null ) {
+			return mappingBinder.bind( root, origin );
+		}
 		//noinspection unchecked
-		return new UrlXmlSource( origin, url ).doBind( getMappingBinder() );
+		return InputStreamXmlSource.doBind( mappingBinder, new ByteArrayInputStream( xml ), origin, true );
+	}
+
+	private PreboundXmlMappings getPreboundXmlMappings() {
+		if ( !preboundXmlMappingsLoaded ) {
+			preboundXmlMappings = PreboundXmlMappings.load( classLoaderService );
+			preboundXmlMappingsLoaded = true;
+		}
+		return preboundXmlMappings;
 	}
 
 	public <X extends BindableMappingDescriptor> Binding<X> bind(File file) {
@@ -18,12 +18,18 @@ import static org.hibernate.internal.CoreLogging.messageLogger;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivilegedAction;
+import java.util.Base64;
 import java.util.function.Function;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Version;
 import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.bytecode.spi.BasicProxyFactory;
 import org.hibernate.internal.CoreMessageLogger;
@@ -36,6 +42,9 @@ import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.TypeCache;
 import net.bytebuddy.asm.AsmVisitorWrapper.ForDeclaredMethods;
 import net.bytebuddy.asm.MemberSubstitution;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.DynamicType.Unloaded;
@@ -58,6 +67,10 @@ public final class ByteBuddyState {
 
 	private static final boolean DEBUG = false;
 
+	private static final String PREGENERATION_STAMP_FIELD_NAME = "$$_hibernate_pregeneration_stamp";
+
+	private static final String PREGENERATION_DIGEST_ALGORITHM = "SHA-256";
+
 	private final ByteBuddy byteBuddy;
 
 	private static final ProxyDefinitionHelpers proxyDefinitionHelpers = new ProxyDefinitionHelpers();
@@ -130,6 +143,114 @@ public final class ByteBuddyState {
 				.getLoaded();
 	}
 
+	/**
+	 * Load a class generated at build time for the given reference class, instead of generating it
+	 * at runtime.
+	 * <p>
+	 * A pre-generated class is only used if it is {@linkplain #makePregenerated stamped} with the
+	 * current Hibernate version and the digest of the class file of the reference class, that is if
+	 * neither Hibernate nor the reference class changed since it was generated.
+	 * <p>
+	 * Pre-generated classes are not rewritten for the security manager, hence are ignored when it is
+	 * enabled.
+	 *
+	 * @param referenceClass The class the pre-generated class was generated for.
+	 * @param suffix The suffix of the name of the pre-generated class, see {@link #pregeneratedClassName}.
+	 * @return The loaded pre-generated class, or {@code null} if there is no usable one.
+	 */
+	public Class<?> loadPregenerated(Class<?> referenceClass, String suffix) {
+		if ( SystemSecurityManager.isSecurityManagerEnabled() ) {
+			return null;
+		}
+
+		final String className = pregeneratedClassName( referenceClass.getName(), suffix );
+		final Class<?> pregeneratedClass;
+		try {
+			pregeneratedClass = Class.forName( className, false, referenceClass.getClassLoader() );
+		}
+		catch (ClassNotFoundException e) {
+			return null;
+		}
+		catch (LinkageError e) {
+			// e.g. generated for a more recent JVM, or for a previous version of the reference class
+			LOG.debugf( e, "Ignoring unusable pre-generated class %s", className );
+			return null;
+		}
+
+		final String stamp = readPregenerationStamp( pregeneratedClass );
+		if ( stamp == null || !stamp.equals( pregenerationStamp( referenceClass ) ) ) {
+			LOG.debugf( "Ignoring pre-generated class %s, generated for another version of Hibernate or of %s",
+					className, referenceClass.getName() );
+			return null;
+		}
+		return pregeneratedClass;
+	}
+
+	/**
+	 * Make a class at build time, stamped with the current Hibernate version and the digest of the
+	 * class file of the reference class, so that {@link #loadPregenerated} can tell whether it is up
+	 * to date.
+	 *
+	 * @param typePool The ByteBuddy TypePool.
+	 * @param referenceClassFile The class file of the class the class is generated for.
+	 * @param makeClassFunction A function building the class.
+	 * @return The unloaded generated class.
+	 */
+	public Unloaded<?> makePregenerated(TypePool typePool, byte[] referenceClassFile,
+			Function<ByteBuddy, DynamicType.Builder<?>> makeClassFunction) {
+		return make( typePool, makeClassFunction.apply( byteBuddy )
+				.defineField( PREGENERATION_STAMP_FIELD_NAME, String.class, Visibility.PUBLIC, Ownership.STATIC, FieldManifestation.FINAL )
+				.value( pregenerationStamp( referenceClassFile ) ) );
+	}
+
+	private static String readPregenerationStamp(Class<?> pregeneratedClass) {
+		try {
+			final Field stampField = pregeneratedClass.getDeclaredField( PREGENERATION_STAMP_FIELD_NAME );
+			return stampField.getType() == String.class ? (String) stampField.get( null ) : null;
+		}
+		catch (NoSuchFieldException | IllegalAccessException e) {
+			return null;
+		}
+		catch (LinkageError e) {
+			LOG.debugf( e, "Ignoring unusable pre-generated class %s", pregeneratedClass.getName() );
+			return null;
+		}
+	}
+
+	private static String pregenerationStamp(Class<?> referenceClass) {
+		final String resourceName = referenceClass.getName().replace( '.', '/' ) + ".class";
+		try ( InputStream classFile = referenceClass.getClassLoader().getResourceAsStream( resourceName ) ) {
+			return classFile == null ? null : pregenerationStamp( classFile.readAllBytes() );
+		}
+		catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static String pregenerationStamp(byte[] referenceClassFile) {
+		try {
+			final byte[] digest = MessageDigest.getInstance( PREGENERATION_DIGEST_ALGORITHM ).digest( referenceClassFile );
+			return Version.getVersionString() + ':' + Base64.getEncoder().encodeToString( digest );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to compute the digest of a class file", e );
+		}
+	}
+
+	/**
+	 * The name of a class generated at build time for the given reference class.
+	 * <p>
+	 * Unlike the names of the classes generated at runtime, it has no random part, so that it
+	 * can be found by {@link #loadPregenerated}.
+	 *
+	 * @param referenceClassName The name of the class the class is generated for.
+	 * @param suffix The suffix identifying the kind of generated class.
+	 * @return The name of the pre-generated class.
+	 */
+	public static String pregeneratedClassName(String referenceClassName, String suffix) {
+		return referenceClassName + '$' + suffix;
+	}
+
 	/**
 	 * Rewrite a class, used by the enhancer.
 	 * <p>
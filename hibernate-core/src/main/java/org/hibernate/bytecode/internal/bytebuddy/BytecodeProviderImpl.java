@@ -6,12 +6,20 @@
  */
 package org.hibernate.bytecode.internal.bytebuddy;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+import jakarta.persistence.Entity;
 
 import org.hibernate.HibernateException;
+import org.hibernate.annotations.Proxy;
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
@@ -20,10 +28,15 @@ import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
@@ -36,6 +49,12 @@ import net.bytebuddy.jar.asm.Opcodes;
 import net.bytebuddy.jar.asm.Type;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.pool.TypePool;
+
+import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
+import static net.bytebuddy.matcher.ElementMatchers.isPrivate;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 public class BytecodeProviderImpl implements BytecodeProvider {
 
@@ -81,15 +100,19 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		final Class fastClass;
 		if ( !clazz.isInterface() && !Modifier.isAbstract( clazz.getModifiers() ) ) {
 			// we only provide a fast class instantiator if the class can be instantiated
-			final Constructor<?> constructor = findConstructor( clazz );
-
-			fastClass = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
-					.with( new NamingStrategy.SuffixingRandom( INSTANTIATOR_PROXY_NAMING_SUFFIX,
-							new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
-					.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
-					.method( newInstanceMethodName )
-							.intercept( MethodCall.construct( constructor ) )
-			);
+			final Class<?> pregeneratedClass = loadPregeneratedInstantiator( clazz );
+			if ( pregeneratedClass != null ) {
+				fastClass = pregeneratedClass;
+			}
+			else {
+				final Constructor<?> constructor = findConstructor( clazz );
+
+				fastClass = byteBuddyState.load( clazz, instantiatorBuilder(
+						new MethodDescription.ForLoadedConstructor( constructor ),
+						new NamingStrategy.SuffixingRandom( INSTANTIATOR_PROXY_NAMING_SUFFIX,
+								new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) )
+				) );
+			}
 		}
 		else {
 			fastClass = null;
@@ -122,6 +145,87 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	private Class<?> loadPregeneratedInstantiator(Class<?> clazz) {
+		final Class<?> instantiatorClass = byteBuddyState.loadPregenerated( clazz, INSTANTIATOR_PROXY_NAMING_SUFFIX );
+		if ( instantiatorClass == null || !ReflectionOptimizer.InstantiationOptimizer.class.isAssignableFrom( instantiatorClass ) ) {
+			return null;
+		}
+		return instantiatorClass;
+	}
+
+	private static Function<ByteBuddy, DynamicType.Builder<?>> instantiatorBuilder(
+			MethodDescription constructor,
+			NamingStrategy namingStrategy) {
+		return byteBuddy -> byteBuddy
+				.with( namingStrategy )
+				.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
+				.method( newInstanceMethodName )
+						.intercept( MethodCall.construct( constructor ) );
+	}
+
+	/**
+	 * Generates the proxy class and the instantiator of the given entity class.
+	 * <p>
+	 * The accessors of the {@link ReflectionOptimizer} are not generated ahead of time, as they depend
+	 * on the properties and the access strategies resolved from the mapping at runtime.
+	 */
+	@Override
+	public Map<String, byte[]> pregenerateClasses(String className, ClassLoader classLoader) {
+		final ClassFileLocator classFileLocator = ClassFileLocator.ForClassLoader.of( classLoader );
+		final TypePool typePool = TypePool.Default.WithLazyResolution.of( classFileLocator );
+		final TypePool.Resolution resolution = typePool.describe( className );
+		if ( !resolution.isResolved() ) {
+			return Collections.emptyMap();
+		}
+
+		final TypeDescription typeDescription = resolution.resolve();
+		if ( typeDescription.isInterface() || !typeDescription.getDeclaredAnnotations().isAnnotationPresent( Entity.class ) ) {
+			return Collections.emptyMap();
+		}
+
+		final byte[] classFile = readClassFile( classFileLocator, className );
+		final Map<String, byte[]> classes = new HashMap<>();
+		if ( isProxyPregenerable( typeDescription ) ) {
+			addClass( classes, byteBuddyProxyHelper.buildPregeneratedProxy( typePool, typeDescription, classFile ) );
+		}
+
+		final MethodList<MethodDescription.InDefinedShape> constructors = typeDescription.getDeclaredMethods()
+				.filter( isConstructor().and( takesArguments( 0 ) ).and( not( isPrivate() ) ) );
+		if ( !typeDescription.isAbstract() && constructors.size() == 1 ) {
+			addClass( classes, byteBuddyState.makePregenerated( typePool, classFile, instantiatorBuilder(
+					constructors.getOnly(),
+					new NamingStrategy.Suffixing( INSTANTIATOR_PROXY_NAMING_SUFFIX,
+							new NamingStrategy.Suffixing.BaseNameResolver.ForFixedValue( className ) )
+			) ) );
+		}
+		return classes;
+	}
+
+	private static byte[] readClassFile(ClassFileLocator classFileLocator, String className) {
+		try {
+			return classFileLocator.locate( className ).resolve();
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to read the class file of " + className, e );
+		}
+	}
+
+	private static boolean isProxyPregenerable(TypeDescription typeDescription) {
+		if ( typeDescription.isFinal() ) {
+			return false;
+		}
+
+		// only entities without proxy interface, see ByteBuddyProxyHelper#loadPregeneratedProxy
+		final AnnotationDescription proxy = typeDescription.getDeclaredAnnotations().ofType( Proxy.class );
+		return proxy == null
+				|| proxy.getValue( "lazy" ).resolve( Boolean.class )
+						&& proxy.getValue( "proxyClass" ).resolve( TypeDescription.class ).represents( void.class );
+	}
+
+	private static void addClass(Map<String, byte[]> classes, DynamicType.Unloaded<?> unloaded) {
+		classes.put( unloaded.getTypeDescription().getName(), unloaded.getBytes() );
+	}
+
 	public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
@@ -26,7 +26,10 @@ public class ProxyFactoryFactoryImpl implements ProxyFactoryFactory {
 
 	@Override
 	public ProxyFactory buildProxyFactory(SessionFactoryImplementor sessionFactory) {
-		return new ByteBuddyProxyFactory( byteBuddyProxyHelper );
+		return new ByteBuddyProxyFactory(
+				byteBuddyProxyHelper,
+				sessionFactory == null ? null : sessionFactory.getStatistics()
+		);
 	}
 
 	public BasicProxyFactory buildBasicProxyFactory(Class superClassOrInterface) {
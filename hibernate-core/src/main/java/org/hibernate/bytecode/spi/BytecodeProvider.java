@@ -6,6 +6,9 @@
  */
 package org.hibernate.bytecode.spi;
 
+import java.util.Collections;
+import java.util.Map;
+
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.service.Service;
@@ -50,6 +53,26 @@ public interface BytecodeProvider extends Service {
 	 */
 	Enhancer getEnhancer(EnhancementContext enhancementContext);
 
+	/**
+	 * Generates, at build time, the classes this provider would otherwise generate at runtime
+	 * for the given entity class, like its proxy class.  The generated classes are meant to be
+	 * written next to the entity class, where the provider finds them at runtime.
+	 * <p>
+	 * Build tools call this after enhancing the entity class, if it had to be enhanced.
+	 *
+	 * @param className The name of the entity class.
+	 * @param classLoader The class loader to read the entity class and the types it references from.
+	 *
+	 * @return The bytecode of the generated classes, by class name, or an empty map if the
+	 * class is not an entity class, or the provider does not support generating classes
+	 * ahead of time.
+	 *
+	 * @since 6.2
+	 */
+	default Map<String, byte[]> pregenerateClasses(String className, ClassLoader classLoader) {
+		return Collections.emptyMap();
+	}
+
 	/**
 	 * Some BytecodeProvider implementations will have classloader specific caching.
 	 * These caches are useful at runtime but need to be reset at least on SessionFactory shutdown
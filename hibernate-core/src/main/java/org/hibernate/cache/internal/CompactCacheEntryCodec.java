@@ -0,0 +1,290 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.IdentifierBagType;
+import org.hibernate.type.MapType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.cache.internal.CompactEncoding.SERIALIZED;
+
+/**
+ * The standard {@link CacheEntryCodec}, writing entries in the {@link CompactEncoding}.
+ * <p>
+ * The values of basic attributes are written without their tag when their class is
+ * the Java type of the attribute, as recorded in a bitmap preceding the values. Any
+ * other value is written with its tag. Every entry starts with the version of the
+ * format, and the entries of entities and collections also carry a stamp derived
+ * from the names and types of the mapped attributes.
+ *
+ * @since 6.2
+ */
+public class CompactCacheEntryCodec implements CacheEntryCodec {
+	/**
+	 * The name of this codec for {@link org.hibernate.cfg.AvailableSettings#CACHE_ENTRY_CODEC}
+	 */
+	public static final String SHORT_NAME = "compact";
+
+	private static final byte FORMAT_VERSION = 1;
+
+	private final Map<EntityPersister, Schema> entitySchemas = new ConcurrentHashMap<>();
+	private final Map<CollectionPersister, Schema> collectionSchemas = new ConcurrentHashMap<>();
+
+	@Override
+	public byte[] encode(CacheEntry entry, EntityPersister persister) {
+		final String subclass = entry.getSubclass();
+		final Schema schema = entitySchema( subclassPersister( persister, subclass ) );
+		final Serializable[] state = entry.getDisassembledState();
+
+		final CompactEncoding.Output output = new CompactEncoding.Output();
+		output.write( FORMAT_VERSION );
+		output.writeString( subclass );
+		output.writeVarLong( schema.stamp );
+		// the version is the first column of the schema
+		final byte[] bitmap = new byte[bitmapLength( state.length + 1 )];
+		for ( int i = 0; i <= state.length; i++ ) {
+			if ( schema.isTyped( i, i == 0 ? entry.getVersion() : state[i - 1] ) ) {
+				bitmap[i >> 3] |= 1 << ( i & 7 );
+			}
+		}
+		output.write( bitmap, 0, bitmap.length );
+		for ( int i = 0; i <= state.length; i++ ) {
+			writeValue( schema, bitmap, i, i == 0 ? entry.getVersion() : state[i - 1], output );
+		}
+		return output.toByteArray();
+	}
+
+	@Override
+	public CacheEntry decodeEntity(byte[] data, EntityPersister persister) {
+		final CompactEncoding.Input input = new CompactEncoding.Input( data );
+		if ( input.read() != FORMAT_VERSION ) {
+			return null;
+		}
+		final String subclass = input.readString();
+		final EntityPersister subclassPersister = persister.getFactory()
+				.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.findEntityDescriptor( subclass );
+		if ( subclassPersister == null ) {
+			return null;
+		}
+		final Schema schema = entitySchema( subclassPersister );
+		if ( input.readVarLong() != schema.stamp ) {
+			return null;
+		}
+
+		final Serializable[] state = new Serializable[schema.tags.length - 1];
+		final byte[] bitmap = readBitmap( state.length + 1, input );
+		final Object version = readValue( schema, bitmap, 0, input );
+		for ( int i = 0; i < state.length; i++ ) {
+			state[i] = (Serializable) readValue( schema, bitmap, i + 1, input );
+		}
+		return new StandardCacheEntryImpl( state, subclass, version );
+	}
+
+	@Override
+	public byte[] encode(CollectionCacheEntry entry, CollectionPersister persister) {
+		final Schema schema = collectionSchema( persister );
+		final Serializable[] state = entry.getState();
+
+		final CompactEncoding.Output output = new CompactEncoding.Output();
+		output.write( FORMAT_VERSION );
+		output.writeVarLong( schema.stamp );
+		output.writeVarLong( state.length );
+		final byte[] bitmap = new byte[bitmapLength( state.length )];
+		for ( int i = 0; i < state.length; i++ ) {
+			if ( schema.isTyped( i, state[i] ) ) {
+				bitmap[i >> 3] |= 1 << ( i & 7 );
+			}
+		}
+		output.write( bitmap, 0, bitmap.length );
+		for ( int i = 0; i < state.length; i++ ) {
+			writeValue( schema, bitmap, i, state[i], output );
+		}
+		return output.toByteArray();
+	}
+
+	@Override
+	public CollectionCacheEntry decodeCollection(byte[] data, CollectionPersister persister) {
+		final CompactEncoding.Input input = new CompactEncoding.Input( data );
+		if ( input.read() != FORMAT_VERSION ) {
+			return null;
+		}
+		final Schema schema = collectionSchema( persister );
+		if ( input.readVarLong() != schema.stamp ) {
+			return null;
+		}
+
+		final Serializable[] state = new Serializable[(int) input.readVarLong()];
+		final byte[] bitmap = readBitmap( state.length, input );
+		for ( int i = 0; i < state.length; i++ ) {
+			state[i] = (Serializable) readValue( schema, bitmap, i, input );
+		}
+		return new CollectionCacheEntry( state );
+	}
+
+	@Override
+	public byte[] encodeQueryResults(long timestamp, List<?> results) {
+		final CompactEncoding.Output output = new CompactEncoding.Output();
+		output.write( FORMAT_VERSION );
+		output.writeVarLong( timestamp );
+		output.writeVarLong( results.size() );
+		for ( int i = 0; i < results.size(); i++ ) {
+			CompactEncoding.write( results.get( i ), output );
+		}
+		return output.toByteArray();
+	}
+
+	@Override
+	public long decodeQueryResultsTimestamp(byte[] data) {
+		final CompactEncoding.Input input = new CompactEncoding.Input( data );
+		return input.read() == FORMAT_VERSION ? input.readVarLong() : -1L;
+	}
+
+	@Override
+	public List<?> decodeQueryResults(byte[] data) {
+		final CompactEncoding.Input input = new CompactEncoding.Input( data );
+		if ( input.read() != FORMAT_VERSION ) {
+			return null;
+		}
+		// the timestamp
+		input.readVarLong();
+		final int size = (int) input.readVarLong();
+		final List<Object> results = new ArrayList<>( size );
+		for ( int i = 0; i < size; i++ ) {
+			results.add( CompactEncoding.read( input ) );
+		}
+		return results;
+	}
+
+	private static EntityPersister subclassPersister(EntityPersister persister, String subclass) {
+		return persister.getEntityName().equals( subclass )
+				? persister
+				: persister.getFactory().getRuntimeMetamodels().getMappingMetamodel().getEntityDescriptor( subclass );
+	}
+
+	private Schema entitySchema(EntityPersister persister) {
+		final Schema schema = entitySchemas.get( persister );
+		return schema == null
+				? entitySchemas.computeIfAbsent( persister, CompactCacheEntryCodec::buildEntitySchema )
+				: schema;
+	}
+
+	private Schema collectionSchema(CollectionPersister persister) {
+		final Schema schema = collectionSchemas.get( persister );
+		return schema == null
+				? collectionSchemas.computeIfAbsent( persister, CompactCacheEntryCodec::buildCollectionSchema )
+				: schema;
+	}
+
+	private static Schema buildEntitySchema(EntityPersister persister) {
+		final String[] names = persister.getPropertyNames();
+		final Type[] types = persister.getPropertyTypes();
+		final Type[] columns = new Type[types.length + 1];
+		columns[0] = persister.isVersioned() ? persister.getVersionType() : null;
+		System.arraycopy( types, 0, columns, 1, types.length );
+		return new Schema( persister.getEntityName(), names, columns );
+	}
+
+	private static Schema buildCollectionSchema(CollectionPersister persister) {
+		// maps and id bags disassemble to pairs of values
+		final Type collectionType = persister.getCollectionType();
+		final Type[] columns;
+		if ( collectionType instanceof MapType ) {
+			columns = new Type[] { persister.getIndexType(), persister.getElementType() };
+		}
+		else if ( collectionType instanceof IdentifierBagType ) {
+			columns = new Type[] { persister.getIdentifierType(), persister.getElementType() };
+		}
+		else {
+			columns = new Type[] { persister.getElementType() };
+		}
+		return new Schema( persister.getRole(), new String[0], columns );
+	}
+
+	private static int bitmapLength(int columnCount) {
+		return ( columnCount + 7 ) >> 3;
+	}
+
+	private static byte[] readBitmap(int columnCount, CompactEncoding.Input input) {
+		final byte[] bitmap = new byte[bitmapLength( columnCount )];
+		for ( int i = 0; i < bitmap.length; i++ ) {
+			bitmap[i] = input.read();
+		}
+		return bitmap;
+	}
+
+	private static void writeValue(Schema schema, byte[] bitmap, int index, Object value, CompactEncoding.Output output) {
+		if ( ( bitmap[index >> 3] & ( 1 << ( index & 7 ) ) ) != 0 ) {
+			CompactEncoding.writeBody( schema.tag( index ), value, output );
+		}
+		else {
+			CompactEncoding.write( value, output );
+		}
+	}
+
+	private static Object readValue(Schema schema, byte[] bitmap, int index, CompactEncoding.Input input) {
+		return ( bitmap[index >> 3] & ( 1 << ( index & 7 ) ) ) != 0
+				? CompactEncoding.readBody( schema.tag( index ), input )
+				: CompactEncoding.read( input );
+	}
+
+	/**
+	 * The Java classes of the columns of the disassembled state, and their tags.
+	 * The columns of collections repeat, one element (or pair) after the other.
+	 */
+	private static final class Schema {
+		private final Class<?>[] classes;
+		private final byte[] tags;
+		private final int stamp;
+
+		private Schema(String role, String[] names, Type[] columns) {
+			classes = new Class<?>[columns.length];
+			tags = new byte[columns.length];
+			int stamp = role.hashCode();
+			for ( String name : names ) {
+				stamp = 31 * stamp + name.hashCode();
+			}
+			for ( int i = 0; i < columns.length; i++ ) {
+				final Type type = columns[i];
+				if ( type instanceof BasicType ) {
+					classes[i] = ( (BasicType<?>) type ).getJavaTypeDescriptor().getJavaTypeClass();
+					tags[i] = CompactEncoding.tagOf( classes[i] );
+				}
+				else {
+					tags[i] = SERIALIZED;
+				}
+				stamp = 31 * stamp + ( type == null ? 0 : type.getReturnedClass().getName().hashCode() );
+			}
+			this.stamp = stamp;
+		}
+
+		private byte tag(int index) {
+			return tags[index % tags.length];
+		}
+
+		private boolean isTyped(int index, Object value) {
+			final int column = index % tags.length;
+			return value != null
+					&& tags[column] != SERIALIZED
+					&& value.getClass() == classes[column];
+		}
+	}
+}
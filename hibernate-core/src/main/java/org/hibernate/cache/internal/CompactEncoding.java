@@ -0,0 +1,446 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.internal.util.SerializationHelper;
+
+/**
+ * A compact binary encoding of the values stored in the second-level cache.
+ * <p>
+ * Each value is written as a one byte tag followed by its content. Integral
+ * numbers are written as variable-length integers, and the entries built by
+ * Hibernate - disassembled entity state, collection state and read-write
+ * items - are written field by field, without any class descriptor. Values
+ * of any other type fall back to Java serialization.
+ * <p>
+ * The content of a value may also be written {@linkplain #writeBody without its tag},
+ * when the reader knows the type of the value from the mapping.
+ *
+ * @see CompactCacheEntryCodec
+ * @see org.hibernate.cache.offheap.OffHeapRegionFactory
+ */
+public final class CompactEncoding {
+	/**
+	 * The tag of a value which has no more specific encoding than Java serialization.
+	 */
+	public static final byte SERIALIZED = 127;
+
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte FLOAT = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte STRING = 10;
+	private static final byte BYTES = 11;
+	private static final byte SERIALIZABLE_ARRAY = 12;
+	private static final byte OBJECT_ARRAY = 13;
+	private static final byte BIG_DECIMAL = 14;
+	private static final byte BIG_INTEGER = 15;
+	private static final byte UUID_VALUE = 16;
+	private static final byte DATE = 17;
+	private static final byte SQL_DATE = 18;
+	private static final byte SQL_TIMESTAMP = 19;
+	private static final byte INSTANT = 20;
+	private static final byte LOCAL_DATE = 21;
+	private static final byte LOCAL_TIME = 22;
+	private static final byte LOCAL_DATE_TIME = 23;
+	private static final byte BOOLEAN = 24;
+	private static final byte UNFETCHED_PROPERTY = 25;
+
+	private static final byte ENTITY_ENTRY = 40;
+	private static final byte COLLECTION_ENTRY = 41;
+	private static final byte READ_WRITE_ITEM = 42;
+
+	private static final Map<Class<?>, Byte> TAGS = new IdentityHashMap<>();
+	static {
+		TAGS.put( Boolean.class, BOOLEAN );
+		TAGS.put( Byte.class, BYTE );
+		TAGS.put( Short.class, SHORT );
+		TAGS.put( Integer.class, INTEGER );
+		TAGS.put( Long.class, LONG );
+		TAGS.put( Float.class, FLOAT );
+		TAGS.put( Double.class, DOUBLE );
+		TAGS.put( Character.class, CHARACTER );
+		TAGS.put( String.class, STRING );
+		TAGS.put( byte[].class, BYTES );
+		TAGS.put( Serializable[].class, SERIALIZABLE_ARRAY );
+		TAGS.put( Object[].class, OBJECT_ARRAY );
+		TAGS.put( BigDecimal.class, BIG_DECIMAL );
+		TAGS.put( BigInteger.class, BIG_INTEGER );
+		TAGS.put( UUID.class, UUID_VALUE );
+		TAGS.put( Date.class, DATE );
+		TAGS.put( java.sql.Date.class, SQL_DATE );
+		TAGS.put( java.sql.Timestamp.class, SQL_TIMESTAMP );
+		TAGS.put( Instant.class, INSTANT );
+		TAGS.put( LocalDate.class, LOCAL_DATE );
+		TAGS.put( LocalTime.class, LOCAL_TIME );
+		TAGS.put( LocalDateTime.class, LOCAL_DATE_TIME );
+		TAGS.put( StandardCacheEntryImpl.class, ENTITY_ENTRY );
+		TAGS.put( CollectionCacheEntry.class, COLLECTION_ENTRY );
+		TAGS.put( AbstractReadWriteAccess.Item.class, READ_WRITE_ITEM );
+	}
+
+	private CompactEncoding() {
+	}
+
+	public static byte[] encode(Object value) {
+		final Output output = new Output();
+		write( value, output );
+		return output.toByteArray();
+	}
+
+	public static Object decode(byte[] bytes) {
+		return read( new Input( bytes ) );
+	}
+
+	/**
+	 * The tag of the values of the given class, or {@link #SERIALIZED} if values of
+	 * the class have no specific encoding.
+	 */
+	public static byte tagOf(Class<?> type) {
+		final Byte tag = TAGS.get( type );
+		return tag == null ? SERIALIZED : tag;
+	}
+
+	/**
+	 * Writes the tag of the given value, followed by its content.
+	 */
+	public static void write(Object value, Output output) {
+		if ( value == null ) {
+			output.write( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.write( UNFETCHED_PROPERTY );
+		}
+		else if ( value.getClass() == Boolean.class ) {
+			output.write( (Boolean) value ? TRUE : FALSE );
+		}
+		else {
+			// compare the exact class, so that subclasses keep their type through serialization
+			final byte tag = tagOf( value.getClass() );
+			output.write( tag );
+			writeBody( tag, value, output );
+		}
+	}
+
+	/**
+	 * Writes the content of a non-null value, which must be of the class associated
+	 * with the given tag.
+	 */
+	public static void writeBody(byte tag, Object value, Output output) {
+		switch ( tag ) {
+			case BOOLEAN:
+				output.write( (Boolean) value ? 1 : 0 );
+				break;
+			case BYTE:
+				output.write( (Byte) value );
+				break;
+			case SHORT:
+				output.writeVarLong( (Short) value );
+				break;
+			case INTEGER:
+				output.writeVarLong( (Integer) value );
+				break;
+			case LONG:
+				output.writeVarLong( (Long) value );
+				break;
+			case FLOAT:
+				output.writeVarLong( Float.floatToRawIntBits( (Float) value ) );
+				break;
+			case DOUBLE:
+				output.writeFixedLong( Double.doubleToRawLongBits( (Double) value ) );
+				break;
+			case CHARACTER:
+				output.writeVarLong( (Character) value );
+				break;
+			case STRING:
+				output.writeString( (String) value );
+				break;
+			case BYTES:
+				output.writeByteArray( (byte[]) value );
+				break;
+			case SERIALIZABLE_ARRAY:
+			case OBJECT_ARRAY: {
+				final Object[] array = (Object[]) value;
+				output.writeVarLong( array.length );
+				for ( Object element : array ) {
+					write( element, output );
+				}
+				break;
+			}
+			case BIG_DECIMAL: {
+				final BigDecimal decimal = (BigDecimal) value;
+				output.writeVarLong( decimal.scale() );
+				output.writeByteArray( decimal.unscaledValue().toByteArray() );
+				break;
+			}
+			case BIG_INTEGER:
+				output.writeByteArray( ( (BigInteger) value ).toByteArray() );
+				break;
+			case UUID_VALUE: {
+				final UUID uuid = (UUID) value;
+				output.writeFixedLong( uuid.getMostSignificantBits() );
+				output.writeFixedLong( uuid.getLeastSignificantBits() );
+				break;
+			}
+			case DATE:
+			case SQL_DATE:
+				output.writeVarLong( ( (Date) value ).getTime() );
+				break;
+			case SQL_TIMESTAMP: {
+				final java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+				output.writeVarLong( timestamp.getTime() );
+				output.writeVarLong( timestamp.getNanos() );
+				break;
+			}
+			case INSTANT: {
+				final Instant instant = (Instant) value;
+				output.writeVarLong( instant.getEpochSecond() );
+				output.writeVarLong( instant.getNano() );
+				break;
+			}
+			case LOCAL_DATE:
+				output.writeVarLong( ( (LocalDate) value ).toEpochDay() );
+				break;
+			case LOCAL_TIME:
+				output.writeVarLong( ( (LocalTime) value ).toNanoOfDay() );
+				break;
+			case LOCAL_DATE_TIME: {
+				final LocalDateTime dateTime = (LocalDateTime) value;
+				output.writeVarLong( dateTime.toLocalDate().toEpochDay() );
+				output.writeVarLong( dateTime.toLocalTime().toNanoOfDay() );
+				break;
+			}
+			case ENTITY_ENTRY: {
+				final StandardCacheEntryImpl entry = (StandardCacheEntryImpl) value;
+				output.writeString( entry.getSubclass() );
+				write( entry.getVersion(), output );
+				write( entry.getDisassembledState(), output );
+				break;
+			}
+			case COLLECTION_ENTRY:
+				write( ( (CollectionCacheEntry) value ).getState(), output );
+				break;
+			case READ_WRITE_ITEM: {
+				final AbstractReadWriteAccess.Item item = (AbstractReadWriteAccess.Item) value;
+				output.writeVarLong( item.getTimestamp() );
+				write( item.getVersion(), output );
+				write( item.getValue(), output );
+				break;
+			}
+			default:
+				output.writeByteArray( SerializationHelper.serialize( (Serializable) value ) );
+		}
+	}
+
+	/**
+	 * Reads a value written by {@link #write}.
+	 */
+	public static Object read(Input input) {
+		final byte tag = input.read();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case UNFETCHED_PROPERTY:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			default:
+				return readBody( tag, input );
+		}
+	}
+
+	/**
+	 * Reads the content of a value written by {@link #writeBody}.
+	 */
+	public static Object readBody(byte tag, Input input) {
+		switch ( tag ) {
+			case BOOLEAN:
+				return input.read() != 0;
+			case BYTE:
+				return input.read();
+			case SHORT:
+				return (short) input.readVarLong();
+			case INTEGER:
+				return (int) input.readVarLong();
+			case LONG:
+				return input.readVarLong();
+			case FLOAT:
+				return Float.intBitsToFloat( (int) input.readVarLong() );
+			case DOUBLE:
+				return Double.longBitsToDouble( input.readFixedLong() );
+			case CHARACTER:
+				return (char) input.readVarLong();
+			case STRING:
+				return input.readString();
+			case BYTES:
+				return input.readByteArray();
+			case SERIALIZABLE_ARRAY: {
+				final Serializable[] array = new Serializable[(int) input.readVarLong()];
+				for ( int i = 0; i < array.length; i++ ) {
+					array[i] = (Serializable) read( input );
+				}
+				return array;
+			}
+			case OBJECT_ARRAY: {
+				final Object[] array = new Object[(int) input.readVarLong()];
+				for ( int i = 0; i < array.length; i++ ) {
+					array[i] = read( input );
+				}
+				return array;
+			}
+			case BIG_DECIMAL: {
+				final int scale = (int) input.readVarLong();
+				return new BigDecimal( new BigInteger( input.readByteArray() ), scale );
+			}
+			case BIG_INTEGER:
+				return new BigInteger( input.readByteArray() );
+			case UUID_VALUE:
+				return new UUID( input.readFixedLong(), input.readFixedLong() );
+			case DATE:
+				return new Date( input.readVarLong() );
+			case SQL_DATE:
+				return new java.sql.Date( input.readVarLong() );
+			case SQL_TIMESTAMP: {
+				final java.sql.Timestamp timestamp = new java.sql.Timestamp( input.readVarLong() );
+				timestamp.setNanos( (int) input.readVarLong() );
+				return timestamp;
+			}
+			case INSTANT:
+				return Instant.ofEpochSecond( input.readVarLong(), input.readVarLong() );
+			case LOCAL_DATE:
+				return LocalDate.ofEpochDay( input.readVarLong() );
+			case LOCAL_TIME:
+				return LocalTime.ofNanoOfDay( input.readVarLong() );
+			case LOCAL_DATE_TIME:
+				return LocalDateTime.of(
+						LocalDate.ofEpochDay( input.readVarLong() ),
+						LocalTime.ofNanoOfDay( input.readVarLong() )
+				);
+			case ENTITY_ENTRY: {
+				final String subclass = input.readString();
+				final Object version = read( input );
+				return new StandardCacheEntryImpl( (Serializable[]) read( input ), subclass, version );
+			}
+			case COLLECTION_ENTRY:
+				return new CollectionCacheEntry( (Serializable) read( input ) );
+			case READ_WRITE_ITEM: {
+				final long timestamp = input.readVarLong();
+				final Object version = read( input );
+				return new AbstractReadWriteAccess.Item( read( input ), version, timestamp );
+			}
+			case SERIALIZED:
+				return SerializationHelper.deserialize( input.readByteArray() );
+			default:
+				throw new IllegalStateException( "Unknown tag in cached value: " + tag );
+		}
+	}
+
+	public static final class Output extends ByteArrayOutputStream {
+		public Output() {
+			super( 64 );
+		}
+
+		// zig-zag encoded, so that small negative numbers stay short
+		public void writeVarLong(long value) {
+			long zigZag = ( value << 1 ) ^ ( value >> 63 );
+			while ( ( zigZag & ~0x7FL ) != 0 ) {
+				write( (int) ( ( zigZag & 0x7F ) | 0x80 ) );
+				zigZag >>>= 7;
+			}
+			write( (int) zigZag );
+		}
+
+		public void writeFixedLong(long value) {
+			for ( int shift = 56; shift >= 0; shift -= 8 ) {
+				write( (int) ( value >>> shift ) );
+			}
+		}
+
+		public void writeByteArray(byte[] bytes) {
+			writeVarLong( bytes.length );
+			write( bytes, 0, bytes.length );
+		}
+
+		public void writeString(String string) {
+			writeByteArray( string.getBytes( StandardCharsets.UTF_8 ) );
+		}
+	}
+
+	public static final class Input {
+		private final byte[] bytes;
+		private int position;
+
+		public Input(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		public byte read() {
+			return bytes[position++];
+		}
+
+		public long readVarLong() {
+			long zigZag = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = bytes[position++];
+				zigZag |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			} while ( ( b & 0x80 ) != 0 );
+			return ( zigZag >>> 1 ) ^ -( zigZag & 1 );
+		}
+
+		public long readFixedLong() {
+			long value = 0;
+			for ( int i = 0; i < 8; i++ ) {
+				value = ( value << 8 ) | ( bytes[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		public byte[] readByteArray() {
+			final int length = (int) readVarLong();
+			final byte[] result = new byte[length];
+			System.arraycopy( bytes, position, result, 0, length );
+			position += length;
+			return result;
+		}
+
+		public String readString() {
+			final int length = (int) readVarLong();
+			final String result = new String( bytes, position, length, StandardCharsets.UTF_8 );
+			position += length;
+			return result;
+		}
+	}
+}
@@ -17,6 +17,7 @@ import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.SecondLevelCacheLogger;
 import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.DEBUG_ENABLED;
@@ -34,12 +35,15 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
+	private final CacheEntryCodec cacheEntryCodec;
 
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
-			TimestampsCache timestampsCache) {
+			TimestampsCache timestampsCache,
+			CacheEntryCodec cacheEntryCodec) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.cacheEntryCodec = cacheEntryCodec;
 	}
 
 	@Override
@@ -56,10 +60,9 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			L2CACHE_LOGGER.debugf( "Caching query results in region: %s; timestamp=%s", cacheRegion.getName(), session.getTransactionStartTimestamp() );
 		}
 
-		final CacheItem cacheItem = new CacheItem(
-				session.getTransactionStartTimestamp(),
-				deepCopy( results )
-		);
+		final Object cacheItem = cacheEntryCodec == null
+				? new CacheItem( session.getTransactionStartTimestamp(), deepCopy( results ) )
+				: cacheEntryCodec.encodeQueryResults( session.getTransactionStartTimestamp(), results );
 
 		try {
 			session.getEventListenerManager().cachePutStart();
@@ -85,7 +88,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			L2CACHE_LOGGER.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
 		}
 
-		final CacheItem cacheItem = getCachedData( key, session );
+		final Object cacheItem = getCachedData( key, session );
 		if ( cacheItem == null ) {
 			if ( DEBUG_ENABLED ) {
 				L2CACHE_LOGGER.debug( "Query results were not found in cache" );
@@ -93,7 +96,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !timestampsCache.isUpToDate( spaces, getTimestamp( cacheItem ), session ) ) {
 			if ( DEBUG_ENABLED ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
@@ -104,7 +107,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			L2CACHE_LOGGER.debug( "Returning cached query results" );
 		}
 
-		return deepCopy( cacheItem.results );
+		return getResults( cacheItem );
 	}
 
 	@Override
@@ -116,7 +119,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			L2CACHE_LOGGER.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
 		}
 
-		final CacheItem cacheItem = getCachedData( key, session );
+		final Object cacheItem = getCachedData( key, session );
 		if ( cacheItem == null ) {
 			if ( DEBUG_ENABLED ) {
 				L2CACHE_LOGGER.debug( "Query results were not found in cache" );
@@ -124,7 +127,7 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			return null;
 		}
 
-		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+		if ( !timestampsCache.isUpToDate( spaces, getTimestamp( cacheItem ), session ) ) {
 			if ( DEBUG_ENABLED ) {
 				L2CACHE_LOGGER.debug( "Cached query results were not up-to-date" );
 			}
@@ -135,14 +138,14 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			L2CACHE_LOGGER.debug( "Returning cached query results" );
 		}
 
-		return deepCopy( cacheItem.results );
+		return getResults( cacheItem );
 	}
 
-	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
-		CacheItem cachedItem = null;
+	private Object getCachedData(QueryKey key, SharedSessionContractImplementor session) {
+		Object cachedItem = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
-			cachedItem = (CacheItem) cacheRegion.getFromCache( key, session );
+			cachedItem = cacheRegion.getFromCache( key, session );
 		}
 		finally {
 			session.getEventListenerManager().cacheGetEnd( cachedItem != null );
@@ -150,6 +153,21 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return cachedItem;
 	}
 
+	private long getTimestamp(Object cachedItem) {
+		if ( cachedItem instanceof byte[] ) {
+			// encoded results are unreadable without the codec which wrote them
+			return cacheEntryCodec == null ? -1L : cacheEntryCodec.decodeQueryResultsTimestamp( (byte[]) cachedItem );
+		}
+		return ( (CacheItem) cachedItem ).timestamp;
+	}
+
+	private List<?> getResults(Object cachedItem) {
+		if ( cachedItem instanceof byte[] ) {
+			return cacheEntryCodec == null ? null : cacheEntryCodec.decodeQueryResults( (byte[]) cachedItem );
+		}
+		return deepCopy( ( (CacheItem) cachedItem ).results );
+	}
+
 	@Override
 	public String toString() {
 		return "QueryResultsCache(" + cacheRegion.getName() + ')';
@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.TimestampsRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import static org.hibernate.cfg.AvailableSettings.CACHE_OFFHEAP_REGION_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.CACHE_OFFHEAP_SLAB_SIZE;
+
+/**
+ * A {@link RegionFactory} keeping the cached data outside the Java heap, in
+ * direct buffers, so that the size of the cache has no effect on garbage
+ * collection.
+ * <p>
+ * Values are stored in a compact binary form, and decoded on every read. The
+ * size of each region is bounded by {@value org.hibernate.cfg.AvailableSettings#CACHE_OFFHEAP_REGION_MAX_SIZE},
+ * and the oldest entries of a region are evicted when it is full. The keys remain
+ * on the heap.
+ * <p>
+ * The off-heap memory counts against the limit on direct memory of the JVM,
+ * which may need to be raised with {@code -XX:MaxDirectMemorySize}.
+ *
+ * @since 6.2
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	public static final long DEFAULT_REGION_MAX_SIZE = 64L * 1024 * 1024;
+	public static final int DEFAULT_SLAB_SIZE = 4 * 1024 * 1024;
+
+	private long regionMaxSize = DEFAULT_REGION_MAX_SIZE;
+	private int slabSize = DEFAULT_SLAB_SIZE;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		regionMaxSize = getSize( CACHE_OFFHEAP_REGION_MAX_SIZE, configValues, DEFAULT_REGION_MAX_SIZE );
+		slabSize = (int) Math.min(
+				getSize( CACHE_OFFHEAP_SLAB_SIZE, configValues, DEFAULT_SLAB_SIZE ),
+				regionMaxSize
+		);
+	}
+
+	private static long getSize(String name, Map<String, Object> configValues, long defaultValue) {
+		final long size = ConfigurationHelper.getLong( name, configValues, (int) defaultValue );
+		if ( size <= 0 ) {
+			throw new CacheException( "Setting '" + name + "' must be positive, but was " + size );
+		}
+		return size;
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new OffHeapDomainDataRegion(
+				regionConfig,
+				this,
+				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				getImplicitCacheKeysFactory(),
+				buildingContext
+		);
+	}
+
+	@Override
+	protected OffHeapStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return createStorageAccess();
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new OffHeapQueryResultsRegion(
+				regionName,
+				this,
+				createQueryResultsRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	@Override
+	protected OffHeapStorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess();
+	}
+
+	@Override
+	public TimestampsRegion buildTimestampsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new OffHeapTimestampsRegion(
+				regionName,
+				this,
+				createTimestampsRegionStorageAccess( regionName, sessionFactory )
+		);
+	}
+
+	@Override
+	protected OffHeapStorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess();
+	}
+
+	protected OffHeapStorageAccess createStorageAccess() {
+		return new OffHeapStorageAccess( new OffHeapStore( regionMaxSize, slabSize ) );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		// the storage of each region is released when the region is destroyed
+	}
+
+	private static class OffHeapDomainDataRegion extends DomainDataRegionImpl implements ExtendedStatisticsSupport {
+		private final OffHeapStorageAccess storageAccess;
+
+		OffHeapDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				RegionFactoryTemplate regionFactory,
+				OffHeapStorageAccess storageAccess,
+				CacheKeysFactory defaultKeysFactory,
+				DomainDataRegionBuildingContext buildingContext) {
+			super( regionConfig, regionFactory, storageAccess, defaultKeysFactory, buildingContext );
+			this.storageAccess = storageAccess;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return storageAccess.getElementCountInMemory();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return storageAccess.getElementCountOnDisk();
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return storageAccess.getSizeInMemory();
+		}
+	}
+
+	private static class OffHeapQueryResultsRegion extends QueryResultsRegionTemplate implements ExtendedStatisticsSupport {
+		private final OffHeapStorageAccess storageAccess;
+
+		OffHeapQueryResultsRegion(String name, RegionFactory regionFactory, OffHeapStorageAccess storageAccess) {
+			super( name, regionFactory, storageAccess );
+			this.storageAccess = storageAccess;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return storageAccess.getElementCountInMemory();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return storageAccess.getElementCountOnDisk();
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return storageAccess.getSizeInMemory();
+		}
+	}
+
+	private static class OffHeapTimestampsRegion extends TimestampsRegionTemplate implements ExtendedStatisticsSupport {
+		private final OffHeapStorageAccess storageAccess;
+
+		OffHeapTimestampsRegion(String name, RegionFactory regionFactory, OffHeapStorageAccess storageAccess) {
+			super( name, regionFactory, storageAccess );
+			this.storageAccess = storageAccess;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return storageAccess.getElementCountInMemory();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return storageAccess.getElementCountOnDisk();
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return storageAccess.getSizeInMemory();
+		}
+	}
+}
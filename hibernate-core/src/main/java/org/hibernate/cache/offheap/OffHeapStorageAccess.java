@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap;
+
+import org.hibernate.cache.internal.CompactEncoding;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * StorageAccess implementation keeping the values of a region encoded in an
+ * {@link OffHeapStore}.
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess, ExtendedStatisticsSupport {
+	private final OffHeapStore store;
+
+	OffHeapStorageAccess(OffHeapStore store) {
+		this.store = store;
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return store.contains( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] bytes = store.get( key );
+		return bytes == null ? null : CompactEncoding.decode( bytes );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		store.put( key, CompactEncoding.encode( value ) );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		store.remove( key );
+	}
+
+	@Override
+	public void evictData() {
+		store.clear();
+	}
+
+	@Override
+	public void release() {
+		store.release();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return store.getEntryCount();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	/**
+	 * The number of bytes of off-heap memory occupied by the cached values.
+	 */
+	@Override
+	public long getSizeInMemory() {
+		return store.getStoredBytes();
+	}
+
+	/**
+	 * The number of bytes of off-heap memory allocated for this region, including
+	 * the space of values which have been replaced but not yet reclaimed.
+	 */
+	public long getAllocatedSize() {
+		return store.getAllocatedBytes();
+	}
+}
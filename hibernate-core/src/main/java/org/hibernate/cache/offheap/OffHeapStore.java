@@ -0,0 +1,269 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Stores byte arrays in a fixed number of direct {@link ByteBuffer} slabs, which
+ * are written to one after the other like a ring.
+ * <p>
+ * A value is appended to the current slab, prefixed with its length. When the
+ * current slab is full, writing moves on to the next slab. Once all slabs are
+ * in use, the oldest slab is reused, and the entries it holds are evicted. Values
+ * which are replaced or removed are only reclaimed when their slab is reused.
+ * <p>
+ * The index of the keys, and the list of the keys written to each slab, remain
+ * on the heap.
+ */
+final class OffHeapStore {
+	private static final int LENGTH_SIZE = Integer.BYTES;
+
+	private final int slabSize;
+	private final ByteBuffer[] slabs;
+	// the keys appended to each slab, used to evict its entries when it is reused
+	private final List<Object>[] slabKeys;
+
+	// a reference packs the sequence number of the slab with the offset of the entry
+	private final ConcurrentHashMap<Object, Long> index = new ConcurrentHashMap<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// guarded by the write lock
+	private long currentSlabSequence;
+	private int currentSlabPosition;
+	private long storedBytes;
+
+	@SuppressWarnings("unchecked")
+	OffHeapStore(long maxSize, int slabSize) {
+		if ( slabSize <= LENGTH_SIZE ) {
+			throw new IllegalArgumentException( "Slab size must be greater than " + LENGTH_SIZE + " bytes" );
+		}
+		this.slabSize = slabSize;
+		final int slabCount = (int) Math.max( 1, Math.min( Integer.MAX_VALUE, maxSize / slabSize ) );
+		this.slabs = new ByteBuffer[slabCount];
+		this.slabKeys = new List[slabCount];
+		this.currentSlabSequence = 0;
+		this.currentSlabPosition = 0;
+	}
+
+	/**
+	 * The value stored for the given key, or {@code null} if there is none.
+	 */
+	byte[] get(Object key) {
+		final Long reference = index.get( key );
+		if ( reference == null ) {
+			return null;
+		}
+
+		lock.readLock().lock();
+		try {
+			if ( !isLive( reference ) ) {
+				// evicted after the lookup
+				return null;
+			}
+			final ByteBuffer slab = slab( reference ).duplicate();
+			slab.position( offset( reference ) );
+			final byte[] value = new byte[slab.getInt()];
+			slab.get( value );
+			return value;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Store the given value, unless it is larger than a slab.
+	 *
+	 * @return whether the value was stored
+	 */
+	boolean put(Object key, byte[] value) {
+		final int entrySize = LENGTH_SIZE + value.length;
+		if ( entrySize > slabSize ) {
+			remove( key );
+			return false;
+		}
+
+		lock.writeLock().lock();
+		try {
+			if ( currentSlabPosition + entrySize > slabSize || slabs[slabIndex( currentSlabSequence )] == null ) {
+				nextSlab();
+			}
+
+			final int slabIndex = slabIndex( currentSlabSequence );
+			final int offset = currentSlabPosition;
+			final ByteBuffer slab = slabs[slabIndex].duplicate();
+			slab.position( offset );
+			slab.putInt( value.length );
+			slab.put( value );
+			currentSlabPosition += entrySize;
+			slabKeys[slabIndex].add( key );
+
+			final Long previous = index.put( key, reference( currentSlabSequence, offset ) );
+			if ( previous != null ) {
+				storedBytes -= entrySize( previous );
+			}
+			storedBytes += entrySize;
+			return true;
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	boolean contains(Object key) {
+		return index.containsKey( key );
+	}
+
+	void remove(Object key) {
+		lock.writeLock().lock();
+		try {
+			final Long previous = index.remove( key );
+			if ( previous != null ) {
+				storedBytes -= entrySize( previous );
+			}
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void clear() {
+		lock.writeLock().lock();
+		try {
+			index.clear();
+			for ( List<Object> keys : slabKeys ) {
+				if ( keys != null ) {
+					keys.clear();
+				}
+			}
+			storedBytes = 0;
+			// start over on a fresh slab, so that no stale reference can ever become live again
+			nextSlab();
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Drop the slabs, leaving the memory to be reclaimed with the buffers.
+	 */
+	void release() {
+		lock.writeLock().lock();
+		try {
+			index.clear();
+			for ( int i = 0; i < slabs.length; i++ ) {
+				slabs[i] = null;
+				slabKeys[i] = null;
+			}
+			storedBytes = 0;
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	long getEntryCount() {
+		return index.size();
+	}
+
+	/**
+	 * The number of bytes occupied by the live entries.
+	 */
+	long getStoredBytes() {
+		lock.readLock().lock();
+		try {
+			return storedBytes;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * The number of bytes of off-heap memory allocated so far.
+	 */
+	long getAllocatedBytes() {
+		lock.readLock().lock();
+		try {
+			long allocated = 0;
+			for ( ByteBuffer slab : slabs ) {
+				if ( slab != null ) {
+					allocated += slab.capacity();
+				}
+			}
+			return allocated;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// must be called while holding the write lock
+	private void nextSlab() {
+		currentSlabSequence++;
+		currentSlabPosition = 0;
+
+		final int slabIndex = slabIndex( currentSlabSequence );
+		if ( slabs[slabIndex] == null ) {
+			slabs[slabIndex] = ByteBuffer.allocateDirect( slabSize );
+			slabKeys[slabIndex] = new ArrayList<>();
+		}
+		else {
+			// the slab was last used for the sequence number one full turn ago
+			evict( slabIndex, currentSlabSequence - slabs.length );
+		}
+	}
+
+	private void evict(int slabIndex, long evictedSequence) {
+		for ( Object key : slabKeys[slabIndex] ) {
+			final Long reference = index.get( key );
+			// the key might have been written again to a more recent slab
+			if ( reference != null && sequence( reference ) == evictedSequence && index.remove( key, reference ) ) {
+				storedBytes -= entrySize( reference );
+			}
+		}
+		slabKeys[slabIndex].clear();
+	}
+
+	private boolean isLive(long reference) {
+		final long sequence = sequence( reference );
+		return sequence > currentSlabSequence - slabs.length && slabs[slabIndex( sequence )] != null;
+	}
+
+	// must be called while holding the lock, for a live reference
+	private int entrySize(long reference) {
+		return LENGTH_SIZE + slab( reference ).getInt( offset( reference ) );
+	}
+
+	private ByteBuffer slab(long reference) {
+		return slabs[slabIndex( sequence( reference ) )];
+	}
+
+	private int slabIndex(long sequence) {
+		return (int) ( sequence % slabs.length );
+	}
+
+	private static long reference(long sequence, int offset) {
+		return ( sequence << 32 ) | offset;
+	}
+
+	private static long sequence(long reference) {
+		return reference >>> 32;
+	}
+
+	private static int offset(long reference) {
+		return (int) reference;
+	}
+}
@@ -9,6 +9,7 @@ package org.hibernate.cache.spi;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
@@ -45,6 +46,7 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 	private Exception startingException;
 
 	private SessionFactoryOptions options;
+	private final ReentrantLock lifecycleLock = new ReentrantLock();
 
 
 	protected boolean isStarted() {
@@ -83,7 +85,8 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 	@Override
 	public final void start(SessionFactoryOptions settings, Map<String,Object> configValues) throws CacheException {
 		if ( started.compareAndSet( false, true ) ) {
-			synchronized (this) {
+			lifecycleLock.lock();
+			try {
 				this.options = settings;
 				try {
 					prepareForUse( settings, configValues );
@@ -95,6 +98,9 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 					startingException = e;
 				}
 			}
+			finally {
+				lifecycleLock.unlock();
+			}
 		}
 		else {
 			L2CACHE_LOGGER.attemptToStartAlreadyStartedCacheProvider();
@@ -106,7 +112,8 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 	@Override
 	public final void stop() {
 		if ( started.compareAndSet( true, false ) ) {
-			synchronized ( this ) {
+			lifecycleLock.lock();
+			try {
 				try {
 					releaseFromUse();
 				}
@@ -115,6 +122,9 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 					startingException = null;
 				}
 			}
+			finally {
+				lifecycleLock.unlock();
+			}
 		}
 		else {
 			L2CACHE_LOGGER.attemptToStopAlreadyStoppedCacheProvider();
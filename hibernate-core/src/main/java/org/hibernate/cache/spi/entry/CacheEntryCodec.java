@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.util.List;
+
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Encodes the entries of the second-level cache into a binary form, as an
+ * alternative to Java serialization of the {@link CacheEntry} and
+ * {@link CollectionCacheEntry} objects and of the cached query results.
+ * <p>
+ * A codec may take advantage of the mapping of the persister to write the
+ * disassembled state of an entity or a collection without any type information.
+ * An encoded entry should carry a stamp of the format and of the mapping it was
+ * written with, so that an entry written by another version of the application
+ * is never misread: the {@code decode} methods return {@code null} for such an
+ * entry, and it is then treated like a cache miss.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_ENTRY_CODEC
+ *
+ * @since 6.2
+ */
+public interface CacheEntryCodec {
+
+	/**
+	 * Encode the given entry of an entity of the hierarchy of the given persister.
+	 */
+	byte[] encode(CacheEntry entry, EntityPersister persister);
+
+	/**
+	 * Decode an entry encoded by {@link #encode(CacheEntry, EntityPersister)}.
+	 *
+	 * @return The entry, or {@code null} if it was encoded in an incompatible format
+	 */
+	CacheEntry decodeEntity(byte[] data, EntityPersister persister);
+
+	/**
+	 * Encode the given entry of a collection of the given persister.
+	 */
+	byte[] encode(CollectionCacheEntry entry, CollectionPersister persister);
+
+	/**
+	 * Decode an entry encoded by {@link #encode(CollectionCacheEntry, CollectionPersister)}.
+	 *
+	 * @return The entry, or {@code null} if it was encoded in an incompatible format
+	 */
+	CollectionCacheEntry decodeCollection(byte[] data, CollectionPersister persister);
+
+	/**
+	 * Encode the results of a cached query, along with the timestamp of the
+	 * transaction which produced them.
+	 */
+	byte[] encodeQueryResults(long timestamp, List<?> results);
+
+	/**
+	 * Read the timestamp of query results encoded by {@link #encodeQueryResults},
+	 * without decoding the results themselves.
+	 *
+	 * @return The timestamp, or a negative number if the results were encoded
+	 * in an incompatible format
+	 */
+	long decodeQueryResultsTimestamp(byte[] data);
+
+	/**
+	 * Decode query results encoded by {@link #encodeQueryResults}.
+	 *
+	 * @return The results, or {@code null} if they were encoded in an incompatible format
+	 */
+	List<?> decodeQueryResults(byte[] data);
+}
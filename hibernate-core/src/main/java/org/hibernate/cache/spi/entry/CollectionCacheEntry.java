@@ -30,7 +30,12 @@ public class CollectionCacheEntry implements Serializable {
 		this.state = collection.disassemble( persister );
 	}
 
-	CollectionCacheEntry(Serializable state) {
+	/**
+	 * Recreates an entry from its state, for cache providers storing entries in their own format.
+	 *
+	 * @param state The cached collection state, as returned by {@link #getState()}
+	 */
+	public CollectionCacheEntry(Serializable state) {
 		this.state = state;
 	}
 
@@ -0,0 +1,38 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Binary CacheEntry format for entities, produced by a {@link CacheEntryCodec}.
+ * <p>
+ * {@link #destructure} returns {@code null} for an entry the codec is unable
+ * to read.
+ *
+ * @since 6.2
+ */
+public class EncodedCacheEntry implements CacheEntryStructure {
+	private final EntityPersister persister;
+	private final CacheEntryCodec codec;
+
+	public EncodedCacheEntry(EntityPersister persister, CacheEntryCodec codec) {
+		this.persister = persister;
+		this.codec = codec;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		return codec.encode( (CacheEntry) item, persister );
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		return codec.decodeEntity( (byte[]) structured, persister );
+	}
+}
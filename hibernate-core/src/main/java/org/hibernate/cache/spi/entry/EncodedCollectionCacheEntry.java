@@ -0,0 +1,35 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+
+/**
+ * Binary CacheEntry format for persistent collections, produced by a {@link CacheEntryCodec}.
+ *
+ * @since 6.2
+ */
+public class EncodedCollectionCacheEntry implements CacheEntryStructure {
+	private final CollectionPersister persister;
+	private final CacheEntryCodec codec;
+
+	public EncodedCollectionCacheEntry(CollectionPersister persister, CacheEntryCodec codec) {
+		this.persister = persister;
+		this.codec = codec;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		return codec.encode( (CollectionCacheEntry) item, persister );
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		return codec.decodeCollection( (byte[]) structured, persister );
+	}
+}
@@ -58,7 +58,14 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		this.version = version;
 	}
 
-	StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
+	/**
+	 * Recreates an entry from its parts, for cache providers storing entries in their own format.
+	 *
+	 * @param disassembledState The disassembled state, as returned by {@link #getDisassembledState()}
+	 * @param subclass The entity name, as returned by {@link #getSubclass()}
+	 * @param version The version, as returned by {@link #getVersion()}
+	 */
+	public StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
 		this.disassembledState = disassembledState;
 		this.subclass = subclass;
 		this.version = version;
@@ -10,6 +10,7 @@ import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.InstrumentationListener;
 
 import org.jboss.logging.Logger;
 
@@ -50,7 +51,20 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 
 	@Override
 	public Object get(SharedSessionContractImplementor session, Object key) {
-		return getStorageAccess().getFromCache( key, session );
+		final InstrumentationListener instrumentationListener = getInstrumentationListener( session );
+		if ( instrumentationListener == null ) {
+			return getStorageAccess().getFromCache( key, session );
+		}
+
+		final long startNanos = System.nanoTime();
+		Object value = null;
+		try {
+			value = getStorageAccess().getFromCache( key, session );
+			return value;
+		}
+		finally {
+			instrumentationListener.cacheGet( region.getName(), value != null, System.nanoTime() - startNanos );
+		}
 	}
 
 	@Override
@@ -59,10 +73,23 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 			Object key,
 			Object value,
 			Object version) {
+		final InstrumentationListener instrumentationListener = getInstrumentationListener( session );
+		final long startNanos = instrumentationListener == null ? 0L : System.nanoTime();
 		getStorageAccess().putFromLoad( key, value, session );
+		if ( instrumentationListener != null ) {
+			instrumentationListener.cachePut( region.getName(), System.nanoTime() - startNanos );
+		}
 		return true;
 	}
 
+	/**
+	 * The listener to notify of the latency of cache accesses, or {@code null}
+	 * if those should not be timed.
+	 */
+	protected static InstrumentationListener getInstrumentationListener(SharedSessionContractImplementor session) {
+		return session.getFactory().getFastSessionServices().instrumentation.getListener();
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -18,6 +18,7 @@ import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.SecondLevelCacheLogger;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.InstrumentationListener;
 
 import org.jboss.logging.Logger;
 
@@ -65,6 +66,23 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 	 */
 	@Override
 	public Object get(SharedSessionContractImplementor session, Object key) {
+		final InstrumentationListener instrumentationListener = getInstrumentationListener( session );
+		if ( instrumentationListener == null ) {
+			return doGet( session, key );
+		}
+
+		final long startNanos = System.nanoTime();
+		Object value = null;
+		try {
+			value = doGet( session, key );
+			return value;
+		}
+		finally {
+			instrumentationListener.cacheGet( getRegion().getName(), value != null, System.nanoTime() - startNanos );
+		}
+	}
+
+	private Object doGet(SharedSessionContractImplementor session, Object key) {
 		log.debugf( "Getting cached data from region [`%s` (%s)] by key [%s]", getRegion().getName(), getAccessType(), key );
 		try {
 			readLock.lock();
@@ -96,6 +114,23 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			Object key,
 			Object value,
 			Object version) {
+		final InstrumentationListener instrumentationListener = getInstrumentationListener( session );
+		final long startNanos = instrumentationListener == null ? 0L : System.nanoTime();
+		try {
+			return doPutFromLoad( session, key, value, version );
+		}
+		finally {
+			if ( instrumentationListener != null ) {
+				instrumentationListener.cachePut( getRegion().getName(), System.nanoTime() - startNanos );
+			}
+		}
+	}
+
+	private boolean doPutFromLoad(
+			SharedSessionContractImplementor session,
+			Object key,
+			Object value,
+			Object version) {
 		try {
 			log.debugf( "Caching data from load [region=`%s` (%s)] : key[%s] -> value[%s]", getRegion().getName(), getAccessType(), key, value );
 			writeLock.lock();
@@ -255,7 +290,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		/**
 		 * Creates an unlocked item wrapping the given value with a version and creation timestamp.
 		 */
-		Item(Object value, Object version, long timestamp) {
+		public Item(Object value, Object version, long timestamp) {
 			this.value = value;
 			this.version = version;
 			this.timestamp = timestamp;
@@ -296,6 +331,14 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			return value;
 		}
 
+		public Object getVersion() {
+			return version;
+		}
+
+		public long getTimestamp() {
+			return timestamp;
+		}
+
 		@Override
 		public boolean isUnlockable(SoftLock lock) {
 			return false;
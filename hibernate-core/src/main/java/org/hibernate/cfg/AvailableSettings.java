@@ -964,6 +964,47 @@ public interface AvailableSettings {
 	 */
 	String BATCH_STRATEGY = "hibernate.jdbc.factory_class";
 
+	/**
+	 * Specifies the maximum number of additional connections a session may use to
+	 * execute the JDBC batches of entity inserts concurrently, on a pool of background
+	 * threads. A positive value enables pipelining, which is disabled by default.
+	 * <p>
+	 * A batch of inserts of an entity type is executed in the background on its own
+	 * connection, obtained from the connection provider, when the flush moves on to
+	 * the next batch. The batches of entity types related by a foreign key are executed
+	 * one after the other, in the order determined by the
+	 * {@link org.hibernate.engine.spi.ActionQueue}, and all background executions are
+	 * complete before any other statement is executed by the session. The connection
+	 * of the session itself is never used by another thread.
+	 * <p>
+	 * Only takes effect when {@linkplain #STATEMENT_BATCH_SIZE batching} and
+	 * {@linkplain #ORDER_INSERTS insert ordering} are enabled, and a JTA transaction
+	 * is active. The connections must then be enlisted in that transaction, and the
+	 * {@link javax.sql.DataSource} must join connections to the same database into a
+	 * single transaction branch, so that rows inserted on one connection are visible
+	 * on the others. Inserts of entity types mapping a LOB, or belonging to a cycle
+	 * of foreign keys, are always executed on the connection of the session.
+	 *
+	 * @since 6.2
+	 */
+	String STATEMENT_BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * Specifies the {@link java.util.concurrent.Executor} performing the JDBC calls of
+	 * the queries executed asynchronously by the standard
+	 * {@link org.hibernate.sql.exec.spi.JdbcValuesFetcher}, either as an instance, or as
+	 * the name of a class with a no-arg constructor. Since these threads spend most of
+	 * their time waiting for the database, an executor creating a virtual thread per
+	 * task is a good fit, on a JDK which supports them.
+	 * <p>
+	 * An executor specified here is not shut down by Hibernate. By default, Hibernate
+	 * uses a pool of daemon threads of its own, holding at most one thread per available
+	 * processor.
+	 *
+	 * @since 6.2
+	 */
+	String JDBC_ASYNC_EXECUTOR = "hibernate.jdbc.async_executor";
+
 	/**
 	 * When enabled, specifies that {@link jakarta.persistence.Version versioned}
 	 * data should be included in batching.
@@ -1097,6 +1138,27 @@ public interface AvailableSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * The number of managed entities from which a flush compares the state of the
+	 * entities with their loaded state in parallel, using the common
+	 * {@link java.util.concurrent.ForkJoinPool}. The entities are still flushed
+	 * one after the other, in the same order, by the calling thread.
+	 * <p>
+	 * Entities whose associations or collections were reassigned, entities holding
+	 * an embeddable which itself has associations or collections, and bytecode
+	 * enhanced entities are compared by the calling thread, as are all entities of
+	 * sessions with an {@link org.hibernate.Interceptor}, and all entities of a flush
+	 * involving an entity with a {@link jakarta.persistence.PreUpdate} callback or
+	 * events handled by a custom {@link org.hibernate.event.spi.FlushEntityEventListener}.
+	 * The getters of the entities,
+	 * and the types of their basic attributes, must not depend on the calling thread.
+	 * <p>
+	 * By default, or when zero or less, entities are compared by the calling thread.
+	 *
+	 * @since 6.2
+	 */
+	String PARALLEL_DIRTY_CHECK_THRESHOLD = "hibernate.flush.parallel_dirty_check_threshold";
+
 	/**
 	 * JPA callbacks are enabled by default. Set this to {@code false} to disable them.
 	 * Mostly useful to save a bit of memory when they are not used.
@@ -1341,6 +1403,45 @@ public interface AvailableSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * Specifies a {@link org.hibernate.cache.spi.entry.CacheEntryCodec} used to encode
+	 * the entries of entities and collections, and the cached query results, into a
+	 * binary form before they are handed to the second-level cache.
+	 * <p>
+	 * The value may be a {@code CacheEntryCodec} instance, its class or class name, or
+	 * {@code "compact"} for the {@linkplain org.hibernate.cache.internal.CompactCacheEntryCodec
+	 * standard codec}. When set, it replaces both the default and the
+	 * {@linkplain #USE_STRUCTURED_CACHE structured} cache entry formats.
+	 * <p>
+	 * By default, the entries are stored as objects, and serialized by the cache provider.
+	 *
+	 * @since 6.2
+	 */
+	String CACHE_ENTRY_CODEC = "hibernate.cache.entry_codec";
+
+	/**
+	 * The maximum number of bytes the {@link org.hibernate.cache.offheap.OffHeapRegionFactory}
+	 * stores off-heap for each cache region. Once a region is full, its oldest entries are
+	 * evicted.
+	 * <p>
+	 * Defaults to 64 MiB.
+	 *
+	 * @since 6.2
+	 */
+	String CACHE_OFFHEAP_REGION_MAX_SIZE = "hibernate.cache.offheap.region_max_size";
+
+	/**
+	 * The size, in bytes, of the blocks of off-heap memory allocated by the
+	 * {@link org.hibernate.cache.offheap.OffHeapRegionFactory}. Entries are evicted one
+	 * block at a time, and entries larger than a block are not cached.
+	 * <p>
+	 * Defaults to 4 MiB, or to the {@linkplain #CACHE_OFFHEAP_REGION_MAX_SIZE maximum size
+	 * of a region} if that is smaller.
+	 *
+	 * @since 6.2
+	 */
+	String CACHE_OFFHEAP_SLAB_SIZE = "hibernate.cache.offheap.slab_size";
+
 
 
 
@@ -1417,15 +1518,39 @@ public interface AvailableSettings {
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
 	/**
-	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
-	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
+	 * The maximum number of interpreted HQL queries maintained by the
+	 * {@link org.hibernate.query.spi.QueryInterpretationCache}.
 	 * <p>
+	 * Defaults to the value of {@value #QUERY_PLAN_CACHE_MAX_SIZE}.
 	 *
-	 * @deprecated this setting is not currently used
+	 * @since 6.2
+	 */
+	String QUERY_PLAN_CACHE_HQL_MAX_SIZE = "hibernate.query.plan_cache_hql_max_size";
+
+	/**
+	 * The maximum number of native query {@link org.hibernate.query.ParameterMetadata}
+	 * instances maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
+	 * <p>
+	 * Defaults to the value of {@value #QUERY_PLAN_CACHE_MAX_SIZE}.
 	 */
-	@Deprecated(since="6.0")
 	String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
 
+	/**
+	 * Selects the eviction policy of the caches maintained by the
+	 * {@link org.hibernate.query.spi.QueryInterpretationCache}. Accepts
+	 * <ul>
+	 *     <li>{@code lirs} (the default), the LIRS policy implemented by
+	 *     {@link org.hibernate.internal.util.collections.BoundedConcurrentHashMap},</li>
+	 *     <li>{@code tinylfu}, the W-TinyLFU policy, which copes much better
+	 *     with more distinct queries than the caches can hold,</li>
+	 *     <li>an instance, {@link Class} or class name of a
+	 *     {@link org.hibernate.query.spi.BoundedCacheFactory} implementation.</li>
+	 * </ul>
+	 *
+	 * @since 6.2
+	 */
+	String QUERY_PLAN_CACHE_IMPLEMENTATION = "hibernate.query.plan_cache_implementation";
+
 	/**
 	 * When enabled, specifies that Hibernate should not use contextual LOB creation.
 	 *
@@ -2481,6 +2606,21 @@ public interface AvailableSettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * When enabled, loading entities by multiple ids - via {@link org.hibernate.Session#byMultipleIds}
+	 * or batch fetching - binds all the ids as a single SQL array parameter, on dialects which
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsStandardArrays() support arrays}.
+	 * <p>
+	 * The same SQL statement then serves any number of ids, instead of one statement per
+	 * number of ids, which helps both the query plan cache and the statement cache of the
+	 * database. Only applies to entities with a single-column identifier.
+	 *
+	 * @see org.hibernate.dialect.Dialect#appendArrayParameterRestriction
+	 *
+	 * @since 6.2
+	 */
+	String USE_ARRAY_PARAMETER_FOR_ID_LOADING = "hibernate.query.use_array_parameter_for_id_loading";
+
 	/**
 	 * This setting controls the number of {@link org.hibernate.stat.QueryStatistics}
 	 * entries that will be stored by the Hibernate {@link org.hibernate.stat.Statistics}
@@ -2492,6 +2632,22 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
 
+	/**
+	 * When enabled, the most frequently recorded {@linkplain org.hibernate.stat.Statistics
+	 * statistics}, such as entity loads and prepared statements, are first accumulated in
+	 * a buffer owned by the thread doing the work, and only merged into the shared counters
+	 * when they are read. This avoids contention between threads when many cores are
+	 * collecting statistics, at the cost of slower reads of these statistics.
+	 * <p>
+	 * Ignored if a custom {@link org.hibernate.stat.spi.StatisticsFactory} is specified.
+	 * By default, statistics are not buffered.
+	 *
+	 * @see org.hibernate.stat.internal.BufferedStatisticsImpl
+	 *
+	 * @since 6.2
+	 */
+	String STATISTICS_BUFFERING = "hibernate.statistics.buffering";
+
 	/**
 	 * This setting defines the {@link org.hibernate.id.SequenceMismatchStrategy} used
 	 * when Hibernate detects a mismatch between a sequence configuration in an entity
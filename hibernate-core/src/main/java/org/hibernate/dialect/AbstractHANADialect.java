@@ -70,6 +70,7 @@ import org.hibernate.type.descriptor.sql.spi.DdlTypeRegistry;
 import org.hibernate.type.internal.BasicTypeImpl;
 
 import java.io.*;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.sql.*;
 import java.time.Duration;
@@ -1400,6 +1401,9 @@ public abstract class AbstractHANADialect extends Dialect {
 							// can't happen => ignore
 						}
 					}
+					else if ( binaryStream.getLength() < 0 ) {
+						st.setBinaryStream( index, binaryStream.getInputStream() );
+					}
 					else {
 						st.setBinaryStream( index, binaryStream.getInputStream(), binaryStream.getLength() );
 					}
@@ -1416,6 +1420,9 @@ public abstract class AbstractHANADialect extends Dialect {
 							// can't happen => ignore
 						}
 					}
+					else if ( binaryStream.getLength() < 0 ) {
+						st.setBinaryStream( name, binaryStream.getInputStream() );
+					}
 					else {
 						st.setBinaryStream( name, binaryStream.getInputStream(), binaryStream.getLength() );
 					}
@@ -1712,7 +1719,8 @@ public abstract class AbstractHANADialect extends Dialect {
 						// performance shortcut for binding BLOB data in byte[] format
 						descriptor = BlobJdbcType.PRIMITIVE_ARRAY_BINDING;
 					}
-					else if ( options.useStreamForLobBinding() ) {
+					else if ( options.useStreamForLobBinding() || value instanceof ReadableByteChannel ) {
+						// a channel is streamed, since its length is unknown
 						descriptor = HANABlobType.this.hanaStreamBlobTypeDescriptor;
 					}
 					descriptor.getBinder( javaType ).bind( st, value, index, options );
@@ -1725,7 +1733,8 @@ public abstract class AbstractHANADialect extends Dialect {
 						// performance shortcut for binding BLOB data in byte[] format
 						descriptor = BlobJdbcType.PRIMITIVE_ARRAY_BINDING;
 					}
-					else if ( options.useStreamForLobBinding() ) {
+					else if ( options.useStreamForLobBinding() || value instanceof ReadableByteChannel ) {
+						// a channel is streamed, since its length is unknown
 						descriptor = HANABlobType.this.hanaStreamBlobTypeDescriptor;
 					}
 					descriptor.getBinder( javaType ).bind( st, value, name, options );
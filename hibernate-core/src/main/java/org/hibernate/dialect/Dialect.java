@@ -130,9 +130,11 @@ import org.hibernate.query.sqm.sql.SqmTranslatorFactory;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.sql.ForUpdateFragment;
 import org.hibernate.sql.ast.SqlAstNodeRenderingMode;
+import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.spi.SqlAppender;
 import org.hibernate.sql.ast.spi.StandardSqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.tool.schema.extract.internal.SequenceInformationExtractorLegacyImpl;
 import org.hibernate.tool.schema.extract.internal.SequenceInformationExtractorNoOpImpl;
 import org.hibernate.tool.schema.extract.spi.SequenceInformationExtractor;
@@ -3115,6 +3117,19 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * Return the limit that the underlying database places on the number of parameters
+	 * of a single statement, which bounds the number of rows of a multi-row insert.
+	 * If the database defines no such limits, simply return zero or less-than-zero.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 *
+	 * @since 6.2
+	 */
+	public int getParameterCountLimit() {
+		return 0;
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
@@ -3400,6 +3415,31 @@ public abstract class Dialect implements ConversionContext {
 		appender.appendSql( ']' );
 	}
 
+	/**
+	 * Append a predicate restricting the given column to the elements of an array
+	 * bound to a single JDBC parameter, so that one SQL statement serves any number
+	 * of values. Only used when {@link #supportsStandardArrays()} is true.
+	 * <p>
+	 * The default renders {@code column=any(?)}.
+	 *
+	 * @param appender The appender to render to
+	 * @param translator The translator rendering the column and the parameter
+	 * @param column The restricted column
+	 * @param arrayParameter The parameter the array is bound to
+	 *
+	 * @since 6.2
+	 */
+	public void appendArrayParameterRestriction(
+			SqlAppender appender,
+			SqlAstTranslator<?> translator,
+			Expression column,
+			Expression arrayParameter) {
+		column.accept( translator );
+		appender.appendSql( "=any(" );
+		arrayParameter.accept( translator );
+		appender.appendSql( ')' );
+	}
+
 	/**
 	 * Is this SQL dialect known to support some kind of distinct from predicate.
 	 * <p/>
@@ -3465,6 +3505,34 @@ public abstract class Dialect implements ConversionContext {
 		return true;
 	}
 
+	/**
+	 * Does this dialect/database support a native VALUES list of several rows
+	 * (e.g. {@code insert into t (a, b) values (?, ?), (?, ?)}) in the multi-row
+	 * inserts of {@link org.hibernate.StatelessSession#insertMultiple(java.util.List)}.
+	 * <p>
+	 * Unlike {@link #supportsValuesListForInsert()}, this is never emulated.
+	 *
+	 * @return {@code true} if a VALUES list of several rows may be rendered in insert statements
+	 *
+	 * @since 6.2
+	 */
+	public boolean supportsMultiRowValuesInsert() {
+		return supportsValuesListForInsert();
+	}
+
+	/**
+	 * Return the limit that the underlying database places on the number of rows
+	 * of a VALUES list in an insert statement.
+	 * If the database defines no such limits, simply return zero or less-than-zero.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 *
+	 * @since 6.2
+	 */
+	public int getValuesListForInsertRowLimit() {
+		return 0;
+	}
+
 	/**
 	 * Does this dialect/database support SKIP_LOCKED timeout.
 	 *
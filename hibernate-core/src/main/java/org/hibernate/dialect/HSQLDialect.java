@@ -64,6 +64,7 @@ import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.spi.SqlAppender;
 import org.hibernate.sql.ast.spi.StandardSqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.Statement;
+import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.exec.spi.JdbcOperation;
 import org.hibernate.tool.schema.extract.internal.SequenceInformationExtractorHSQLDBDatabaseImpl;
 import org.hibernate.tool.schema.extract.spi.SequenceInformationExtractor;
@@ -440,6 +441,18 @@ public class HSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public void appendArrayParameterRestriction(
+			SqlAppender appender,
+			SqlAstTranslator<?> translator,
+			Expression column,
+			Expression arrayParameter) {
+		column.accept( translator );
+		appender.appendSql( " in(unnest(" );
+		arrayParameter.accept( translator );
+		appender.appendSql( "))" );
+	}
+
 	@Override
 	public ViolatedConstraintNameExtractor getViolatedConstraintNameExtractor() {
 		return getVersion().isBefore( 2 ) ? EXTRACTOR_18 : EXTRACTOR_20;
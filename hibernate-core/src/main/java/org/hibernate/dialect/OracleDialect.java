@@ -933,6 +933,11 @@ public class OracleDialect extends Dialect {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public boolean supportsMultiRowValuesInsert() {
+		return getVersion().isSameOrAfter( 23 );
+	}
+
 	@Override
 	public boolean forceLobAsLastValue() {
 		return true;
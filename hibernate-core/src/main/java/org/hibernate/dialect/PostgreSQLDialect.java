@@ -588,6 +588,12 @@ public class PostgreSQLDialect extends Dialect {
 		return getVersion().isSameOrAfter( 8, 2 );
 	}
 
+	@Override
+	public int getParameterCountLimit() {
+		// the number of parameters is sent as a 16-bit integer
+		return Short.MAX_VALUE;
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return getVersion().isSameOrAfter( 9, 1 );
@@ -43,6 +43,7 @@ import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.spi.SqlAppender;
 import org.hibernate.sql.ast.spi.StandardSqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.Statement;
+import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.exec.spi.JdbcOperation;
 import org.hibernate.tool.schema.spi.Exporter;
 import org.hibernate.type.BasicType;
@@ -160,6 +161,18 @@ public class SpannerDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public void appendArrayParameterRestriction(
+			SqlAppender appender,
+			SqlAstTranslator<?> translator,
+			Expression column,
+			Expression arrayParameter) {
+		column.accept( translator );
+		appender.appendSql( " in unnest(" );
+		arrayParameter.accept( translator );
+		appender.appendSql( ")" );
+	}
+
 	@Override
 	public String getArrayTypeName(String elementTypeName) {
 		return "ARRAY<" + elementTypeName + ">";
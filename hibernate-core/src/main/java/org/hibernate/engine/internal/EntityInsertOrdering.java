@@ -0,0 +1,279 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.action.internal.AbstractEntityInsertAction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
+
+/**
+ * An order of the entity types in which their rows can be inserted without violating
+ * the foreign keys between them, computed once from the mapping model, and used to
+ * group the insert actions of a flush by entity type in linear time.
+ * <p>
+ * A to-one association makes the whole hierarchy of the associated entity precede
+ * the entity declaring it, unless it is a one-to-one mapped by the associated entity,
+ * which comes after. The entity elements of a one-to-many association come after the
+ * entity owning the collection. The associations of embeddables and of composite
+ * identifiers count as associations of the entity.
+ * <p>
+ * The entity types belonging to a cycle of such dependencies have no order, and an
+ * insert of one of them must be sorted by looking at the values being inserted.
+ * <p>
+ * The entity types related by such a dependency, in either direction, are also
+ * known, to tell which batches of inserts may be executed concurrently.
+ */
+public final class EntityInsertOrdering {
+
+	private static final int CYCLIC = -1;
+
+	// the position of each entity type in the insertion order, or CYCLIC
+	private final Map<String, Integer> ranks;
+	// for each entity type, the entity types to be inserted before or after it
+	private final Map<String, Set<String>> relatedEntityNames;
+
+	private EntityInsertOrdering(Map<String, Integer> ranks, Map<String, Set<String>> relatedEntityNames) {
+		this.ranks = ranks;
+		this.relatedEntityNames = relatedEntityNames;
+	}
+
+	/**
+	 * Whether the given entity type has a position in the insertion order, that is,
+	 * whether it does not belong to a cycle.
+	 */
+	public boolean isOrdered(String entityName) {
+		final Integer rank = ranks.get( entityName );
+		return rank != null && rank != CYCLIC;
+	}
+
+	/**
+	 * Whether the rows of one of the given entity types must be inserted before the
+	 * rows of the other.
+	 */
+	public boolean areRelated(String entityName, String otherEntityName) {
+		final Set<String> related = relatedEntityNames.get( entityName );
+		return related != null && related.contains( otherEntityName );
+	}
+
+	/**
+	 * Sorts the given insert actions by the rank of their entity type, keeping the
+	 * actions of a type in the order they were queued.
+	 *
+	 * @return {@code false}, leaving the list untouched, if one of the actions is an
+	 * insert of an entity type belonging to a cycle
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean sort(List<AbstractEntityInsertAction> insertions) {
+		final List<AbstractEntityInsertAction>[] batches = new List[ranks.size()];
+		for ( AbstractEntityInsertAction action : insertions ) {
+			final Integer rank = ranks.get( action.getEntityName() );
+			if ( rank == null || rank == CYCLIC ) {
+				return false;
+			}
+			List<AbstractEntityInsertAction> batch = batches[rank];
+			if ( batch == null ) {
+				batch = new ArrayList<>();
+				batches[rank] = batch;
+			}
+			batch.add( action );
+		}
+
+		insertions.clear();
+		for ( List<AbstractEntityInsertAction> batch : batches ) {
+			if ( batch != null ) {
+				insertions.addAll( batch );
+			}
+		}
+		return true;
+	}
+
+	public static EntityInsertOrdering from(SessionFactoryImplementor sessionFactory) {
+		return new Builder( sessionFactory ).build();
+	}
+
+	private static class Builder {
+		private final SessionFactoryImplementor sessionFactory;
+		private final MappingMetamodel mappingMetamodel;
+
+		private final List<String> entityNames = new ArrayList<>();
+		private final Map<String, Integer> indexes = new HashMap<>();
+		private final Map<String, List<Integer>> hierarchies = new HashMap<>();
+		// for each entity type, the entity types to be inserted after it
+		private final List<Set<Integer>> successors = new ArrayList<>();
+
+		private Builder(SessionFactoryImplementor sessionFactory) {
+			this.sessionFactory = sessionFactory;
+			this.mappingMetamodel = sessionFactory.getRuntimeMetamodels().getMappingMetamodel();
+		}
+
+		private EntityInsertOrdering build() {
+			mappingMetamodel.forEachEntityDescriptor( persister -> {
+				final int index = entityNames.size();
+				entityNames.add( persister.getEntityName() );
+				indexes.put( persister.getEntityName(), index );
+				hierarchies.computeIfAbsent( persister.getRootEntityName(), root -> new ArrayList<>() ).add( index );
+				successors.add( new LinkedHashSet<>() );
+			} );
+
+			mappingMetamodel.forEachEntityDescriptor( persister -> {
+				final int index = indexes.get( persister.getEntityName() );
+				for ( Type type : persister.getPropertyTypes() ) {
+					addDependencies( index, type );
+				}
+				final Type identifierType = persister.getIdentifierType();
+				if ( identifierType.isComponentType() ) {
+					addDependencies( index, identifierType );
+				}
+			} );
+
+			return new EntityInsertOrdering( rank(), related() );
+		}
+
+		private void addDependencies(int index, Type type) {
+			if ( type.isEntityType() ) {
+				final EntityType entityType = (EntityType) type;
+				final boolean mappedByAssociatedEntity = entityType.isOneToOne()
+						&& entityType.getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT;
+				for ( int associated : hierarchy( entityType.getAssociatedEntityName() ) ) {
+					if ( mappedByAssociatedEntity ) {
+						addDependency( index, associated );
+					}
+					else {
+						addDependency( associated, index );
+					}
+				}
+			}
+			else if ( type.isCollectionType() ) {
+				final CollectionType collectionType = (CollectionType) type;
+				if ( collectionType.getElementType( sessionFactory ).isEntityType()
+						&& !mappingMetamodel.getCollectionDescriptor( collectionType.getRole() ).isManyToMany() ) {
+					for ( int element : hierarchy( collectionType.getAssociatedEntityName( sessionFactory ) ) ) {
+						addDependency( index, element );
+					}
+				}
+			}
+			else if ( type.isComponentType() ) {
+				for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+					addDependencies( index, subtype );
+				}
+			}
+		}
+
+		private List<Integer> hierarchy(String entityName) {
+			final EntityPersister persister = mappingMetamodel.getEntityDescriptor( entityName );
+			return hierarchies.get( persister.getRootEntityName() );
+		}
+
+		private void addDependency(int parent, int child) {
+			// rows of a single type are inserted in the order they were queued
+			if ( parent != child ) {
+				successors.get( parent ).add( child );
+			}
+		}
+
+		private Map<String, Set<String>> related() {
+			final Map<String, Set<String>> related = new HashMap<>( entityNames.size() * 2 );
+			for ( int parent = 0; parent < entityNames.size(); parent++ ) {
+				final String parentName = entityNames.get( parent );
+				for ( int child : successors.get( parent ) ) {
+					final String childName = entityNames.get( child );
+					related.computeIfAbsent( parentName, name -> new HashSet<>() ).add( childName );
+					related.computeIfAbsent( childName, name -> new HashSet<>() ).add( parentName );
+				}
+			}
+			return related;
+		}
+
+		/**
+		 * Finds the strongly connected components of the dependency graph, with
+		 * Tarjan's algorithm, which produces them in reverse topological order.
+		 */
+		private Map<String, Integer> rank() {
+			final int size = entityNames.size();
+			final int[] discovery = new int[size];
+			final int[] lowLink = new int[size];
+			final boolean[] onStack = new boolean[size];
+			final Deque<Integer> stack = new ArrayDeque<>();
+			final List<int[]> components = new ArrayList<>();
+			Arrays.fill( discovery, -1 );
+
+			final int[] counter = new int[1];
+			for ( int i = 0; i < size; i++ ) {
+				if ( discovery[i] == -1 ) {
+					connect( i, counter, discovery, lowLink, onStack, stack, components );
+				}
+			}
+
+			final Map<String, Integer> ranks = new HashMap<>( size * 2 );
+			int rank = 0;
+			for ( int c = components.size() - 1; c >= 0; c-- ) {
+				final int[] component = components.get( c );
+				if ( component.length == 1 ) {
+					ranks.put( entityNames.get( component[0] ), rank++ );
+				}
+				else {
+					for ( int index : component ) {
+						ranks.put( entityNames.get( index ), CYCLIC );
+					}
+				}
+			}
+			return ranks;
+		}
+
+		private void connect(
+				int index,
+				int[] counter,
+				int[] discovery,
+				int[] lowLink,
+				boolean[] onStack,
+				Deque<Integer> stack,
+				List<int[]> components) {
+			discovery[index] = lowLink[index] = counter[0]++;
+			stack.push( index );
+			onStack[index] = true;
+
+			for ( int successor : successors.get( index ) ) {
+				if ( discovery[successor] == -1 ) {
+					connect( successor, counter, discovery, lowLink, onStack, stack, components );
+					lowLink[index] = Math.min( lowLink[index], lowLink[successor] );
+				}
+				else if ( onStack[successor] ) {
+					lowLink[index] = Math.min( lowLink[index], discovery[successor] );
+				}
+			}
+
+			if ( lowLink[index] == discovery[index] ) {
+				final List<Integer> component = new ArrayList<>();
+				int member;
+				do {
+					member = stack.pop();
+					onStack[member] = false;
+					component.add( member );
+				}
+				while ( member != index );
+				components.add( component.stream().mapToInt( Integer::intValue ).toArray() );
+			}
+		}
+	}
+}
@@ -20,6 +20,8 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	private SessionEventListener[] listeners;
 
+	private boolean jdbcExecutedInTransaction;
+
 	public SessionEventListenerManagerImpl(SessionEventListener... initialListener) {
 		//no need for defensive copies until the array is mutated:
 		this.listeners = initialListener;
@@ -42,6 +44,16 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void transactionBegin() {
+		jdbcExecutedInTransaction = false;
+	}
+
+	@Override
+	public boolean isJdbcExecutedInTransaction() {
+		return jdbcExecutedInTransaction;
+	}
+
 	@Override
 	public void transactionCompletion(boolean successful) {
 		if ( listeners == null ) {
@@ -121,6 +133,7 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void jdbcExecuteStatementStart() {
+		jdbcExecutedInTransaction = true;
 		if ( listeners == null ) {
 			return;
 		}
@@ -143,6 +156,7 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void jdbcExecuteBatchStart() {
+		jdbcExecutedInTransaction = true;
 		if ( listeners == null ) {
 			return;
 		}
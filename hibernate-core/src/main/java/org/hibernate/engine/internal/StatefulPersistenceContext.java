@@ -20,6 +20,7 @@ import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -57,6 +58,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -65,6 +67,10 @@ import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.sql.results.spi.LoadContexts;
 import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.internal.BasicTypeImpl;
 
 import org.jboss.logging.Logger;
 
@@ -103,7 +109,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, Object> entitiesByKey;
+	// (open addressing: avoids allocating a map node per managed entity)
+	private OpenAddressingHashMap<EntityKey, Object> entitiesByKey;
+
+	// Reused to look entities up by integral identifier, see getEntity(EntityPersister, long)
+	private IntegralIdMatcher integralIdMatcher;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -113,7 +123,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private OpenAddressingHashMap<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection<?>> arrayHolders;
@@ -122,7 +132,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private IdentityMap<PersistentCollection<?>, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection<?>> collectionsByKey;
+	private OpenAddressingHashMap<CollectionKey, PersistentCollection<?>> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -313,7 +323,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+				entitySnapshotsByKey = new OpenAddressingHashMap<>( INIT_COLL_SIZE );
 			}
 			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
@@ -383,7 +393,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = new OpenAddressingHashMap<>( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
@@ -397,6 +407,76 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey == null ? null : entitiesByKey.get( key );
 	}
 
+	@Override
+	public Object getEntity(EntityPersister persister, long id) {
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		final int idHashCode;
+		final Class<?> javaTypeClass = idJavaTypeClass( persister );
+		if ( javaTypeClass == LongJavaType.class ) {
+			idHashCode = Long.hashCode( id );
+		}
+		else if ( javaTypeClass == IntegerJavaType.class ) {
+			if ( (int) id != id ) {
+				// no Integer identifier has this value
+				return null;
+			}
+			idHashCode = Integer.hashCode( (int) id );
+		}
+		else {
+			return PersistenceContext.super.getEntity( persister, id );
+		}
+
+		final int hashCode = EntityKey.generateHashCode( persister.getRootEntityName(), idHashCode );
+		IntegralIdMatcher matcher = integralIdMatcher;
+		if ( matcher == null ) {
+			matcher = integralIdMatcher = new IntegralIdMatcher();
+		}
+		matcher.persister = persister;
+		matcher.id = id;
+		try {
+			return entitiesByKey.get( hashCode, matcher );
+		}
+		finally {
+			matcher.persister = null;
+		}
+	}
+
+	/**
+	 * The class of the {@link org.hibernate.type.descriptor.java.JavaType} of a basic
+	 * identifier type, whose hash code and equality are those of the identifier values.
+	 */
+	private static Class<?> idJavaTypeClass(EntityPersister persister) {
+		final Type identifierType = persister.getIdentifierType();
+		return identifierType instanceof BasicTypeImpl
+				? ( (BasicTypeImpl<?>) identifierType ).getJavaTypeDescriptor().getClass()
+				: null;
+	}
+
+	private static boolean hasIntegralId(EntityPersister persister) {
+		final Class<?> javaTypeClass = idJavaTypeClass( persister );
+		return javaTypeClass == LongJavaType.class || javaTypeClass == IntegerJavaType.class;
+	}
+
+	/**
+	 * Matches the EntityKey of an entity having an integral identifier, see
+	 * {@link #getEntity(EntityPersister, long)}.
+	 */
+	private static final class IntegralIdMatcher implements OpenAddressingHashMap.KeyMatcher<EntityKey> {
+		private EntityPersister persister;
+		private long id;
+
+		@Override
+		public boolean matches(EntityKey key) {
+			final EntityPersister keyPersister = key.getPersister();
+			// only keys of the same hierarchy have identifiers of the same type
+			return ( keyPersister == persister
+					|| Objects.equals( keyPersister.getRootEntityName(), persister.getRootEntityName() ) )
+					&& ( (Number) key.getIdentifier() ).longValue() == id;
+		}
+	}
+
 	@Override
 	public boolean containsEntity(EntityKey key) {
 		return entitiesByKey != null && entitiesByKey.containsKey( key );
@@ -766,7 +846,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = new OpenAddressingHashMap<>( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 	}
@@ -779,6 +859,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		// these 2 are not always the same.  Same is true in the case of ToOne associations with property-ref...
 		final EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
 		if ( ownerPersister.getIdentifierType().getReturnedClass().isInstance( key ) ) {
+			if ( hasIntegralId( ownerPersister ) ) {
+				return getEntity( ownerPersister, ( (Number) key ).longValue() );
+			}
 			return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
 		}
 
@@ -1671,7 +1754,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = new OpenAddressingHashMap<>( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1710,7 +1793,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitySnapshotsByKey = new OpenAddressingHashMap<>( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1721,7 +1804,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.collectionsByKey = new OpenAddressingHashMap<>( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put(
 						CollectionKey.deserialize( ois, session ),
@@ -1869,7 +1952,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public PersistentCollection<?> addCollectionByKey(CollectionKey collectionKey, PersistentCollection<?> persistentCollection) {
 		if ( collectionsByKey == null ) {
-			collectionsByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			collectionsByKey = new OpenAddressingHashMap<>( INIT_COLL_SIZE );
 		}
 		final PersistentCollection<?> old = collectionsByKey.put( collectionKey, persistentCollection );
 		return old;
@@ -31,7 +31,7 @@ public interface BinaryStream {
 	/**
 	 * Retrieve the length of the input stream
 	 *
-	 * @return The input stream length
+	 * @return The input stream length, or a negative value if it is unknown
 	 */
 	long getLength();
 
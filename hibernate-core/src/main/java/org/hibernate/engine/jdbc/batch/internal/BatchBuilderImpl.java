@@ -6,24 +6,38 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import java.sql.Connection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.service.spi.Stoppable;
 
 /**
  * A builder for {@link Batch} instances.
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
 
 	private volatile int jdbcBatchSize;
 
+	private final int pipelineConnections;
+	private final ThreadPoolExecutor pipelineExecutor;
+
 	/**
 	 * Constructs a BatchBuilderImpl
 	 */
 	public BatchBuilderImpl() {
+		this.pipelineConnections = 0;
+		this.pipelineExecutor = null;
 	}
 
 	/**
@@ -32,7 +46,38 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * @param jdbcBatchSize The batch jdbcBatchSize to use.
 	 */
 	public BatchBuilderImpl(int jdbcBatchSize) {
+		this( jdbcBatchSize, 0 );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param jdbcBatchSize The batch jdbcBatchSize to use.
+	 * @param pipelineConnections The maximum number of additional connections used by a session
+	 * to execute {@linkplain PipelinedBatch pipelined batches}, or {@code 0} to disable pipelining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINING
+	 */
+	public BatchBuilderImpl(int jdbcBatchSize, int pipelineConnections) {
 		this.jdbcBatchSize = jdbcBatchSize;
+		this.pipelineConnections = Math.max( pipelineConnections, 0 );
+		if ( this.pipelineConnections > 0 ) {
+			// the threads are shared by the sessions, each having at most
+			// pipelineConnections batches in flight
+			final int threads = Math.max( this.pipelineConnections, Runtime.getRuntime().availableProcessors() );
+			this.pipelineExecutor = new ThreadPoolExecutor(
+					threads,
+					threads,
+					60L,
+					TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(),
+					new PipelineThreadFactory()
+			);
+			this.pipelineExecutor.allowCoreThreadTimeOut( true );
+		}
+		else {
+			this.pipelineExecutor = null;
+		}
 	}
 
 	public int getJdbcBatchSize() {
@@ -48,4 +93,53 @@ public class BatchBuilderImpl implements BatchBuilder {
 		return SharedBatchBuildingCode.buildBatch( jdbcBatchSize, key, jdbcCoordinator );
 	}
 
+	/**
+	 * The maximum number of batches a session may execute in the background, each on a
+	 * connection of its own, or {@code 0} if pipelining is disabled.
+	 */
+	public int getPipelineConnections() {
+		return pipelineConnections;
+	}
+
+	/**
+	 * The executor of the background executions of {@linkplain PipelinedBatch pipelined batches},
+	 * or {@code null} if pipelining is disabled.
+	 */
+	public Executor getPipelineExecutor() {
+		return pipelineExecutor;
+	}
+
+	/**
+	 * Builds a batch of entity inserts using the given connection instead of the connection of the session,
+	 * or returns {@code null} if the inserts are not batched.
+	 */
+	public PipelinedBatch buildPipelinedBatch(
+			EntityInsertBatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			Connection connection) {
+		final int jdbcBatchSizeToUse = SharedBatchBuildingCode.jdbcBatchSize( jdbcBatchSize, jdbcCoordinator );
+		return jdbcBatchSizeToUse > 1
+				? new PipelinedBatch( key, jdbcCoordinator, jdbcBatchSizeToUse, connection )
+				: null;
+	}
+
+	@Override
+	public void stop() {
+		if ( pipelineExecutor != null ) {
+			pipelineExecutor.shutdown();
+		}
+	}
+
+	private static class PipelineThreadFactory implements ThreadFactory {
+		private final AtomicInteger threadCount = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate JDBC Batch Pipeline Thread " + threadCount.incrementAndGet() );
+			return thread;
+		}
+	}
+
 }
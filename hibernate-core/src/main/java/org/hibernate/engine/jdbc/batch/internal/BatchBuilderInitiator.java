@@ -42,7 +42,8 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 		final Object builder = configurationValues.get( BUILDER );
 		if ( builder == null ) {
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_PIPELINING, configurationValues, 0 )
 			);
 		}
 
@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import org.hibernate.jdbc.Expectation;
+
+/**
+ * The key of the batch of inserts of an entity type, which may be executed as a
+ * {@link PipelinedBatch}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINING
+ */
+public class EntityInsertBatchKey extends BasicBatchKey {
+	private final String entityName;
+	private final boolean pipelinable;
+
+	/**
+	 * Constructs an EntityInsertBatchKey
+	 *
+	 * @param entityName The name of the inserted entity type
+	 * @param expectation The expectation for the batch
+	 * @param pipelinable Whether the statements may be bound and executed on another
+	 * connection than the connection of the session
+	 */
+	public EntityInsertBatchKey(String entityName, Expectation expectation, boolean pipelinable) {
+		super( entityName + "#INSERT", expectation );
+		this.entityName = entityName;
+		this.pipelinable = pipelinable;
+	}
+
+	public String getEntityName() {
+		return entityName;
+	}
+
+	public boolean isPipelinable() {
+		return pipelinable;
+	}
+}
@@ -0,0 +1,315 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} of the inserts of an entity type, which does batching
+ * like {@link BatchingBatch}, but on a connection of its own instead of the connection of the session. Its
+ * final execution may therefore happen on a background thread, while the flush goes on with the next batch.
+ * <p/>
+ * The statements are prepared and bound, and executed once the batch size is reached, by the thread of the
+ * session. Once {@linkplain #executeInBackground(Executor) executing in the background}, the batch must not
+ * be used until {@link #awaitExecution()} returns, which also releases the connection.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINING
+ */
+public class PipelinedBatch extends AbstractBatchImpl {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PipelinedBatch.class.getName()
+	);
+
+	private final Connection connection;
+	private final JdbcSessionContext jdbcSessionContext;
+
+	private int batchSize;
+	private final int configuredBatchSize;
+	private int batchPosition;
+	private int statementPosition;
+
+	private String currentStatementSql;
+	private PreparedStatement currentStatement;
+
+	private CompletableFuture<Void> execution;
+	private boolean connectionReleased;
+
+	/**
+	 * Constructs a PipelinedBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC coordinator of the session
+	 * @param batchSize The batch size.
+	 * @param connection The connection obtained for this batch from the
+	 * {@linkplain org.hibernate.resource.jdbc.spi.JdbcSessionOwner#getJdbcConnectionAccess() connection access}
+	 * of the session, and released by {@link #release()}
+	 */
+	public PipelinedBatch(
+			EntityInsertBatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			int batchSize,
+			Connection connection) {
+		super( key, jdbcCoordinator );
+		if ( ! key.getExpectation().canBeBatched() ) {
+			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
+		}
+		this.batchSize = batchSize;
+		this.configuredBatchSize = batchSize;
+		this.connection = connection;
+		this.jdbcSessionContext = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext();
+	}
+
+	public String getEntityName() {
+		return ( (EntityInsertBatchKey) getKey() ).getEntityName();
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		checkNotExecuting();
+		currentStatementSql = sql;
+		int previousBatchSize = getStatements().size();
+		currentStatement = super.getBatchStatement( sql, callable );
+		int currentBatchSize = getStatements().size();
+		if ( currentBatchSize > previousBatchSize ) {
+			this.batchSize = this.configuredBatchSize * currentBatchSize;
+		}
+		return currentStatement;
+	}
+
+	@Override
+	protected PreparedStatement buildBatchStatement(String sql, boolean callable) {
+		final String inspectedSql = jdbcSessionContext.getStatementInspector().inspect( sql );
+		final String sqlToPrepare = inspectedSql == null ? sql : inspectedSql;
+		sqlStatementLogger().logStatement( sqlToPrepare );
+		final JdbcObserver observer = jdbcSessionContext.getObserver();
+		try {
+			observer.jdbcPrepareStatementStart();
+			return callable ? connection.prepareCall( sqlToPrepare ) : connection.prepareStatement( sqlToPrepare );
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper().convert( e, "could not prepare statement", sqlToPrepare );
+		}
+		finally {
+			observer.jdbcPrepareStatementEnd();
+		}
+	}
+
+	@Override
+	public void addToBatch() {
+		checkNotExecuting();
+		try {
+			currentStatement.addBatch();
+		}
+		catch ( SQLException e ) {
+			abortBatch( e );
+			LOG.debug( "SQLException escaped proxy", e );
+			throw sqlExceptionHelper().convert( e, "could not perform addBatch", currentStatementSql );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+		statementPosition++;
+		if ( statementPosition >= getKey().getBatchedStatementCount() ) {
+			batchPosition++;
+			if ( batchPosition == batchSize ) {
+				notifyObserversImplicitExecution();
+				performExecution();
+			}
+			statementPosition = 0;
+		}
+	}
+
+	@Override
+	protected void doExecuteBatch() {
+		checkNotExecuting();
+		if ( batchPosition == 0 ) {
+			LOG.debug( "No batched statements to execute" );
+		}
+		else {
+			performExecution();
+		}
+	}
+
+	private void performExecution() {
+		final JdbcObserver observer = jdbcSessionContext.getObserver();
+		try {
+			observer.jdbcExecuteBatchStart();
+			executeStatements();
+		}
+		catch (SQLException e) {
+			abortBatch( e );
+			throw sqlExceptionHelper().convert( e, "could not execute batch" );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+		finally {
+			observer.jdbcExecuteBatchEnd();
+		}
+	}
+
+	/**
+	 * Start executing this batch on a background thread, which is the equivalent of {@link #execute()}
+	 * and {@link #release()}, except that the statements and the connection are only released by
+	 * {@link #awaitExecution()}.
+	 *
+	 * @param executor The executor performing the execution
+	 */
+	public void executeInBackground(Executor executor) {
+		checkNotExecuting();
+		notifyObserversExplicitExecution();
+		if ( batchPosition == 0 ) {
+			execution = CompletableFuture.completedFuture( null );
+		}
+		else {
+			// no observer is notified from the background thread, and a failure
+			// is only converted by the thread of the session, when awaited
+			execution = CompletableFuture.runAsync(
+					() -> {
+						try {
+							executeStatements();
+						}
+						catch (SQLException e) {
+							throw new CompletionException( e );
+						}
+					},
+					executor
+			);
+		}
+	}
+
+	/**
+	 * Wait for the completion of the {@linkplain #executeInBackground(Executor) background execution}
+	 * and release this batch, rethrowing any failure of the execution.
+	 */
+	public void awaitExecution() {
+		if ( execution == null ) {
+			throw new IllegalStateException( "Batch is not executing" );
+		}
+		try {
+			execution.join();
+		}
+		catch (CompletionException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof SQLException ) {
+				throw sqlExceptionHelper().convert( (SQLException) cause, "could not execute batch" );
+			}
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw new HibernateException( "Background batch execution failed", cause );
+		}
+		finally {
+			execution = null;
+			releaseStatements();
+			release();
+		}
+	}
+
+	private void executeStatements() throws SQLException {
+		LOG.debugf( "Executing batch size: %s", batchPosition );
+		try {
+			for ( Map.Entry<String, PreparedStatement> entry : getStatements().entrySet() ) {
+				final String sql = entry.getKey();
+				final PreparedStatement statement = entry.getValue();
+				try {
+					checkRowCounts( statement.executeBatch(), statement, sql );
+				}
+				catch (SQLException | RuntimeException e) {
+					LOG.unableToExecuteBatch( e, sql );
+					throw e;
+				}
+			}
+		}
+		finally {
+			batchPosition = 0;
+		}
+	}
+
+	private void checkRowCounts(int[] rowCounts, PreparedStatement ps, String statementSQL) throws SQLException, HibernateException {
+		final int numberOfRowCounts = rowCounts.length;
+		if ( batchPosition != 0 && numberOfRowCounts != batchPosition / getStatements().size() ) {
+			LOG.unexpectedRowCounts();
+		}
+		for ( int i = 0; i < numberOfRowCounts; i++ ) {
+			getKey().getExpectation().verifyOutcome( rowCounts[i], ps, i, statementSQL );
+		}
+	}
+
+	private void checkNotExecuting() {
+		if ( execution != null ) {
+			throw new IllegalStateException( "Batch is executing in the background" );
+		}
+	}
+
+	@Override
+	protected void releaseStatements() {
+		// the statements belong to the connection of this batch, not to the
+		// resource registry of the session
+		for ( PreparedStatement statement : getStatements().values() ) {
+			clearBatch( statement );
+			ResourceRegistryStandardImpl.close( statement );
+		}
+		getStatements().clear();
+	}
+
+	@Override
+	public void release() {
+		if ( execution != null ) {
+			// the batch is being discarded, and the outcome of its execution with it,
+			// but neither its statements nor its connection may be released before
+			try {
+				execution.join();
+			}
+			catch (CompletionException e) {
+				LOG.debug( "Discarding failed background batch execution", e.getCause() );
+			}
+			execution = null;
+		}
+		try {
+			super.release();
+		}
+		finally {
+			releaseConnection();
+		}
+	}
+
+	private void releaseConnection() {
+		if ( connectionReleased ) {
+			return;
+		}
+		connectionReleased = true;
+		try {
+			sqlExceptionHelper().logAndClearWarnings( connection );
+			getJdbcCoordinator().getJdbcSessionOwner().getJdbcConnectionAccess().releaseConnection( connection );
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper().convert( e, "Unable to release JDBC Connection" );
+		}
+	}
+}
@@ -16,13 +16,17 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 final class SharedBatchBuildingCode {
 
 	static Batch buildBatch(final int defaultJdbcBatchSize, final BatchKey key, final JdbcCoordinator jdbcCoordinator) {
+		final int jdbcBatchSizeToUse = jdbcBatchSize( defaultJdbcBatchSize, jdbcCoordinator );
+		return jdbcBatchSizeToUse > 1
+				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
+				: new NonBatchingBatch( key, jdbcCoordinator );
+	}
+
+	static int jdbcBatchSize(final int defaultJdbcBatchSize, final JdbcCoordinator jdbcCoordinator) {
 		final Integer sessionJdbcBatchSize = jdbcCoordinator.getJdbcSessionOwner()
 				.getJdbcBatchSize();
-		final int jdbcBatchSizeToUse = sessionJdbcBatchSize == null ?
+		return sessionJdbcBatchSize == null ?
 				defaultJdbcBatchSize :
 				sessionJdbcBatchSize;
-		return jdbcBatchSizeToUse > 1
-				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
-				: new NonBatchingBatch( key, jdbcCoordinator );
 	}
 }
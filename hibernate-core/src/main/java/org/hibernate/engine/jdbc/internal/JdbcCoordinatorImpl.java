@@ -13,10 +13,16 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
+import org.hibernate.engine.internal.EntityInsertOrdering;
+import org.hibernate.engine.jdbc.batch.internal.BatchBuilderImpl;
+import org.hibernate.engine.jdbc.batch.internal.EntityInsertBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.PipelinedBatch;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -40,6 +46,7 @@ import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
+import org.hibernate.resource.transaction.spi.TransactionCoordinator;
 
 /**
  * Standard Hibernate implementation of {@link JdbcCoordinator}
@@ -60,6 +67,16 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient Batch currentBatch;
 
+	/**
+	 * The batches executing in the background, each on a connection of its own
+	 */
+	private transient List<PipelinedBatch> pipelinedBatches;
+
+	/**
+	 * Whether the connection provider hands out the connection of the session again
+	 */
+	private transient boolean pipeliningUnavailable;
+
 	private transient long transactionTimeOutInstant = -1;
 
 	private Statement lastQuery;
@@ -167,7 +184,12 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			}
 		}
 		finally {
-			connection = logicalConnection.close();
+			try {
+				discardPipelinedBatches();
+			}
+			finally {
+				connection = logicalConnection.close();
+			}
 		}
 		return connection;
 	}
@@ -178,28 +200,167 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			if ( currentBatch.getKey().equals( key ) ) {
 				return currentBatch;
 			}
+			else if ( currentBatch instanceof PipelinedBatch ) {
+				executeInBackground( (PipelinedBatch) currentBatch );
+			}
 			else {
 				currentBatch.execute();
 				currentBatch.release();
 			}
 		}
-		currentBatch = batchBuilder().buildBatch( key, this );
+		currentBatch = buildPipelinedBatch( key );
+		if ( currentBatch == null ) {
+			awaitPipelinedBatches();
+			currentBatch = batchBuilder().buildBatch( key, this );
+		}
 		return currentBatch;
 	}
 
 	@Override
 	public void executeBatch() {
-		if ( currentBatch != null ) {
+		if ( currentBatch instanceof PipelinedBatch ) {
+			executeInBackground( (PipelinedBatch) currentBatch );
+		}
+		else if ( currentBatch != null ) {
 			currentBatch.execute();
 			// needed?
 			currentBatch.release();
 		}
+		awaitPipelinedBatches();
 	}
 
 	@Override
 	public void abortBatch() {
 		if ( currentBatch != null ) {
 			currentBatch.release();
+			if ( currentBatch instanceof PipelinedBatch ) {
+				// its connection is released
+				currentBatch = null;
+			}
+		}
+		discardPipelinedBatches();
+	}
+
+	/**
+	 * Builds a batch of entity inserts executed on a connection of its own, or returns {@code null}
+	 * if the given batch must be executed on the connection of the session.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINING
+	 */
+	private PipelinedBatch buildPipelinedBatch(BatchKey key) {
+		if ( !( key instanceof EntityInsertBatchKey ) || isUserSuppliedConnection || pipeliningUnavailable ) {
+			return null;
+		}
+		final EntityInsertBatchKey insertBatchKey = (EntityInsertBatchKey) key;
+		final BatchBuilder batchBuilder = batchBuilder();
+		if ( !insertBatchKey.isPipelinable()
+				|| !( batchBuilder instanceof BatchBuilderImpl )
+				|| ( (BatchBuilderImpl) batchBuilder ).getPipelineConnections() == 0 ) {
+			return null;
+		}
+		// the batches of different entity types may only be executed concurrently
+		// when they are known to be independent
+		final String entityName = insertBatchKey.getEntityName();
+		final EntityInsertOrdering entityInsertOrdering = sessionFactory().getFastSessionServices()
+				.getEntityInsertOrdering();
+		if ( entityInsertOrdering == null || !entityInsertOrdering.isOrdered( entityName ) ) {
+			return null;
+		}
+		// and only the transaction manager can make several connections take part in
+		// the same transaction
+		final TransactionCoordinator transactionCoordinator = owner.getTransactionCoordinator();
+		if ( !transactionCoordinator.getTransactionCoordinatorBuilder().isJta()
+				|| !transactionCoordinator.isTransactionActive() ) {
+			return null;
+		}
+
+		final BatchBuilderImpl pipeliningBatchBuilder = (BatchBuilderImpl) batchBuilder;
+		if ( pipelinedBatches == null ) {
+			pipelinedBatches = new ArrayList<>();
+		}
+		// the rows of related entity types must be inserted one after the other
+		for ( int i = 0; i < pipelinedBatches.size(); ) {
+			final PipelinedBatch pipelinedBatch = pipelinedBatches.get( i );
+			if ( entityInsertOrdering.areRelated( entityName, pipelinedBatch.getEntityName() ) ) {
+				pipelinedBatches.remove( i );
+				pipelinedBatch.awaitExecution();
+			}
+			else {
+				i++;
+			}
+		}
+		while ( pipelinedBatches.size() >= pipeliningBatchBuilder.getPipelineConnections() ) {
+			pipelinedBatches.remove( 0 ).awaitExecution();
+		}
+
+		final Connection sessionConnection = logicalConnection.getPhysicalConnection();
+		final Connection connection;
+		try {
+			connection = owner.getJdbcConnectionAccess().obtainConnection();
+		}
+		catch (SQLException e) {
+			throw sqlExceptionHelper().convert( e, "Unable to acquire JDBC Connection" );
+		}
+		if ( connection == sessionConnection ) {
+			// a connection provider sharing a single connection per transaction,
+			// which remains owned by the session
+			LOG.debug( "Connection provider returned the connection of the session, disabling batch pipelining" );
+			pipeliningUnavailable = true;
+			return null;
+		}
+		final PipelinedBatch pipelinedBatch = pipeliningBatchBuilder.buildPipelinedBatch( insertBatchKey, this, connection );
+		if ( pipelinedBatch == null ) {
+			try {
+				owner.getJdbcConnectionAccess().releaseConnection( connection );
+			}
+			catch (SQLException e) {
+				throw sqlExceptionHelper().convert( e, "Unable to release JDBC Connection" );
+			}
+		}
+		return pipelinedBatch;
+	}
+
+	private void executeInBackground(PipelinedBatch pipelinedBatch) {
+		// from now on, the batch belongs to the background thread
+		currentBatch = null;
+		pipelinedBatch.executeInBackground( ( (BatchBuilderImpl) batchBuilder() ).getPipelineExecutor() );
+		pipelinedBatches.add( pipelinedBatch );
+	}
+
+	/**
+	 * Waits for the completion of all the batches executing in the background, which is required
+	 * before executing any other statement, since the batches may have inserted rows it refers to.
+	 * The first failure of a batch is rethrown, once all batches are complete.
+	 */
+	void awaitPipelinedBatches() {
+		if ( pipelinedBatches == null || pipelinedBatches.isEmpty() ) {
+			return;
+		}
+		RuntimeException failure = null;
+		while ( !pipelinedBatches.isEmpty() ) {
+			try {
+				pipelinedBatches.remove( 0 ).awaitExecution();
+			}
+			catch (RuntimeException e) {
+				if ( failure == null ) {
+					failure = e;
+				}
+				else {
+					failure.addSuppressed( e );
+				}
+			}
+		}
+		if ( failure != null ) {
+			throw failure;
+		}
+	}
+
+	private void discardPipelinedBatches() {
+		if ( pipelinedBatches == null ) {
+			return;
+		}
+		while ( !pipelinedBatches.isEmpty() ) {
+			pipelinedBatches.remove( 0 ).release();
 		}
 	}
 
@@ -299,6 +460,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	}
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
+		awaitPipelinedBatches();
 		final Connection connection = getLogicalConnection().getPhysicalConnection();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
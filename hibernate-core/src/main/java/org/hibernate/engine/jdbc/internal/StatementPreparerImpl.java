@@ -127,6 +127,8 @@ class StatementPreparerImpl implements StatementPreparer {
 			String sql,
 			final boolean isCallable,
 			final ScrollMode scrollMode) {
+		// queries must see the rows inserted by batches executing in the background
+		jdbcCoordinator.awaitPipelinedBatches();
 		if ( scrollMode != null && !scrollMode.equals( ScrollMode.FORWARD_ONLY ) ) {
 			if ( ! settings().isScrollableResultSetsEnabled() ) {
 				throw new AssertionFailure("scrollable result sets are not enabled");
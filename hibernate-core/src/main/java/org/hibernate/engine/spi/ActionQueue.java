@@ -42,6 +42,7 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.engine.internal.EntityInsertOrdering;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
@@ -1154,6 +1155,20 @@ public class ActionQueue {
 		 * Sort the insert actions.
 		 */
 		public void sort(List<AbstractEntityInsertAction> insertions) {
+			if ( insertions.isEmpty() ) {
+				return;
+			}
+
+			// unless there are entity types whose foreign keys form a cycle, the order
+			// of the entity types computed from the mapping model is all we need
+			final EntityInsertOrdering entityInsertOrdering = insertions.get( 0 ).getSession()
+					.getFactory()
+					.getFastSessionServices()
+					.getEntityInsertOrdering();
+			if ( entityInsertOrdering != null && entityInsertOrdering.sort( insertions ) ) {
+				return;
+			}
+
 			// optimize the hash size to eliminate a rehash.
 			this.actionBatches = new HashMap<>();
 
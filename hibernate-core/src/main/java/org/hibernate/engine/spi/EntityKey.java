@@ -55,10 +55,25 @@ public final class EntityKey implements Serializable {
 	}
 
 	private int generateHashCode() {
+		return generateHashCode(
+				persister.getRootEntityName(),
+				persister.getIdentifierType().getHashCode( identifier, persister.getFactory() )
+		);
+	}
+
+	/**
+	 * The hash code of the key of an entity of the given hierarchy, which allows
+	 * looking a key up without creating one.
+	 *
+	 * @param rootEntityName The name of the root entity of the hierarchy
+	 * @param identifierHashCode The hash code of the identifier, according to the identifier type
+	 *
+	 * @since 6.2
+	 */
+	public static int generateHashCode(String rootEntityName, int identifierHashCode) {
 		int result = 17;
-		final String rootEntityName = persister.getRootEntityName();
 		result = 37 * result + ( rootEntityName != null ? rootEntityName.hashCode() : 0 );
-		result = 37 * result + persister.getIdentifierType().getHashCode( identifier, persister.getFactory() );
+		result = 37 * result + identifierHashCode;
 		return result;
 	}
 
@@ -162,6 +162,26 @@ public interface PersistenceContext {
 	 */
 	Object getEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance of the given type having the given integral identifier.
+	 * <p>
+	 * Equivalent to {@link #getEntity(EntityKey)}, but allows implementations to
+	 * look {@code long} and {@code int} identifiers up without creating an
+	 * {@link EntityKey}, nor wrapping the identifier.
+	 *
+	 * @param persister The persister of the entity, whose identifier must be of an integral type
+	 * @param id The identifier value
+	 *
+	 * @return The matching entity, or {@code null}
+	 *
+	 * @since 6.2
+	 */
+	default Object getEntity(EntityPersister persister, long id) {
+		final SharedSessionContractImplementor session = getSession();
+		final Object identifier = persister.getIdentifierMapping().getJavaType().wrap( id, session );
+		return getEntity( session.generateEntityKey( identifier, persister ) );
+	}
+
 	/**
 	 * Is there an entity with the given key in the persistence context
 	 *
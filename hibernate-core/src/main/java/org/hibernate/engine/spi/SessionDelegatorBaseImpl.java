@@ -1096,6 +1096,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.addEventListeners( listeners );
 	}
 
+	@Override
+	public List<List<?>> listAll(SelectionQuery<?>... queries) {
+		return delegate.listAll( queries );
+	}
+
 	@Override
 	public ActionQueue getActionQueue() {
 		return delegate.getActionQueue();
@@ -13,4 +13,20 @@ import org.hibernate.SessionEventListener;
  */
 public interface SessionEventListenerManager extends SessionEventListener {
 	void addListener(SessionEventListener... listeners);
+
+	/**
+	 * Notification that the session began a transaction, or joined one.
+	 *
+	 * @since 6.2
+	 */
+	void transactionBegin();
+
+	/**
+	 * Whether a JDBC statement or batch was executed since the session last
+	 * {@linkplain #transactionBegin() began a transaction}, or since the session
+	 * was opened if it did not begin any.
+	 *
+	 * @since 6.2
+	 */
+	boolean isJdbcExecutedInTransaction();
 }
@@ -488,6 +488,11 @@ public class SessionLazyDelegator implements Session {
 		this.lazySession.get().addEventListeners( listeners );
 	}
 
+	@Override
+	public List<List<?>> listAll(SelectionQuery<?>... queries) {
+		return this.lazySession.get().listAll( queries );
+	}
+
 	@Override
 	public <T> RootGraph<T> createEntityGraph(Class<T> rootType) {
 		return this.lazySession.get().createEntityGraph( rootType );
@@ -6,8 +6,11 @@
  */
 package org.hibernate.event.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+import org.hibernate.EmptyInterceptor;
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
 import org.hibernate.action.internal.CollectionRecreateAction;
@@ -108,11 +111,12 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final EventSource session = event.getSession();
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		LOG.debugf(
-				"Flushed: %s insertions, %s updates, %s deletions to %s objects",
+				"Flushed: %s insertions, %s updates, %s deletions to %s objects, %s of them known to be unchanged",
 				session.getActionQueue().numberOfInsertions(),
 				session.getActionQueue().numberOfUpdates(),
 				session.getActionQueue().numberOfDeletions(),
-				persistenceContext.getNumberOfManagedEntities()
+				persistenceContext.getNumberOfManagedEntities(),
+				event.getNumberOfEntitiesSkipped()
 		);
 		LOG.debugf(
 				"Flushed: %s (re)creations, %s updates, %s removals to %s collections",
@@ -202,24 +206,78 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
+		int skipped = 0;
+
+		final int parallelDirtyCheckThreshold = source.getFactory().getSessionFactoryOptions()
+				.getParallelDirtyCheckThreshold();
+		final DefaultFlushEntityEventListener defaultFlushListener = getDefaultFlushEntityEventListener( flushListeners );
+		if ( parallelDirtyCheckThreshold > 0
+				&& count >= parallelDirtyCheckThreshold
+				&& source.getInterceptor() == EmptyInterceptor.INSTANCE
+				&& defaultFlushListener != null ) {
+			// compare the entities with their loaded state ahead of time, on
+			// several threads, and then fire the events in the usual order
+			final List<FlushEntityEvent> entityEvents = new ArrayList<>( count );
+			boolean precomputable = true;
+			for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+				final EntityEntry entry = me.getValue();
+				final Status status = entry.getStatus();
+				if ( status != Status.LOADING && status != Status.GONE ) {
+					entityEvents.add( new FlushEntityEvent( source, me.getKey(), entry ) );
+					precomputable = precomputable
+							&& defaultFlushListener.allowsPrecomputedDirtyCheck( entry.getPersister() );
+				}
+			}
+			if ( precomputable ) {
+				ParallelDirtyCheck.precompute( entityEvents );
+			}
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
-			// Update the status of the object and if necessary, schedule an update
-
-			EntityEntry entry = me.getValue();
-			Status status = entry.getStatus();
-
-			if ( status != Status.LOADING && status != Status.GONE ) {
-				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
+			for ( FlushEntityEvent entityEvent : entityEvents ) {
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
+				if ( entityEvent.isDirtyCheckSkipped() ) {
+					skipped++;
+				}
 			}
 		}
+		else {
+			for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+				// Update the status of the object and if necessary, schedule an update
+
+				EntityEntry entry = me.getValue();
+				Status status = entry.getStatus();
+
+				if ( status != Status.LOADING && status != Status.GONE ) {
+					final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
+					flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
+					if ( entityEvent.isDirtyCheckSkipped() ) {
+						skipped++;
+					}
+				}
+			}
+		}
+		event.setNumberOfEntitiesSkipped( skipped );
 
 		source.getActionQueue().sortActions();
 
 		return count;
 	}
 
+	/**
+	 * The listener of the flush entity events, if it is the only one and the default one.
+	 * Another listener might modify an entity after its state was read ahead of time.
+	 */
+	private static DefaultFlushEntityEventListener getDefaultFlushEntityEventListener(
+			EventListenerGroup<FlushEntityEventListener> flushListeners) {
+		if ( flushListeners.count() == 1 ) {
+			for ( FlushEntityEventListener listener : flushListeners.listeners() ) {
+				if ( listener.getClass() == DefaultFlushEntityEventListener.class ) {
+					return (DefaultFlushEntityEventListener) listener;
+				}
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
@@ -36,6 +36,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.event.spi.CallbackRegistry;
 import org.hibernate.jpa.event.spi.CallbackRegistryConsumer;
+import org.hibernate.jpa.event.spi.CallbackType;
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
@@ -57,6 +58,17 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		this.callbackRegistry = callbackRegistry;
 	}
 
+	/**
+	 * Whether the entities of the given persister may be compared with their loaded state
+	 * ahead of time, by {@link ParallelDirtyCheck}. Not when this listener invokes a
+	 * {@link jakarta.persistence.PreUpdate} callback, which might modify other entities
+	 * after their state was read.
+	 */
+	boolean allowsPrecomputedDirtyCheck(EntityPersister persister) {
+		return callbackRegistry != null
+				&& !callbackRegistry.hasRegisteredCallbacks( persister.getMappedClass(), CallbackType.PRE_UPDATE );
+	}
+
 	/**
 	 * make sure user didn't mangle the id
 	 */
@@ -121,8 +133,11 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		final Type[] types = persister.getPropertyTypes();
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
+		if ( !mightBeDirty && status != Status.DELETED ) {
+			event.setDirtyCheckSkipped( true );
+		}
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, mightBeDirty );
 
 		event.setPropertyValues( values );
 
@@ -150,7 +165,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(FlushEntityEvent event, boolean mightBeDirty) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
+		final EventSource session = event.getSession();
 		final Object[] loadedState = entry.getLoadedState();
 
 		if ( entry.getStatus() == Status.DELETED ) {
@@ -165,8 +183,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 			checkId( entity, persister, entry.getId(), session );
 
-			// grab its current state
-			Object[] values = persister.getValues( entity );
+			// grab its current state, unless it was read ahead of time
+			Object[] values = event.isDirtyCheckPrecomputed()
+					? event.getPrecomputedPropertyValues()
+					: persister.getValues( entity );
 
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 
@@ -549,8 +569,17 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 				// object loaded by update()
 				dirtyCheckPossible = loadedState != null;
 				if ( dirtyCheckPossible ) {
-					// dirty check against the usual snapshot of the entity
-					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+					if ( hasSameImmutableValues( values, loadedState, persister ) ) {
+						// the very values of the snapshot, which cannot have changed since
+						event.setDirtyCheckSkipped( true );
+					}
+					else if ( event.isDirtyCheckPrecomputed() && values == event.getPrecomputedPropertyValues() ) {
+						dirtyProperties = event.getPrecomputedDirtyProperties();
+					}
+					else {
+						// dirty check against the usual snapshot of the entity
+						dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+					}
 				}
 				else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
 					// A non-modifiable (e.g., read-only or immutable) entity needs to be have
@@ -599,6 +628,21 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
+	/**
+	 * Does every property still hold the instance it held when the snapshot was
+	 * taken, with no value of a mutable type which might have been modified in place?
+	 */
+	static boolean hasSameImmutableValues(Object[] values, Object[] loadedState, EntityPersister persister) {
+		final Type[] types = persister.getPropertyTypes();
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = values[i];
+			if ( value != loadedState[i] || value != null && types[i].isMutable() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private class DirtyCheckAttributeInfoImpl implements CustomEntityDirtinessStrategy.AttributeInformation {
 		private final FlushEntityEvent event;
 		private final EntityPersister persister;
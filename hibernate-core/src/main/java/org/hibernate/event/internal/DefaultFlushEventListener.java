@@ -11,6 +11,7 @@ import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.stat.spi.InstrumentationListener;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
@@ -32,6 +33,11 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 		if ( persistenceContext.getNumberOfManagedEntities() > 0 ||
 				persistenceContext.getCollectionEntriesSize() > 0 ) {
 
+			final InstrumentationListener instrumentationListener = source.getFactory()
+					.getFastSessionServices()
+					.instrumentation
+					.getListener();
+			final long flushStartNanos = instrumentationListener == null ? 0L : System.nanoTime();
 			try {
 				source.getEventListenerManager().flushStart();
 
@@ -40,10 +46,18 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 				postFlush( source );
 			}
 			finally {
-				source.getEventListenerManager().flushEnd(
-						event.getNumberOfEntitiesProcessed(),
-						event.getNumberOfCollectionsProcessed()
-				);
+				try {
+					source.getEventListenerManager().flushEnd(
+							event.getNumberOfEntitiesProcessed(),
+							event.getNumberOfCollectionsProcessed()
+					);
+				}
+				finally {
+					// a failed flush is measured as well
+					if ( instrumentationListener != null ) {
+						instrumentationListener.flushed( System.nanoTime() - flushStartNanos );
+					}
+				}
 			}
 
 			postPostFlush( source );
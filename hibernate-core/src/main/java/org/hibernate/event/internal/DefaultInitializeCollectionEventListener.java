@@ -161,6 +161,10 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 
 		CollectionCacheEntry cacheEntry = (CollectionCacheEntry)
 				persister.getCacheEntryStructure().destructure( ce, factory );
+		if ( cacheEntry == null ) {
+			// the entry was encoded in a format we can't read
+			return false;
+		}
 
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		cacheEntry.assemble( collection, persister, persistenceContext.getCollectionOwner( id, persister ) );
@@ -38,6 +38,7 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.stat.spi.InstrumentationListener;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.tuple.entity.EntityMetamodel;
 
@@ -71,7 +72,23 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			checkIdClass( persister, event, loadType, persister.getIdentifierType().getReturnedClass() );
 		}
 
-		doOnLoad( persister, event, loadType );
+		final InstrumentationListener instrumentationListener = event.getSession()
+				.getFactory()
+				.getFastSessionServices()
+				.instrumentation
+				.getListener();
+		if ( instrumentationListener == null ) {
+			doOnLoad( persister, event, loadType );
+		}
+		else {
+			final long loadStartNanos = System.nanoTime();
+			try {
+				doOnLoad( persister, event, loadType );
+			}
+			finally {
+				instrumentationListener.entityLoaded( persister.getEntityName(), System.nanoTime() - loadStartNanos );
+			}
+		}
 	}
 
 	protected EntityPersister getPersister(final LoadEvent event) {
@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+/**
+ * Reads the state of the entities about to be flushed, and compares it with their
+ * loaded state, on the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+ * The results are attached to the {@link FlushEntityEvent}s, which are then fired
+ * one after the other by the flushing thread, so that the actions are queued in the
+ * usual order.
+ * <p>
+ * An entity is left to the flushing thread when the comparison might need the
+ * session: when one of its associations or collections was reassigned, when it
+ * has an embeddable holding associations or collections, or when it was enhanced
+ * for dirty tracking or lazy loading. The loaded state holds a copy of each
+ * embeddable, so an embeddable always looks reassigned; those holding only basic
+ * values are compared like basic values.
+ * <p>
+ * Nothing is compared ahead of time when firing an event might modify another
+ * entity, whose state would then already have been read: when a flushed entity
+ * has a {@link jakarta.persistence.PreUpdate} callback, or when the events are
+ * handled by a listener other than {@link DefaultFlushEntityEventListener}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+ */
+final class ParallelDirtyCheck {
+
+	private ParallelDirtyCheck() {
+	}
+
+	static void precompute(List<FlushEntityEvent> events) {
+		IntStream.range( 0, events.size() ).parallel().forEach( i -> precompute( events.get( i ) ) );
+	}
+
+	private static void precompute(FlushEntityEvent event) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
+		final Object[] loadedState = entry.getLoadedState();
+		if ( entry.getStatus() != Status.MANAGED
+				|| loadedState == null
+				|| !entry.isModifiableEntity()
+				|| entity instanceof PersistentAttributeInterceptable
+				|| entity instanceof SelfDirtinessTracker ) {
+			return;
+		}
+
+		final EntityPersister persister = entry.getPersister();
+		final Object[] values = persister.getValues( entity );
+		final Type[] types = persister.getPropertyTypes();
+		for ( int i = 0; i < types.length; i++ ) {
+			final Type type = types[i];
+			if ( type.isAssociationType() ) {
+				if ( values[i] != loadedState[i] ) {
+					return;
+				}
+			}
+			else if ( type.isComponentType() && values[i] != null && !isBasic( (CompositeType) type ) ) {
+				return;
+			}
+		}
+
+		final int[] dirtyProperties = DefaultFlushEntityEventListener.hasSameImmutableValues( values, loadedState, persister )
+				? null
+				: persister.findDirty( values, loadedState, entity, event.getSession() );
+		event.setPrecomputedDirtyCheck( values, dirtyProperties );
+	}
+
+	/**
+	 * Whether the embeddable, and the embeddables it holds, only hold basic values.
+	 */
+	private static boolean isBasic(CompositeType compositeType) {
+		for ( Type subtype : compositeType.getSubtypes() ) {
+			if ( subtype.isAssociationType()
+					|| subtype.isComponentType() && !isBasic( (CompositeType) subtype ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -19,6 +19,9 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean hasDirtyCollection;
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
+	private boolean dirtyCheckSkipped;
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
 	private final EntityEntry entityEntry;
 	
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
@@ -51,6 +54,38 @@ public class FlushEntityEvent extends AbstractEvent {
 	public void setDirtyCheckPossible(boolean dirtyCheckPossible) {
 		this.dirtyCheckPossible = dirtyCheckPossible;
 	}
+	/**
+	 * Was the entity known to be unchanged without comparing its properties
+	 * one by one with its loaded state?
+	 *
+	 * @since 6.2
+	 */
+	public boolean isDirtyCheckSkipped() {
+		return dirtyCheckSkipped;
+	}
+	public void setDirtyCheckSkipped(boolean dirtyCheckSkipped) {
+		this.dirtyCheckSkipped = dirtyCheckSkipped;
+	}
+	/**
+	 * Has the entity been compared with its loaded state ahead of the dirty check?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+	 *
+	 * @since 6.2
+	 */
+	public boolean isDirtyCheckPrecomputed() {
+		return precomputedPropertyValues != null;
+	}
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
 	public int[] getDirtyProperties() {
 		return dirtyProperties;
 	}
@@ -13,6 +13,7 @@ package org.hibernate.event.spi;
  */
 public class FlushEvent extends AbstractEvent {
 	private int numberOfEntitiesProcessed;
+	private int numberOfEntitiesSkipped;
 	private int numberOfCollectionsProcessed;
 
 	public FlushEvent(EventSource source) {
@@ -27,6 +28,22 @@ public class FlushEvent extends AbstractEvent {
 		this.numberOfEntitiesProcessed = numberOfEntitiesProcessed;
 	}
 
+	/**
+	 * The number of processed entities which were known to be unchanged without
+	 * a full dirty check.
+	 *
+	 * @see FlushEntityEvent#isDirtyCheckSkipped()
+	 *
+	 * @since 6.2
+	 */
+	public int getNumberOfEntitiesSkipped() {
+		return numberOfEntitiesSkipped;
+	}
+
+	public void setNumberOfEntitiesSkipped(int numberOfEntitiesSkipped) {
+		this.numberOfEntitiesSkipped = numberOfEntitiesSkipped;
+	}
+
 	public int getNumberOfCollectionsProcessed() {
 		return numberOfCollectionsProcessed;
 	}
@@ -27,8 +27,11 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * All known implementors are synchronized. Consider carefully if a new
-	 * implementation could drop this requirement.
+	 * All known implementors are thread-safe. Consider carefully if a new
+	 * implementation could drop this requirement. Since the callback may
+	 * access the database, prefer a {@link java.util.concurrent.locks.Lock}
+	 * to a monitor, which pins a virtual thread to its carrier thread while
+	 * it waits for the database.
 	 *
 	 * @param callback Callback to access the underlying value source.
 	 * @return The generated identifier value.
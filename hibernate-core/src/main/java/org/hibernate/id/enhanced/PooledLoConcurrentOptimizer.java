@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which hands out the values of a block
+ * without any lock, so that the threads generating identifiers never wait for
+ * each other, and never hold a monitor during a round trip to the database.
+ * <p>
+ * The thread which takes the value in the middle of the current block fetches
+ * the next block, while the other threads keep using the current one. A thread
+ * finding both blocks exhausted fetches a block of its own rather than waiting
+ * for another thread to do it. A block fetched by a thread which loses the race to
+ * install it is kept as the next block, or discarded if there already is one,
+ * leaving a gap in the generated values.
+ * <p>
+ * The generated values are handled as {@code long}.
+ *
+ * @see PooledLoOptimizer
+ *
+ * @since 6.2
+ */
+public class PooledLoConcurrentOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoConcurrentOptimizer.class.getName()
+	);
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a PooledLoConcurrentOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoConcurrentOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final long value = locateGenerationState( callback.getTenantIdentifier() ).generate( callback );
+		return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass ).initialize( value ).makeValue();
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState;
+		}
+		final GenerationState state = tenantSpecificState.get( tenantIdentifier );
+		return state == null
+				? tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() )
+				: state;
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final IntegralDataTypeHolder lastSourceValue = noTenantState.lastSourceValue;
+		if ( lastSourceValue == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	private final class GenerationState {
+		// the block values are currently taken from
+		private final AtomicReference<Block> current = new AtomicReference<>();
+		// the block fetched ahead of time, if any
+		private final AtomicReference<Block> next = new AtomicReference<>();
+		// last value read from db source
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private long generate(AccessCallback callback) {
+			while ( true ) {
+				final Block block = current.get();
+				if ( block != null ) {
+					final long value = block.nextValue.getAndIncrement();
+					if ( value < block.upperLimitValue ) {
+						if ( value == block.prefetchValue && next.get() == null ) {
+							next.compareAndSet( null, fetch( callback ) );
+						}
+						return value;
+					}
+				}
+
+				Block replacement = next.getAndSet( null );
+				if ( replacement == null ) {
+					replacement = fetch( callback );
+				}
+				if ( !current.compareAndSet( block, replacement ) ) {
+					// another thread replaced the block first, keep ours for later if we can
+					next.compareAndSet( null, replacement );
+				}
+			}
+		}
+
+		private Block fetch(AccessCallback callback) {
+			final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+			lastSourceValue = sourceValue;
+			return new Block( sourceValue.makeValue().longValue(), incrementSize );
+		}
+	}
+
+	private static final class Block {
+		private final AtomicLong nextValue;
+		// the value at which we'll need another block
+		private final long upperLimitValue;
+		// the value at which we'll fetch the next block
+		private final long prefetchValue;
+
+		private Block(long sourceValue, int incrementSize) {
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			final long firstValue = Math.max( sourceValue, 1 );
+			this.nextValue = new AtomicLong( firstValue );
+			this.upperLimitValue = Math.max( sourceValue + incrementSize, firstValue + 1 );
+			this.prefetchValue = sourceValue + Math.max( incrementSize / 2, 1 );
+		}
+	}
+}
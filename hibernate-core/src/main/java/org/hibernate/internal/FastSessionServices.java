@@ -23,6 +23,7 @@ import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.internal.EntityInsertOrdering;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -67,6 +68,7 @@ import org.hibernate.jpa.internal.util.ConfigurationHelper;
 import org.hibernate.jpa.internal.util.LockOptionsHelper;
 import org.hibernate.resource.transaction.spi.TransactionCoordinatorBuilder;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.stat.spi.Instrumentation;
 import org.hibernate.type.FormatMapper;
 
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_LOCK_SCOPE;
@@ -144,6 +146,11 @@ public final class FastSessionServices {
 	public final EventListenerGroup<SaveOrUpdateEventListener> eventListenerGroup_SAVE_UPDATE;
 	public final EventListenerGroup<SaveOrUpdateEventListener> eventListenerGroup_UPDATE;
 
+	/**
+	 * Listeners interested in the duration of individual operations
+	 */
+	public final Instrumentation instrumentation;
+
 	//Intentionally Package private:
 	final boolean disallowOutOfTransactionUpdateOperations;
 	final boolean useStreamForLobBinding;
@@ -170,6 +177,7 @@ public final class FastSessionServices {
 	private final ConnectionObserverStatsBridge defaultJdbcObservers;
 	private final FormatMapper jsonFormatMapper;
 	private final FormatMapper xmlFormatMapper;
+	private final EntityInsertOrdering entityInsertOrdering;
 
 	FastSessionServices(SessionFactoryImpl sf) {
 		Objects.requireNonNull( sf );
@@ -231,6 +239,7 @@ public final class FastSessionServices {
 		this.classLoaderService = sr.getService( ClassLoaderService.class );
 		this.transactionCoordinatorBuilder = sr.getService( TransactionCoordinatorBuilder.class );
 		this.jdbcServices = sr.getService( JdbcServices.class );
+		this.instrumentation = sr.getService( Instrumentation.class );
 
 		this.isJtaTransactionAccessible = isTransactionAccessible( sf, transactionCoordinatorBuilder );
 
@@ -245,6 +254,7 @@ public final class FastSessionServices {
 		this.initialSessionFlushMode = initializeDefaultFlushMode( defaultSessionProperties );
 		this.jsonFormatMapper = sessionFactoryOptions.getJsonFormatMapper();
 		this.xmlFormatMapper = sessionFactoryOptions.getXmlFormatMapper();
+		this.entityInsertOrdering = sessionFactoryOptions.isOrderInsertsEnabled() ? EntityInsertOrdering.from( sf ) : null;
 	}
 
 	private static FlushMode initializeDefaultFlushMode(Map<String, Object> defaultSessionProperties) {
@@ -380,4 +390,11 @@ public final class FastSessionServices {
 	public FormatMapper getXmlFormatMapper() {
 		return xmlFormatMapper;
 	}
+
+	/**
+	 * @return the order of the entity types used to sort the inserts, when {@code hibernate.order_inserts} is enabled
+	 */
+	public EntityInsertOrdering getEntityInsertOrdering() {
+		return entityInsertOrdering;
+	}
 }
@@ -11,6 +11,8 @@ import java.sql.Connection;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.stat.spi.Instrumentation;
+import org.hibernate.stat.spi.InstrumentationListener;
 
 /**
  * @author Steve Ebersole
@@ -20,20 +22,35 @@ public final class JdbcObserverImpl implements JdbcObserver {
 	private final ConnectionObserverStatsBridge observer;
 	private final SessionEventListenerManager eventListenerManager;
 	private final SharedSessionContractImplementor session;
+	private final Instrumentation instrumentation;
+
+	// start of the operations being timed, zero when not timed
+	private long connectionAcquisitionStartNanos;
+	private long executeStatementStartNanos;
+	private long executeBatchStartNanos;
 
 	public JdbcObserverImpl(SharedSessionContractImplementor session, FastSessionServices fastSessionServices) {
 		this.session = session;
 		this.observer = fastSessionServices.getDefaultJdbcObserver();
 		this.eventListenerManager = session.getEventListenerManager();
+		this.instrumentation = fastSessionServices.instrumentation;
 	}
 
 	@Override
 	public void jdbcConnectionAcquisitionStart() {
+		connectionAcquisitionStartNanos = startNanos();
 	}
 
 	@Override
 	public void jdbcConnectionAcquisitionEnd(Connection connection) {
 		observer.physicalConnectionObtained( connection );
+		if ( connectionAcquisitionStartNanos != 0 ) {
+			final InstrumentationListener listener = instrumentation.getListener();
+			if ( listener != null ) {
+				listener.connectionAcquired( System.nanoTime() - connectionAcquisitionStartNanos );
+			}
+			connectionAcquisitionStartNanos = 0;
+		}
 	}
 
 	@Override
@@ -59,21 +76,41 @@ public final class JdbcObserverImpl implements JdbcObserver {
 	@Override
 	public void jdbcExecuteStatementStart() {
 		eventListenerManager.jdbcExecuteStatementStart();
+		executeStatementStartNanos = startNanos();
 	}
 
 	@Override
 	public void jdbcExecuteStatementEnd() {
 		eventListenerManager.jdbcExecuteStatementEnd();
+		if ( executeStatementStartNanos != 0 ) {
+			final InstrumentationListener listener = instrumentation.getListener();
+			if ( listener != null ) {
+				listener.statementExecuted( System.nanoTime() - executeStatementStartNanos );
+			}
+			executeStatementStartNanos = 0;
+		}
 	}
 
 	@Override
 	public void jdbcExecuteBatchStart() {
 		eventListenerManager.jdbcExecuteBatchStart();
+		executeBatchStartNanos = startNanos();
 	}
 
 	@Override
 	public void jdbcExecuteBatchEnd() {
 		eventListenerManager.jdbcExecuteBatchEnd();
+		if ( executeBatchStartNanos != 0 ) {
+			final InstrumentationListener listener = instrumentation.getListener();
+			if ( listener != null ) {
+				listener.batchExecuted( System.nanoTime() - executeBatchStartNanos );
+			}
+			executeBatchStartNanos = 0;
+		}
+	}
+
+	private long startNanos() {
+		return instrumentation.getListener() == null ? 0L : System.nanoTime();
 	}
 
 	@Override
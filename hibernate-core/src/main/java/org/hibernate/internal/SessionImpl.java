@@ -16,6 +16,7 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -129,6 +130,7 @@ import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.Query;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.UnknownSqlResultSetMappingException;
+import org.hibernate.query.internal.SelectionQueryFanOut;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.transaction.TransactionRequiredForJoinException;
@@ -514,6 +516,12 @@ public class SessionImpl
 		getEventListenerManager().addListener( listeners );
 	}
 
+	@Override
+	public List<List<?>> listAll(SelectionQuery<?>... queries) {
+		checkOpen();
+		return new SelectionQueryFanOut( this ).list( Arrays.asList( queries ) );
+	}
+
 	/**
 	 * clear all the internal collections, just
 	 * to help the garbage collector, does not
@@ -2220,6 +2228,7 @@ public class SessionImpl
 	@Override
 	public void afterTransactionBegin() {
 		checkOpenOrWaitingForAutoClose();
+		getEventListenerManager().transactionBegin();
 		getInterceptor().afterTransactionBegin( getTransactionIfAccessible() );
 	}
 
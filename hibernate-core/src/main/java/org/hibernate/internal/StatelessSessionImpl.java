@@ -6,6 +6,8 @@
  */
 package org.hibernate.internal;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.CacheMode;
@@ -92,7 +94,74 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		checkOpen();
 		EntityPersister persister = getEntityPersister( entityName, entity );
 		Object id = persister.getIdentifierGenerator().generate( this, entity );
-		Object[] state = persister.getValues( entity );
+		Object[] state = getInsertState( persister, entity );
+		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+			id = persister.insert( state, entity, this );
+		}
+		else {
+			persister.insert( id, state, entity, this );
+		}
+		persister.setIdentifier( entity, id, this );
+		return id;
+	}
+
+	@Override
+	public List<Object> insertMultiple(List<?> entities) {
+		checkOpen();
+		final Object[] objects = entities.toArray();
+		final Object[] ids = new Object[objects.length];
+		final Object[][] states = new Object[objects.length][];
+		// the entities are inserted in runs of the same persister, to keep their order
+		EntityPersister runPersister = null;
+		int runStart = 0;
+		for ( int i = 0; i < objects.length; i++ ) {
+			final Object entity = objects[i];
+			final EntityPersister persister = getEntityPersister( null, entity );
+			if ( persister != runPersister ) {
+				insertRun( runPersister, ids, states, objects, runStart, i );
+				runPersister = persister;
+				runStart = i;
+			}
+			final Object id = persister.getIdentifierGenerator().generate( this, entity );
+			final Object[] state = getInsertState( persister, entity );
+			if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+				// the identifier is only known once the row is inserted
+				insertRun( runPersister, ids, states, objects, runStart, i );
+				ids[i] = persister.insert( state, entity, this );
+				persister.setIdentifier( entity, ids[i], this );
+				runStart = i + 1;
+			}
+			else {
+				ids[i] = id;
+				states[i] = state;
+			}
+		}
+		insertRun( runPersister, ids, states, objects, runStart, objects.length );
+		return Arrays.asList( ids );
+	}
+
+	private void insertRun(
+			EntityPersister persister,
+			Object[] ids,
+			Object[][] states,
+			Object[] objects,
+			int from,
+			int to) {
+		if ( from < to ) {
+			persister.insertMultiple(
+					Arrays.copyOfRange( ids, from, to ),
+					Arrays.copyOfRange( states, from, to ),
+					Arrays.copyOfRange( objects, from, to ),
+					this
+			);
+			for ( int i = from; i < to; i++ ) {
+				persister.setIdentifier( objects[i], ids[i], this );
+			}
+		}
+	}
+
+	private Object[] getInsertState(EntityPersister persister, Object entity) {
+		final Object[] state = persister.getValues( entity );
 		if ( persister.isVersioned() ) {
 			boolean substitute = Versioning.seedVersion(
 					state,
@@ -104,14 +173,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 				persister.setValues( entity, state );
 			}
 		}
-		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
-			id = persister.insert( state, entity, this );
-		}
-		else {
-			persister.insert( id, state, entity, this );
-		}
-		persister.setIdentifier( entity, id, this );
-		return id;
+		return state;
 	}
 
 
@@ -408,7 +408,7 @@ public class BoundedConcurrentHashMap<K, V> extends AbstractMap<K, V>
 			boolean aboveThreshold = isAboveThreshold();
 			if ( aboveThreshold ) {
 				HashEntry<K, V> evictedEntry = eldest.getKey();
-				segment.remove( evictedEntry.key, evictedEntry.hash, null );
+				segment.evict( evictedEntry );
 				evicted.add( evictedEntry );
 			}
 			return aboveThreshold;
@@ -958,7 +958,7 @@ public class BoundedConcurrentHashMap<K, V> extends AbstractMap<K, V>
 		private void removeFromSegment(Set<HashEntry<K, V>> evicted) {
 			for ( HashEntry<K, V> e : evicted ) {
 				( (LIRSHashEntry<K, V>) e ).evict();
-				segment.remove( e.key, e.hash, null );
+				segment.evict( e );
 			}
 		}
 
@@ -1114,13 +1114,25 @@ public class BoundedConcurrentHashMap<K, V> extends AbstractMap<K, V>
 
 		transient final EvictionPolicy<K, V> eviction;
 
-		Segment(int cap, int evictCap, float lf, Eviction es) {
+		transient final Runnable evictionListener;
+
+		Segment(int cap, int evictCap, float lf, Eviction es, Runnable evictionListener) {
 			loadFactor = lf;
 			this.evictCap = evictCap;
+			this.evictionListener = evictionListener;
 			eviction = es.make( this, evictCap, lf );
 			setTable( HashEntry.newArray( cap ) );
 		}
 
+		/**
+		 * Removes an entry chosen by the eviction policy.
+		 */
+		void evict(HashEntry<K, V> e) {
+			if ( remove( e.key, e.hash, null ) != null && evictionListener != null ) {
+				evictionListener.run();
+			}
+		}
+
 		@SuppressWarnings("unchecked")
 		static <K, V> Segment<K, V>[] newArray(int i) {
 			return new Segment[i];
@@ -1481,6 +1493,25 @@ public class BoundedConcurrentHashMap<K, V> extends AbstractMap<K, V>
 	public BoundedConcurrentHashMap(
 			int capacity, int concurrencyLevel,
 			Eviction evictionStrategy) {
+		this( capacity, concurrencyLevel, evictionStrategy, null );
+	}
+
+	/**
+	 * Creates a new, empty map with the specified maximum capacity, load factor, concurrency
+	 * level and eviction policy, notifying a listener of the evicted elements.
+	 *
+	 * @param capacity is the upper bound capacity for the number of elements in this map
+	 * @param concurrencyLevel the estimated number of concurrently updating threads. The implementation performs
+	 * internal sizing to try to accommodate this many threads.
+	 * @param evictionStrategy the algorithm used to evict elements from this map
+	 * @param evictionListener notified each time an element is evicted from this map, may be {@code null}
+	 *
+	 * @throws IllegalArgumentException if the initial capacity is negative or the load factor or concurrencyLevel are
+	 * nonpositive.
+	 */
+	public BoundedConcurrentHashMap(
+			int capacity, int concurrencyLevel,
+			Eviction evictionStrategy, Runnable evictionListener) {
 		if ( capacity < 0 || concurrencyLevel <= 0 ) {
 			throw new IllegalArgumentException();
 		}
@@ -1522,7 +1553,7 @@ public class BoundedConcurrentHashMap<K, V> extends AbstractMap<K, V>
 		}
 
 		for ( int i = 0; i < this.segments.length; ++i ) {
-			this.segments[i] = new Segment<>( cap, c, DEFAULT_LOAD_FACTOR, evictionStrategy );
+			this.segments[i] = new Segment<>( cap, c, DEFAULT_LOAD_FACTOR, evictionStrategy, evictionListener );
 		}
 	}
 
@@ -0,0 +1,494 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link Map} using open addressing with linear probing, storing keys and
+ * values interleaved in a single flat array.
+ * <p>
+ * Compared to {@link java.util.HashMap} this implementation does not allocate
+ * a {@code Node} per mapping, which makes it considerably more compact when
+ * holding a large number of entries - such as the entities managed by a
+ * long-running Session. Removals use backward-shift deletion, so no tombstones
+ * accumulate over time.
+ * <p>
+ * Keys are expected to have a cheap (ideally cached) {@link Object#hashCode()},
+ * as is the case for {@link org.hibernate.engine.spi.EntityKey}; the hash is
+ * re-evaluated while probing rather than being stored alongside the key.
+ * <p>
+ * Limitations: {@code null} keys are not supported. Removal through the
+ * iterators of the collection views copies the table once per iteration, as
+ * the backward-shift would otherwise move entries not yet iterated over to
+ * slots already visited.
+ * This class is not thread-safe.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class OpenAddressingHashMap<K, V> extends AbstractMap<K, V> {
+
+	private static final int MINIMUM_CAPACITY = 8;
+	private static final int MAXIMUM_CAPACITY = 1 << 29;
+
+	/**
+	 * Golden-ratio multiplier used to spread hash codes over the table
+	 * (Fibonacci hashing); needed as linear probing is very sensitive to
+	 * clustering of the low order bits.
+	 */
+	private static final int SPREAD = 0x9E3779B9;
+
+	// keys at even indexes, the associated value at the following odd index
+	private Object[] table;
+	private int shift;
+	private int size;
+	private int resizeThreshold;
+	private int modCount;
+
+	private Set<Entry<K, V>> entrySet;
+
+	public OpenAddressingHashMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize the number of mappings this map is expected to hold
+	 * without needing to resize
+	 */
+	public OpenAddressingHashMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor at or below 2/3
+		final long minimum = Math.max( MINIMUM_CAPACITY, ( 3L * expectedSize ) / 2 + 1 );
+		if ( minimum >= MAXIMUM_CAPACITY ) {
+			return MAXIMUM_CAPACITY;
+		}
+		return Integer.highestOneBit( (int) minimum - 1 ) << 1;
+	}
+
+	private void allocate(int capacity) {
+		table = new Object[capacity << 1];
+		shift = Integer.numberOfLeadingZeros( capacity ) + 1;
+		resizeThreshold = capacity == MAXIMUM_CAPACITY
+				? MAXIMUM_CAPACITY - 1
+				: ( capacity * 2 ) / 3;
+	}
+
+	private int slotOf(Object key) {
+		return slotOf( key.hashCode() );
+	}
+
+	private int slotOf(int hashCode) {
+		// the higher bits of the product are the best mixed ones
+		return ( ( hashCode * SPREAD ) >>> shift ) << 1;
+	}
+
+	private int nextSlot(int slot) {
+		return ( slot + 2 ) & ( table.length - 1 );
+	}
+
+	private static boolean sameKey(Object candidate, Object key) {
+		return candidate == key
+				|| candidate.hashCode() == key.hashCode() && candidate.equals( key );
+	}
+
+	private int findSlot(Object key) {
+		final Object[] tab = table;
+		int slot = slotOf( key );
+		while ( true ) {
+			final Object candidate = tab[slot];
+			if ( candidate == null ) {
+				return -1;
+			}
+			if ( sameKey( candidate, key ) ) {
+				return slot;
+			}
+			slot = nextSlot( slot );
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key != null && findSlot( key ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		final Object[] tab = table;
+		for ( int i = 0; i < tab.length; i += 2 ) {
+			if ( tab[i] != null && Objects.equals( tab[i + 1], value ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int slot = findSlot( key );
+		return slot < 0 ? null : (V) table[slot + 1];
+	}
+
+	/**
+	 * Looks up a value without an instance of the key type: the key is the one
+	 * having the given hash code which is accepted by the matcher.
+	 *
+	 * @param hashCode the {@link Object#hashCode()} the key would have
+	 * @param matcher decides whether a key having the hash code is the one looked for
+	 *
+	 * @return the value mapped to the matching key, or {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(int hashCode, KeyMatcher<? super K> matcher) {
+		final Object[] tab = table;
+		int slot = slotOf( hashCode );
+		while ( true ) {
+			final Object candidate = tab[slot];
+			if ( candidate == null ) {
+				return null;
+			}
+			if ( candidate.hashCode() == hashCode && matcher.matches( (K) candidate ) ) {
+				return (V) tab[slot + 1];
+			}
+			slot = nextSlot( slot );
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		Objects.requireNonNull( key, "null keys are not supported" );
+		final Object[] tab = table;
+		int slot = slotOf( key );
+		while ( true ) {
+			final Object candidate = tab[slot];
+			if ( candidate == null ) {
+				break;
+			}
+			if ( sameKey( candidate, key ) ) {
+				final V old = (V) tab[slot + 1];
+				tab[slot + 1] = value;
+				return old;
+			}
+			slot = nextSlot( slot );
+		}
+
+		tab[slot] = key;
+		tab[slot + 1] = value;
+		modCount++;
+		if ( ++size > resizeThreshold ) {
+			resize();
+		}
+		return null;
+	}
+
+	private void resize() {
+		final Object[] old = table;
+		final int oldCapacity = old.length >> 1;
+		if ( oldCapacity == MAXIMUM_CAPACITY ) {
+			throw new IllegalStateException( "Capacity exhausted" );
+		}
+		allocate( oldCapacity << 1 );
+		final Object[] tab = table;
+		for ( int i = 0; i < old.length; i += 2 ) {
+			final Object key = old[i];
+			if ( key != null ) {
+				int slot = slotOf( key );
+				while ( tab[slot] != null ) {
+					slot = nextSlot( slot );
+				}
+				tab[slot] = key;
+				tab[slot + 1] = old[i + 1];
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int slot = findSlot( key );
+		if ( slot < 0 ) {
+			return null;
+		}
+		final V old = (V) table[slot + 1];
+		deleteSlot( slot );
+		return old;
+	}
+
+	/**
+	 * Backward-shift deletion (Knuth, TAOCP vol. 3, algorithm R): moves
+	 * subsequent entries of the same probe sequence into the hole, so that
+	 * lookups never need to skip over deleted markers.
+	 */
+	private void deleteSlot(int slot) {
+		final Object[] tab = table;
+		int hole = slot;
+		int current = nextSlot( hole );
+		Object key;
+		while ( ( key = tab[current] ) != null ) {
+			final int home = slotOf( key );
+			// move the entry only when its home slot is not cyclically
+			// within (hole, current]
+			if ( ( current > hole ) ? ( home <= hole || home > current ) : ( home <= hole && home > current ) ) {
+				tab[hole] = key;
+				tab[hole + 1] = tab[current + 1];
+				hole = current;
+			}
+			current = nextSlot( current );
+		}
+		tab[hole] = null;
+		tab[hole + 1] = null;
+		size--;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 ) {
+			Arrays.fill( table, null );
+			size = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final Object[] tab = table;
+		final int expectedModCount = modCount;
+		for ( int i = 0; i < tab.length; i += 2 ) {
+			final Object key = tab[i];
+			if ( key != null ) {
+				action.accept( (K) key, (V) tab[i + 1] );
+			}
+		}
+		if ( expectedModCount != modCount ) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	/**
+	 * Recognizes a key of the map from values other than a key instance.
+	 *
+	 * @see #get(int, KeyMatcher)
+	 */
+	@FunctionalInterface
+	public interface KeyMatcher<K> {
+		boolean matches(K key);
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<K> iterator() {
+				return new SlotIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					K element(Object[] tab, int slot) {
+						return (K) tab[slot];
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return containsKey( o );
+			}
+		};
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new AbstractCollection<>() {
+			@Override
+			public Iterator<V> iterator() {
+				return new SlotIterator<>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					V element(Object[] tab, int slot) {
+						return (V) tab[slot + 1];
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K, V>> {
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new SlotIterator<>() {
+				@Override
+				Entry<K, V> element(Object[] tab, int slot) {
+					return new SlotEntry( tab, slot );
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	private final class SlotEntry implements Entry<K, V> {
+		private final Object[] tab;
+		private final int slot;
+
+		private SlotEntry(Object[] tab, int slot) {
+			this.tab = tab;
+			this.slot = slot;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public K getKey() {
+			return (K) tab[slot];
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			return (V) tab[slot + 1];
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V setValue(V value) {
+			final V old = (V) tab[slot + 1];
+			tab[slot + 1] = value;
+			if ( tab != table ) {
+				// the iterator copied the table
+				put( (K) tab[slot], value );
+			}
+			return old;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( !( o instanceof Entry ) ) {
+				return false;
+			}
+			final Entry<?, ?> other = (Entry<?, ?>) o;
+			return Objects.equals( getKey(), other.getKey() )
+					&& Objects.equals( getValue(), other.getValue() );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode( getKey() ) ^ Objects.hashCode( getValue() );
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+
+	private abstract class SlotIterator<E> implements Iterator<E> {
+		private Object[] tab = table;
+		private int expectedModCount = modCount;
+		private int next = advance( 0 );
+		private int last = -1;
+
+		private int advance(int from) {
+			for ( int i = from; i < tab.length; i += 2 ) {
+				if ( tab[i] != null ) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		abstract E element(Object[] tab, int slot);
+
+		@Override
+		public boolean hasNext() {
+			return next >= 0;
+		}
+
+		@Override
+		public E next() {
+			if ( expectedModCount != modCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( next < 0 ) {
+				throw new NoSuchElementException();
+			}
+			final int slot = next;
+			next = advance( slot + 2 );
+			last = slot;
+			return element( tab, slot );
+		}
+
+		@Override
+		public void remove() {
+			if ( last < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( expectedModCount != modCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( tab == table ) {
+				// keep iterating over the entries as they were
+				tab = tab.clone();
+			}
+			OpenAddressingHashMap.this.remove( tab[last] );
+			last = -1;
+			expectedModCount = modCount;
+		}
+	}
+}
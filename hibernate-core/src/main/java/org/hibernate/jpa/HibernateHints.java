@@ -56,6 +56,22 @@ public interface HibernateHints {
 	 */
 	String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
 
+	/**
+	 * Hint for specifying that the {@linkplain org.hibernate.query.SelectionQuery#stream() stream}
+	 * of the results of a query should hold only one result in memory at a time: the entities
+	 * returned by the stream are detached from the persistence context once the consumer asks
+	 * for the next result, along with the entities fetched with them, unless they were already
+	 * managed before the result was read. Unless a fetch size is
+	 * specified, the {@linkplain #HINT_FETCH_SIZE fetch size} applied to the JDBC statement is
+	 * {@value org.hibernate.query.spi.AbstractSelectionQuery#DEFAULT_STREAMING_FETCH_SIZE}.
+	 *
+	 * @see org.hibernate.query.SelectionQuery#stream
+	 * @see org.hibernate.Session#detach
+	 *
+	 * @since 6.2
+	 */
+	String HINT_STREAMING = "org.hibernate.streaming";
+
 	/**
 	 * Hint for specifying whether results from a query should
 	 * be stored in the query cache
@@ -0,0 +1,49 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.ast.internal;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.expression.SelfRenderingExpression;
+
+/**
+ * Restricts a key column to the values contained in an array bound to a
+ * single JDBC parameter.  The actual syntax is left to the Dialect.
+ *
+ * @see org.hibernate.dialect.Dialect#appendArrayParameterRestriction
+ */
+class ArrayParameterRestriction implements SelfRenderingExpression {
+	private final Expression column;
+	private final JdbcParameter arrayParameter;
+
+	ArrayParameterRestriction(Expression column, JdbcParameter arrayParameter) {
+		this.column = column;
+		this.arrayParameter = arrayParameter;
+	}
+
+	@Override
+	public void renderToSql(
+			SqlAppender sqlAppender,
+			SqlAstTranslator<?> walker,
+			SessionFactoryImplementor sessionFactory) {
+		sessionFactory.getJdbcServices().getDialect().appendArrayParameterRestriction(
+				sqlAppender,
+				walker,
+				column,
+				arrayParameter
+		);
+	}
+
+	@Override
+	public JdbcMappingContainer getExpressionType() {
+		return null;
+	}
+}
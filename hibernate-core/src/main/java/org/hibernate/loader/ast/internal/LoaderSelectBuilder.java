@@ -67,6 +67,7 @@ import org.hibernate.sql.ast.tree.from.TableGroupJoinProducer;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
+import org.hibernate.sql.ast.tree.predicate.SelfRenderingPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.select.QueryPart;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
@@ -201,6 +202,45 @@ public class LoaderSelectBuilder {
 		return process.generateSelect();
 	}
 
+	/**
+	 * Create an SQL AST select-statement based on matching any of the keys
+	 * contained in an array bound to a single parameter
+	 *
+	 * @param loadable The root Loadable
+	 * @param restrictedPart Part to base the where-clause restriction on, mapped to a single column
+	 * @param loadQueryInfluencers Any influencers (entity graph, fetch profile) to account for
+	 * @param lockOptions Pessimistic lock options to apply
+	 * @param arrayParameter The parameter the array of keys will be bound to
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @see org.hibernate.dialect.Dialect#appendArrayParameterRestriction
+	 */
+	public static SelectStatement createSelectBySingleArrayParameter(
+			Loadable loadable,
+			ModelPart restrictedPart,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			JdbcParameter arrayParameter,
+			SessionFactoryImplementor sessionFactory) {
+		assert restrictedPart.getJdbcTypeCount() == 1;
+		final LoaderSelectBuilder process = new LoaderSelectBuilder(
+				sessionFactory,
+				loadable,
+				null,
+				Collections.singletonList( restrictedPart ),
+				null,
+				-1,
+				loadQueryInfluencers,
+				lockOptions != null ? lockOptions : LockOptions.NONE,
+				determineGraphTraversalState( loadQueryInfluencers ),
+				true,
+				jdbcParameter -> {},
+				arrayParameter
+		);
+
+		return process.generateSelect();
+	}
+
 	/**
 	 * Create an SQL AST select-statement used for subselect-based CollectionLoader
 	 *
@@ -247,6 +287,7 @@ public class LoaderSelectBuilder {
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final LockOptions lockOptions;
 	private final Consumer<JdbcParameter> jdbcParameterConsumer;
+	private final JdbcParameter arrayParameter;
 	private final EntityGraphTraversalState entityGraphTraversalState;
 
 	private int fetchDepth;
@@ -266,6 +307,35 @@ public class LoaderSelectBuilder {
 			EntityGraphTraversalState entityGraphTraversalState,
 			boolean forceIdentifierSelection,
 			Consumer<JdbcParameter> jdbcParameterConsumer) {
+		this(
+				creationContext,
+				loadable,
+				partsToSelect,
+				restrictedParts,
+				cachedDomainResult,
+				numberOfKeysToLoad,
+				loadQueryInfluencers,
+				lockOptions,
+				entityGraphTraversalState,
+				forceIdentifierSelection,
+				jdbcParameterConsumer,
+				null
+		);
+	}
+
+	private LoaderSelectBuilder(
+			SqlAstCreationContext creationContext,
+			Loadable loadable,
+			List<? extends ModelPart> partsToSelect,
+			List<ModelPart> restrictedParts,
+			DomainResult cachedDomainResult,
+			int numberOfKeysToLoad,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			EntityGraphTraversalState entityGraphTraversalState,
+			boolean forceIdentifierSelection,
+			Consumer<JdbcParameter> jdbcParameterConsumer,
+			JdbcParameter arrayParameter) {
 		this.creationContext = creationContext;
 		this.loadable = loadable;
 		this.partsToSelect = partsToSelect;
@@ -277,6 +347,7 @@ public class LoaderSelectBuilder {
 		this.entityGraphTraversalState = entityGraphTraversalState;
 		this.forceIdentifierSelection = forceIdentifierSelection;
 		this.jdbcParameterConsumer = jdbcParameterConsumer;
+		this.arrayParameter = arrayParameter;
 	}
 
 	private LoaderSelectBuilder(
@@ -520,7 +591,12 @@ public class LoaderSelectBuilder {
 										)
 
 								);
-						if ( numberOfKeysToLoad == 1 ) {
+						if ( arrayParameter != null ) {
+							rootQuerySpec.applyPredicate(
+									new SelfRenderingPredicate( new ArrayParameterRestriction( columnRef, arrayParameter ) )
+							);
+						}
+						else if ( numberOfKeysToLoad == 1 ) {
 							final JdbcParameter jdbcParameter = new JdbcParameterImpl( selection.getJdbcMapping() );
 							jdbcParameterConsumer.accept( jdbcParameter );
 
@@ -34,6 +34,7 @@ import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.loader.entity.CacheEntityLoaderHelper;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -42,6 +43,7 @@ import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
@@ -55,7 +57,7 @@ import org.jboss.logging.Logger;
 /**
  * @author Steve Ebersole
  */
-public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
+public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T>, Preparable {
 	private static final Logger log = Logger.getLogger( MultiIdLoaderStandard.class );
 
 	private final EntityPersister entityDescriptor;
@@ -63,6 +65,8 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 
 	private final int idJdbcTypeCount;
 
+	private JdbcMapping arrayJdbcMapping;
+
 	public MultiIdLoaderStandard(
 			EntityPersister entityDescriptor,
 			PersistentClass bootDescriptor,
@@ -74,6 +78,11 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		assert idJdbcTypeCount > 0;
 	}
 
+	@Override
+	public void prepare() {
+		arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping( entityDescriptor, sessionFactory );
+	}
+
 	@Override
 	public EntityMappingType getLoadable() {
 		return entityDescriptor;
@@ -114,6 +123,10 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( arrayJdbcMapping != null ) {
+			// the number of ids does not affect the SQL, so load them all at once
+			maxBatchSize = ids.length;
+		}
 		else {
 			maxBatchSize = dialect.getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					idJdbcTypeCount,
@@ -242,43 +255,61 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			log.tracef( "#loadEntitiesById(`%s`, `%s`, ..)", entityDescriptor.getEntityName(), numberOfIdsInBatch );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount);
-
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIdsInBatch,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				sessionFactory
-		);
+		final List<JdbcParameter> jdbcParameters;
+		final SelectStatement sqlAst;
+		final JdbcParameterBindings jdbcParameterBindings;
+		if ( arrayJdbcMapping != null ) {
+			final JdbcParameterImpl arrayParameter = new JdbcParameterImpl( arrayJdbcMapping );
+			jdbcParameters = Collections.singletonList( arrayParameter );
+			sqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+					getLoadable(),
+					getLoadable().getIdentifierMapping(),
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					arrayParameter,
+					sessionFactory
+			);
+			jdbcParameterBindings = MultiKeyLoadHelper.bindArrayParameter( arrayParameter, arrayJdbcMapping, idsInBatch );
+		}
+		else {
+			jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount );
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					getLoadable().getIdentifierMapping(),
+					null,
+					numberOfIdsInBatch,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
 
-		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+			int offset = 0;
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
-		int offset = 0;
+			for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
+				final Object id = idsInBatch.get( i );
 
-		for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
-			final Object id = idsInBatch.get( i );
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						id,
+						Clause.WHERE,
+						offset,
+						entityDescriptor.getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
 
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					id,
-					Clause.WHERE,
-					offset,
-					entityDescriptor.getIdentifierMapping(),
-					jdbcParameters,
-					session
-			);
+			// we should have used all the JdbcParameter references (created bindings for all)
+			assert offset == jdbcParameters.size();
 		}
 
-		// we should have used all the JdbcParameter references (created bindings for all)
-		assert offset == jdbcParameters.size();
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
+		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
+
 		final JdbcSelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
 				.translate( jdbcParameterBindings, QueryOptions.NONE );
 
@@ -448,6 +479,9 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( arrayJdbcMapping != null ) {
+			maxBatchSize = numberOfIdsLeft;
+		}
 		else {
 			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					entityDescriptor.getIdentifierType().getColumnSpan( session.getFactory() ),
@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.lang.reflect.Array;
+import java.util.List;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.descriptor.java.ArrayJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Support for loading multiple entities by id through a single array-valued
+ * JDBC parameter, rather than an in-list with one parameter per id.
+ * <p>
+ * Using a single parameter means the same SQL is generated whatever the number
+ * of ids, which spares both the statement cache of the driver and the
+ * query plan cache of the database.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_ARRAY_PARAMETER_FOR_ID_LOADING
+ */
+final class MultiKeyLoadHelper {
+	private MultiKeyLoadHelper() {
+	}
+
+	/**
+	 * Resolve the JdbcMapping for an array of identifiers of the given entity.
+	 *
+	 * @return The array mapping, or {@code null} if array parameters are disabled,
+	 * not supported by the Dialect, or the identifier is not a single basic column
+	 */
+	static JdbcMapping resolveArrayJdbcMapping(
+			EntityMappingType entityDescriptor,
+			SessionFactoryImplementor sessionFactory) {
+		if ( !sessionFactory.getSessionFactoryOptions().useArrayParameterForIdLoading() ) {
+			return null;
+		}
+
+		final Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+		if ( !dialect.supportsStandardArrays() ) {
+			return null;
+		}
+
+		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		if ( !( identifierMapping instanceof BasicEntityIdentifierMapping ) ) {
+			return null;
+		}
+
+		final JdbcMapping idJdbcMapping = ( (BasicEntityIdentifierMapping) identifierMapping ).getJdbcMapping();
+		if ( !( idJdbcMapping instanceof BasicType<?> ) ) {
+			return null;
+		}
+
+		final BasicType<?> idType = (BasicType<?>) idJdbcMapping;
+		if ( idType.getValueConverter() != null ) {
+			// converted identifiers would need each element converted before binding
+			return null;
+		}
+
+		return resolveArrayType( idType, dialect, sessionFactory );
+	}
+
+	private static <T> BasicType<?> resolveArrayType(
+			BasicType<T> idType,
+			Dialect dialect,
+			SessionFactoryImplementor sessionFactory) {
+		final JavaType<T> idJavaType = idType.getJavaTypeDescriptor();
+		return new ArrayJavaType<>( idJavaType ).resolveType(
+				sessionFactory.getTypeConfiguration(),
+				dialect,
+				idType,
+				null
+		);
+	}
+
+	/**
+	 * Bind the given identifiers, as an array of the identifier type, to the array parameter
+	 */
+	static JdbcParameterBindings bindArrayParameter(
+			JdbcParameterImpl arrayParameter,
+			JdbcMapping arrayJdbcMapping,
+			List<?> ids) {
+		final Class<?> elementClass = arrayJdbcMapping.getJavaTypeDescriptor()
+				.getJavaTypeClass()
+				.getComponentType();
+		final Object idsArray = Array.newInstance( elementClass, ids.size() );
+		for ( int i = 0; i < ids.size(); i++ ) {
+			Array.set( idsArray, i, ids.get( i ) );
+		}
+
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+		jdbcParameterBindings.addBinding(
+				arrayParameter,
+				new JdbcParameterBindingImpl( arrayJdbcMapping, idsArray )
+		);
+		return jdbcParameterBindings;
+	}
+}
@@ -7,6 +7,8 @@
 package org.hibernate.loader.ast.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.LockOptions;
@@ -19,6 +21,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryOptionsAdapter;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -27,6 +30,7 @@ import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
@@ -40,13 +44,15 @@ import org.jboss.logging.Logger;
 /**
  * @author Steve Ebersole
  */
-public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSupport<T> {
+public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSupport<T> implements Preparable {
 	private static final Logger log = Logger.getLogger( SingleIdEntityLoaderDynamicBatch.class );
 
 	private final int maxBatchSize;
 
 	private SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
 
+	private JdbcMapping arrayJdbcMapping;
+
 	public SingleIdEntityLoaderDynamicBatch(
 			EntityMappingType entityDescriptor,
 			int maxBatchSize,
@@ -55,6 +61,11 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 		this.maxBatchSize = maxBatchSize;
 	}
 
+	@Override
+	public void prepare() {
+		arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping( getLoadable(), sessionFactory );
+	}
+
 	@Override
 	public T load(Object pkValue, LockOptions lockOptions, Boolean readOnly, SharedSessionContractImplementor session) {
 		return load( pkValue, null, lockOptions, readOnly, session );
@@ -92,43 +103,64 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			log.debugf( "Batch loading entity [%s] : %s", getLoadable().getEntityName(), idsToLoad );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
-
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIds,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				session.getFactory()
-		);
+		final List<JdbcParameter> jdbcParameters;
+		final SelectStatement sqlAst;
+		final JdbcParameterBindings jdbcParameterBindings;
+		if ( arrayJdbcMapping != null ) {
+			final JdbcParameterImpl arrayParameter = new JdbcParameterImpl( arrayJdbcMapping );
+			jdbcParameters = Collections.singletonList( arrayParameter );
+			sqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+					getLoadable(),
+					getLoadable().getIdentifierMapping(),
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					arrayParameter,
+					session.getFactory()
+			);
+			jdbcParameterBindings = MultiKeyLoadHelper.bindArrayParameter(
+					arrayParameter,
+					arrayJdbcMapping,
+					Arrays.asList( idsToLoad )
+			);
+		}
+		else {
+			jdbcParameters = new ArrayList<>();
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					getLoadable().getIdentifierMapping(),
+					null,
+					numberOfIds,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					session.getFactory()
+			);
+
+			jdbcParameterBindings = new JdbcParameterBindingsImpl(
+					getLoadable().getIdentifierMapping().getJdbcTypeCount()
+			);
+
+			int offset = 0;
+			for ( int i = 0; i < numberOfIds; i++ ) {
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						idsToLoad[i],
+						Clause.WHERE,
+						offset,
+						getLoadable().getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
+			assert offset == jdbcParameters.size();
+		}
 
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
 		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
-				getLoadable().getIdentifierMapping().getJdbcTypeCount()
-		);
-
-		int offset = 0;
-		for ( int i = 0; i < numberOfIds; i++ ) {
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					idsToLoad[i],
-					Clause.WHERE,
-					offset,
-					getLoadable().getIdentifierMapping(),
-					jdbcParameters,
-					session
-			);
-		}
-		assert offset == jdbcParameters.size();
-
 		final JdbcSelect jdbcSelect = sqlAstTranslatorFactory
 				.buildSelectTranslator( sessionFactory, sqlAst )
 				.translate( jdbcParameterBindings, QueryOptions.NONE );
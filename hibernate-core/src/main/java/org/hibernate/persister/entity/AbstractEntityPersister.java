@@ -7,6 +7,7 @@
 package org.hibernate.persister.entity;
 
 import java.io.Serializable;
+import java.nio.channels.ReadableByteChannel;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -58,7 +59,9 @@ import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.EncodedCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -75,6 +78,7 @@ import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.EntityInsertBatchKey;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
@@ -260,6 +264,7 @@ import org.hibernate.type.BasicType;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
+import org.hibernate.type.SqlTypes;
 import org.hibernate.type.Type;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.MutabilityPlan;
@@ -280,6 +285,9 @@ public abstract class AbstractEntityPersister
 	public static final String ENTITY_CLASS = "class";
 	public static final String VERSION_COLUMN_ALIAS = "version_";
 
+	// rows per multi-row insert, when JDBC batching is not configured
+	private static final int DEFAULT_ROWS_PER_INSERT = 100;
+
 	private final String sqlAliasStem;
 
 	private final SingleIdEntityLoader<?> singleIdEntityLoader;
@@ -714,6 +722,9 @@ public abstract class AbstractEntityPersister
 		}
 
 		this.entityMetamodel = new EntityMetamodel( bootDescriptor, this, creationContext );
+		if ( canWriteToCache ) {
+			checkCacheableProperties();
+		}
 
 		this.entityEntryFactory = entityMetamodel.isMutable()
 				? MutableEntityEntryFactory.INSTANCE
@@ -1148,6 +1159,36 @@ public abstract class AbstractEntityPersister
 		return persistentClass.isCached();
 	}
 
+	/**
+	 * A {@link ReadableByteChannel} can only be read once, and may only be read while the
+	 * transaction which loaded it is active, so it can't be held by a cache entry.
+	 */
+	private void checkCacheableProperties() {
+		final Type[] types = entityMetamodel.getPropertyTypes();
+		final boolean[] laziness = entityMetamodel.getPropertyLaziness();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( ( isLazyPropertiesCacheable || !laziness[i] ) && holdsChannel( types[i] ) ) {
+				throw new MappingException(
+						"Entity '" + getEntityName() + "' is cacheable, but its attribute '"
+								+ entityMetamodel.getPropertyNames()[i]
+								+ "' holds a ReadableByteChannel, which cannot be cached"
+				);
+			}
+		}
+	}
+
+	private static boolean holdsChannel(Type type) {
+		if ( type instanceof CompositeType ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				if ( holdsChannel( subtype ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return !type.isAssociationType() && ReadableByteChannel.class.isAssignableFrom( type.getReturnedClass() );
+	}
+
 	private boolean determineCanReadFromCache(PersistentClass persistentClass, EntityDataAccess cacheAccessStrategy) {
 		if ( cacheAccessStrategy == null ) {
 			return false;
@@ -1177,8 +1218,13 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 
+		final CacheEntryCodec cacheEntryCodec = factory.getSessionFactoryOptions().getCacheEntryCodec();
+		if ( cacheEntryCodec != null ) {
+			return new StructuredCacheEntryHelper( this, new EncodedCacheEntry( this, cacheEntryCodec ) );
+		}
+
 		return factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled()
-				? new StructuredCacheEntryHelper( this )
+				? new StructuredCacheEntryHelper( this, new StructuredCacheEntry( this ) )
 				: new StandardCacheEntryHelper( this );
 	}
 
@@ -1599,7 +1645,9 @@ public abstract class AbstractEntityPersister
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, cacheAccess );
 			if ( ce != null ) {
 				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
-				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
+				final Object initializedValue = cacheEntry == null
+						? LazyPropertyInitializer.UNFETCHED_PROPERTY
+						: initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
 				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
 					// The following should be redundant, since the setter should have set this already.
 					// interceptor.attributeInitialized(fieldName);
@@ -2995,6 +3043,10 @@ public abstract class AbstractEntityPersister
 	 * Generate the SQL that inserts a row
 	 */
 	public String generateInsertString(boolean[] includeProperty, int j) {
+		return buildInsert( includeProperty, j ).toStatementString();
+	}
+
+	private Insert buildInsert(boolean[] includeProperty, int j) {
 
 		final Insert insert = createInsert().setTableName( getTableName( j ) );
 
@@ -3057,7 +3109,7 @@ public abstract class AbstractEntityPersister
 			}
 		}
 
-		return insert.toStatementString();
+		return insert;
 	}
 
 	/**
@@ -3296,7 +3348,25 @@ public abstract class AbstractEntityPersister
 				.toStatementString();
 	}
 
-	private BasicBatchKey insertBatchKey;
+	private EntityInsertBatchKey insertBatchKey;
+
+	private boolean hasLobColumn() {
+		final boolean[] lob = new boolean[1];
+		for ( AttributeMapping attributeMapping : getAttributeMappings() ) {
+			if ( attributeMapping instanceof PluralAttributeMapping ) {
+				continue;
+			}
+			attributeMapping.forEachJdbcType( (index, jdbcMapping) -> {
+				switch ( jdbcMapping.getJdbcType().getJdbcTypeCode() ) {
+					case SqlTypes.BLOB:
+					case SqlTypes.CLOB:
+					case SqlTypes.NCLOB:
+						lob[0] = true;
+				}
+			} );
+		}
+		return lob[0];
+	}
 
 	/**
 	 * Perform an SQL INSERT.
@@ -3338,9 +3408,11 @@ public abstract class AbstractEntityPersister
 						getIdentifierGenerator().supportsJdbcBatchInserts();
 
 		if ( useBatch && insertBatchKey == null ) {
-			insertBatchKey = new BasicBatchKey(
-					getEntityName() + "#INSERT",
-					expectation
+			insertBatchKey = new EntityInsertBatchKey(
+					getEntityName(),
+					expectation,
+					// LOBs may be created using the connection of the session
+					!hasLobColumn()
 			);
 		}
 		final boolean callable = isInsertCallable( j );
@@ -3982,6 +4054,148 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	@Override
+	public void insertMultiple(Object[] ids, Object[][] fields, Object[] objects, SharedSessionContractImplementor session) {
+		if ( !canInsertMultipleRows() ) {
+			for ( int i = 0; i < objects.length; i++ ) {
+				insert( ids[i], fields[i], objects[i], session );
+			}
+			return;
+		}
+
+		for ( int i = 0; i < objects.length; i++ ) {
+			preInsertInMemoryValueGeneration( fields[i], objects[i], session );
+		}
+
+		final int span = getTableSpan();
+		final int[] rows = new int[objects.length];
+		for ( int j = 0; j < span; j++ ) {
+			if ( isInverseTable( j ) ) {
+				continue;
+			}
+
+			int rowCount = 0;
+			for ( int i = 0; i < objects.length; i++ ) {
+				//note: it is conceptually possible that a UserType could map null to
+				//	  a non-null value, so the following is arguable:
+				if ( !isNullableTable( j ) || !isAllNull( fields[i], j ) ) {
+					rows[rowCount++] = i;
+				}
+			}
+
+			final Insert insert = buildInsert( getPropertyInsertability(), j );
+			final int rowsPerStatement = getRowsPerInsert( insert.getColumnSpan(), session );
+			String sql = null;
+			for ( int from = 0; from < rowCount; from += rowsPerStatement ) {
+				final int to = Math.min( from + rowsPerStatement, rowCount );
+				if ( sql == null || to - from != rowsPerStatement ) {
+					sql = insert.toStatementString( to - from );
+				}
+				insertRows( ids, fields, rows, from, to, j, sql, session );
+			}
+		}
+	}
+
+	/**
+	 * Can several rows be inserted by a single statement, with a list of values per row?
+	 */
+	private boolean canInsertMultipleRows() {
+		if ( entityMetamodel.isDynamicInsert()
+				|| !getFactory().getJdbcServices().getDialect().supportsMultiRowValuesInsert() ) {
+			return false;
+		}
+		final String[] tableNames = new String[getTableSpan()];
+		for ( int j = 0; j < tableNames.length; j++ ) {
+			tableNames[j] = getTableName( j );
+			// a table mapped twice is updated rather than inserted into
+			if ( ArrayHelper.indexOf( tableNames, j, tableNames[j] ) != -1
+					|| customSQLInsert[j] != null
+					|| isInsertCallable( j )
+					|| insertResultCheckStyles[j] == ExecuteUpdateResultCheckStyle.PARAM ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int getRowsPerInsert(int columnSpan, SharedSessionContractImplementor session) {
+		final Dialect dialect = getFactory().getJdbcServices().getDialect();
+		final Integer jdbcBatchSize = session.getConfiguredJdbcBatchSize();
+		int rowsPerStatement = jdbcBatchSize != null && jdbcBatchSize > 1
+				? jdbcBatchSize
+				: DEFAULT_ROWS_PER_INSERT;
+		if ( dialect.getValuesListForInsertRowLimit() > 0 ) {
+			rowsPerStatement = Math.min( rowsPerStatement, dialect.getValuesListForInsertRowLimit() );
+		}
+		// every column has at most one parameter
+		if ( dialect.getParameterCountLimit() > 0 && columnSpan > 0 ) {
+			rowsPerStatement = Math.min( rowsPerStatement, dialect.getParameterCountLimit() / columnSpan );
+		}
+		return columnSpan == 0 ? 1 : Math.max( rowsPerStatement, 1 );
+	}
+
+	/**
+	 * Perform an SQL INSERT of the given rows, which must all fit the given statement.
+	 */
+	private void insertRows(
+			final Object[] ids,
+			final Object[][] fields,
+			final int[] rows,
+			final int from,
+			final int to,
+			final int j,
+			final String sql,
+			final SharedSessionContractImplementor session) throws HibernateException {
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Inserting {0} rows of entity: {1}", to - from, MessageHelper.infoString( this ) );
+		}
+
+		try {
+			final PreparedStatement insert = session
+					.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql, false );
+			try {
+				int index = 1;
+				for ( int i = from; i < to; i++ ) {
+					final int row = rows[i];
+					index = dehydrate(
+							ids[row],
+							fields[row],
+							null,
+							getPropertyInsertability(),
+							propertyColumnInsertable,
+							j,
+							insert,
+							session,
+							index,
+							false
+					);
+				}
+
+				final int rowCount = session.getJdbcCoordinator().getResultSetReturn().executeUpdate( insert );
+				if ( insertResultCheckStyles[j] == ExecuteUpdateResultCheckStyle.COUNT && rowCount != to - from ) {
+					throw new StaleStateException(
+							"Insert returned unexpected row count; actual row count: " + rowCount
+									+ "; expected: " + ( to - from ) + "; statement executed: " + sql
+					);
+				}
+			}
+			finally {
+				session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( insert );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+		}
+		catch (SQLException e) {
+			throw getFactory().getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"could not insert: " + MessageHelper.infoString( this ),
+					sql
+			);
+		}
+	}
+
 	protected void preInsertInMemoryValueGeneration(Object[] fields, Object object, SharedSessionContractImplementor session) {
 		if ( getEntityMetamodel().hasPreInsertGeneratedValues() ) {
 			final InMemoryValueGenerationStrategy[] strategies = getEntityMetamodel().getInMemoryValueGenerationStrategies();
@@ -5553,11 +5767,11 @@ public abstract class AbstractEntityPersister
 
 	private static class StructuredCacheEntryHelper implements CacheEntryHelper {
 		private final EntityPersister persister;
-		private final StructuredCacheEntry structure;
+		private final CacheEntryStructure structure;
 
-		private StructuredCacheEntryHelper(EntityPersister persister) {
+		private StructuredCacheEntryHelper(EntityPersister persister, CacheEntryStructure structure) {
 			this.persister = persister;
-			this.structure = new StructuredCacheEntry( persister );
+			this.structure = structure;
 		}
 
 		@Override
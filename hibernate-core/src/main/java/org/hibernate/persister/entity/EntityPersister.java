@@ -540,6 +540,23 @@ public interface EntityPersister
 	 */
 	Object insert(Object[] fields, Object object, SharedSessionContractImplementor session);
 
+	/**
+	 * Persist several instances of this entity, whose identifiers are already known,
+	 * in as few statements as possible. By default, the instances are simply inserted
+	 * one after the other.
+	 *
+	 * @param ids The identifiers of the instances
+	 * @param fields The state of each instance
+	 * @param objects The instances
+	 *
+	 * @since 6.2
+	 */
+	default void insertMultiple(Object[] ids, Object[][] fields, Object[] objects, SharedSessionContractImplementor session) {
+		for ( int i = 0; i < objects.length; i++ ) {
+			insert( ids[i], fields[i], objects[i], session );
+		}
+	}
+
 	/**
 	 * Delete a persistent instance
 	 */
@@ -21,6 +21,7 @@ import org.hibernate.internal.util.securitymanager.SystemSecurityManager;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.ProxyConfiguration;
 import org.hibernate.proxy.ProxyFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.CompositeType;
 
 import static org.hibernate.internal.CoreLogging.messageLogger;
@@ -30,6 +31,7 @@ public class ByteBuddyProxyFactory implements ProxyFactory, Serializable {
 	private static final CoreMessageLogger LOG = messageLogger( ByteBuddyProxyFactory.class );
 
 	private final ByteBuddyProxyHelper byteBuddyProxyHelper;
+	private final transient StatisticsImplementor statistics;
 
 	private Class<?> persistentClass;
 	private String entityName;
@@ -42,7 +44,17 @@ public class ByteBuddyProxyFactory implements ProxyFactory, Serializable {
 	private Class<?> proxyClass;
 
 	public ByteBuddyProxyFactory(ByteBuddyProxyHelper byteBuddyProxyHelper) {
+		this( byteBuddyProxyHelper, null );
+	}
+
+	/**
+	 * @param statistics The statistics to record the generation of the proxy class to, if enabled
+	 *
+	 * @since 6.2
+	 */
+	public ByteBuddyProxyFactory(ByteBuddyProxyHelper byteBuddyProxyHelper, StatisticsImplementor statistics) {
 		this.byteBuddyProxyHelper = byteBuddyProxyHelper;
+		this.statistics = statistics;
 	}
 
 	@Override
@@ -61,7 +73,26 @@ public class ByteBuddyProxyFactory implements ProxyFactory, Serializable {
 		this.componentIdType = componentIdType;
 		this.overridesEquals = ReflectHelper.overridesEquals( persistentClass );
 
-		this.proxyClass = byteBuddyProxyHelper.buildProxy( persistentClass, this.interfaces );
+		this.proxyClass = buildProxyClass();
+	}
+
+	private Class<?> buildProxyClass() {
+		final boolean stats = statistics != null && statistics.isStatisticsEnabled();
+		final long start = stats ? System.nanoTime() : 0L;
+
+		final Class<?> pregeneratedProxyClass = byteBuddyProxyHelper.loadPregeneratedProxy( persistentClass, interfaces );
+		if ( pregeneratedProxyClass != null ) {
+			if ( stats ) {
+				statistics.pregeneratedProxyClassLoaded( entityName, System.nanoTime() - start );
+			}
+			return pregeneratedProxyClass;
+		}
+
+		final Class<?> generatedProxyClass = byteBuddyProxyHelper.generateProxy( persistentClass, interfaces );
+		if ( stats ) {
+			statistics.proxyClassGenerated( entityName, System.nanoTime() - start );
+		}
+		return generatedProxyClass;
 	}
 
 	private Class<?>[] toArray(Set<Class<?>> interfaces) {
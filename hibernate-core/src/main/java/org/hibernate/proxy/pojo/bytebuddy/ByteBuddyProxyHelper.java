@@ -51,6 +51,19 @@ public class ByteBuddyProxyHelper implements Serializable {
 	public Class buildProxy(
 			final Class<?> persistentClass,
 			final Class<?>[] interfaces) {
+		final Class<?> pregeneratedProxy = loadPregeneratedProxy( persistentClass, interfaces );
+		return pregeneratedProxy != null ? pregeneratedProxy : generateProxy( persistentClass, interfaces );
+	}
+
+	/**
+	 * Generates the proxy class at runtime, or gets it from the cache of the classes generated
+	 * previously, ignoring any {@linkplain #loadPregeneratedProxy pre-generated} proxy class.
+	 *
+	 * @since 6.2
+	 */
+	public Class<?> generateProxy(
+			final Class<?> persistentClass,
+			final Class<?>[] interfaces) {
 		Set<Class<?>> key = new HashSet<>();
 		if ( interfaces.length == 1 ) {
 			key.add( persistentClass );
@@ -58,7 +71,55 @@ public class ByteBuddyProxyHelper implements Serializable {
 		Collections.addAll( key, interfaces );
 
 		return byteBuddyState.loadProxy( persistentClass, new TypeCache.SimpleKey( key ),
-				proxyBuilder( TypeDescription.ForLoadedType.of( persistentClass ), new TypeList.Generic.ForLoadedTypes( interfaces ) ) );
+				proxyBuilder( TypeDescription.ForLoadedType.of( persistentClass ), new TypeList.Generic.ForLoadedTypes( interfaces ),
+						randomNaming( persistentClass.getName() ) ) );
+	}
+
+	/**
+	 * Loads the proxy class {@linkplain #buildPregeneratedProxy generated at build time} for the given
+	 * persistent class.
+	 * <p>
+	 * Only proxies of entity classes with no proxy interface are pre-generated, that is when
+	 * {@link HibernateProxy} is the only interface to implement.
+	 *
+	 * @return The pre-generated proxy class, or {@code null} if there is none
+	 *
+	 * @since 6.2
+	 */
+	public Class<?> loadPregeneratedProxy(
+			final Class<?> persistentClass,
+			final Class<?>[] interfaces) {
+		if ( interfaces.length != 1 || interfaces[0] != HibernateProxy.class ) {
+			return null;
+		}
+
+		final Class<?> proxyClass = byteBuddyState.loadPregenerated( persistentClass, PROXY_NAMING_SUFFIX );
+		if ( proxyClass == null ) {
+			return null;
+		}
+		if ( proxyClass.getSuperclass() != persistentClass
+				|| !HibernateProxy.class.isAssignableFrom( proxyClass )
+				|| !ProxyConfiguration.class.isAssignableFrom( proxyClass ) ) {
+			LOG.debugf( "Ignoring pre-generated class %s, which is not a proxy of %s", proxyClass.getName(), persistentClass.getName() );
+			return null;
+		}
+		return proxyClass;
+	}
+
+	/**
+	 * Builds the proxy class of the given entity class at build time, under the name
+	 * {@link #loadPregeneratedProxy} expects, after the entity class was enhanced.
+	 *
+	 * @param persistentClassFile The class file of the entity class, which the proxy class is
+	 * {@linkplain ByteBuddyState#makePregenerated stamped} with.
+	 *
+	 * @since 6.2
+	 */
+	public DynamicType.Unloaded<?> buildPregeneratedProxy(TypePool typePool, TypeDefinition persistentClass,
+			byte[] persistentClassFile) {
+		return byteBuddyState.makePregenerated( typePool, persistentClassFile, proxyBuilder( persistentClass,
+				Collections.singletonList( TypeDescription.ForLoadedType.of( HibernateProxy.class ) ),
+				new NamingStrategy.Suffixing( PROXY_NAMING_SUFFIX, new NamingStrategy.Suffixing.BaseNameResolver.ForFixedValue( persistentClass.getTypeName() ) ) ) );
 	}
 
 	/**
@@ -67,7 +128,7 @@ public class ByteBuddyProxyHelper implements Serializable {
 	@Deprecated
 	public DynamicType.Unloaded<?> buildUnloadedProxy(final Class<?> persistentClass, final Class<?>[] interfaces) {
 		return byteBuddyState.make( proxyBuilder( TypeDescription.ForLoadedType.of( persistentClass ),
-				new TypeList.Generic.ForLoadedTypes( interfaces ) ) );
+				new TypeList.Generic.ForLoadedTypes( interfaces ), randomNaming( persistentClass.getName() ) ) );
 	}
 
 	/**
@@ -75,15 +136,19 @@ public class ByteBuddyProxyHelper implements Serializable {
 	 */
 	public DynamicType.Unloaded<?> buildUnloadedProxy(TypePool typePool, TypeDefinition persistentClass,
 			Collection<? extends TypeDefinition> interfaces) {
-		return byteBuddyState.make( typePool, proxyBuilder( persistentClass, interfaces ) );
+		return byteBuddyState.make( typePool, proxyBuilder( persistentClass, interfaces, randomNaming( persistentClass.getTypeName() ) ) );
+	}
+
+	private static NamingStrategy randomNaming(String persistentClassName) {
+		return new NamingStrategy.SuffixingRandom( PROXY_NAMING_SUFFIX, new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( persistentClassName ) );
 	}
 
 	private Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder(TypeDefinition persistentClass,
-			Collection<? extends TypeDefinition> interfaces) {
+			Collection<? extends TypeDefinition> interfaces, NamingStrategy namingStrategy) {
 		ByteBuddyState.ProxyDefinitionHelpers helpers = byteBuddyState.getProxyDefinitionHelpers();
 		return byteBuddy -> byteBuddy
 				.ignore( helpers.getGroovyGetMetaClassFilter() )
-				.with( new NamingStrategy.SuffixingRandom( PROXY_NAMING_SUFFIX, new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( persistentClass.getTypeName() ) ) )
+				.with( namingStrategy )
 				.subclass( interfaces.size() == 1 ? persistentClass : TypeDescription.OBJECT, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING )
 				.implement( interfaces )
 				.method( helpers.getVirtualNotFinalizerFilter() )
@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import org.hibernate.Incubating;
+
+/**
+ * A batch of consecutive rows of a query selecting only basic values, held one
+ * column after the other.
+ * <p>
+ * Columns of integral types ({@code long}, {@code int}, {@code short} and
+ * {@code byte}) are read into a {@code long[]}, and columns of floating point
+ * types ({@code double} and {@code float}) into a {@code double[]}, without
+ * creating a wrapper for each value. A {@code float} is read as a {@code float}
+ * and widened. Their {@linkplain #getColumnType type} is
+ * {@code long.class} or {@code double.class}. All other columns hold the values
+ * as assembled by the query, and their type is {@code Object.class}.
+ * <p>
+ * A batch, and the arrays it exposes, are reused for the next rows of the query,
+ * and so must not be retained once the batch has been consumed.
+ *
+ * @see SelectionQuery#consumeColumns
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface ColumnBatch {
+	/**
+	 * The number of rows of this batch.
+	 */
+	int getRowCount();
+
+	/**
+	 * The number of columns, one per selection of the query.
+	 */
+	int getColumnCount();
+
+	/**
+	 * {@code long.class}, {@code double.class} or {@code Object.class}.
+	 */
+	Class<?> getColumnType(int column);
+
+	boolean isNull(int column, int row);
+
+	/**
+	 * The value of a column of type {@code long.class}, or {@code 0} if it is null.
+	 */
+	long getLong(int column, int row);
+
+	/**
+	 * The value of a column of type {@code double.class}, or {@code 0} if it is null.
+	 */
+	double getDouble(int column, int row);
+
+	/**
+	 * The value of any column, wrapped if its type is primitive.
+	 */
+	Object getObject(int column, int row);
+
+	/**
+	 * The values of a column of type {@code long.class}, of which the first
+	 * {@link #getRowCount()} belong to this batch.
+	 */
+	long[] getLongs(int column);
+
+	/**
+	 * The values of a column of type {@code double.class}, of which the first
+	 * {@link #getRowCount()} belong to this batch.
+	 */
+	double[] getDoubles(int column);
+}
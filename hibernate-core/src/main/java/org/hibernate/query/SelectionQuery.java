@@ -13,6 +13,8 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -154,6 +156,43 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 	 */
 	Optional<R> uniqueResultOptional();
 
+	/**
+	 * Execute a query selecting only basic values, handing its rows to the given
+	 * consumer a batch of up to {@code batchSize} rows at a time. The values of
+	 * integral and floating point types are read into primitive arrays, instead of
+	 * being wrapped one by one.
+	 *
+	 * @param batchSize the maximum number of rows of a batch
+	 * @param batchConsumer receives each batch, which is reused for the next rows
+	 *
+	 * @return the number of rows
+	 *
+	 * @throws IllegalStateException if the query selects entities or embeddables
+	 * @throws UnsupportedOperationException if the results of the query cannot be read by columns
+	 *
+	 * @see ColumnBatch
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	long consumeColumns(int batchSize, Consumer<ColumnBatch> batchConsumer);
+
+	/**
+	 * Execute the query like {@link #list()}, except that its JDBC calls are performed
+	 * by the {@linkplain org.hibernate.cfg.AvailableSettings#JDBC_ASYNC_EXECUTOR configured
+	 * executor}, without blocking the calling thread, when the query supports it. Other
+	 * queries are executed by the calling thread, and the returned stage is then already
+	 * completed.
+	 * <p>
+	 * The session must not be used until the returned stage completes.
+	 *
+	 * @return a stage completed with the query results
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	CompletionStage<List<R>> listAsync();
+
 	SelectionQuery<R> setHint(String hintName, Object value);
 
 	@Override
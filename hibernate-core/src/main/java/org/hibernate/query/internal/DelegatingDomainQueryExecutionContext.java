@@ -11,6 +11,7 @@ import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.exec.spi.JdbcValuesFetcher;
 
 /**
  * @author Steve Ebersole
@@ -41,4 +42,9 @@ public class DelegatingDomainQueryExecutionContext implements DomainQueryExecuti
 	public SharedSessionContractImplementor getSession() {
 		return delegate.getSession();
 	}
+
+	@Override
+	public JdbcValuesFetcher getJdbcValuesFetcher() {
+		return delegate.getJdbcValuesFetcher();
+	}
 }
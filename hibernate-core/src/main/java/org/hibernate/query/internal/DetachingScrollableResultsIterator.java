@@ -0,0 +1,221 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.event.internal.EvictVisitor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+/**
+ * A {@link ScrollableResultsIterator} which detaches the entities loaded for a result from the
+ * persistence context when the next result is requested, so that iterating the results of a
+ * query does not make the persistence context grow with the number of results.
+ * <p>
+ * Besides the entities of the result itself, the entities reachable from them through the
+ * state they were loaded with, including the elements of initialized collections, are
+ * detached.  Only the entities which were not managed yet when the result was read are
+ * detached, and the entities reachable only through the other ones are left untouched, so
+ * that the entities managed before, and their unflushed changes, stay in the persistence
+ * context.  The entities are detached without cascading, the associations mapped with
+ * {@code CascadeType.DETACH} included.
+ *
+ * @see org.hibernate.jpa.HibernateHints#HINT_STREAMING
+ *
+ * @since 6.2
+ */
+public class DetachingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final EventSource session;
+
+	// The keys of the entities managed before the current result was read
+	private Set<EntityKey> managedEntityKeys = Collections.emptySet();
+	// The number of entities managed when the keys were collected
+	private int managedEntityCount = -1;
+
+	private Object current;
+
+	public DetachingScrollableResultsIterator(
+			ScrollableResultsImplementor<T> scrollableResults,
+			EventSource session) {
+		super( scrollableResults );
+		this.session = session;
+	}
+
+	@Override
+	public boolean hasNext() {
+		detachCurrent();
+		// the next result is read by hasNext()
+		collectManagedEntityKeys();
+		return super.hasNext();
+	}
+
+	@Override
+	public T next() {
+		final T result = super.next();
+		current = result;
+		return result;
+	}
+
+	@Override
+	public void close() {
+		try {
+			detachCurrent();
+		}
+		finally {
+			super.close();
+		}
+	}
+
+	private void collectManagedEntityKeys() {
+		if ( session.isClosed() ) {
+			return;
+		}
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		// Once the entities of the previous result are detached, the persistence context usually holds
+		// the same entities as before, unless some of them are only reachable through entities managed
+		// before, or the consumer of the results loaded or detached entities in between.
+		final int count = persistenceContext.getNumberOfManagedEntities();
+		if ( count != managedEntityCount ) {
+			if ( count == 0 ) {
+				managedEntityKeys = Collections.emptySet();
+			}
+			else {
+				managedEntityKeys = new HashSet<>();
+				for ( Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries() ) {
+					managedEntityKeys.add( entry.getValue().getEntityKey() );
+				}
+			}
+			managedEntityCount = count;
+		}
+	}
+
+	private void detachCurrent() {
+		if ( current == null || session.isClosed() ) {
+			current = null;
+			return;
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final IdentitySet<Object> visited = new IdentitySet<>();
+		final List<Object> detachable = new ArrayList<>();
+		final Deque<Object> pending = new ArrayDeque<>();
+		if ( current instanceof Object[] ) {
+			for ( Object element : (Object[]) current ) {
+				if ( element != null ) {
+					pending.push( element );
+				}
+			}
+		}
+		else {
+			pending.push( current );
+		}
+		current = null;
+
+		while ( !pending.isEmpty() ) {
+			final Object value = pending.pop();
+			if ( !visited.add( value ) ) {
+				continue;
+			}
+
+			if ( value instanceof HibernateProxy ) {
+				final LazyInitializer lazyInitializer = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+				// an uninitialized proxy holds no state, and the persistence context only references it weakly
+				if ( lazyInitializer.getSession() == session && !lazyInitializer.isUninitialized() ) {
+					pending.push( lazyInitializer.getImplementation() );
+				}
+			}
+			else if ( value instanceof PersistentCollection ) {
+				if ( ( (PersistentCollection<?>) value ).wasInitialized() ) {
+					final Collection<?> elements = value instanceof Map
+							? ( (Map<?, ?>) value ).values()
+							: value instanceof Collection ? (Collection<?>) value : Collections.emptyList();
+					for ( Object element : elements ) {
+						if ( element != null ) {
+							pending.push( element );
+						}
+					}
+				}
+			}
+			else {
+				final EntityEntry entry = persistenceContext.getEntry( value );
+				if ( entry != null && !managedEntityKeys.contains( entry.getEntityKey() ) ) {
+					detachable.add( value );
+					final Object[] loadedState = entry.getLoadedState();
+					if ( loadedState != null ) {
+						collectReachable( loadedState, entry.getPersister().getPropertyTypes(), pending );
+					}
+				}
+			}
+		}
+
+		for ( Object entity : detachable ) {
+			detach( entity, persistenceContext );
+		}
+	}
+
+	private void collectReachable(Object[] values, Type[] types, Deque<Object> pending) {
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = values[i];
+			if ( value == null || value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				continue;
+			}
+			final Type type = types[i];
+			if ( type.isEntityType() || type.isCollectionType() ) {
+				pending.push( value );
+			}
+			else if ( type.isComponentType() ) {
+				final CompositeType compositeType = (CompositeType) type;
+				collectReachable( compositeType.getPropertyValues( value, session ), compositeType.getSubtypes(), pending );
+			}
+		}
+	}
+
+	/**
+	 * Detaches an entity as {@link org.hibernate.event.internal.DefaultEvictEventListener} does,
+	 * but without cascading, along with its proxy and its collections.
+	 */
+	private void detach(Object entity, PersistenceContext persistenceContext) {
+		final EntityEntry entry = persistenceContext.getEntry( entity );
+		if ( entry == null ) {
+			return;
+		}
+		final EntityPersister persister = entry.getPersister();
+		final EntityKey key = entry.getEntityKey();
+		if ( persister.hasNaturalIdentifier() ) {
+			persistenceContext.getNaturalIdResolutions().handleEviction( key.getIdentifier(), entity, persister );
+		}
+		if ( persister.hasCollections() ) {
+			new EvictVisitor( session, entity ).process( entity, persister );
+		}
+		final Object proxy = persistenceContext.removeProxy( key );
+		if ( proxy != null ) {
+			( (HibernateProxy) proxy ).getHibernateLazyInitializer().unsetSession();
+		}
+		persistenceContext.removeEntity( key );
+		persistenceContext.removeEntry( entity );
+	}
+}
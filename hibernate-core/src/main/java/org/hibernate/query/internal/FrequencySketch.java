@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+/**
+ * A Count-Min sketch estimating how often keys were accessed recently, using
+ * four 4-bit counters per key packed sixteen to a {@code long}.
+ * <p>
+ * Once the number of recorded accesses reaches ten times the table size all
+ * counters are halved, so that the estimates age and keys which are no longer
+ * popular eventually lose against new ones.
+ * <p>
+ * Not thread-safe: access must be guarded by the owning cache.
+ */
+final class FrequencySketch {
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int additions;
+
+	FrequencySketch(int maximumSize) {
+		final int size = Math.max( 16, Integer.highestOneBit( Math.max( 1, maximumSize ) - 1 ) << 1 );
+		this.table = new long[size];
+		this.tableMask = size - 1;
+		this.sampleSize = 10 * size;
+	}
+
+	/**
+	 * The estimated number of recent accesses to the key, at most 15.
+	 */
+	int frequency(Object key) {
+		final int hash = spread( key.hashCode() );
+		int frequency = 15;
+		for ( int i = 0; i < 4; i++ ) {
+			final int shift = counterOffset( hash, i ) << 2;
+			final int count = (int) ( ( table[indexOf( hash, i )] >>> shift ) & 0xfL );
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record an access to the key.
+	 */
+	void increment(Object key) {
+		final int hash = spread( key.hashCode() );
+		boolean added = false;
+		for ( int i = 0; i < 4; i++ ) {
+			added |= incrementAt( indexOf( hash, i ), counterOffset( hash, i ) );
+		}
+		if ( added && ++additions == sampleSize ) {
+			reset();
+		}
+	}
+
+	private boolean incrementAt(int index, int counter) {
+		final int shift = counter << 2;
+		final long mask = 0xfL << shift;
+		if ( ( table[index] & mask ) != mask ) {
+			table[index] += 1L << shift;
+			return true;
+		}
+		return false;
+	}
+
+	private void reset() {
+		for ( int i = 0; i < table.length; i++ ) {
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		additions = additions >>> 1;
+	}
+
+	private int indexOf(int hash, int row) {
+		long h = ( hash + SEEDS[row] ) * SEEDS[row];
+		h += h >>> 32;
+		return (int) h & tableMask;
+	}
+
+	private static int counterOffset(int hash, int row) {
+		return ( hash >>> ( row << 3 ) ) & 0xf;
+	}
+
+	private static int spread(int hash) {
+		int h = hash * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.function.Function;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.query.spi.BoundedCache;
+import org.hibernate.query.spi.BoundedCacheFactory;
+
+/**
+ * Creates caches backed by a {@link BoundedConcurrentHashMap} using the LIRS
+ * eviction policy; historically the only option for the query plan cache.
+ */
+public class LirsBoundedCacheFactory implements BoundedCacheFactory {
+	/**
+	 * Singleton access
+	 */
+	public static final LirsBoundedCacheFactory INSTANCE = new LirsBoundedCacheFactory();
+
+	@Override
+	public <K, V> BoundedCache<K, V> createCache(int maximumSize, Runnable evictionListener) {
+		return new LirsCache<>( maximumSize, evictionListener );
+	}
+
+	private static class LirsCache<K, V> implements BoundedCache<K, V> {
+		private final BoundedConcurrentHashMap<K, V> map;
+
+		private LirsCache(int maximumSize, Runnable evictionListener) {
+			this.map = new BoundedConcurrentHashMap<>(
+					maximumSize,
+					20,
+					BoundedConcurrentHashMap.Eviction.LIRS,
+					evictionListener
+			);
+		}
+
+		@Override
+		public V get(K key) {
+			return map.get( key );
+		}
+
+		@Override
+		public void put(K key, V value) {
+			map.put( key, value );
+		}
+
+		@Override
+		public V computeIfAbsent(K key, Function<? super K, ? extends V> creator) {
+			return map.computeIfAbsent( key, creator );
+		}
+
+		@Override
+		public int size() {
+			return map.size();
+		}
+
+		@Override
+		public void clear() {
+			map.clear();
+		}
+	}
+}
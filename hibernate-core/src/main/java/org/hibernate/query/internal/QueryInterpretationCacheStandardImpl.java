@@ -11,8 +11,9 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import jakarta.persistence.Tuple;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.query.QueryLogging;
+import org.hibernate.query.spi.BoundedCache;
+import org.hibernate.query.spi.BoundedCacheFactory;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
@@ -23,6 +24,7 @@ import org.hibernate.query.spi.SimpleHqlInterpretationImpl;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
@@ -38,19 +40,58 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final BoundedCache<Key, QueryPlan> queryPlanCache;
 
-	private final BoundedConcurrentHashMap<String, HqlInterpretation> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final BoundedCache<String, HqlInterpretation> hqlInterpretationCache;
+	private final BoundedCache<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
-		log.debugf( "Starting QueryPlanCache(%s)", maxQueryPlanCount );
+		this(
+				maxQueryPlanCount,
+				maxQueryPlanCount,
+				maxQueryPlanCount,
+				LirsBoundedCacheFactory.INSTANCE,
+				statisticsSupplier
+		);
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			int maxHqlInterpretationCount,
+			int maxNativeQueryParameterCount,
+			BoundedCacheFactory cacheFactory,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
+		log.debugf(
+				"Starting QueryPlanCache(%s, %s, %s) using %s",
+				maxQueryPlanCount,
+				maxHqlInterpretationCount,
+				maxNativeQueryParameterCount,
+				cacheFactory
+		);
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.statisticsSupplier = statisticsSupplier;
+		this.queryPlanCache = cacheFactory.createCache(
+				maxQueryPlanCount,
+				evictionListener( QueryInterpretationCacheStatistics.SELECT_QUERY_PLANS )
+		);
+		this.hqlInterpretationCache = cacheFactory.createCache(
+				maxHqlInterpretationCount,
+				evictionListener( QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS )
+		);
+		this.nativeQueryParamCache = cacheFactory.createCache(
+				maxNativeQueryParameterCount,
+				evictionListener( QueryInterpretationCacheStatistics.NATIVE_QUERY_PARAMETERS )
+		);
+	}
+
+	private Runnable evictionListener(String cacheName) {
+		return () -> {
+			final StatisticsImplementor statistics = statisticsSupplier.get();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryInterpretationCacheEviction( cacheName );
+			}
+		};
 	}
 
 	@Override
@@ -76,6 +117,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		if ( cached != null ) {
 			if ( stats ) {
 				statistics.queryPlanCacheHit( key.getQueryString() );
+				statistics.queryInterpretationCacheHit( QueryInterpretationCacheStatistics.SELECT_QUERY_PLANS );
 			}
 			return cached;
 		}
@@ -84,6 +126,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		queryPlanCache.put( key.prepareForStore(), plan );
 		if ( stats ) {
 			statistics.queryPlanCacheMiss( key.getQueryString() );
+			statistics.queryInterpretationCacheMiss( QueryInterpretationCacheStatistics.SELECT_QUERY_PLANS );
 		}
 		return plan;
 	}
@@ -117,16 +160,20 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 
 
 		final HqlInterpretation existing = hqlInterpretationCache.get( cacheKey );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
 		if ( existing != null ) {
-			final StatisticsImplementor statistics = statisticsSupplier.get();
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.queryPlanCacheHit( queryString );
+				statistics.queryInterpretationCacheHit( QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS );
 			}
 			return existing;
 		}
 
 		final HqlInterpretation hqlInterpretation = createHqlInterpretation( queryString, creator, statisticsSupplier );
 		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryInterpretationCacheMiss( QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS );
+		}
 		return hqlInterpretation;
 	}
 
@@ -165,14 +212,22 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			String queryString,
 			Function<String, ParameterInterpretation> creator) {
 		log.tracef( "QueryPlan#resolveNativeQueryParameters(%s)", queryString );
-		return nativeQueryParamCache.computeIfAbsent(
-				queryString,
-				s -> {
-					final ParameterInterpretation interpretation = creator.apply( queryString );
-					log.debugf( "Creating and caching NativeQuery ParameterInterpretation - %s", interpretation );
-					return interpretation;
-				}
-		);
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		final ParameterInterpretation existing = nativeQueryParamCache.get( queryString );
+		if ( existing != null ) {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryInterpretationCacheHit( QueryInterpretationCacheStatistics.NATIVE_QUERY_PARAMETERS );
+			}
+			return existing;
+		}
+
+		final ParameterInterpretation interpretation = creator.apply( queryString );
+		log.debugf( "Creating and caching NativeQuery ParameterInterpretation - %s", interpretation );
+		nativeQueryParamCache.put( queryString, interpretation );
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryInterpretationCacheMiss( QueryInterpretationCacheStatistics.NATIVE_QUERY_PARAMETERS );
+		}
+		return interpretation;
 	}
 
 	@Override
@@ -40,6 +40,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private Boolean resultCachingEnabled;
 	private String resultCacheRegionName;
 	private Boolean readOnlyEnabled;
+	private boolean streamingEnabled;
 
 	private TupleTransformer tupleTransformer;
 	private ResultListTransformer resultListTransformer;
@@ -112,6 +113,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		return fetchSize;
 	}
 
+	@Override
 	public void setFetchSize(Integer fetchSize) {
 		this.fetchSize = fetchSize;
 	}
@@ -184,6 +186,16 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		return readOnlyEnabled;
 	}
 
+	@Override
+	public void setStreamingEnabled(boolean streamingEnabled) {
+		this.streamingEnabled = streamingEnabled;
+	}
+
+	@Override
+	public boolean isStreamingEnabled() {
+		return streamingEnabled;
+	}
+
 	@Override
 	public void applyGraph(RootGraphImplementor<?> rootGraph, GraphSemantic graphSemantic) {
 		this.rootGraph = rootGraph;
@@ -0,0 +1,340 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.FlushMode;
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.spi.AbstractSelectionQuery;
+import org.hibernate.query.spi.SqmQuery;
+import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.exec.internal.DelegatingExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcValuesFetcherStandardImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.JdbcValuesFetcher;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingProducerStandard;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Executes a group of independent selection queries of a session, performing their
+ * database work concurrently, each with a connection of its own obtained from the
+ * {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}.
+ * <p>
+ * The queries are dispatched one after the other, by the calling thread, which flushes
+ * the session as usual. The rows of each query are then assembled into the persistence
+ * context by the calling thread, one query after the other, in the order of the queries,
+ * so that the resulting state of the session does not depend on which query completes
+ * first.
+ * <p>
+ * The other connections do not see the changes made by the transaction of the session,
+ * nor do they share its view of the database, so the queries are only executed concurrently
+ * when the session is not in a transaction, or when its transaction reads committed data
+ * at most, did not execute any statement yet, and has no changes to flush. A query whose
+ * flush executes statements nonetheless, and the queries after it, are executed on the
+ * connection of the session, in their turn. So are the queries which cannot be executed
+ * asynchronously, such as queries acquiring pessimistic locks, and the queries reading
+ * LOBs, whose locators are only valid on the connection which read them. JDBC has no way
+ * to pipeline the statements of several queries on one connection.
+ * <p>
+ * The temporary session performing the database work of a query is only closed once the
+ * results of the query were assembled.
+ *
+ * @see org.hibernate.Session#listAll
+ *
+ * @since 6.2
+ */
+public class SelectionQueryFanOut {
+	private final SessionImplementor session;
+
+	public SelectionQueryFanOut(SessionImplementor session) {
+		this.session = session;
+	}
+
+	public List<List<?>> list(List<? extends SelectionQuery<?>> queries) {
+		final List<List<?>> results = new ArrayList<>( queries.size() );
+		if ( !canFanOut( queries ) ) {
+			for ( SelectionQuery<?> query : queries ) {
+				results.add( query.list() );
+			}
+			return results;
+		}
+
+		final PooledConnectionFetcher fetcher = new PooledConnectionFetcher( session );
+		final List<CompletionStage<? extends List<?>>> dispatched = new ArrayList<>( queries.size() );
+		final int[] dispatchedFetches = new int[queries.size()];
+		RuntimeException failure = null;
+		for ( int i = 0; i < queries.size(); i++ ) {
+			final SelectionQuery<?> query = queries.get( i );
+			if ( failure == null && isFetchable( query ) ) {
+				try {
+					dispatched.add( ( (AbstractSelectionQuery<?>) query ).listAsync( fetcher ) );
+				}
+				catch (RuntimeException e) {
+					failure = e;
+					dispatched.add( null );
+				}
+			}
+			else {
+				dispatched.add( null );
+			}
+			dispatchedFetches[i] = fetcher.pending.size();
+		}
+
+		for ( int i = 0; i < queries.size(); i++ ) {
+			fetcher.assembleUpTo( dispatchedFetches[i] );
+			final CompletionStage<? extends List<?>> stage = dispatched.get( i );
+			if ( failure != null ) {
+				results.add( null );
+			}
+			else if ( stage == null ) {
+				try {
+					results.add( queries.get( i ).list() );
+				}
+				catch (RuntimeException e) {
+					failure = e;
+				}
+			}
+			else {
+				try {
+					results.add( stage.toCompletableFuture().join() );
+				}
+				catch (CompletionException e) {
+					failure = e.getCause() instanceof RuntimeException
+							? (RuntimeException) e.getCause()
+							: new HibernateException( e.getCause() );
+				}
+			}
+		}
+		// the stages of the queries dispatched after a failure are left to complete
+		fetcher.assembleUpTo( fetcher.pending.size() );
+
+		if ( failure != null ) {
+			throw failure;
+		}
+		return results;
+	}
+
+	private boolean canFanOut(List<? extends SelectionQuery<?>> queries) {
+		if ( !( session.getJdbcCoordinator().getLogicalConnection() instanceof LogicalConnectionManagedImpl )
+				|| session.isTransactionInProgress() && !canReadOutsideTransaction() ) {
+			return false;
+		}
+		int fetchable = 0;
+		for ( SelectionQuery<?> query : queries ) {
+			if ( isFetchable( query ) ) {
+				fetchable++;
+			}
+		}
+		return fetchable > 1;
+	}
+
+	/**
+	 * Whether the other connections would see the same data as the transaction of the session:
+	 * the transaction must not read a snapshot of the database, nor have executed statements,
+	 * nor have changes to flush before the queries.
+	 */
+	private boolean canReadOutsideTransaction() {
+		return !mustReadOnSessionConnection( session )
+				&& isReadCommittedOrLower()
+				&& ( session.getHibernateFlushMode().lessThan( FlushMode.AUTO ) || !session.isDirty() );
+	}
+
+	private boolean isReadCommittedOrLower() {
+		final LogicalConnectionImplementor logicalConnection = session.getJdbcCoordinator().getLogicalConnection();
+		if ( !logicalConnection.isPhysicallyConnected() ) {
+			// the isolation of the transaction is unknown
+			return false;
+		}
+		try {
+			return logicalConnection.getPhysicalConnection().getTransactionIsolation()
+					<= Connection.TRANSACTION_READ_COMMITTED;
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper()
+					.convert( e, "Unable to determine the transaction isolation level" );
+		}
+	}
+
+	/**
+	 * Whether the transaction of the session already executed statements, whose changes,
+	 * or whose view of the database, the other connections would not share.
+	 */
+	private static boolean mustReadOnSessionConnection(SessionImplementor session) {
+		return session.isTransactionInProgress()
+				&& session.getEventListenerManager().isJdbcExecutedInTransaction();
+	}
+
+	private boolean isFetchable(SelectionQuery<?> query) {
+		if ( !( query instanceof AbstractSelectionQuery ) || !( query instanceof SqmQuery ) ) {
+			return false;
+		}
+		final AbstractSelectionQuery<?> selectionQuery = (AbstractSelectionQuery<?>) query;
+		final LockMode lockMode = selectionQuery.getQueryOptions().getLockOptions().findGreatestLockMode();
+		// the flush and cache modes of a query apply to the session until it completes
+		final FlushMode flushMode = selectionQuery.getHibernateFlushMode();
+		return selectionQuery.getSession() == session
+				&& !selectionQuery.isCacheable()
+				&& !lockMode.greaterThan( LockMode.READ )
+				&& flushMode == null
+				&& selectionQuery.getCacheMode() == null;
+	}
+
+	/**
+	 * Performs the database work of each query with a temporary session of its own, and
+	 * completes the stages returned to the queries on the calling thread, when asked to.
+	 */
+	private static class PooledConnectionFetcher implements JdbcValuesFetcher {
+		private final SessionImplementor session;
+		private final JdbcValuesFetcher fetcher;
+		private final List<PendingFetch> pending = new ArrayList<>();
+		private int assembled;
+
+		private PooledConnectionFetcher(SessionImplementor session) {
+			this.session = session;
+			this.fetcher = session.getFactory().getServiceRegistry().getService( JdbcValuesFetcher.class );
+		}
+
+		@Override
+		public CompletionStage<JdbcValues> fetch(
+				JdbcSelect jdbcSelect,
+				JdbcParameterBindings jdbcParameterBindings,
+				ExecutionContext executionContext,
+				Function<String, PreparedStatement> statementCreator) {
+			if ( mustReadOnSessionConnection( session ) || readsLobs( jdbcSelect ) ) {
+				// the flush of the query executed statements in the transaction, or
+				// the rows hold locators, only valid on the connection reading them
+				final JdbcValues values = JdbcValuesFetcherStandardImpl.fetchRows(
+						jdbcSelect,
+						jdbcParameterBindings,
+						executionContext,
+						statementCreator
+				);
+				final CompletableFuture<JdbcValues> assembly = new CompletableFuture<>();
+				pending.add( new PendingFetch( CompletableFuture.completedFuture( values ), assembly, null ) );
+				return assembly;
+			}
+
+			final SessionImplementor fetchingSession = (SessionImplementor) session.sessionWithOptions()
+					.autoJoinTransactions( false )
+					.jdbcTimeZone( session.getJdbcTimeZone() )
+					.statementInspector( session.getJdbcSessionContext().getStatementInspector() )
+					.flushMode( FlushMode.MANUAL )
+					.openSession();
+			final ExecutionContext fetchingContext = new DelegatingExecutionContext( executionContext ) {
+				@Override
+				public SharedSessionContractImplementor getSession() {
+					return fetchingSession;
+				}
+			};
+
+			final CompletableFuture<JdbcValues> rows;
+			try {
+				rows = fetcher.fetch(
+						jdbcSelect,
+						jdbcParameterBindings,
+						fetchingContext,
+						(sql) -> fetchingSession.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql )
+				).toCompletableFuture();
+			}
+			catch (RuntimeException e) {
+				fetchingSession.close();
+				throw e;
+			}
+
+			final CompletableFuture<JdbcValues> assembly = new CompletableFuture<>();
+			pending.add( new PendingFetch( rows, assembly, fetchingSession ) );
+			return assembly;
+		}
+
+		private static boolean readsLobs(JdbcSelect jdbcSelect) {
+			final JdbcValuesMappingProducer mappingProducer = jdbcSelect.getJdbcValuesMappingProducer();
+			if ( !( mappingProducer instanceof JdbcValuesMappingProducerStandard ) ) {
+				// the types of the values are unknown until the query is executed
+				return true;
+			}
+			final List<SqlSelection> sqlSelections = ( (JdbcValuesMappingProducerStandard) mappingProducer )
+					.getResolvedMapping()
+					.getSqlSelections();
+			final boolean[] lob = new boolean[1];
+			for ( SqlSelection sqlSelection : sqlSelections ) {
+				if ( sqlSelection.getExpressionType() == null ) {
+					continue;
+				}
+				sqlSelection.getExpressionType().forEachJdbcType( (index, jdbcMapping) -> {
+					switch ( jdbcMapping.getJdbcType().getJdbcTypeCode() ) {
+						case SqlTypes.BLOB:
+						case SqlTypes.CLOB:
+						case SqlTypes.NCLOB:
+							lob[0] = true;
+					}
+				} );
+			}
+			return lob[0];
+		}
+
+		/**
+		 * Waits for the rows of the given number of fetches, in the order they were
+		 * requested, and hands each of them over to its query, which assembles its
+		 * results on the calling thread, before closing the session which read them.
+		 */
+		private void assembleUpTo(int count) {
+			while ( assembled < count ) {
+				final PendingFetch fetch = pending.get( assembled++ );
+				try {
+					final JdbcValues values;
+					try {
+						values = fetch.rows.join();
+					}
+					catch (CompletionException e) {
+						fetch.assembly.completeExceptionally( e.getCause() );
+						continue;
+					}
+					fetch.assembly.complete( values );
+				}
+				finally {
+					if ( fetch.fetchingSession != null ) {
+						fetch.fetchingSession.close();
+					}
+				}
+			}
+		}
+	}
+
+	private static class PendingFetch {
+		private final CompletableFuture<JdbcValues> rows;
+		private final CompletableFuture<JdbcValues> assembly;
+		private final SessionImplementor fetchingSession;
+
+		private PendingFetch(
+				CompletableFuture<JdbcValues> rows,
+				CompletableFuture<JdbcValues> assembly,
+				SessionImplementor fetchingSession) {
+			this.rows = rows;
+			this.assembly = assembly;
+			this.fetchingSession = fetchingSession;
+		}
+	}
+}
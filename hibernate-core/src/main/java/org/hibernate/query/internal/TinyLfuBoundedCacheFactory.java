@@ -0,0 +1,26 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import org.hibernate.query.spi.BoundedCache;
+import org.hibernate.query.spi.BoundedCacheFactory;
+
+/**
+ * Creates {@link TinyLfuCache} instances, which hold up much better than LIRS
+ * when the number of distinct queries exceeds the cache capacity.
+ */
+public class TinyLfuBoundedCacheFactory implements BoundedCacheFactory {
+	/**
+	 * Singleton access
+	 */
+	public static final TinyLfuBoundedCacheFactory INSTANCE = new TinyLfuBoundedCacheFactory();
+
+	@Override
+	public <K, V> BoundedCache<K, V> createCache(int maximumSize, Runnable evictionListener) {
+		return new TinyLfuCache<>( maximumSize, evictionListener );
+	}
+}
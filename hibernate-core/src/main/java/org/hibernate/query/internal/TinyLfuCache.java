@@ -0,0 +1,323 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.hibernate.query.spi.BoundedCache;
+
+/**
+ * A bounded cache using the W-TinyLFU eviction policy, as described by
+ * Einziger, Friedman and Manes in "TinyLFU: A Highly Efficient Cache Admission Policy".
+ * <p>
+ * New entries enter a small LRU "admission window". Entries leaving the
+ * window compete with the eviction victim of the main space (a segmented LRU
+ * with a probation and a protected segment), and the one with the higher
+ * {@linkplain FrequencySketch estimated access frequency} is kept. This makes
+ * the cache resistant to scans and to large numbers of one-off keys, which
+ * quickly degrade recency-based policies.
+ * <p>
+ * Reads are served directly from a {@link ConcurrentHashMap}. Updating the
+ * policy requires a lock, which reads only {@linkplain ReentrantLock#tryLock() try}
+ * to acquire: under contention, recording some accesses is skipped, which
+ * only slightly lowers the accuracy of the policy.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class TinyLfuCache<K, V> implements BoundedCache<K, V> {
+	private static final int NEW = 0;
+	private static final int WINDOW = 1;
+	private static final int PROBATION = 2;
+	private static final int PROTECTED = 3;
+	private static final int REMOVED = 4;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final Runnable evictionListener;
+
+	private final ReentrantLock policyLock = new ReentrantLock();
+
+	// everything below is guarded by policyLock
+	private final FrequencySketch sketch;
+	private final int maximumSize;
+	private final int windowMaximum;
+	private final int protectedMaximum;
+	private final AccessOrderQueue<K, V> window = new AccessOrderQueue<>();
+	private final AccessOrderQueue<K, V> probation = new AccessOrderQueue<>();
+	private final AccessOrderQueue<K, V> protectedSegment = new AccessOrderQueue<>();
+	private int windowSize;
+	private int protectedSize;
+	private int policySize;
+
+	public TinyLfuCache(int maximumSize, Runnable evictionListener) {
+		if ( maximumSize <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive : " + maximumSize );
+		}
+		this.maximumSize = maximumSize;
+		// 1% admission window, 80% of the main space protected
+		this.windowMaximum = Math.max( 1, maximumSize / 100 );
+		this.protectedMaximum = ( maximumSize - windowMaximum ) * 4 / 5;
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+		this.evictionListener = evictionListener == null ? () -> {} : evictionListener;
+	}
+
+	@Override
+	public V get(K key) {
+		final Node<K, V> node = data.get( key );
+		afterRead( key, node );
+		return node == null ? null : node.value;
+	}
+
+	@Override
+	public void put(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> existing = data.putIfAbsent( key, node );
+		if ( existing != null ) {
+			existing.value = value;
+			afterRead( key, existing );
+		}
+		else {
+			afterWrite( node );
+		}
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> creator) {
+		final Node<K, V> cached = data.get( key );
+		if ( cached != null ) {
+			afterRead( key, cached );
+			return cached.value;
+		}
+		final Node<K, V> node = new Node<>( key, creator.apply( key ) );
+		final Node<K, V> existing = data.putIfAbsent( key, node );
+		if ( existing != null ) {
+			afterRead( key, existing );
+			return existing.value;
+		}
+		afterWrite( node );
+		return node.value;
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public void clear() {
+		policyLock.lock();
+		try {
+			data.clear();
+			window.clear();
+			probation.clear();
+			protectedSegment.clear();
+			windowSize = 0;
+			protectedSize = 0;
+			policySize = 0;
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	private void afterRead(K key, Node<K, V> node) {
+		if ( policyLock.tryLock() ) {
+			try {
+				sketch.increment( key );
+				if ( node != null ) {
+					onAccess( node );
+				}
+			}
+			finally {
+				policyLock.unlock();
+			}
+		}
+	}
+
+	private void afterWrite(Node<K, V> node) {
+		policyLock.lock();
+		try {
+			sketch.increment( node.key );
+			// the map might have been cleared since the node was added to it
+			if ( node.queue == NEW && data.get( node.key ) == node ) {
+				node.queue = WINDOW;
+				window.addLast( node );
+				windowSize++;
+				policySize++;
+				evict();
+			}
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	private void onAccess(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				window.moveToLast( node );
+				break;
+			case PROBATION:
+				probation.remove( node );
+				node.queue = PROTECTED;
+				protectedSegment.addLast( node );
+				protectedSize++;
+				demoteFromProtected();
+				break;
+			case PROTECTED:
+				protectedSegment.moveToLast( node );
+				break;
+			default:
+				// not yet added to, or already removed from, the policy
+		}
+	}
+
+	private void demoteFromProtected() {
+		while ( protectedSize > protectedMaximum ) {
+			final Node<K, V> demoted = protectedSegment.first();
+			protectedSegment.remove( demoted );
+			protectedSize--;
+			demoted.queue = PROBATION;
+			probation.addLast( demoted );
+		}
+	}
+
+	private void evict() {
+		// entries overflowing the window become candidates for the main space
+		while ( windowSize > windowMaximum ) {
+			final Node<K, V> candidate = window.first();
+			window.remove( candidate );
+			windowSize--;
+			candidate.queue = PROBATION;
+			probation.addLast( candidate );
+		}
+
+		while ( policySize > maximumSize ) {
+			final Node<K, V> victim = probation.first();
+			final Node<K, V> candidate = probation.last();
+			if ( victim == null ) {
+				// everything is either protected or in the window
+				evictNode( protectedSize > 0 ? protectedSegment.first() : window.first() );
+			}
+			else if ( victim == candidate ) {
+				evictNode( victim );
+			}
+			else if ( sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+				evictNode( victim );
+			}
+			else {
+				evictNode( candidate );
+			}
+		}
+	}
+
+	private void evictNode(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				window.remove( node );
+				windowSize--;
+				break;
+			case PROBATION:
+				probation.remove( node );
+				break;
+			case PROTECTED:
+				protectedSegment.remove( node );
+				protectedSize--;
+				break;
+			default:
+				throw new IllegalStateException( "Node is not part of the eviction policy" );
+		}
+		node.queue = REMOVED;
+		policySize--;
+		if ( data.remove( node.key, node ) ) {
+			evictionListener.run();
+		}
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private volatile V value;
+
+		// guarded by the policy lock
+		private int queue = NEW;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Intrusive doubly-linked list of nodes, least recently used first.
+	 */
+	private static final class AccessOrderQueue<K, V> {
+		private Node<K, V> head;
+		private Node<K, V> tail;
+
+		Node<K, V> first() {
+			return head;
+		}
+
+		Node<K, V> last() {
+			return tail;
+		}
+
+		void addLast(Node<K, V> node) {
+			node.previous = tail;
+			node.next = null;
+			if ( tail == null ) {
+				head = node;
+			}
+			else {
+				tail.next = node;
+			}
+			tail = node;
+		}
+
+		void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				head = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				tail = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		void moveToLast(Node<K, V> node) {
+			if ( node != tail ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		void clear() {
+			Node<K, V> node = head;
+			while ( node != null ) {
+				final Node<K, V> next = node.next;
+				node.queue = REMOVED;
+				node.previous = null;
+				node.next = null;
+				node = next;
+			}
+			head = null;
+			tail = null;
+		}
+	}
+}
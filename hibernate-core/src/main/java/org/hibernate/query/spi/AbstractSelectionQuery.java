@@ -17,6 +17,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import jakarta.persistence.FlushModeType;
@@ -31,6 +35,7 @@ import jakarta.persistence.criteria.CompoundSelection;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.NonUniqueResultException;
@@ -38,16 +43,19 @@ import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.jpa.internal.util.LockModeTypeHelper;
 import org.hibernate.metamodel.model.domain.BasicDomainType;
 import org.hibernate.metamodel.model.domain.DomainType;
 import org.hibernate.query.BindableType;
+import org.hibernate.query.ColumnBatch;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.JpaSelection;
+import org.hibernate.query.internal.DetachingScrollableResultsIterator;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.sqm.SqmExpressible;
@@ -63,6 +71,7 @@ import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.exec.spi.JdbcValuesFetcher;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -378,6 +387,75 @@ public abstract class AbstractSelectionQuery<R>
 		}
 	}
 
+	@Override
+	public CompletionStage<List<R>> listAsync() {
+		return listAsync( getSession().getFactory().getServiceRegistry().getService( JdbcValuesFetcher.class ) );
+	}
+
+	/**
+	 * Executes the query like {@link #list()}, except that its database work is performed
+	 * by the given {@link JdbcValuesFetcher}, without blocking the calling thread when the
+	 * query supports it. The session must not be used until the returned stage completes.
+	 *
+	 * @see SelectQueryPlan#performListAsync
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	public CompletionStage<List<R>> listAsync(JdbcValuesFetcher jdbcValuesFetcher) {
+		beforeQuery();
+		final CompletionStage<List<R>> results;
+		try {
+			results = doListAsync( jdbcValuesFetcher );
+		}
+		catch (RuntimeException e) {
+			afterQuery( false );
+			return CompletableFuture.failedFuture( convertListException( e ) );
+		}
+		return results.handle( (list, failure) -> {
+			afterQuery( failure == null );
+			if ( failure != null ) {
+				final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+						? failure.getCause()
+						: failure;
+				throw new CompletionException(
+						cause instanceof RuntimeException ? convertListException( (RuntimeException) cause ) : cause
+				);
+			}
+			return list;
+		} );
+	}
+
+	@Override
+	public long consumeColumns(int batchSize, Consumer<ColumnBatch> batchConsumer) {
+		beforeQuery();
+		boolean success = false;
+		try {
+			final long rows = doConsumeColumns( batchSize, batchConsumer );
+			success = true;
+			return rows;
+		}
+		catch (RuntimeException e) {
+			throw convertListException( e );
+		}
+		finally {
+			afterQuery( success );
+		}
+	}
+
+	private RuntimeException convertListException(RuntimeException e) {
+		if ( e instanceof IllegalQueryOperationException ) {
+			return new IllegalStateException( e );
+		}
+		else if ( e instanceof TypeMismatchException ) {
+			return new IllegalArgumentException( e );
+		}
+		else if ( e instanceof HibernateException ) {
+			return getSession().getExceptionConverter().convert( (HibernateException) e, getQueryOptions().getLockOptions() );
+		}
+		return e;
+	}
+
 	protected void beforeQuery() {
 		getQueryParameterBindings().validate();
 
@@ -423,6 +501,22 @@ public abstract class AbstractSelectionQuery<R>
 
 	protected abstract List<R> doList();
 
+	/**
+	 * Executes the query with the given fetcher. By default, the query is executed
+	 * synchronously, and the returned stage is already completed.
+	 */
+	protected CompletionStage<List<R>> doListAsync(JdbcValuesFetcher jdbcValuesFetcher) {
+		return CompletableFuture.completedFuture( doList() );
+	}
+
+	/**
+	 * Executes the query like {@link #consumeColumns}. By default, queries cannot
+	 * be read by columns.
+	 */
+	protected long doConsumeColumns(int batchSize, Consumer<ColumnBatch> batchConsumer) {
+		throw new UnsupportedOperationException( "Query results cannot be read by columns: " + getClass().getName() );
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> scroll() {
 		return scroll( getSession().getFactory().getJdbcServices().getJdbcEnvironment().getDialect().defaultScrollMode() );
@@ -435,15 +529,51 @@ public abstract class AbstractSelectionQuery<R>
 
 	protected abstract ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode);
 
+	/**
+	 * The fetch size applied to the JDBC statement of a query whose results are
+	 * {@linkplain #stream() streamed} with {@link org.hibernate.jpa.HibernateHints#HINT_STREAMING},
+	 * unless a fetch size is specified by the query or by
+	 * {@value org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE}.
+	 */
+	public static final int DEFAULT_STREAMING_FETCH_SIZE = 1000;
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The results are read from the JDBC {@code ResultSet} one at a time, as the consumer of
+	 * the stream asks for them, and the stream is therefore never ahead of its consumer. With
+	 * {@link org.hibernate.jpa.HibernateHints#HINT_STREAMING}, the entities loaded for a result
+	 * are also detached from a stateful session once the consumer asks for the next result, so
+	 * that streaming any number of results needs a bounded amount of memory.
+	 */
 	@SuppressWarnings( {"unchecked", "rawtypes"} )
 	@Override
 	public Stream stream() {
-		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final boolean detachResults = getQueryOptions().isStreamingEnabled()
+				&& getSession() instanceof EventSource;
+		final ScrollableResultsImplementor scrollableResults;
+		if ( detachResults && getQueryOptions().getFetchSize() == null
+				&& getSession().getFactory().getSessionFactoryOptions().getJdbcFetchSize() == null ) {
+			// the statement is executed by scroll(), so the fetch size only applies to this execution
+			getQueryOptions().setFetchSize( DEFAULT_STREAMING_FETCH_SIZE );
+			try {
+				scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+			}
+			finally {
+				getQueryOptions().setFetchSize( null );
+			}
+		}
+		else {
+			scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		}
+
+		final ScrollableResultsIterator iterator = detachResults
+				? new DetachingScrollableResultsIterator<>( scrollableResults, (EventSource) getSession() )
+				: new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream stream = StreamSupport.stream( spliterator, false );
-		return (Stream) stream.onClose( scrollableResults::close );
+		return (Stream) stream.onClose( iterator::close );
 	}
 
 	@Override
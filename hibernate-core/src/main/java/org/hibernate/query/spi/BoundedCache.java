@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.spi;
+
+import java.util.function.Function;
+
+import org.hibernate.Incubating;
+
+/**
+ * A size-bounded, thread-safe cache as used by the {@link QueryInterpretationCache}.
+ * <p>
+ * Implementations are free to evict any entry at any time once the maximum
+ * size has been reached; the eviction policy is what distinguishes them.
+ *
+ * @see BoundedCacheFactory
+ */
+@Incubating
+public interface BoundedCache<K, V> {
+	/**
+	 * The cached value for the given key, or {@code null} when there is none.
+	 */
+	V get(K key);
+
+	/**
+	 * Associate the value with the key, replacing any previous value.
+	 */
+	void put(K key, V value);
+
+	/**
+	 * Return the cached value for the given key, creating and caching it
+	 * with the given function when there is none.  The function might be
+	 * called concurrently by multiple threads for the same key.
+	 */
+	default V computeIfAbsent(K key, Function<? super K, ? extends V> creator) {
+		final V existing = get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		final V created = creator.apply( key );
+		put( key, created );
+		return created;
+	}
+
+	/**
+	 * The (approximate) number of entries currently held.
+	 */
+	int size();
+
+	/**
+	 * Discard all the entries.
+	 */
+	void clear();
+}
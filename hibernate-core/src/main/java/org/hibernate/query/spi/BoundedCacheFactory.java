@@ -0,0 +1,29 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Creates the {@linkplain BoundedCache caches} backing the
+ * {@link QueryInterpretationCache}, thereby determining their eviction policy.
+ * <p>
+ * An implementation can be selected using
+ * {@value org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_IMPLEMENTATION}.
+ */
+@Incubating
+public interface BoundedCacheFactory {
+	/**
+	 * Create a new cache.
+	 *
+	 * @param maximumSize the maximum number of entries the cache may hold
+	 * @param evictionListener notified each time an entry is evicted because
+	 * the maximum size was reached; implementations that cannot detect
+	 * evictions never call it
+	 */
+	<K, V> BoundedCache<K, V> createCache(int maximumSize, Runnable evictionListener);
+}
@@ -43,6 +43,11 @@ public class DelegatingQueryOptions implements QueryOptions {
 		return queryOptions.isReadOnly();
 	}
 
+	@Override
+	public boolean isStreamingEnabled() {
+		return queryOptions.isStreamingEnabled();
+	}
+
 	@Override
 	public AppliedGraph getAppliedGraph() {
 		return queryOptions.getAppliedGraph();
@@ -9,6 +9,7 @@ package org.hibernate.query.spi;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.Query;
 import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.exec.spi.JdbcValuesFetcher;
 
 /**
  * Context for execution of {@link Query}"
@@ -33,4 +34,14 @@ public interface DomainQueryExecutionContext {
 	 * The underlying session
 	 */
 	SharedSessionContractImplementor getSession();
+
+	/**
+	 * The fetcher performing the database work of the query, when it is executed
+	 * {@linkplain SelectQueryPlan#performListAsync asynchronously}
+	 *
+	 * @since 6.2
+	 */
+	default JdbcValuesFetcher getJdbcValuesFetcher() {
+		return getSession().getFactory().getServiceRegistry().getService( JdbcValuesFetcher.class );
+	}
 }
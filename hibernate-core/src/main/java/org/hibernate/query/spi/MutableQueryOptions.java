@@ -69,11 +69,26 @@ public interface MutableQueryOptions extends QueryOptions {
 	 */
 	void setFetchSize(int fetchSize);
 
+	/**
+	 * Corollary to {@link #getFetchSize()}, accepting {@code null} to use the fetch size
+	 * of the JDBC driver
+	 *
+	 * @since 6.2
+	 */
+	void setFetchSize(Integer fetchSize);
+
 	/**
 	 * Corollary to {@link #isReadOnly()}
 	 */
 	void setReadOnly(boolean readOnly);
 
+	/**
+	 * Corollary to {@link #isStreamingEnabled()}
+	 *
+	 * @since 6.2
+	 */
+	void setStreamingEnabled(boolean streamingEnabled);
+
 	/**
 	 * Corollary to {@link #getComment()}
 	 */
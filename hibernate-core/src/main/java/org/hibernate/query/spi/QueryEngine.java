@@ -17,6 +17,7 @@ import org.hibernate.Incubating;
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.FunctionContributor;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.cfg.AvailableSettings;
@@ -33,7 +34,9 @@ import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
 import org.hibernate.query.internal.QueryInterpretationCacheDisabledImpl;
+import org.hibernate.query.internal.LirsBoundedCacheFactory;
 import org.hibernate.query.internal.QueryInterpretationCacheStandardImpl;
+import org.hibernate.query.internal.TinyLfuBoundedCacheFactory;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
@@ -104,7 +107,11 @@ public class QueryEngine {
 				hqlTranslator,
 				sqmTranslatorFactory,
 				sessionFactory.getServiceRegistry().getService( NativeQueryInterpreter.class ),
-				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() ),
+				buildInterpretationCache(
+						sessionFactory::getStatistics,
+						sessionFactory.getProperties(),
+						sessionFactory.getServiceRegistry()
+				),
 				metadata.getTypeConfiguration(),
 				dialect,
 				customSqmFunctionRegistry,
@@ -257,7 +264,8 @@ public class QueryEngine {
 
 		this.interpretationCache = buildInterpretationCache(
 				() -> serviceRegistry.getService( StatisticsImplementor.class ),
-				serviceRegistry.getService( ConfigurationService.class ).getSettings()
+				serviceRegistry.getService( ConfigurationService.class ).getSettings(),
+				serviceRegistry
 		);
 	}
 
@@ -347,7 +355,8 @@ public class QueryEngine {
 
 	private static QueryInterpretationCache buildInterpretationCache(
 			Supplier<StatisticsImplementor> statisticsSupplier,
-			Map properties) {
+			Map properties,
+			ServiceRegistry serviceRegistry) {
 		final boolean explicitUseCache = ConfigurationHelper.getBoolean(
 				AvailableSettings.QUERY_PLAN_CACHE_ENABLED,
 				properties,
@@ -365,7 +374,13 @@ public class QueryEngine {
 					? explicitMaxPlanSize
 					: DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			return new QueryInterpretationCacheStandardImpl(
+					size,
+					ConfigurationHelper.getInt( AvailableSettings.QUERY_PLAN_CACHE_HQL_MAX_SIZE, properties, size ),
+					ConfigurationHelper.getInt( AvailableSettings.QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE, properties, size ),
+					resolveCacheFactory( properties, serviceRegistry ),
+					statisticsSupplier
+			);
 		}
 		else {
 			// disabled
@@ -373,6 +388,18 @@ public class QueryEngine {
 		}
 	}
 
+	private static BoundedCacheFactory resolveCacheFactory(Map properties, ServiceRegistry serviceRegistry) {
+		final Object setting = properties.get( AvailableSettings.QUERY_PLAN_CACHE_IMPLEMENTATION );
+		if ( setting == null || "lirs".equals( setting ) ) {
+			return LirsBoundedCacheFactory.INSTANCE;
+		}
+		if ( "tinylfu".equals( setting ) ) {
+			return TinyLfuBoundedCacheFactory.INSTANCE;
+		}
+		return serviceRegistry.getService( StrategySelector.class )
+				.resolveStrategy( BoundedCacheFactory.class, setting );
+	}
+
 	public void prepare(
 			SessionFactoryImplementor sessionFactory,
 			MetadataImplementor bootMetamodel,
@@ -44,6 +44,19 @@ public interface QueryOptions {
 	 */
 	Boolean isReadOnly();
 
+	/**
+	 * Should the entities returned by a {@linkplain org.hibernate.query.SelectionQuery#stream() stream}
+	 * of the query results be detached from the persistence context once the consumer of the stream
+	 * has moved on to the next result.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_STREAMING
+	 *
+	 * @since 6.2
+	 */
+	default boolean isStreamingEnabled() {
+		return false;
+	}
+
 	/**
 	 * JPA {@link jakarta.persistence.EntityGraph} explicitly applied to the
 	 * query.
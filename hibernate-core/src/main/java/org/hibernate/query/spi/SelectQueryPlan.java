@@ -7,9 +7,13 @@
 package org.hibernate.query.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
+import org.hibernate.query.ColumnBatch;
 import org.hibernate.query.Query;
 
 /**
@@ -37,6 +41,41 @@ public interface SelectQueryPlan<R> extends QueryPlan {
 	 */
 	List<R> performList(DomainQueryExecutionContext executionContext);
 
+	/**
+	 * Perform (execute) the query returning a List, without waiting for the database.
+	 * The session must not be used until the returned stage completes.
+	 *
+	 * @implNote The default implementation executes the query synchronously.
+	 *
+	 * @see org.hibernate.sql.exec.spi.JdbcSelectExecutor#listAsync
+	 *
+	 * @since 6.2
+	 */
+	default CompletionStage<List<R>> performListAsync(DomainQueryExecutionContext executionContext) {
+		try {
+			return CompletableFuture.completedFuture( performList( executionContext ) );
+		}
+		catch (RuntimeException e) {
+			return CompletableFuture.failedFuture( e );
+		}
+	}
+
+	/**
+	 * Perform (execute) the query, handing its rows to the given consumer a batch at a time
+	 *
+	 * @return the number of rows
+	 *
+	 * @see org.hibernate.sql.results.spi.ColumnarResultsConsumer
+	 *
+	 * @since 6.2
+	 */
+	default long performConsumeColumns(
+			int batchSize,
+			Consumer<ColumnBatch> batchConsumer,
+			DomainQueryExecutionContext executionContext) {
+		throw new UnsupportedOperationException( "Query results cannot be read by columns" );
+	}
+
 	/**
 	 * Perform (execute) the query returning a ScrollableResults
 	 */
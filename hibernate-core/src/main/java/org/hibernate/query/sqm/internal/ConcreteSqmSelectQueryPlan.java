@@ -10,6 +10,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
@@ -21,6 +24,7 @@ import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.query.ColumnBatch;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.Query;
 import org.hibernate.query.TupleTransformer;
@@ -53,6 +57,7 @@ import org.hibernate.sql.results.internal.RowTransformerSingularReturnImpl;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.internal.TupleMetadata;
+import org.hibernate.sql.results.spi.ColumnarResultsConsumer;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
 
@@ -70,7 +75,9 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
+	private final SqmInterpreter<CompletionStage<List<R>>, Void> listAsyncInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
+	private final SqmInterpreter<Long, ColumnarResultsConsumer<R>> columnsInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
 
@@ -102,25 +109,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
 						jdbcSelect,
 						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
-							@Override
-							public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
-								subSelectFetchKeyHandler.addKey( entityKey, entry );
-							}
-
-							@Override
-							public String getQueryIdentifier(String sql) {
-								if ( CRITERIA_HQL_STRING.equals( hql ) ) {
-									return "[CRITERIA] " + sql;
-								}
-								return hql;
-							}
-
-							@Override
-							public boolean hasQueryExecutionToBeAddedToStatistics() {
-								return true;
-							}
-						},
+						listExecutionContext( executionContext, jdbcSelect, hql, subSelectFetchKeyHandler ),
 						rowTransformer,
 						ListResultsConsumer.UniqueSemantic.ALLOW
 				);
@@ -130,6 +119,59 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			}
 		};
 
+		this.listAsyncInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
+			final SharedSessionContractImplementor session = executionContext.getSession();
+			final JdbcSelect jdbcSelect = sqmInterpretation.getJdbcSelect();
+			try {
+				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+						session.getPersistenceContext().getBatchFetchQueue(),
+						sqmInterpretation.selectStatement,
+						Collections.emptyList(),
+						jdbcParameterBindings
+				);
+
+				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+
+				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().listAsync(
+						jdbcSelect,
+						jdbcParameterBindings,
+						listExecutionContext( executionContext, jdbcSelect, hql, subSelectFetchKeyHandler ),
+						rowTransformer,
+						null,
+						ListResultsConsumer.UniqueSemantic.ALLOW
+				);
+			}
+			finally {
+				domainParameterXref.clearExpansions();
+			}
+		};
+
+		this.columnsInterpreter = (resultsConsumer, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
+			final SharedSessionContractImplementor session = executionContext.getSession();
+			final JdbcSelect jdbcSelect = sqmInterpretation.getJdbcSelect();
+			try {
+				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+						session.getPersistenceContext().getBatchFetchQueue(),
+						sqmInterpretation.selectStatement,
+						Collections.emptyList(),
+						jdbcParameterBindings
+				);
+
+				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+
+				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
+						jdbcSelect,
+						jdbcParameterBindings,
+						listExecutionContext( executionContext, jdbcSelect, hql, subSelectFetchKeyHandler ),
+						rowTransformer,
+						resultsConsumer
+				);
+			}
+			finally {
+				domainParameterXref.clearExpansions();
+			}
+		};
+
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			try {
 //				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
@@ -168,6 +210,32 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		//		`#performList` and `#performScroll`.
 	}
 
+	private static SqmJdbcExecutionContextAdapter listExecutionContext(
+			DomainQueryExecutionContext executionContext,
+			JdbcSelect jdbcSelect,
+			String hql,
+			SubselectFetch.RegistrationHandler subSelectFetchKeyHandler) {
+		return new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ) {
+			@Override
+			public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
+				subSelectFetchKeyHandler.addKey( entityKey, entry );
+			}
+
+			@Override
+			public String getQueryIdentifier(String sql) {
+				if ( CRITERIA_HQL_STRING.equals( hql ) ) {
+					return "[CRITERIA] " + sql;
+				}
+				return hql;
+			}
+
+			@Override
+			public boolean hasQueryExecutionToBeAddedToStatistics() {
+				return true;
+			}
+		};
+	}
+
 	@SuppressWarnings("unchecked")
 	private RowTransformer<R> determineRowTransformer(
 			SqmSelectStatement<?> sqm,
@@ -246,6 +314,26 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return withCacheableSqmInterpretation( executionContext, null, listInterpreter );
 	}
 
+	@Override
+	public CompletionStage<List<R>> performListAsync(DomainQueryExecutionContext executionContext) {
+		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
+			return CompletableFuture.completedFuture( Collections.emptyList() );
+		}
+		return withCacheableSqmInterpretation( executionContext, null, listAsyncInterpreter );
+	}
+
+	@Override
+	public long performConsumeColumns(
+			int batchSize,
+			Consumer<ColumnBatch> batchConsumer,
+			DomainQueryExecutionContext executionContext) {
+		final ColumnarResultsConsumer<R> resultsConsumer = new ColumnarResultsConsumer<>( batchSize, batchConsumer );
+		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
+			return 0;
+		}
+		return withCacheableSqmInterpretation( executionContext, resultsConsumer, columnsInterpreter );
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
 		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
@@ -17,6 +17,8 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import jakarta.persistence.FlushModeType;
@@ -47,6 +49,7 @@ import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.metamodel.model.domain.EntityDomainType;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.BindableType;
+import org.hibernate.query.ColumnBatch;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.Query;
@@ -97,6 +100,7 @@ import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.query.sqm.tree.update.SqmAssignment;
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+import org.hibernate.sql.exec.spi.JdbcValuesFetcher;
 import org.hibernate.sql.results.internal.TupleMetadata;
 
 import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
@@ -566,6 +570,32 @@ public class QuerySqmImpl<R>
 		return list;
 	}
 
+	@Override
+	protected CompletionStage<List<R>> doListAsync(JdbcValuesFetcher jdbcValuesFetcher) {
+		verifySelect();
+		if ( ( (SqmSelectStatement<?>) getSqmStatement() ).containsCollectionFetches() ) {
+			// the results might have to be made distinct, and paginated, in memory
+			return super.doListAsync( jdbcValuesFetcher );
+		}
+		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
+
+		return resolveSelectQueryPlan().performListAsync(
+				new DelegatingDomainQueryExecutionContext( this ) {
+					@Override
+					public JdbcValuesFetcher getJdbcValuesFetcher() {
+						return jdbcValuesFetcher;
+					}
+				}
+		);
+	}
+
+	@Override
+	protected long doConsumeColumns(int batchSize, Consumer<ColumnBatch> batchConsumer) {
+		verifySelect();
+		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
+		return resolveSelectQueryPlan().performConsumeColumns( batchSize, batchConsumer, this );
+	}
+
 	@Override
 	protected ScrollableResultsImplementor doScroll(ScrollMode scrollMode) {
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
@@ -13,6 +13,7 @@ import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.JdbcValuesFetcher;
 
 import static org.hibernate.query.spi.SqlOmittingQueryOptions.omitSqlQueryOptions;
 
@@ -69,6 +70,11 @@ public class SqmJdbcExecutionContextAdapter implements ExecutionContext {
 		return sqmExecutionContext.getCallback();
 	}
 
+	@Override
+	public JdbcValuesFetcher getJdbcValuesFetcher() {
+		return sqmExecutionContext.getJdbcValuesFetcher();
+	}
+
 	@Override
 	public boolean hasQueryExecutionToBeAddedToStatistics() {
 		return true;
@@ -13,6 +13,8 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
@@ -34,6 +36,7 @@ import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.jpa.internal.util.FlushModeTypeHelper;
 import org.hibernate.jpa.internal.util.LockModeTypeHelper;
 import org.hibernate.query.BindableType;
+import org.hibernate.query.ColumnBatch;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.criteria.internal.NamedCriteriaQueryMementoImpl;
@@ -61,6 +64,7 @@ import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.sql.exec.spi.JdbcValuesFetcher;
 import org.hibernate.sql.results.internal.TupleMetadata;
 
 import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
@@ -324,6 +328,30 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		return list;
 	}
 
+	@Override
+	protected CompletionStage<List<R>> doListAsync(JdbcValuesFetcher jdbcValuesFetcher) {
+		if ( ( (SqmSelectStatement<?>) getSqmStatement() ).containsCollectionFetches() ) {
+			// the results might have to be made distinct, and paginated, in memory
+			return super.doListAsync( jdbcValuesFetcher );
+		}
+		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
+
+		return resolveQueryPlan().performListAsync(
+				new DelegatingDomainQueryExecutionContext( this ) {
+					@Override
+					public JdbcValuesFetcher getJdbcValuesFetcher() {
+						return jdbcValuesFetcher;
+					}
+				}
+		);
+	}
+
+	@Override
+	protected long doConsumeColumns(int batchSize, Consumer<ColumnBatch> batchConsumer) {
+		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
+		return resolveQueryPlan().performConsumeColumns( batchSize, batchConsumer, this );
+	}
+
 	@Override
 	protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
@@ -14,6 +14,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 import org.hibernate.boot.registry.BootstrapServiceRegistry;
@@ -59,16 +60,21 @@ public abstract class AbstractServiceRegistryImpl
 	// IMPL NOTE : the list used for ordered destruction.  Cannot used map above because we need to
 	// iterate it in reverse order which is only available through ListIterator
 	// assume 20 services for initial sizing
-	// All access guarded by synchronization on the serviceBindingList itself.
+	// All access guarded by the lock.
 	private final List<ServiceBinding<?>> serviceBindingList = CollectionHelper.arrayList( 20 );
 
-	// Guarded by synchronization on this.
+	// Guarded by the lock.
 	private final boolean autoCloseRegistry;
-	// Guarded by synchronization on this.
+	// Guarded by the lock.
 	private Set<ServiceRegistryImplementor> childRegistries;
 
 	private final AtomicBoolean active = new AtomicBoolean( true );
 
+	// Guards the initialization and the lifecycle of the services. This is not the monitor
+	// of the registry, since services may be initialized lazily by a virtual thread, and
+	// initializing a service may block on the database.
+	protected final ReentrantLock lock = new ReentrantLock();
+
 	protected AbstractServiceRegistryImpl() {
 		this( (ServiceRegistryImplementor) null );
 	}
@@ -191,7 +197,8 @@ public abstract class AbstractServiceRegistryImpl
 		}
 
 		//Any service initialization needs synchronization
-		synchronized ( this ) {
+		lock.lock();
+		try {
 			// Check again after having acquired the lock:
 			service = serviceRole.cast( initializedServiceByRole.get( serviceRole ) );
 			if ( service != null ) {
@@ -212,13 +219,20 @@ public abstract class AbstractServiceRegistryImpl
 			}
 			return service;
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	protected <R extends Service> void registerService(ServiceBinding<R> serviceBinding, R service) {
 		serviceBinding.setService( service );
-		synchronized ( serviceBindingList ) {
+		lock.lock();
+		try {
 			serviceBindingList.add( serviceBinding );
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	private <R extends Service> R initializeService(ServiceBinding<R> serviceBinding) {
@@ -342,13 +356,14 @@ public abstract class AbstractServiceRegistryImpl
 	}
 
 	@Override
-	public synchronized void destroy() {
-		if ( active.compareAndSet( true, false ) ) {
-			try {
-				//First thing, make sure that the fast path read is disabled so that
-				//threads not owning the synchronization lock can't get an invalid Service:
-				initializedServiceByRole.clear();
-				synchronized (serviceBindingList) {
+	public void destroy() {
+		lock.lock();
+		try {
+			if ( active.compareAndSet( true, false ) ) {
+				try {
+					//First thing, make sure that the fast path read is disabled so that
+					//threads not owning the synchronization lock can't get an invalid Service:
+					initializedServiceByRole.clear();
 					ListIterator<ServiceBinding<?>> serviceBindingsIterator = serviceBindingList.listIterator(
 							serviceBindingList.size()
 					);
@@ -357,81 +372,108 @@ public abstract class AbstractServiceRegistryImpl
 						serviceBinding.getLifecycleOwner().stopService( serviceBinding );
 					}
 					serviceBindingList.clear();
+					serviceBindingMap.clear();
+				}
+				finally {
+					parent.deRegisterChild( this );
 				}
-				serviceBindingMap.clear();
-			}
-			finally {
-				parent.deRegisterChild( this );
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
-	public synchronized <R extends Service> void stopService(ServiceBinding<R> binding) {
-		final Service service = binding.getService();
-		if ( service instanceof Stoppable ) {
-			try {
-				( (Stoppable) service ).stop();
-			}
-			catch ( Exception e ) {
-				log.unableToStopService( service.getClass(), e );
+	public <R extends Service> void stopService(ServiceBinding<R> binding) {
+		lock.lock();
+		try {
+			final Service service = binding.getService();
+			if ( service instanceof Stoppable ) {
+				try {
+					( (Stoppable) service ).stop();
+				}
+				catch ( Exception e ) {
+					log.unableToStopService( service.getClass(), e );
+				}
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
-	public synchronized void registerChild(ServiceRegistryImplementor child) {
-		if ( childRegistries == null ) {
-			childRegistries = new HashSet<>();
-		}
-		if ( !childRegistries.add( child ) ) {
-			log.warnf(
-					"Child ServiceRegistry [%s] was already registered; this will end badly later...",
-					child
-			);
+	public void registerChild(ServiceRegistryImplementor child) {
+		lock.lock();
+		try {
+			if ( childRegistries == null ) {
+				childRegistries = new HashSet<>();
+			}
+			if ( !childRegistries.add( child ) ) {
+				log.warnf(
+						"Child ServiceRegistry [%s] was already registered; this will end badly later...",
+						child
+				);
+			}
+		}
+		finally {
+			lock.unlock();
 		}
 	}
 
 	@Override
-	public synchronized void deRegisterChild(ServiceRegistryImplementor child) {
-		if ( childRegistries == null ) {
-			throw new IllegalStateException( "No child ServiceRegistry registrations found" );
-		}
-		childRegistries.remove( child );
-		if ( childRegistries.isEmpty() ) {
-			if ( autoCloseRegistry ) {
-				log.debug(
-						"Implicitly destroying ServiceRegistry on de-registration " +
-								"of all child ServiceRegistries"
-				);
-				destroy();
+	public void deRegisterChild(ServiceRegistryImplementor child) {
+		lock.lock();
+		try {
+			if ( childRegistries == null ) {
+				throw new IllegalStateException( "No child ServiceRegistry registrations found" );
 			}
-			else {
-				log.debug(
-						"Skipping implicitly destroying ServiceRegistry on de-registration " +
-								"of all child ServiceRegistries"
-				);
+			childRegistries.remove( child );
+			if ( childRegistries.isEmpty() ) {
+				if ( autoCloseRegistry ) {
+					log.debug(
+							"Implicitly destroying ServiceRegistry on de-registration " +
+									"of all child ServiceRegistries"
+					);
+					destroy();
+				}
+				else {
+					log.debug(
+							"Skipping implicitly destroying ServiceRegistry on de-registration " +
+									"of all child ServiceRegistries"
+					);
+				}
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	/**
 	 * Not intended for general use. We need the ability to stop and "reactivate" a registry to allow
 	 * experimentation with technologies such as GraalVM, Quarkus and Cri-O.
 	 */
-	public synchronized void resetParent(BootstrapServiceRegistry newParent) {
-		if ( this.parent != null ) {
-			this.parent.deRegisterChild( this );
-		}
-		if ( newParent != null ) {
-			if ( !(newParent instanceof ServiceRegistryImplementor) ) {
-				throw new IllegalArgumentException( "ServiceRegistry parent needs to implement ServiceRegistryImplementor" );
+	public void resetParent(BootstrapServiceRegistry newParent) {
+		lock.lock();
+		try {
+			if ( this.parent != null ) {
+				this.parent.deRegisterChild( this );
+			}
+			if ( newParent != null ) {
+				if ( !(newParent instanceof ServiceRegistryImplementor) ) {
+					throw new IllegalArgumentException( "ServiceRegistry parent needs to implement ServiceRegistryImplementor" );
+				}
+				this.parent = (ServiceRegistryImplementor) newParent;
+				this.parent.registerChild( this );
+			}
+			else {
+				this.parent = null;
 			}
-			this.parent = (ServiceRegistryImplementor) newParent;
-			this.parent.registerChild( this );
 		}
-		else {
-			this.parent = null;
+		finally {
+			lock.unlock();
 		}
 	}
 
@@ -466,9 +508,15 @@ public abstract class AbstractServiceRegistryImpl
 	 * Not intended for general use. We need the ability to stop and "reactivate" a registry to allow
 	 * experimentation with technologies such as GraalVM, Quarkus and Cri-O.
 	 */
-	public synchronized void reactivate() {
-		if ( !active.compareAndSet( false, true ) ) {
-			throw new IllegalStateException( "Was not inactive, could not reactivate" );
+	public void reactivate() {
+		lock.lock();
+		try {
+			if ( !active.compareAndSet( false, true ) ) {
+				throw new IllegalStateException( "Was not inactive, could not reactivate" );
+			}
+		}
+		finally {
+			lock.unlock();
 		}
 	}
 
@@ -12,6 +12,7 @@ import java.util.List;
 import org.hibernate.engine.query.spi.NativeQueryInterpreterInitiator;
 import org.hibernate.engine.spi.CacheInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.stat.internal.InstrumentationInitiator;
 import org.hibernate.stat.internal.StatisticsInitiator;
 
 /**
@@ -26,6 +27,7 @@ public final class StandardSessionFactoryServiceInitiators {
 		final ArrayList<SessionFactoryServiceInitiator<?>> serviceInitiators = new ArrayList<>();
 
 		serviceInitiators.add( StatisticsInitiator.INSTANCE );
+		serviceInitiators.add( InstrumentationInitiator.INSTANCE );
 		serviceInitiators.add( CacheInitiator.INSTANCE );
 		serviceInitiators.add( NativeQueryInterpreterInitiator.INSTANCE );
 
@@ -88,8 +88,23 @@ public class Insert {
 		return this;
 	}
 
+	public int getColumnSpan() {
+		return columns.size();
+	}
+
 	public String toStatementString() {
-		StringBuilder buf = new StringBuilder( columns.size()*15 + tableName.length() + 10 );
+		return toStatementString( 1 );
+	}
+
+	/**
+	 * Render an insert of the given number of rows, repeating the list of values
+	 * once per row. Only meaningful if the dialect
+	 * {@linkplain Dialect#supportsMultiRowValuesInsert() supports} it.
+	 *
+	 * @since 6.2
+	 */
+	public String toStatementString(int rowCount) {
+		StringBuilder buf = new StringBuilder( columns.size()*( 15 + rowCount*3 ) + tableName.length() + 10 );
 		if ( comment != null ) {
 			buf.append( "/* " ).append( Dialect.escapeComment( comment ) ).append( " */ " );
 		}
@@ -118,15 +133,21 @@ public class Insert {
 					buf.append( ", " );
 				}
 			}
-			buf.append(") values (");
-			iter = columns.values().iterator();
-			while ( iter.hasNext() ) {
-				buf.append( iter.next() );
-				if ( iter.hasNext() ) {
+			buf.append(") values ");
+			for ( int row = 0; row < rowCount; row++ ) {
+				if ( row > 0 ) {
 					buf.append( ", " );
 				}
+				buf.append( '(' );
+				iter = columns.values().iterator();
+				while ( iter.hasNext() ) {
+					buf.append( iter.next() );
+					if ( iter.hasNext() ) {
+						buf.append( ", " );
+					}
+				}
+				buf.append( ')' );
 			}
-			buf.append(')');
 		}
 		return buf.toString();
 	}
@@ -15,6 +15,7 @@ import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcValuesFetcher;
 import org.hibernate.sql.results.graph.entity.LoadingEntityEntry;
 
 /**
@@ -85,4 +86,9 @@ public class DelegatingExecutionContext implements ExecutionContext {
 		executionContext.afterStatement( logicalConnection );
 	}
 
+	@Override
+	public JdbcValuesFetcher getJdbcValuesFetcher() {
+		return executionContext.getJdbcValuesFetcher();
+	}
+
 }
@@ -12,8 +12,10 @@ import java.util.List;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import jakarta.persistence.CacheRetrieveMode;
@@ -21,6 +23,7 @@ import jakarta.persistence.CacheStoreMode;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
+import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.ScrollMode;
 import org.hibernate.cache.spi.QueryKey;
@@ -43,6 +46,7 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelect;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.exec.spi.JdbcValuesFetcher;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -63,6 +67,7 @@ import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.sql.results.spi.ScrollableResultsConsumer;
+import org.hibernate.stat.spi.InstrumentationListener;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -102,6 +107,82 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		);
 	}
 
+	/**
+	 * Executes the select with the {@link JdbcValuesFetcher} of the execution context, and assembles
+	 * the results once it has read the rows.
+	 * <p>
+	 * Queries whose results are cached, and queries acquiring pessimistic locks,
+	 * are executed synchronously.
+	 */
+	@Override
+	public <R> CompletionStage<List<R>> listAsync(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ListResultsConsumer.UniqueSemantic uniqueSemantic) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		final LockOptions lockOptions = queryOptions.getLockOptions();
+		if ( queryOptions.isResultCachingEnabled() == Boolean.TRUE
+				&& session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled()
+				|| lockOptions != null && lockOptions.findGreatestLockMode().greaterThan( LockMode.READ ) ) {
+			return JdbcSelectExecutor.super.listAsync(
+					jdbcSelect,
+					jdbcParameterBindings,
+					executionContext,
+					rowTransformer,
+					domainResultType,
+					uniqueSemantic
+			);
+		}
+
+		final long startTime = System.nanoTime();
+		return executionContext.getJdbcValuesFetcher()
+				.fetch(
+						jdbcSelect,
+						jdbcParameterBindings,
+						executionContext,
+						(sql) -> session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql )
+				)
+				.thenApply( jdbcValues -> withQueryReadOnly(
+						executionContext,
+						() -> consumeJdbcValues(
+								jdbcSelect,
+								jdbcValues,
+								false,
+								executionContext,
+								rowTransformer,
+								domainResultType,
+								ListResultsConsumer.instance( uniqueSemantic ),
+								true,
+								startTime
+						)
+				) );
+	}
+
+	@Override
+	public <T, R> T executeQuery(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ResultsConsumer<T, R> resultsConsumer) {
+		return executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				null,
+				(sql) -> executionContext.getSession()
+						.getJdbcCoordinator()
+						.getStatementPreparer()
+						.prepareStatement( sql ),
+				resultsConsumer
+		);
+	}
+
 	@Override
 	public <R> ScrollableResultsImplementor<R> scroll(
 			JdbcSelect jdbcSelect,
@@ -154,6 +235,21 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			Class<R> domainResultType,
 			Function<String, PreparedStatement> statementCreator,
 			ResultsConsumer<T, R> resultsConsumer) {
+		return withQueryReadOnly(
+				executionContext,
+				() -> doExecuteQuery(
+						jdbcSelect,
+						jdbcParameterBindings,
+						executionContext,
+						rowTransformer,
+						domainResultType,
+						statementCreator,
+						resultsConsumer
+				)
+		);
+	}
+
+	private static <T> T withQueryReadOnly(ExecutionContext executionContext, Supplier<T> execution) {
 		final PersistenceContext persistenceContext = executionContext.getSession().getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
 		Boolean readOnly = executionContext.getQueryOptions().isReadOnly();
@@ -163,15 +259,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			persistenceContext.setDefaultReadOnly( readOnly );
 		}
 		try {
-			return doExecuteQuery(
-					jdbcSelect,
-					jdbcParameterBindings,
-					executionContext,
-					rowTransformer,
-					domainResultType,
-					statementCreator,
-					resultsConsumer
-			);
+			return execution.get();
 		}
 		finally {
 			if ( readOnly != null ) {
@@ -349,6 +437,36 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				deferredResultSetAccess
 		);
 
+		return consumeJdbcValues(
+				jdbcSelect,
+				jdbcValues,
+				deferredResultSetAccess.usesFollowOnLocking(),
+				executionContext,
+				rowTransformer,
+				domainResultType,
+				resultsConsumer,
+				jdbcValues instanceof JdbcValuesResultSetImpl,
+				System.nanoTime()
+		);
+	}
+
+	/**
+	 * Assembles the results of a select from its JDBC values.
+	 *
+	 * @param executedStatement Whether the values come from the execution of the select,
+	 * which is then counted in the statistics
+	 * @param startTime When the execution of the select started
+	 */
+	private <T, R> T consumeJdbcValues(
+			JdbcSelect jdbcSelect,
+			JdbcValues jdbcValues,
+			boolean usesFollowOnLocking,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ResultsConsumer<T, R> resultsConsumer,
+			boolean executedStatement,
+			long startTime) {
 		if ( rowTransformer == null ) {
 			@SuppressWarnings("unchecked")
 			final TupleTransformer<R> tupleTransformer = (TupleTransformer<R>) executionContext
@@ -369,17 +487,19 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		}
 
 		final boolean stats;
-		long startTime = 0;
+		final InstrumentationListener instrumentationListener;
 		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
-		if ( executionContext.hasQueryExecutionToBeAddedToStatistics()
-				&& jdbcValues instanceof JdbcValuesResultSetImpl ) {
+		if ( executionContext.hasQueryExecutionToBeAddedToStatistics() && executedStatement ) {
 			stats = statistics.isStatisticsEnabled();
-			if ( stats ) {
-				startTime = System.nanoTime();
-			}
+			instrumentationListener = executionContext.getSession()
+					.getFactory()
+					.getFastSessionServices()
+					.instrumentation
+					.getListener();
 		}
 		else {
 			stats = false;
+			instrumentationListener = null;
 		}
 
 		/*
@@ -419,7 +539,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				// because these lock options are only for Initializers.
 				// If we wouldn't omit this, the follow on lock requests would be no-ops,
 				// because the EntityEntrys would already have the desired lock mode
-				deferredResultSetAccess.usesFollowOnLocking()
+				usesFollowOnLocking
 						? LockOptions.NONE
 						: executionContext.getQueryOptions().getLockOptions(),
 				rowTransformer,
@@ -443,14 +563,16 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				rowReader
 		);
 
-		if ( stats ) {
+		if ( stats || instrumentationListener != null ) {
 			final long endTime = System.nanoTime();
-			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-			statistics.queryExecuted(
-					executionContext.getQueryIdentifier( jdbcSelect.getSql() ),
-					getResultSize( result ),
-					milliseconds
-			);
+			final String queryIdentifier = executionContext.getQueryIdentifier( jdbcSelect.getSql() );
+			if ( stats ) {
+				final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+				statistics.queryExecuted( queryIdentifier, getResultSize( result ), milliseconds );
+			}
+			if ( instrumentationListener != null ) {
+				instrumentationListener.queryExecuted( queryIdentifier, endTime - startTime );
+			}
 		}
 
 		return result;
@@ -460,6 +582,10 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		if ( result instanceof List ) {
 			return ( (List<?>) result ).size();
 		}
+		else if ( result instanceof Long ) {
+			// the number of rows read by columns
+			return (int) Math.min( (Long) result, Integer.MAX_VALUE );
+		}
 		return -1;
 	}
 
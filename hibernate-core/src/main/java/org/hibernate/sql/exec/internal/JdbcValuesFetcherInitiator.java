@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.service.spi.ServiceException;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.sql.exec.spi.JdbcValuesFetcher;
+
+/**
+ * Initiator for the {@link JdbcValuesFetcher} service
+ */
+public class JdbcValuesFetcherInitiator implements StandardServiceInitiator<JdbcValuesFetcher> {
+	/**
+	 * Singleton access
+	 */
+	public static final JdbcValuesFetcherInitiator INSTANCE = new JdbcValuesFetcherInitiator();
+
+	@Override
+	public Class<JdbcValuesFetcher> getServiceInitiated() {
+		return JdbcValuesFetcher.class;
+	}
+
+	@Override
+	public JdbcValuesFetcher initiateService(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		final Object executor = configurationValues.get( AvailableSettings.JDBC_ASYNC_EXECUTOR );
+		if ( executor == null ) {
+			return new JdbcValuesFetcherStandardImpl();
+		}
+
+		if ( executor instanceof Executor ) {
+			return new JdbcValuesFetcherStandardImpl( (Executor) executor );
+		}
+
+		final String executorClassName = executor.toString();
+		try {
+			final Class<?> executorClass = registry.getService( ClassLoaderService.class ).classForName( executorClassName );
+			return new JdbcValuesFetcherStandardImpl( (Executor) executorClass.getDeclaredConstructor().newInstance() );
+		}
+		catch (Exception e) {
+			throw new ServiceException( "Could not build explicit Executor [" + executorClassName + "]", e );
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.service.spi.Stoppable;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.exec.spi.JdbcValuesFetcher;
+import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+
+/**
+ * Standard {@link JdbcValuesFetcher}, performing the blocking JDBC calls with an {@link Executor}.
+ * <p>
+ * Unless an executor is {@linkplain org.hibernate.cfg.AvailableSettings#JDBC_ASYNC_EXECUTOR specified},
+ * a pool of daemon threads is created, and shut down when the service registry is destroyed.
+ * The pool holds at most one thread per available processor, and the selects submitted while
+ * every thread is busy wait for one of them.
+ */
+public class JdbcValuesFetcherStandardImpl implements JdbcValuesFetcher, Stoppable {
+	private final Executor executor;
+	private final ExecutorService ownedExecutor;
+
+	/**
+	 * Constructs a JdbcValuesFetcherStandardImpl using its own pool of threads
+	 */
+	public JdbcValuesFetcherStandardImpl() {
+		final int threads = Runtime.getRuntime().availableProcessors();
+		final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+				threads,
+				threads,
+				60L,
+				TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				new FetcherThreadFactory()
+		);
+		pool.allowCoreThreadTimeOut( true );
+		this.ownedExecutor = pool;
+		this.executor = pool;
+	}
+
+	/**
+	 * Constructs a JdbcValuesFetcherStandardImpl
+	 *
+	 * @param executor The executor performing the JDBC calls, which is not shut down by Hibernate
+	 */
+	public JdbcValuesFetcherStandardImpl(Executor executor) {
+		this.ownedExecutor = null;
+		this.executor = executor;
+	}
+
+	@Override
+	public CompletionStage<JdbcValues> fetch(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			Function<String, PreparedStatement> statementCreator) {
+		return CompletableFuture.supplyAsync(
+				() -> fetchRows( jdbcSelect, jdbcParameterBindings, executionContext, statementCreator ),
+				executor
+		);
+	}
+
+	/**
+	 * Executes the select, and reads all its rows into memory, before releasing the JDBC resources.
+	 */
+	public static JdbcValues fetchRows(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			Function<String, PreparedStatement> statementCreator) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final DeferredResultSetAccess resultSetAccess = new DeferredResultSetAccess(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				statementCreator
+		);
+		final JdbcValuesMapping valuesMapping = jdbcSelect.getJdbcValuesMappingProducer()
+				.resolve( resultSetAccess, session.getFactory() );
+		final JdbcValuesResultSetImpl resultSetValues = new JdbcValuesResultSetImpl(
+				resultSetAccess,
+				null,
+				null,
+				executionContext.getQueryOptions(),
+				valuesMapping,
+				null,
+				executionContext
+		);
+
+		final List<Object[]> rows = new ArrayList<>();
+		try {
+			// reading the values of a ResultSet does not involve the row processing state
+			while ( resultSetValues.next( null ) ) {
+				rows.add( resultSetValues.getCurrentRowValuesArray().clone() );
+			}
+		}
+		finally {
+			resultSetValues.finishUp( session );
+		}
+		// the rows are now read just like rows read from the query cache
+		return new JdbcValuesCacheHit( rows, valuesMapping );
+	}
+
+	@Override
+	public void stop() {
+		if ( ownedExecutor != null ) {
+			ownedExecutor.shutdown();
+		}
+	}
+
+	private static class FetcherThreadFactory implements ThreadFactory {
+		private final AtomicInteger threadCount = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate JDBC Fetcher Thread " + threadCount.incrementAndGet() );
+			return thread;
+		}
+	}
+}
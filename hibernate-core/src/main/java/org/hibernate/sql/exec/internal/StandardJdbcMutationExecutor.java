@@ -21,6 +21,7 @@ import org.hibernate.sql.exec.spi.JdbcMutation;
 import org.hibernate.sql.exec.spi.JdbcMutationExecutor;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.stat.spi.InstrumentationListener;
 
 /**
  * @author Steve Ebersole
@@ -79,6 +80,11 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 					);
 				}
 
+				final InstrumentationListener instrumentationListener = session.getFactory()
+						.getFastSessionServices()
+						.instrumentation
+						.getListener();
+				final long executeStartNanos = instrumentationListener == null ? 0L : System.nanoTime();
 				session.getEventListenerManager().jdbcExecuteStatementStart();
 				try {
 					int rows = preparedStatement.executeUpdate();
@@ -87,6 +93,9 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 				}
 				finally {
 					session.getEventListenerManager().jdbcExecuteStatementEnd();
+					if ( instrumentationListener != null ) {
+						instrumentationListener.statementExecuted( System.nanoTime() - executeStartNanos );
+					}
 				}
 			}
 			finally {
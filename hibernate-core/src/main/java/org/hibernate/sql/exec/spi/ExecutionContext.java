@@ -80,4 +80,14 @@ public interface ExecutionContext {
 		return false;
 	}
 
+	/**
+	 * The fetcher performing the database work of a select executed
+	 * {@linkplain JdbcSelectExecutor#listAsync asynchronously}.
+	 *
+	 * @since 6.2
+	 */
+	default JdbcValuesFetcher getJdbcValuesFetcher() {
+		return getSession().getFactory().getServiceRegistry().getService( JdbcValuesFetcher.class );
+	}
+
 }
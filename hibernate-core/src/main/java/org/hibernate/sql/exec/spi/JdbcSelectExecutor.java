@@ -7,12 +7,15 @@
 package org.hibernate.sql.exec.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
 
 /**
@@ -39,6 +42,52 @@ public interface JdbcSelectExecutor {
 			Class<R> requestedJavaType,
 			ListResultsConsumer.UniqueSemantic uniqueSemantic);
 
+	/**
+	 * Executes the select without blocking the calling thread on the database, completing
+	 * the returned stage with the results.
+	 * <p>
+	 * The session of the execution context must not be used by the caller until the stage
+	 * has completed, since the results are assembled by the thread completing the stage.
+	 * <p>
+	 * By default, the select is executed synchronously, by the calling thread.
+	 *
+	 * @see JdbcValuesFetcher
+	 *
+	 * @since 6.2
+	 */
+	default <R> CompletionStage<List<R>> listAsync(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> requestedJavaType,
+			ListResultsConsumer.UniqueSemantic uniqueSemantic) {
+		try {
+			return CompletableFuture.completedFuture(
+					list( jdbcSelect, jdbcParameterBindings, executionContext, rowTransformer, requestedJavaType, uniqueSemantic )
+			);
+		}
+		catch (RuntimeException e) {
+			return CompletableFuture.failedFuture( e );
+		}
+	}
+
+	/**
+	 * Executes the select, and hands its JDBC values to the given consumer.
+	 *
+	 * @see org.hibernate.sql.results.spi.ColumnarResultsConsumer
+	 *
+	 * @since 6.2
+	 */
+	default <T, R> T executeQuery(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			ResultsConsumer<T, R> resultsConsumer) {
+		throw new UnsupportedOperationException( getClass().getName() + " does not support custom results consumers" );
+	}
+
 	<R> ScrollableResultsImplementor<R> scroll(
 			JdbcSelect jdbcSelect,
 			ScrollMode scrollMode,
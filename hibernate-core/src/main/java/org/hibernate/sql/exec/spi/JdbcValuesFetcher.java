@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.exec.spi;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+
+/**
+ * Performs the database work of a {@link JdbcSelect} without blocking the calling thread:
+ * executes its SQL and reads the JDBC values of all its rows. Turning these values into
+ * the results of the query is left to the {@link JdbcSelectExecutor}, which means that an
+ * implementation based on a non-blocking driver reuses the SQL produced for the query and
+ * the assembly of its results.
+ * <p>
+ * The standard implementation performs the JDBC calls with an {@link java.util.concurrent.Executor}
+ * specified by {@value org.hibernate.cfg.AvailableSettings#JDBC_ASYNC_EXECUTOR}. Another
+ * implementation may be registered with
+ * {@link org.hibernate.boot.registry.StandardServiceRegistryBuilder#addService}.
+ *
+ * @see JdbcSelectExecutor#listAsync
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface JdbcValuesFetcher extends Service {
+	/**
+	 * Executes the SQL of the given select and reads the JDBC values of its rows.
+	 * <p>
+	 * The returned stage completes with {@link JdbcValues} holding all the rows, which
+	 * no longer refer to any JDBC resource, and which are then read by the thread the
+	 * results are assembled by. Until the stage completes, the session of the execution
+	 * context is not used by any other thread.
+	 *
+	 * @param statementCreator Prepares the JDBC statement for some SQL, when the
+	 * implementation executes the select with JDBC
+	 */
+	CompletionStage<JdbcValues> fetch(
+			JdbcSelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			Function<String, PreparedStatement> statementCreator);
+}
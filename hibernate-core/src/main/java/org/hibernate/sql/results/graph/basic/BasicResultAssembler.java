@@ -45,6 +45,13 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		this.valueConverter = valueConverter;
 	}
 
+	/**
+	 * The position of the raw value in the JDBC values of each row
+	 */
+	public int getValuesArrayPosition() {
+		return valuesArrayPosition;
+	}
+
 	/**
 	 * Access to the raw value (unconverted, if a converter applied)
 	 */
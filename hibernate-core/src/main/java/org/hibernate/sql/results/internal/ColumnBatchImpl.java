@@ -0,0 +1,305 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.results.internal;
+
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.metamodel.model.convert.spi.BasicValueConverter;
+import org.hibernate.query.ColumnBatch;
+import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.basic.BasicResult;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.type.descriptor.ValueExtractor;
+
+/**
+ * Standard implementation of {@link ColumnBatch}, which reads the rows of a
+ * query directly from its {@link ResultSet}, using the typed getters for the
+ * columns of primitive types.
+ */
+public class ColumnBatchImpl implements ColumnBatch {
+	private static final int OBJECT = 0;
+	private static final int LONG = 1;
+	private static final int DOUBLE = 2;
+	// held as a double, but read like the extractor of a Float
+	private static final int FLOAT = 3;
+
+	private final int capacity;
+
+	// per column
+	private final int[] kinds;
+	private final int[] jdbcResultSetIndexes;
+	private final int[] valuesArrayPositions;
+	private final ValueExtractor<?>[] valueExtractors;
+	private final BasicValueConverter<?, ?>[] valueConverters;
+	private final long[][] longs;
+	private final double[][] doubles;
+	private final Object[][] objects;
+	private final boolean[][] nulls;
+
+	private int rowCount;
+
+	public ColumnBatchImpl(JdbcValuesMapping valuesMapping, int capacity) {
+		if ( capacity <= 0 ) {
+			throw new IllegalArgumentException( "The number of rows of a batch must be positive: " + capacity );
+		}
+		this.capacity = capacity;
+
+		final List<DomainResult<?>> domainResults = valuesMapping.getDomainResults();
+		final int columnCount = domainResults.size();
+		kinds = new int[columnCount];
+		jdbcResultSetIndexes = new int[columnCount];
+		valuesArrayPositions = new int[columnCount];
+		valueExtractors = new ValueExtractor[columnCount];
+		valueConverters = new BasicValueConverter[columnCount];
+		longs = new long[columnCount][];
+		doubles = new double[columnCount][];
+		objects = new Object[columnCount][];
+		nulls = new boolean[columnCount][];
+
+		for ( int i = 0; i < columnCount; i++ ) {
+			final DomainResult<?> domainResult = domainResults.get( i );
+			if ( !( domainResult instanceof BasicResult ) ) {
+				throw new IllegalQueryOperationException(
+						"Query results can only be read by columns when all selections are basic values: "
+								+ domainResult.getResultJavaType().getJavaTypeClass().getName()
+				);
+			}
+			final BasicResultAssembler<?> assembler = (BasicResultAssembler<?>) ( (BasicResult<?>) domainResult ).getAssembler();
+			final SqlSelection sqlSelection = findSqlSelection( valuesMapping, assembler.getValuesArrayPosition() );
+			jdbcResultSetIndexes[i] = sqlSelection.getJdbcResultSetIndex();
+			valuesArrayPositions[i] = sqlSelection.getValuesArrayPosition();
+			valueExtractors[i] = sqlSelection.getJdbcValueExtractor();
+			valueConverters[i] = assembler.getValueConverter();
+
+			kinds[i] = valueConverters[i] == null
+					? kind( assembler.getAssembledJavaType().getJavaTypeClass(), sqlSelection.getExpressionType() )
+					: OBJECT;
+			switch ( kinds[i] ) {
+				case LONG:
+					longs[i] = new long[capacity];
+					nulls[i] = new boolean[capacity];
+					break;
+				case DOUBLE:
+				case FLOAT:
+					doubles[i] = new double[capacity];
+					nulls[i] = new boolean[capacity];
+					break;
+				default:
+					objects[i] = new Object[capacity];
+			}
+		}
+	}
+
+	private static SqlSelection findSqlSelection(JdbcValuesMapping valuesMapping, int valuesArrayPosition) {
+		for ( SqlSelection sqlSelection : valuesMapping.getSqlSelections() ) {
+			if ( sqlSelection.getValuesArrayPosition() == valuesArrayPosition ) {
+				return sqlSelection;
+			}
+		}
+		throw new IllegalStateException( "No SqlSelection for values array position " + valuesArrayPosition );
+	}
+
+	private static int kind(Class<?> javaTypeClass, JdbcMappingContainer expressionType) {
+		if ( !( expressionType instanceof JdbcMapping ) ) {
+			return OBJECT;
+		}
+		// the typed getter must return the very value the extractor would
+		switch ( ( (JdbcMapping) expressionType ).getJdbcType().getJdbcTypeCode() ) {
+			case Types.BIGINT:
+			case Types.INTEGER:
+			case Types.SMALLINT:
+			case Types.TINYINT:
+				return javaTypeClass == Long.class || javaTypeClass == Integer.class
+						|| javaTypeClass == Short.class || javaTypeClass == Byte.class
+						? LONG
+						: OBJECT;
+			case Types.DOUBLE:
+			case Types.FLOAT:
+			case Types.REAL:
+				if ( javaTypeClass == Double.class ) {
+					return DOUBLE;
+				}
+				return javaTypeClass == Float.class ? FLOAT : OBJECT;
+			default:
+				return OBJECT;
+		}
+	}
+
+	public boolean isFull() {
+		return rowCount == capacity;
+	}
+
+	/**
+	 * Discards the rows of this batch, so that it can hold the next ones.
+	 */
+	public void clear() {
+		for ( Object[] values : objects ) {
+			if ( values != null ) {
+				Arrays.fill( values, 0, rowCount, null );
+			}
+		}
+		rowCount = 0;
+	}
+
+	/**
+	 * Appends the current row of the given result set to this batch.
+	 */
+	public void readRow(ResultSet resultSet, SharedSessionContractImplementor session) {
+		final int row = rowCount;
+		int i = 0;
+		try {
+			for ( ; i < kinds.length; i++ ) {
+				switch ( kinds[i] ) {
+					case LONG:
+						longs[i][row] = resultSet.getLong( jdbcResultSetIndexes[i] );
+						nulls[i][row] = resultSet.wasNull();
+						break;
+					case DOUBLE:
+						doubles[i][row] = resultSet.getDouble( jdbcResultSetIndexes[i] );
+						nulls[i][row] = resultSet.wasNull();
+						break;
+					case FLOAT:
+						doubles[i][row] = resultSet.getFloat( jdbcResultSetIndexes[i] );
+						nulls[i][row] = resultSet.wasNull();
+						break;
+					default:
+						objects[i][row] = toDomainValue(
+								i,
+								valueExtractors[i].extract( resultSet, jdbcResultSetIndexes[i], session )
+						);
+				}
+			}
+		}
+		catch (Exception e) {
+			throw new HibernateException(
+					"Unable to extract JDBC value for position `" + jdbcResultSetIndexes[i] + "`",
+					e
+			);
+		}
+		rowCount++;
+	}
+
+	/**
+	 * Appends a row of JDBC values, as exposed by
+	 * {@link org.hibernate.sql.results.jdbc.spi.JdbcValues#getCurrentRowValuesArray()},
+	 * to this batch.
+	 */
+	public void readRow(Object[] jdbcValues) {
+		final int row = rowCount;
+		for ( int i = 0; i < kinds.length; i++ ) {
+			final Object value = jdbcValues[ valuesArrayPositions[i] ];
+			switch ( kinds[i] ) {
+				case LONG:
+					nulls[i][row] = value == null;
+					longs[i][row] = value == null ? 0 : ( (Number) value ).longValue();
+					break;
+				case DOUBLE:
+				case FLOAT:
+					nulls[i][row] = value == null;
+					doubles[i][row] = value == null ? 0 : ( (Number) value ).doubleValue();
+					break;
+				default:
+					objects[i][row] = toDomainValue( i, value );
+			}
+		}
+		rowCount++;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Object toDomainValue(int column, Object jdbcValue) {
+		final BasicValueConverter valueConverter = valueConverters[column];
+		return valueConverter == null ? jdbcValue : valueConverter.toDomainValue( jdbcValue );
+	}
+
+	@Override
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public int getColumnCount() {
+		return kinds.length;
+	}
+
+	@Override
+	public Class<?> getColumnType(int column) {
+		switch ( kinds[column] ) {
+			case LONG:
+				return long.class;
+			case DOUBLE:
+			case FLOAT:
+				return double.class;
+			default:
+				return Object.class;
+		}
+	}
+
+	@Override
+	public boolean isNull(int column, int row) {
+		checkRow( row );
+		return kinds[column] == OBJECT ? objects[column][row] == null : nulls[column][row];
+	}
+
+	@Override
+	public long getLong(int column, int row) {
+		checkRow( row );
+		return getLongs( column )[row];
+	}
+
+	@Override
+	public double getDouble(int column, int row) {
+		checkRow( row );
+		return getDoubles( column )[row];
+	}
+
+	@Override
+	public Object getObject(int column, int row) {
+		checkRow( row );
+		switch ( kinds[column] ) {
+			case LONG:
+				return nulls[column][row] ? null : longs[column][row];
+			case DOUBLE:
+				return nulls[column][row] ? null : doubles[column][row];
+			case FLOAT:
+				return nulls[column][row] ? null : (float) doubles[column][row];
+			default:
+				return objects[column][row];
+		}
+	}
+
+	@Override
+	public long[] getLongs(int column) {
+		if ( kinds[column] != LONG ) {
+			throw new IllegalArgumentException( "Column " + column + " is of type " + getColumnType( column ) );
+		}
+		return longs[column];
+	}
+
+	@Override
+	public double[] getDoubles(int column) {
+		if ( kinds[column] != DOUBLE && kinds[column] != FLOAT ) {
+			throw new IllegalArgumentException( "Column " + column + " is of type " + getColumnType( column ) );
+		}
+		return doubles[column];
+	}
+
+	private void checkRow(int row) {
+		if ( row >= rowCount ) {
+			throw new IndexOutOfBoundsException( "Row " + row + " of a batch of " + rowCount + " rows" );
+		}
+	}
+}
@@ -36,6 +36,13 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 	private final int assemblerCount;
 
+	// per-row processing works on arrays, with the initializers already
+	// sorted in the order each phase needs to visit them
+	private final DomainResultAssembler<?>[] assemblers;
+	private final Initializer[] keyResolutionOrder;
+	private final Initializer[] instanceResolutionOrder;
+	private final Initializer[] initializationOrder;
+
 	public StandardRowReader(
 			List<DomainResultAssembler<?>> resultAssemblers,
 			List<Initializer> initializers,
@@ -48,6 +55,35 @@ public class StandardRowReader<T> implements RowReader<T> {
 		this.assemblerCount = resultAssemblers.size();
 		this.domainResultJavaType = domainResultJavaType;
 
+		this.assemblers = resultAssemblers.toArray( new DomainResultAssembler[0] );
+		this.initializationOrder = initializers.toArray( new Initializer[0] );
+		this.keyResolutionOrder = new Initializer[initializationOrder.length];
+		this.instanceResolutionOrder = new Initializer[initializationOrder.length];
+		int keyIndex = 0;
+		int instanceIndex = 0;
+		// collection initializers resolve their key after all others ...
+		for ( Initializer initializer : initializationOrder ) {
+			if ( !( initializer instanceof CollectionInitializer ) ) {
+				keyResolutionOrder[keyIndex++] = initializer;
+			}
+		}
+		for ( Initializer initializer : initializationOrder ) {
+			if ( initializer instanceof CollectionInitializer ) {
+				keyResolutionOrder[keyIndex++] = initializer;
+			}
+		}
+		// ... and delayed-fetch initializers resolve their instance last
+		for ( Initializer initializer : initializationOrder ) {
+			if ( !( initializer instanceof EntityDelayedFetchInitializer ) ) {
+				instanceResolutionOrder[instanceIndex++] = initializer;
+			}
+		}
+		for ( Initializer initializer : initializationOrder ) {
+			if ( initializer instanceof EntityDelayedFetchInitializer ) {
+				instanceResolutionOrder[instanceIndex++] = initializer;
+			}
+		}
+
 		logDebugInfo();
 	}
 
@@ -100,8 +136,10 @@ public class StandardRowReader<T> implements RowReader<T> {
 		final Object[] resultRow = new Object[ assemblerCount ];
 
 		for ( int i = 0; i < assemblerCount; i++ ) {
-			final DomainResultAssembler assembler = resultAssemblers.get( i );
-			LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			final DomainResultAssembler assembler = assemblers[i];
+			if ( LoadingLogger.DEBUG_ENABLED ) {
+				LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			}
 			resultRow[i] = assembler.assemble( rowProcessingState, options );
 		}
 
@@ -113,44 +151,22 @@ public class StandardRowReader<T> implements RowReader<T> {
 	private void afterRow(RowProcessingState rowProcessingState) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#afterRow" );
 
-		initializers.forEach( initializer -> initializer.finishUpRow( rowProcessingState ) );
+		for ( Initializer initializer : initializationOrder ) {
+			initializer.finishUpRow( rowProcessingState );
+		}
 	}
 
-	@SuppressWarnings("ForLoopReplaceableByForEach")
 	private void coordinateInitializers(RowProcessingState rowProcessingState) {
-
-		final int numberOfInitializers = initializers.size();
-
-		for ( int i = 0; i < numberOfInitializers; i++ ) {
-			final Initializer initializer = initializers.get( i );
-			if ( ! ( initializer instanceof CollectionInitializer ) ) {
-				initializer.resolveKey( rowProcessingState );
-			}
-		}
-
-		for ( int i = 0; i < numberOfInitializers; i++ ) {
-			final Initializer initializer = initializers.get( i );
-			if ( initializer instanceof CollectionInitializer ) {
-				initializer.resolveKey( rowProcessingState );
-			}
+		for ( Initializer initializer : keyResolutionOrder ) {
+			initializer.resolveKey( rowProcessingState );
 		}
 
-		for ( int i = 0; i < numberOfInitializers; i++ ) {
-			Initializer initializer = initializers.get( i );
-			if ( !( initializer instanceof EntityDelayedFetchInitializer ) ) {
-				initializer.resolveInstance( rowProcessingState );
-			}
-		}
-
-		for ( int i = 0; i < numberOfInitializers; i++ ) {
-			Initializer initializer = initializers.get( i );
-			if ( initializer instanceof EntityDelayedFetchInitializer ) {
-				initializer.resolveInstance( rowProcessingState );
-			}
+		for ( Initializer initializer : instanceResolutionOrder ) {
+			initializer.resolveInstance( rowProcessingState );
 		}
 
-		for ( int i = 0; i < numberOfInitializers; i++ ) {
-			initializers.get( i ).initializeInstance( rowProcessingState );
+		for ( Initializer initializer : initializationOrder ) {
+			initializer.initializeInstance( rowProcessingState );
 		}
 	}
 
@@ -31,6 +31,7 @@ import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.stat.spi.InstrumentationListener;
 
 /**
  * @author Steve Ebersole
@@ -208,8 +209,14 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			final SessionEventListenerManager eventListenerManager = executionContext.getSession()
 					.getEventListenerManager();
 
+			final InstrumentationListener instrumentationListener = executionContext.getSession()
+					.getFactory()
+					.getFastSessionServices()
+					.instrumentation
+					.getListener();
+
 			long executeStartNanos = 0;
-			if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+			if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || instrumentationListener != null ) {
 				executeStartNanos = System.nanoTime();
 			}
 			try {
@@ -218,6 +225,9 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			}
 			finally {
 				eventListenerManager.jdbcExecuteStatementEnd();
+				if ( instrumentationListener != null ) {
+					instrumentationListener.statementExecuted( System.nanoTime() - executeStartNanos );
+				}
 				sqlStatementLogger.logSlowQuery( preparedStatement, executeStartNanos );
 			}
 
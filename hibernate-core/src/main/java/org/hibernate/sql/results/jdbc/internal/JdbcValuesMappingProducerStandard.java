@@ -35,6 +35,15 @@ public class JdbcValuesMappingProducerStandard implements JdbcValuesMappingProdu
 		this.resolvedMapping = new StandardJdbcValuesMapping( sqlSelections, domainResults );
 	}
 
+	/**
+	 * The mapping of the values read from the JDBC results, as known before executing the query.
+	 *
+	 * @since 6.2
+	 */
+	public JdbcValuesMapping getResolvedMapping() {
+		return resolvedMapping;
+	}
+
 	@Override
 	public void addAffectedTableNames(Set<String> affectedTableNames, SessionFactoryImplementor sessionFactory) {
 
@@ -9,6 +9,7 @@ package org.hibernate.sql.results.jdbc.internal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.List;
 
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.QueryKey;
@@ -22,9 +23,11 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerDisabledImpl;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
+import org.hibernate.sql.results.internal.ColumnBatchImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.ValueExtractor;
 
 /**
  * JdbcValuesSource implementation for a JDBC ResultSet as the source
@@ -37,7 +40,11 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final JdbcValuesMapping valuesMapping;
 	private final ExecutionContext executionContext;
 
-	private final SqlSelection[] sqlSelections;
+	// the SqlSelection details, flattened so that reading a row is a tight
+	// loop without interface calls nor type resolution per column
+	private final ValueExtractor<?>[] valueExtractors;
+	private final int[] jdbcResultSetIndexes;
+	private final int[] valuesArrayPositions;
 	private final Object[] currentRowJdbcValues;
 
 	public JdbcValuesResultSetImpl(
@@ -53,7 +60,17 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		this.valuesMapping = valuesMapping;
 		this.executionContext = executionContext;
 
-		this.sqlSelections = valuesMapping.getSqlSelections().toArray( new SqlSelection[0] );
+		final List<SqlSelection> sqlSelections = valuesMapping.getSqlSelections();
+		final int numberOfSelections = sqlSelections.size();
+		this.valueExtractors = new ValueExtractor[numberOfSelections];
+		this.jdbcResultSetIndexes = new int[numberOfSelections];
+		this.valuesArrayPositions = new int[numberOfSelections];
+		for ( int i = 0; i < numberOfSelections; i++ ) {
+			final SqlSelection sqlSelection = sqlSelections.get( i );
+			valueExtractors[i] = sqlSelection.getJdbcValueExtractor();
+			jdbcResultSetIndexes[i] = sqlSelection.getJdbcResultSetIndex();
+			valuesArrayPositions[i] = sqlSelection.getValuesArrayPosition();
+		}
 		this.currentRowJdbcValues = new Object[ valuesMapping.getRowSize() ];
 	}
 
@@ -82,58 +99,38 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
-		return advance(
-				() -> {
-					try {
-						//noinspection RedundantIfStatement
-						if ( ! resultSetAccess.getResultSet().next() ) {
-							return false;
-						}
-
-						return true;
-					}
-					catch (SQLException e) {
-						throw makeExecutionException( "Error advancing (next) ResultSet position", e );
-					}
-				}
-		);
+		final boolean hasResult;
+		try {
+			hasResult = resultSetAccess.getResultSet().next();
+		}
+		catch (SQLException e) {
+			throw makeExecutionException( "Error advancing (next) ResultSet position", e );
+		}
+		return advance( hasResult );
 	}
 
 	@Override
 	protected boolean processPrevious(RowProcessingState rowProcessingState) {
-		return advance(
-				() -> {
-					try {
-						//noinspection RedundantIfStatement
-						if ( ! resultSetAccess.getResultSet().previous() ) {
-							return false;
-						}
-						return true;
-					}
-					catch (SQLException e) {
-						throw makeExecutionException( "Error advancing (previous) ResultSet position", e );
-					}
-				}
-		);
+		final boolean hasResult;
+		try {
+			hasResult = resultSetAccess.getResultSet().previous();
+		}
+		catch (SQLException e) {
+			throw makeExecutionException( "Error advancing (previous) ResultSet position", e );
+		}
+		return advance( hasResult );
 	}
 
 	@Override
 	protected boolean processScroll(int numberOfRows, RowProcessingState rowProcessingState) {
-		return advance(
-				() -> {
-					try {
-						//noinspection RedundantIfStatement
-						if ( ! resultSetAccess.getResultSet().relative( numberOfRows ) ) {
-							return false;
-						}
-
-						return true;
-					}
-					catch (SQLException e) {
-						throw makeExecutionException( "Error advancing (scroll) ResultSet position", e );
-					}
-				}
-		);
+		final boolean hasResult;
+		try {
+			hasResult = resultSetAccess.getResultSet().relative( numberOfRows );
+		}
+		catch (SQLException e) {
+			throw makeExecutionException( "Error advancing (scroll) ResultSet position", e );
+		}
+		return advance( hasResult );
 	}
 
 	@Override
@@ -148,21 +145,14 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	protected boolean processPosition(int position, RowProcessingState rowProcessingState) {
-		return advance(
-				() -> {
-					try {
-						//noinspection RedundantIfStatement
-						if ( ! resultSetAccess.getResultSet().absolute( position ) ) {
-							return false;
-						}
-
-						return true;
-					}
-					catch (SQLException e) {
-						throw makeExecutionException( "Error advancing (scroll) ResultSet position", e );
-					}
-				}
-		);
+		final boolean hasResult;
+		try {
+			hasResult = resultSetAccess.getResultSet().absolute( position );
+		}
+		catch (SQLException e) {
+			throw makeExecutionException( "Error advancing (scroll) ResultSet position", e );
+		}
+		return advance( hasResult );
 	}
 
 	@Override
@@ -198,21 +188,14 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public boolean first(RowProcessingState rowProcessingState) {
-		return advance(
-				() -> {
-					try {
-						//noinspection RedundantIfStatement
-						if ( ! resultSetAccess.getResultSet().first() ) {
-							return false;
-						}
-
-						return true;
-					}
-					catch (SQLException e) {
-						throw makeExecutionException( "Error advancing (first) ResultSet position", e );
-					}
-				}
-		);
+		final boolean hasResult;
+		try {
+			hasResult = resultSetAccess.getResultSet().first();
+		}
+		catch (SQLException e) {
+			throw makeExecutionException( "Error advancing (first) ResultSet position", e );
+		}
+		return advance( hasResult );
 	}
 
 	@Override
@@ -248,30 +231,17 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public boolean last(RowProcessingState rowProcessingState) {
-		return advance(
-				() -> {
-					try {
-						//noinspection RedundantIfStatement
-						if ( ! resultSetAccess.getResultSet().last() ) {
-							return false;
-						}
-
-						return true;
-					}
-					catch (SQLException e) {
-						throw makeExecutionException( "Error advancing (last) ResultSet position", e );
-					}
-				}
-		);
-	}
-
-	@FunctionalInterface
-	private interface Advancer {
-		boolean advance();
+		final boolean hasResult;
+		try {
+			hasResult = resultSetAccess.getResultSet().last();
+		}
+		catch (SQLException e) {
+			throw makeExecutionException( "Error advancing (last) ResultSet position", e );
+		}
+		return advance( hasResult );
 	}
 
-	private boolean advance(Advancer advancer) {
-		final boolean hasResult = advancer.advance();
+	private boolean advance(boolean hasResult) {
 		if ( ! hasResult ) {
 			return false;
 		}
@@ -280,6 +250,33 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		return true;
 	}
 
+	/**
+	 * Reads the next rows directly into the given batch, until it is full or there
+	 * are no more rows. The rows read are not {@linkplain #getCurrentRowValuesArray()
+	 * exposed} as JDBC values, and so cannot be put into the query cache.
+	 *
+	 * @return {@code true} if the batch holds any row
+	 */
+	public boolean readColumns(ColumnBatchImpl batch) {
+		batch.clear();
+		final ResultSet resultSet = resultSetAccess.getResultSet();
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		while ( !batch.isFull() ) {
+			final boolean hasResult;
+			try {
+				hasResult = resultSet.next();
+			}
+			catch (SQLException e) {
+				throw makeExecutionException( "Error advancing (next) ResultSet position", e );
+			}
+			if ( !hasResult ) {
+				break;
+			}
+			batch.readRow( resultSet, session );
+		}
+		return batch.getRowCount() > 0;
+	}
+
 	private ExecutionException makeExecutionException(String message, SQLException cause) {
 		return new ExecutionException(
 				message,
@@ -293,20 +290,21 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private void readCurrentRowValues() {
 		final ResultSet resultSet = resultSetAccess.getResultSet();
 		final SharedSessionContractImplementor session = executionContext.getSession();
-		for ( final SqlSelection sqlSelection : sqlSelections ) {
-			try {
-				currentRowJdbcValues[ sqlSelection.getValuesArrayPosition() ] = sqlSelection.getJdbcValueExtractor().extract(
+		int i = 0;
+		try {
+			for ( ; i < valueExtractors.length; i++ ) {
+				currentRowJdbcValues[ valuesArrayPositions[i] ] = valueExtractors[i].extract(
 						resultSet,
-						sqlSelection.getJdbcResultSetIndex(),
+						jdbcResultSetIndexes[i],
 						session
 				);
 			}
-			catch (Exception e) {
-				throw new HibernateException(
-						"Unable to extract JDBC value for position `" + sqlSelection.getJdbcResultSetIndex() + "`",
-						e
-				);
-			}
+		}
+		catch (Exception e) {
+			throw new HibernateException(
+					"Unable to extract JDBC value for position `" + jdbcResultSetIndexes[i] + "`",
+					e
+			);
 		}
 	}
 
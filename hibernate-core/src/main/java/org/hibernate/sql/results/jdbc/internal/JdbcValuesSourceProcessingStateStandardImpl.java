@@ -189,6 +189,12 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		finishLoadingCollections();
 
 		postLoad();
+
+		// the entities loaded so far are now found in the persistence context by the next
+		// rows of a scroll, and an initializer kept here would hand out entities even after
+		// they have been evicted from it
+		initializerMap = null;
+		initializerByUniquKeyMap = null;
 	}
 
 	private void postLoad() {
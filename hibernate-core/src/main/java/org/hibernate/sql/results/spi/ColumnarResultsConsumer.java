@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql.results.spi;
+
+import java.util.function.Consumer;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.ColumnBatch;
+import org.hibernate.sql.results.internal.ColumnBatchImpl;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+
+/**
+ * ResultsConsumer handing the rows of a query selecting only basic values to a
+ * {@link Consumer} of {@link ColumnBatch}es, and returning the number of rows.
+ * <p>
+ * The rows are read directly from the JDBC {@code ResultSet}, without going
+ * through the {@link RowReader}, so that the values of primitive types are never
+ * wrapped. As a consequence, the results cannot be put into the query cache.
+ *
+ * @since 6.2
+ */
+@Incubating
+public class ColumnarResultsConsumer<R> implements ResultsConsumer<Long, R> {
+	private final int batchSize;
+	private final Consumer<ColumnBatch> batchConsumer;
+
+	public ColumnarResultsConsumer(int batchSize, Consumer<ColumnBatch> batchConsumer) {
+		if ( batchSize <= 0 ) {
+			throw new IllegalArgumentException( "The number of rows of a batch must be positive: " + batchSize );
+		}
+		this.batchSize = batchSize;
+		this.batchConsumer = batchConsumer;
+	}
+
+	@Override
+	public Long consume(
+			JdbcValues jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader) {
+		RuntimeException ex = null;
+		try {
+			final ColumnBatchImpl batch = new ColumnBatchImpl( jdbcValues.getValuesMapping(), batchSize );
+			long rows = 0;
+			if ( jdbcValues instanceof JdbcValuesResultSetImpl ) {
+				final JdbcValuesResultSetImpl resultSetValues = (JdbcValuesResultSetImpl) jdbcValues;
+				while ( resultSetValues.readColumns( batch ) ) {
+					rows += batch.getRowCount();
+					batchConsumer.accept( batch );
+				}
+			}
+			else {
+				// values not read from a ResultSet are already wrapped
+				while ( rowProcessingState.next() ) {
+					batch.readRow( jdbcValues.getCurrentRowValuesArray() );
+					rowProcessingState.finishRowProcessing();
+					if ( batch.isFull() ) {
+						rows += batch.getRowCount();
+						batchConsumer.accept( batch );
+						batch.clear();
+					}
+				}
+				if ( batch.getRowCount() > 0 ) {
+					rows += batch.getRowCount();
+					batchConsumer.accept( batch );
+				}
+			}
+			return rows;
+		}
+		catch (RuntimeException e) {
+			ex = e;
+		}
+		finally {
+			try {
+				rowReader.finishUp( jdbcValuesSourceProcessingState );
+				jdbcValues.finishUp( session );
+			}
+			catch (RuntimeException e) {
+				if ( ex != null ) {
+					ex.addSuppressed( e );
+				}
+				else {
+					ex = e;
+				}
+			}
+			finally {
+				if ( ex != null ) {
+					throw ex;
+				}
+			}
+		}
+		throw new IllegalStateException( "Should not reach this" );
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return false;
+	}
+}
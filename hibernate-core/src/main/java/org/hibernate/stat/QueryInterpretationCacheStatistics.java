@@ -0,0 +1,52 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * Statistics of one of the caches maintained by the
+ * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}.
+ *
+ * @see Statistics#getQueryInterpretationCacheStatistics(String)
+ */
+public interface QueryInterpretationCacheStatistics extends Serializable {
+	/**
+	 * The name of the cache of interpreted HQL queries
+	 */
+	String HQL_INTERPRETATIONS = "hql-interpretations";
+
+	/**
+	 * The name of the cache of select query plans
+	 */
+	String SELECT_QUERY_PLANS = "select-query-plans";
+
+	/**
+	 * The name of the cache of native query parameter metadata
+	 */
+	String NATIVE_QUERY_PARAMETERS = "native-query-parameters";
+
+	String getCacheName();
+
+	/**
+	 * The number of successful look-ups against the cache since the last
+	 * Statistics clearing
+	 */
+	long getHitCount();
+
+	/**
+	 * The number of unsuccessful look-ups against the cache since the last
+	 * Statistics clearing
+	 */
+	long getMissCount();
+
+	/**
+	 * The number of entries evicted from the cache because it reached its
+	 * maximum size, since the last Statistics clearing
+	 */
+	long getEvictionCount();
+}
@@ -379,4 +379,60 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The number of {@linkplain org.hibernate.proxy.HibernateProxy proxy}
+	 * classes generated at runtime while building the session factory.
+	 *
+	 * @since 6.2
+	 */
+	default long getProxyClassGenerationCount() {
+		return 0;
+	}
+
+	/**
+	 * The time in milliseconds spent generating proxy classes at runtime.
+	 *
+	 * @since 6.2
+	 */
+	default long getProxyClassGenerationTime() {
+		return 0;
+	}
+
+	/**
+	 * The number of proxy classes generated at build time by the bytecode
+	 * enhancement plugins, which were loaded instead of being generated at
+	 * runtime.
+	 * <p>
+	 * Pre-generated instantiator classes are not counted.
+	 *
+	 * @since 6.2
+	 */
+	default long getPregeneratedProxyClassCount() {
+		return 0;
+	}
+
+	/**
+	 * The time in milliseconds spent loading pre-generated proxy classes.
+	 *
+	 * @since 6.2
+	 */
+	default long getPregeneratedProxyClassLoadTime() {
+		return 0;
+	}
+
+	/**
+	 * Statistics of one of the caches maintained by the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}.
+	 *
+	 * @param cacheName one of {@link QueryInterpretationCacheStatistics#HQL_INTERPRETATIONS},
+	 * {@link QueryInterpretationCacheStatistics#SELECT_QUERY_PLANS} or
+	 * {@link QueryInterpretationCacheStatistics#NATIVE_QUERY_PARAMETERS}
+	 *
+	 * @return the statistics of the cache, or {@code null} if this implementation
+	 * does not collect them
+	 */
+	default QueryInterpretationCacheStatistics getQueryInterpretationCacheStatistics(String cacheName) {
+		return null;
+	}
 }
@@ -0,0 +1,461 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * A {@link StatisticsImpl} which accumulates the most frequently recorded
+ * events - entity and collection operations, flushes, connections and
+ * statements - into a buffer owned by the recording thread, instead of
+ * updating the shared counters every time.
+ * <p>
+ * Every buffer is registered with these statistics, and only ever written by
+ * its own thread. Reading any of the buffered statistics, from any thread,
+ * first merges the counts of all the buffers into the shared counters, so
+ * that it accounts for the events recorded by all threads, including the
+ * background threads executing queries. All other statistics are recorded as
+ * by {@link StatisticsImpl}.
+ * <p>
+ * The buffers of threads which terminated are merged and dropped. When the
+ * session factory is closed, all buffers are merged and dropped, and events
+ * are no longer buffered.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATISTICS_BUFFERING
+ */
+public class BufferedStatisticsImpl extends StatisticsImpl implements Stoppable {
+	private final Set<Buffer> buffers = ConcurrentHashMap.newKeySet();
+
+	// the thread only holds a weak reference, so that the buffers are dropped with these statistics
+	private final ThreadLocal<WeakReference<Buffer>> threadBuffers = ThreadLocal.withInitial( this::registerBuffer );
+
+	private volatile boolean stopped;
+
+	public BufferedStatisticsImpl(SessionFactoryImplementor sessionFactory) {
+		super( sessionFactory );
+	}
+
+	@Override
+	public void loadEntity(String entityName) {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.loadEntity( entityName );
+		}
+		else {
+			increment( buffer.entityCounts( entityName ), LOAD );
+		}
+	}
+
+	@Override
+	public void fetchEntity(String entityName) {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.fetchEntity( entityName );
+		}
+		else {
+			increment( buffer.entityCounts( entityName ), FETCH );
+		}
+	}
+
+	@Override
+	public void insertEntity(String entityName) {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.insertEntity( entityName );
+		}
+		else {
+			increment( buffer.entityCounts( entityName ), INSERT );
+		}
+	}
+
+	@Override
+	public void updateEntity(String entityName) {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.updateEntity( entityName );
+		}
+		else {
+			increment( buffer.entityCounts( entityName ), UPDATE );
+		}
+	}
+
+	@Override
+	public void deleteEntity(String entityName) {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.deleteEntity( entityName );
+		}
+		else {
+			increment( buffer.entityCounts( entityName ), DELETE );
+		}
+	}
+
+	@Override
+	public void loadCollection(String role) {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.loadCollection( role );
+		}
+		else {
+			increment( buffer.collectionCounts( role ), LOAD );
+		}
+	}
+
+	@Override
+	public void fetchCollection(String role) {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.fetchCollection( role );
+		}
+		else {
+			increment( buffer.collectionCounts( role ), FETCH );
+		}
+	}
+
+	@Override
+	public void updateCollection(String role) {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.updateCollection( role );
+		}
+		else {
+			increment( buffer.collectionCounts( role ), UPDATE );
+		}
+	}
+
+	@Override
+	public void recreateCollection(String role) {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.recreateCollection( role );
+		}
+		else {
+			increment( buffer.collectionCounts( role ), RECREATE );
+		}
+	}
+
+	@Override
+	public void removeCollection(String role) {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.removeCollection( role );
+		}
+		else {
+			increment( buffer.collectionCounts( role ), REMOVE );
+		}
+	}
+
+	@Override
+	public void flush() {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.flush();
+		}
+		else {
+			increment( buffer.sessionCounts, FLUSHES );
+		}
+	}
+
+	@Override
+	public void connect() {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.connect();
+		}
+		else {
+			increment( buffer.sessionCounts, CONNECTS );
+		}
+	}
+
+	@Override
+	public void prepareStatement() {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.prepareStatement();
+		}
+		else {
+			increment( buffer.sessionCounts, PREPARED_STATEMENTS );
+		}
+	}
+
+	@Override
+	public void closeStatement() {
+		final Buffer buffer = threadBuffer();
+		if ( buffer == null ) {
+			super.closeStatement();
+		}
+		else {
+			increment( buffer.sessionCounts, CLOSED_STATEMENTS );
+		}
+	}
+
+	@Override
+	public void clear() {
+		for ( Buffer buffer : buffers ) {
+			buffer.discard();
+		}
+		super.clear();
+	}
+
+	@Override
+	public void stop() {
+		stopped = true;
+		drain();
+		buffers.clear();
+		threadBuffers.remove();
+	}
+
+	@Override
+	public EntityStatisticsImpl getEntityStatistics(String entityName) {
+		drain();
+		return super.getEntityStatistics( entityName );
+	}
+
+	@Override
+	public long getEntityLoadCount() {
+		drain();
+		return super.getEntityLoadCount();
+	}
+
+	@Override
+	public long getEntityFetchCount() {
+		drain();
+		return super.getEntityFetchCount();
+	}
+
+	@Override
+	public long getEntityDeleteCount() {
+		drain();
+		return super.getEntityDeleteCount();
+	}
+
+	@Override
+	public long getEntityInsertCount() {
+		drain();
+		return super.getEntityInsertCount();
+	}
+
+	@Override
+	public long getEntityUpdateCount() {
+		drain();
+		return super.getEntityUpdateCount();
+	}
+
+	@Override
+	public CollectionStatisticsImpl getCollectionStatistics(String role) {
+		drain();
+		return super.getCollectionStatistics( role );
+	}
+
+	@Override
+	public long getCollectionLoadCount() {
+		drain();
+		return super.getCollectionLoadCount();
+	}
+
+	@Override
+	public long getCollectionFetchCount() {
+		drain();
+		return super.getCollectionFetchCount();
+	}
+
+	@Override
+	public long getCollectionUpdateCount() {
+		drain();
+		return super.getCollectionUpdateCount();
+	}
+
+	@Override
+	public long getCollectionRemoveCount() {
+		drain();
+		return super.getCollectionRemoveCount();
+	}
+
+	@Override
+	public long getCollectionRecreateCount() {
+		drain();
+		return super.getCollectionRecreateCount();
+	}
+
+	@Override
+	public long getFlushCount() {
+		drain();
+		return super.getFlushCount();
+	}
+
+	@Override
+	public long getConnectCount() {
+		drain();
+		return super.getConnectCount();
+	}
+
+	@Override
+	public long getPrepareStatementCount() {
+		drain();
+		return super.getPrepareStatementCount();
+	}
+
+	@Override
+	public long getCloseStatementCount() {
+		drain();
+		return super.getCloseStatementCount();
+	}
+
+	@Override
+	public void logSummary() {
+		drain();
+		super.logSummary();
+	}
+
+	@Override
+	public String toString() {
+		drain();
+		return super.toString();
+	}
+
+	/**
+	 * Merge the counts buffered by all threads into the shared counters.
+	 */
+	public void drain() {
+		for ( Buffer buffer : buffers ) {
+			// checked first, so that the counts of a terminated thread are all visible
+			final boolean terminated = !buffer.owner.isAlive();
+			drain( buffer );
+			if ( terminated ) {
+				buffers.remove( buffer );
+			}
+		}
+	}
+
+	private Buffer threadBuffer() {
+		return stopped ? null : threadBuffers.get().get();
+	}
+
+	private WeakReference<Buffer> registerBuffer() {
+		// a good time to drop the buffers of the threads which terminated in the meantime
+		drain();
+		final Buffer buffer = new Buffer( Thread.currentThread() );
+		buffers.add( buffer );
+		return new WeakReference<>( buffer );
+	}
+
+	private void drain(Buffer buffer) {
+		synchronized ( buffer ) {
+			for ( Map.Entry<String, Counts> entry : buffer.entityCounts.entrySet() ) {
+				final long[] counts = entry.getValue().takeNew();
+				if ( counts != null ) {
+					mergeEntityCounts( entry.getKey(), counts[LOAD], counts[FETCH], counts[INSERT], counts[UPDATE], counts[DELETE] );
+				}
+			}
+			for ( Map.Entry<String, Counts> entry : buffer.collectionCounts.entrySet() ) {
+				final long[] counts = entry.getValue().takeNew();
+				if ( counts != null ) {
+					mergeCollectionCounts( entry.getKey(), counts[LOAD], counts[FETCH], counts[UPDATE], counts[RECREATE], counts[REMOVE] );
+				}
+			}
+			final long[] counts = buffer.sessionCounts.takeNew();
+			if ( counts != null ) {
+				mergeSessionCounts( counts[FLUSHES], counts[CONNECTS], counts[PREPARED_STATEMENTS], counts[CLOSED_STATEMENTS] );
+			}
+		}
+	}
+
+	private static void increment(Counts counts, int index) {
+		// only the owner thread writes the counts, and readers only need to see the stored value
+		counts.recorded.setRelease( index, counts.recorded.getPlain( index ) + 1 );
+	}
+
+	// indexes into the per-entity and per-collection counts
+	private static final int LOAD = 0;
+	private static final int FETCH = 1;
+	private static final int UPDATE = 2;
+	private static final int INSERT = 3;
+	private static final int DELETE = 4;
+	private static final int RECREATE = 3;
+	private static final int REMOVE = 4;
+
+	// indexes into the per-session counts
+	private static final int FLUSHES = 0;
+	private static final int CONNECTS = 1;
+	private static final int PREPARED_STATEMENTS = 2;
+	private static final int CLOSED_STATEMENTS = 3;
+
+	/**
+	 * Counts recorded by the owner thread of a buffer, and the part of them already merged.
+	 */
+	private static final class Counts {
+		// only ever incremented, by the owner thread
+		private final AtomicLongArray recorded;
+		// guarded by the buffer
+		private final long[] merged;
+
+		Counts(int size) {
+			recorded = new AtomicLongArray( size );
+			merged = new long[size];
+		}
+
+		/**
+		 * The counts recorded since the last call, or {@code null} if there are none.
+		 */
+		long[] takeNew() {
+			long[] counts = null;
+			for ( int i = 0; i < merged.length; i++ ) {
+				final long count = recorded.getAcquire( i );
+				if ( count != merged[i] ) {
+					if ( counts == null ) {
+						counts = new long[merged.length];
+					}
+					counts[i] = count - merged[i];
+					merged[i] = count;
+				}
+			}
+			return counts;
+		}
+	}
+
+	/**
+	 * Counts recorded by a single thread.
+	 */
+	private static final class Buffer {
+		private final Thread owner;
+		// the counts are reused, as the number of entities and collections is bounded
+		private final Map<String, Counts> entityCounts = new ConcurrentHashMap<>();
+		private final Map<String, Counts> collectionCounts = new ConcurrentHashMap<>();
+		private final Counts sessionCounts = new Counts( 4 );
+
+		Buffer(Thread owner) {
+			this.owner = owner;
+		}
+
+		Counts entityCounts(String entityName) {
+			final Counts counts = entityCounts.get( entityName );
+			return counts == null ? entityCounts.computeIfAbsent( entityName, name -> new Counts( 5 ) ) : counts;
+		}
+
+		Counts collectionCounts(String role) {
+			final Counts counts = collectionCounts.get( role );
+			return counts == null ? collectionCounts.computeIfAbsent( role, name -> new Counts( 5 ) ) : counts;
+		}
+
+		synchronized void discard() {
+			for ( Counts counts : entityCounts.values() ) {
+				counts.takeNew();
+			}
+			for ( Counts counts : collectionCounts.values() ) {
+				counts.takeNew();
+			}
+			sessionCounts.takeNew();
+		}
+	}
+}
@@ -76,6 +76,14 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		removeCount.increment();
 	}
 
+	void addCounts(long loads, long fetches, long updates, long recreates, long removes) {
+		StatsHelper.addIfNotZero( loadCount, loads );
+		StatsHelper.addIfNotZero( fetchCount, fetches );
+		StatsHelper.addIfNotZero( updateCount, updates );
+		StatsHelper.addIfNotZero( recreateCount, recreates );
+		StatsHelper.addIfNotZero( removeCount, removes );
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "CollectionStatistics" )
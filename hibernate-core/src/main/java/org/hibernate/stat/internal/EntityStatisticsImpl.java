@@ -84,6 +84,14 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		optimisticFailureCount.increment();
 	}
 
+	void addCounts(long loads, long fetches, long inserts, long updates, long deletes) {
+		StatsHelper.addIfNotZero( loadCount, loads );
+		StatsHelper.addIfNotZero( fetchCount, fetches );
+		StatsHelper.addIfNotZero( insertCount, inserts );
+		StatsHelper.addIfNotZero( updateCount, updates );
+		StatsHelper.addIfNotZero( deleteCount, deletes );
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
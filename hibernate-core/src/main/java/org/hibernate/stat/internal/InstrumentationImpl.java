@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.Arrays;
+
+import org.hibernate.stat.spi.Instrumentation;
+import org.hibernate.stat.spi.InstrumentationListener;
+
+/**
+ * Standard implementation of {@link Instrumentation}, optimized for reads:
+ * registering a listener replaces the dispatching listener as a whole.
+ */
+public class InstrumentationImpl implements Instrumentation {
+	private InstrumentationListener[] listeners = new InstrumentationListener[0];
+	private volatile InstrumentationListener listener;
+
+	@Override
+	public synchronized void addListener(InstrumentationListener listener) {
+		final InstrumentationListener[] updated = Arrays.copyOf( listeners, listeners.length + 1 );
+		updated[listeners.length] = listener;
+		setListeners( updated );
+	}
+
+	@Override
+	public synchronized void removeListener(InstrumentationListener listener) {
+		setListeners(
+				Arrays.stream( listeners )
+						.filter( registered -> registered != listener )
+						.toArray( InstrumentationListener[]::new )
+		);
+	}
+
+	@Override
+	public InstrumentationListener getListener() {
+		return listener;
+	}
+
+	private void setListeners(InstrumentationListener[] listeners) {
+		this.listeners = listeners;
+		switch ( listeners.length ) {
+			case 0:
+				listener = null;
+				break;
+			case 1:
+				listener = listeners[0];
+				break;
+			default:
+				listener = new CompositeListener( listeners );
+		}
+	}
+
+	private static final class CompositeListener implements InstrumentationListener {
+		private final InstrumentationListener[] listeners;
+
+		private CompositeListener(InstrumentationListener[] listeners) {
+			this.listeners = listeners;
+		}
+
+		@Override
+		public void connectionAcquired(long durationNanos) {
+			for ( InstrumentationListener listener : listeners ) {
+				listener.connectionAcquired( durationNanos );
+			}
+		}
+
+		@Override
+		public void statementExecuted(long durationNanos) {
+			for ( InstrumentationListener listener : listeners ) {
+				listener.statementExecuted( durationNanos );
+			}
+		}
+
+		@Override
+		public void batchExecuted(long durationNanos) {
+			for ( InstrumentationListener listener : listeners ) {
+				listener.batchExecuted( durationNanos );
+			}
+		}
+
+		@Override
+		public void queryExecuted(String query, long durationNanos) {
+			for ( InstrumentationListener listener : listeners ) {
+				listener.queryExecuted( query, durationNanos );
+			}
+		}
+
+		@Override
+		public void flushed(long durationNanos) {
+			for ( InstrumentationListener listener : listeners ) {
+				listener.flushed( durationNanos );
+			}
+		}
+
+		@Override
+		public void entityLoaded(String entityName, long durationNanos) {
+			for ( InstrumentationListener listener : listeners ) {
+				listener.entityLoaded( entityName, durationNanos );
+			}
+		}
+
+		@Override
+		public void cacheGet(String regionName, boolean hit, long durationNanos) {
+			for ( InstrumentationListener listener : listeners ) {
+				listener.cacheGet( regionName, hit, durationNanos );
+			}
+		}
+
+		@Override
+		public void cachePut(String regionName, long durationNanos) {
+			for ( InstrumentationListener listener : listeners ) {
+				listener.cachePut( regionName, durationNanos );
+			}
+		}
+	}
+}
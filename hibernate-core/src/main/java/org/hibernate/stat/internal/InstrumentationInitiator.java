@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+import org.hibernate.stat.spi.Instrumentation;
+
+/**
+ * Initiates the {@link Instrumentation} service
+ */
+public class InstrumentationInitiator implements SessionFactoryServiceInitiator<Instrumentation> {
+	/**
+	 * Singleton access
+	 */
+	public static final InstrumentationInitiator INSTANCE = new InstrumentationInitiator();
+
+	@Override
+	public Instrumentation initiateService(SessionFactoryServiceInitiatorContext context) {
+		return new InstrumentationImpl();
+	}
+
+	@Override
+	public Class<Instrumentation> getServiceInitiated() {
+		return Instrumentation.class;
+	}
+}
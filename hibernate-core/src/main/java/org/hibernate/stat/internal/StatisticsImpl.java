@@ -10,6 +10,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -101,6 +102,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder optimisticFailureCount = new LongAdder();
 
+	private final LongAdder proxyClassGenerationCount = new LongAdder();
+	private final LongAdder proxyClassGenerationNanos = new LongAdder();
+	private final LongAdder pregeneratedProxyClassCount = new LongAdder();
+	private final LongAdder pregeneratedProxyClassLoadNanos = new LongAdder();
+
 	private final StatsNamedContainer<EntityStatisticsImpl> entityStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<NaturalIdStatisticsImpl> naturalIdQueryStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<CollectionStatisticsImpl> collectionStatsMap = new StatsNamedContainer<>();
@@ -115,6 +121,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 */
 	private final StatsNamedContainer<CacheRegionStatisticsImpl> l2CacheStatsMap = new StatsNamedContainer<>();
 
+	/**
+	 * Keyed by query interpretation cache name
+	 */
+	private final StatsNamedContainer<QueryInterpretationCacheStatisticsImpl> queryInterpretationCacheStatsMap = new StatsNamedContainer<>();
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
@@ -197,6 +208,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryInterpretationCacheStatsMap.clear();
+
+		proxyClassGenerationCount.reset();
+		proxyClassGenerationNanos.reset();
+		pregeneratedProxyClassCount.reset();
+		pregeneratedProxyClassLoadNanos.reset();
 
 		resetStart();
 	}
@@ -237,6 +254,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	@Override
 	public EntityStatisticsImpl getEntityStatistics(String entityName) {
+		return entityStatistics( entityName );
+	}
+
+	EntityStatisticsImpl entityStatistics(String entityName) {
 		return entityStatsMap.getOrCompute(
 				entityName,
 				this::instantiateEntityStatistics
@@ -276,58 +297,58 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	@Override
 	public void loadEntity(String entityName) {
 		entityLoadCount.increment();
-		getEntityStatistics( entityName ).incrementLoadCount();
+		entityStatistics( entityName ).incrementLoadCount();
 	}
 
 	@Override
 	public void fetchEntity(String entityName) {
 		entityFetchCount.increment();
-		getEntityStatistics( entityName ).incrementFetchCount();
+		entityStatistics( entityName ).incrementFetchCount();
 	}
 
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
-		getEntityStatistics( entityName ).incrementUpdateCount();
+		entityStatistics( entityName ).incrementUpdateCount();
 	}
 
 	@Override
 	public void insertEntity(String entityName) {
 		entityInsertCount.increment();
-		getEntityStatistics( entityName ).incrementInsertCount();
+		entityStatistics( entityName ).incrementInsertCount();
 	}
 
 	@Override
 	public void deleteEntity(String entityName) {
 		entityDeleteCount.increment();
-		getEntityStatistics( entityName ).incrementDeleteCount();
+		entityStatistics( entityName ).incrementDeleteCount();
 	}
 
 	@Override
 	public void optimisticFailure(String entityName) {
 		optimisticFailureCount.increment();
-		getEntityStatistics( entityName ).incrementOptimisticFailureCount();
+		entityStatistics( entityName ).incrementOptimisticFailureCount();
 	}
 
 	@Override
 	public void entityCachePut(NavigableRole entityName, String regionName) {
 		secondLevelCachePutCount.increment();
 		getDomainDataRegionStatistics( regionName ).incrementPutCount();
-		getEntityStatistics( entityName.getFullPath() ).incrementCachePutCount();
+		entityStatistics( entityName.getFullPath() ).incrementCachePutCount();
 	}
 
 	@Override
 	public void entityCacheHit(NavigableRole entityName, String regionName) {
 		secondLevelCacheHitCount.increment();
 		getDomainDataRegionStatistics( regionName ).incrementHitCount();
-		getEntityStatistics( entityName.getFullPath() ).incrementCacheHitCount();
+		entityStatistics( entityName.getFullPath() ).incrementCacheHitCount();
 	}
 
 	@Override
 	public void entityCacheMiss(NavigableRole entityName, String regionName) {
 		secondLevelCacheMissCount.increment();
 		getDomainDataRegionStatistics( regionName ).incrementMissCount();
-		getEntityStatistics( entityName.getFullPath() ).incrementCacheMissCount();
+		entityStatistics( entityName.getFullPath() ).incrementCacheMissCount();
 	}
 
 
@@ -341,6 +362,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	@Override
 	public CollectionStatisticsImpl getCollectionStatistics(String role) {
+		return collectionStatistics( role );
+	}
+
+	CollectionStatisticsImpl collectionStatistics(String role) {
 		return collectionStatsMap.getOrCompute(
 				role,
 				this::instantiateCollectionStatistics
@@ -375,52 +400,52 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	@Override
 	public void loadCollection(String role) {
 		collectionLoadCount.increment();
-		getCollectionStatistics( role ).incrementLoadCount();
+		collectionStatistics( role ).incrementLoadCount();
 	}
 
 	@Override
 	public void fetchCollection(String role) {
 		collectionFetchCount.increment();
-		getCollectionStatistics( role ).incrementFetchCount();
+		collectionStatistics( role ).incrementFetchCount();
 	}
 
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
-		getCollectionStatistics( role ).incrementUpdateCount();
+		collectionStatistics( role ).incrementUpdateCount();
 	}
 
 	@Override
 	public void recreateCollection(String role) {
 		collectionRecreateCount.increment();
-		getCollectionStatistics( role ).incrementRecreateCount();
+		collectionStatistics( role ).incrementRecreateCount();
 	}
 
 	@Override
 	public void removeCollection(String role) {
 		collectionRemoveCount.increment();
-		getCollectionStatistics( role ).incrementRemoveCount();
+		collectionStatistics( role ).incrementRemoveCount();
 	}
 
 	@Override
 	public void collectionCachePut(NavigableRole collectionRole, String regionName) {
 		secondLevelCachePutCount.increment();
 		getDomainDataRegionStatistics( regionName ).incrementPutCount();
-		getCollectionStatistics( collectionRole.getFullPath() ).incrementCachePutCount();
+		collectionStatistics( collectionRole.getFullPath() ).incrementCachePutCount();
 	}
 
 	@Override
 	public void collectionCacheHit(NavigableRole collectionRole, String regionName) {
 		secondLevelCacheHitCount.increment();
 		getDomainDataRegionStatistics( regionName ).incrementHitCount();
-		getCollectionStatistics( collectionRole.getFullPath() ).incrementCacheHitCount();
+		collectionStatistics( collectionRole.getFullPath() ).incrementCacheHitCount();
 	}
 
 	@Override
 	public void collectionCacheMiss(NavigableRole collectionRole, String regionName) {
 		secondLevelCacheMissCount.increment();
 		getDomainDataRegionStatistics( regionName ).incrementMissCount();
-		getCollectionStatistics( collectionRole.getFullPath() ).incrementCacheMissCount();
+		collectionStatistics( collectionRole.getFullPath() ).incrementCacheMissCount();
 	}
 
 
@@ -737,6 +762,42 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getProxyClassGenerationCount() {
+		return proxyClassGenerationCount.sum();
+	}
+
+	@Override
+	public long getProxyClassGenerationTime() {
+		return TimeUnit.NANOSECONDS.toMillis( proxyClassGenerationNanos.sum() );
+	}
+
+	@Override
+	public long getPregeneratedProxyClassCount() {
+		return pregeneratedProxyClassCount.sum();
+	}
+
+	@Override
+	public long getPregeneratedProxyClassLoadTime() {
+		return TimeUnit.NANOSECONDS.toMillis( pregeneratedProxyClassLoadNanos.sum() );
+	}
+
+	@Override
+	public void proxyClassGenerated(String entityName, long nanoseconds) {
+		LOG.tracef( "Statistics#proxyClassGenerated( `%s`, %s )", entityName, nanoseconds );
+
+		proxyClassGenerationCount.increment();
+		proxyClassGenerationNanos.add( nanoseconds );
+	}
+
+	@Override
+	public void pregeneratedProxyClassLoaded(String entityName, long nanoseconds) {
+		LOG.tracef( "Statistics#pregeneratedProxyClassLoaded( `%s`, %s )", entityName, nanoseconds );
+
+		pregeneratedProxyClassCount.increment();
+		pregeneratedProxyClassLoadNanos.add( nanoseconds );
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -764,6 +825,29 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public QueryInterpretationCacheStatisticsImpl getQueryInterpretationCacheStatistics(String cacheName) {
+		return queryInterpretationCacheStatsMap.getOrCompute(
+				cacheName,
+				QueryInterpretationCacheStatisticsImpl::new
+		);
+	}
+
+	@Override
+	public void queryInterpretationCacheHit(String cacheName) {
+		getQueryInterpretationCacheStatistics( cacheName ).incrementHitCount();
+	}
+
+	@Override
+	public void queryInterpretationCacheMiss(String cacheName) {
+		getQueryInterpretationCacheStatistics( cacheName ).incrementMissCount();
+	}
+
+	@Override
+	public void queryInterpretationCacheEviction(String cacheName) {
+		getQueryInterpretationCacheStatistics( cacheName ).incrementEvictionCount();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -936,9 +1020,39 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",proxy classes generated=" + proxyClassGenerationCount +
+				",pre-generated proxy classes loaded=" + pregeneratedProxyClassCount +
 				']';
 	}
 
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Merging of counts accumulated outside of this instance
+
+	void mergeEntityCounts(String entityName, long loads, long fetches, long inserts, long updates, long deletes) {
+		StatsHelper.addIfNotZero( entityLoadCount, loads );
+		StatsHelper.addIfNotZero( entityFetchCount, fetches );
+		StatsHelper.addIfNotZero( entityInsertCount, inserts );
+		StatsHelper.addIfNotZero( entityUpdateCount, updates );
+		StatsHelper.addIfNotZero( entityDeleteCount, deletes );
+		entityStatistics( entityName ).addCounts( loads, fetches, inserts, updates, deletes );
+	}
+
+	void mergeCollectionCounts(String role, long loads, long fetches, long updates, long recreates, long removes) {
+		StatsHelper.addIfNotZero( collectionLoadCount, loads );
+		StatsHelper.addIfNotZero( collectionFetchCount, fetches );
+		StatsHelper.addIfNotZero( collectionUpdateCount, updates );
+		StatsHelper.addIfNotZero( collectionRecreateCount, recreates );
+		StatsHelper.addIfNotZero( collectionRemoveCount, removes );
+		collectionStatistics( role ).addCounts( loads, fetches, updates, recreates, removes );
+	}
+
+	void mergeSessionCounts(long flushes, long connects, long preparedStatements, long closedStatements) {
+		StatsHelper.addIfNotZero( flushCount, flushes );
+		StatsHelper.addIfNotZero( connectCount, connects );
+		StatsHelper.addIfNotZero( prepareStatementCount, preparedStatements );
+		StatsHelper.addIfNotZero( closeStatementCount, closedStatements );
+	}
+
 	private EntityStatisticsImpl instantiateEntityStatistics(final String entityName) {
 		return new EntityStatisticsImpl( metamodel.getEntityDescriptor( entityName ) );
 	}
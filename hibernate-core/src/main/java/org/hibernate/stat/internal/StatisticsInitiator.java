@@ -6,11 +6,14 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
@@ -19,6 +22,8 @@ import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.cfg.AvailableSettings.STATISTICS_BUFFERING;
+
 /**
  * @author Steve Ebersole
  */
@@ -40,18 +45,19 @@ public class StatisticsInitiator implements SessionFactoryServiceInitiator<Stati
 
 	@Override
 	public StatisticsImplementor initiateService(SessionFactoryServiceInitiatorContext context) {
-		final Object configValue = context.getServiceRegistry()
+		final Map<String, Object> settings = context.getServiceRegistry()
 				.getService( ConfigurationService.class )
-				.getSettings()
-				.get( STATS_BUILDER );
-		return initiateServiceInternal( context.getSessionFactory(), configValue, context.getServiceRegistry() );
+				.getSettings();
+		return initiateServiceInternal( context.getSessionFactory(), settings, context.getServiceRegistry() );
 	}
 
 	private StatisticsImplementor initiateServiceInternal(
 			SessionFactoryImplementor sessionFactory,
-			Object configValue,
+			Map<String, Object> settings,
 			ServiceRegistryImplementor registry) {
 
+		final Object configValue = settings.get( STATS_BUILDER );
+
 		final StatisticsFactory statisticsFactory;
 		if ( configValue == null ) {
 			statisticsFactory = null; //We'll use the default
@@ -78,7 +84,12 @@ public class StatisticsInitiator implements SessionFactoryServiceInitiator<Stati
 		final StatisticsImplementor statistics;
 		if ( statisticsFactory == null ) {
 			// Default:
-			statistics = new StatisticsImpl( sessionFactory );
+			if ( ConfigurationHelper.getBoolean( STATISTICS_BUFFERING, settings ) ) {
+				statistics = new BufferedStatisticsImpl( sessionFactory );
+			}
+			else {
+				statistics = new StatisticsImpl( sessionFactory );
+			}
 		}
 		else {
 			statistics = statisticsFactory.buildStatistics( sessionFactory );
@@ -6,6 +6,8 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
 
@@ -34,6 +36,12 @@ public class StatsHelper {
 		}
 	}
 
+	static void addIfNotZero(LongAdder counter, long delta) {
+		if ( delta != 0 ) {
+			counter.add( delta );
+		}
+	}
+
 	private StatsHelper() {
 	}
 }
@@ -0,0 +1,38 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.spi;
+
+import org.hibernate.service.Service;
+
+/**
+ * SessionFactory-scoped registry of {@link InstrumentationListener}s.
+ * <p>
+ * Instrumented code should follow this pattern, so that nothing is measured
+ * while no listener is registered:
+ * <pre>
+ * final InstrumentationListener listener = instrumentation.getListener();
+ * final long start = listener == null ? 0L : System.nanoTime();
+ * // the operation
+ * if ( listener != null ) {
+ *     listener.flushed( System.nanoTime() - start );
+ * }
+ * </pre>
+ *
+ * @since 6.2
+ */
+public interface Instrumentation extends Service {
+
+	void addListener(InstrumentationListener listener);
+
+	void removeListener(InstrumentationListener listener);
+
+	/**
+	 * The listener to notify, which dispatches to all registered listeners,
+	 * or {@code null} if there are none.
+	 */
+	InstrumentationListener getListener();
+}
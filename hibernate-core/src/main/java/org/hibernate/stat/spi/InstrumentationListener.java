@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.spi;
+
+/**
+ * Notified of the duration of individual operations, typically in order to
+ * record latency distributions, which the aggregated counts and times of
+ * {@link org.hibernate.stat.Statistics} cannot provide.
+ * <p>
+ * Durations are measured only while at least one listener is
+ * {@linkplain Instrumentation#addListener registered}, and independently of
+ * whether statistics are enabled. Listeners are called on the thread which
+ * performed the operation, and must be thread-safe and fast.
+ *
+ * @since 6.2
+ */
+public interface InstrumentationListener {
+
+	/**
+	 * A JDBC connection was obtained from the connection provider.
+	 */
+	default void connectionAcquired(long durationNanos) {
+	}
+
+	/**
+	 * A single JDBC statement was executed.
+	 */
+	default void statementExecuted(long durationNanos) {
+	}
+
+	/**
+	 * A JDBC batch was executed.
+	 */
+	default void batchExecuted(long durationNanos) {
+	}
+
+	/**
+	 * A select query was executed and its results consumed.
+	 *
+	 * @param query The HQL, or SQL for native queries and loaders
+	 */
+	default void queryExecuted(String query, long durationNanos) {
+	}
+
+	/**
+	 * A session was flushed.
+	 */
+	default void flushed(long durationNanos) {
+	}
+
+	/**
+	 * An entity was loaded by id, from the persistence context, the
+	 * second-level cache or the database.
+	 */
+	default void entityLoaded(String entityName, long durationNanos) {
+	}
+
+	/**
+	 * A lookup was performed in a second-level cache region.
+	 */
+	default void cacheGet(String regionName, boolean hit, long durationNanos) {
+	}
+
+	/**
+	 * Data loaded from the database was put in a second-level cache region.
+	 */
+	default void cachePut(String regionName, long durationNanos) {
+	}
+}
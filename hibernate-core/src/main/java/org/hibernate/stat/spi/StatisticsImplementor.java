@@ -275,4 +275,56 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating a get from one of the query interpretation caches resulted in a hit.
+	 *
+	 * @param cacheName The cache name, see {@link org.hibernate.stat.QueryInterpretationCacheStatistics}
+	 */
+	default void queryInterpretationCacheHit(String cacheName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from one of the query interpretation caches resulted in a miss.
+	 *
+	 * @param cacheName The cache name, see {@link org.hibernate.stat.QueryInterpretationCacheStatistics}
+	 */
+	default void queryInterpretationCacheMiss(String cacheName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating an entry was evicted from one of the query interpretation caches.
+	 *
+	 * @param cacheName The cache name, see {@link org.hibernate.stat.QueryInterpretationCacheStatistics}
+	 */
+	default void queryInterpretationCacheEviction(String cacheName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a proxy class was generated at runtime.
+	 *
+	 * @param entityName The name of the proxied entity
+	 * @param nanoseconds The time spent generating the class
+	 *
+	 * @since 6.2
+	 */
+	default void proxyClassGenerated(String entityName, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a proxy class generated at build time was loaded
+	 * instead of being generated at runtime.
+	 *
+	 * @param entityName The name of the proxied entity
+	 * @param nanoseconds The time spent loading the class
+	 *
+	 * @since 6.2
+	 */
+	default void pregeneratedProxyClassLoaded(String entityName, long nanoseconds) {
+		//For backward compatibility
+	}
 }
@@ -0,0 +1,199 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.type.descriptor.java;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.BinaryStream;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+/**
+ * Descriptor for {@link ReadableByteChannel} handling, mapped to a {@code BLOB} by default.
+ * <p/>
+ * A channel read from the database reads the stream of the {@link Blob} returned by the
+ * JDBC driver, as the channel is read, so that the content never has to be held in memory
+ * as a whole. Like the {@code Blob} itself, such a channel may only be read while the
+ * transaction which loaded it is active, depending on the driver. A channel to be written
+ * to the database is handed to the driver as a stream of unknown length.
+ * <p/>
+ * A channel can only be read once, so it is treated as immutable, and never considered dirty
+ * unless replaced by another channel.
+ * For the same reason, an entity holding a channel cannot be stored in the second-level cache.
+ *
+ * @since 6.2
+ */
+public class ReadableByteChannelJavaType extends AbstractClassJavaType<ReadableByteChannel> {
+	public static final ReadableByteChannelJavaType INSTANCE = new ReadableByteChannelJavaType();
+
+	public static class ReadableByteChannelMutabilityPlan implements MutabilityPlan<ReadableByteChannel> {
+		public static final ReadableByteChannelMutabilityPlan INSTANCE = new ReadableByteChannelMutabilityPlan();
+
+		@Override
+		public boolean isMutable() {
+			return false;
+		}
+
+		@Override
+		public ReadableByteChannel deepCopy(ReadableByteChannel value) {
+			return value;
+		}
+
+		@Override
+		public Serializable disassemble(ReadableByteChannel value, SharedSessionContract session) {
+			throw new UnsupportedOperationException( "Channels are not cacheable" );
+		}
+
+		@Override
+		public ReadableByteChannel assemble(Serializable cached, SharedSessionContract session) {
+			throw new UnsupportedOperationException( "Channels are not cacheable" );
+		}
+	}
+
+	public ReadableByteChannelJavaType() {
+		super( ReadableByteChannel.class, ReadableByteChannelMutabilityPlan.INSTANCE, IncomparableComparator.INSTANCE );
+	}
+
+	@Override
+	public JdbcType getRecommendedJdbcType(JdbcTypeIndicators indicators) {
+		return indicators.getTypeConfiguration().getJdbcTypeRegistry().getDescriptor( Types.BLOB );
+	}
+
+	@Override
+	public String extractLoggableRepresentation(ReadableByteChannel value) {
+		return value == null ? "null" : "{channel}";
+	}
+
+	@Override
+	public String toString(ReadableByteChannel value) {
+		// reading the content would leave nothing to read for anybody else
+		return extractLoggableRepresentation( value );
+	}
+
+	@Override
+	public ReadableByteChannel fromString(CharSequence string) {
+		return Channels.newChannel(
+				new ByteArrayInputStream( PrimitiveByteArrayJavaType.INSTANCE.fromString( string ) )
+		);
+	}
+
+	@Override
+	public int extractHashCode(ReadableByteChannel value) {
+		return System.identityHashCode( value );
+	}
+
+	@Override
+	public boolean areEqual(ReadableByteChannel one, ReadableByteChannel another) {
+		return one == another;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <X> X unwrap(ReadableByteChannel value, Class<X> type, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+
+		if ( ReadableByteChannel.class.isAssignableFrom( type ) ) {
+			return (X) value;
+		}
+		else if ( InputStream.class.isAssignableFrom( type ) ) {
+			return (X) Channels.newInputStream( value );
+		}
+		else if ( BinaryStream.class.isAssignableFrom( type ) ) {
+			return (X) new ChannelBinaryStream( value );
+		}
+		else if ( byte[].class.isAssignableFrom( type ) ) {
+			return (X) DataHelper.extractBytes( Channels.newInputStream( value ) );
+		}
+		else if ( Blob.class.isAssignableFrom( type ) ) {
+			// the length of a Blob has to be known up front
+			return (X) options.getLobCreator().createBlob( DataHelper.extractBytes( Channels.newInputStream( value ) ) );
+		}
+
+		throw unknownUnwrap( type );
+	}
+
+	@Override
+	public <X> ReadableByteChannel wrap(X value, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+
+		if ( value instanceof ReadableByteChannel ) {
+			return (ReadableByteChannel) value;
+		}
+		else if ( value instanceof Blob ) {
+			try {
+				return Channels.newChannel( ( (Blob) value ).getBinaryStream() );
+			}
+			catch ( SQLException e ) {
+				throw new HibernateException( "Unable to access blob stream", e );
+			}
+		}
+		else if ( value instanceof InputStream ) {
+			return Channels.newChannel( (InputStream) value );
+		}
+		else if ( value instanceof byte[] ) {
+			return Channels.newChannel( new ByteArrayInputStream( (byte[]) value ) );
+		}
+
+		throw unknownWrap( value.getClass() );
+	}
+
+	@Override
+	public long getDefaultSqlLength(Dialect dialect, JdbcType jdbcType) {
+		return dialect.getDefaultLobLength();
+	}
+
+	/**
+	 * A {@link BinaryStream} of unknown length reading a channel.
+	 */
+	private static class ChannelBinaryStream implements BinaryStream {
+		private final ReadableByteChannel channel;
+
+		private ChannelBinaryStream(ReadableByteChannel channel) {
+			this.channel = channel;
+		}
+
+		@Override
+		public InputStream getInputStream() {
+			return Channels.newInputStream( channel );
+		}
+
+		@Override
+		public byte[] getBytes() {
+			return DataHelper.extractBytes( getInputStream() );
+		}
+
+		@Override
+		public long getLength() {
+			return -1;
+		}
+
+		@Override
+		public void release() {
+			try {
+				channel.close();
+			}
+			catch ( IOException ignore ) {
+			}
+		}
+	}
+}
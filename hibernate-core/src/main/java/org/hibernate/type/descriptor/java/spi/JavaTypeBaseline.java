@@ -69,6 +69,7 @@ import org.hibernate.type.descriptor.java.OffsetDateTimeJavaType;
 import org.hibernate.type.descriptor.java.OffsetTimeJavaType;
 import org.hibernate.type.descriptor.java.PrimitiveByteArrayJavaType;
 import org.hibernate.type.descriptor.java.PrimitiveCharacterArrayJavaType;
+import org.hibernate.type.descriptor.java.ReadableByteChannelJavaType;
 import org.hibernate.type.descriptor.java.ShortJavaType;
 import org.hibernate.type.descriptor.java.ShortPrimitiveArrayJavaType;
 import org.hibernate.type.descriptor.java.StringJavaType;
@@ -122,6 +123,7 @@ public class JavaTypeBaseline {
 		target.addBaselineDescriptor( BlobJavaType.INSTANCE );
 		target.addBaselineDescriptor( ClobJavaType.INSTANCE );
 		target.addBaselineDescriptor( NClobJavaType.INSTANCE );
+		target.addBaselineDescriptor( ReadableByteChannelJavaType.INSTANCE );
 
 		target.addBaselineDescriptor( ByteArrayJavaType.INSTANCE );
 		target.addBaselineDescriptor( CharacterArrayJavaType.INSTANCE );
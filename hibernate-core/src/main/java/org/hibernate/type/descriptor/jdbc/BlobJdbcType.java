@@ -6,6 +6,8 @@
  */
 package org.hibernate.type.descriptor.jdbc;
 
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
 import java.sql.Blob;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
@@ -105,7 +107,8 @@ public abstract class BlobJdbcType implements JdbcType {
 						// performance shortcut for binding BLOB data in byte[] format
 						descriptor = PRIMITIVE_ARRAY_BINDING;
 					}
-					else if ( options.useStreamForLobBinding() ) {
+					else if ( options.useStreamForLobBinding() || value instanceof ReadableByteChannel ) {
+						// a channel is streamed, since its length is unknown
 						descriptor = STREAM_BINDING;
 					}
 					descriptor.getBlobBinder( javaType ).doBind( st, value, index, options );
@@ -119,7 +122,8 @@ public abstract class BlobJdbcType implements JdbcType {
 						// performance shortcut for binding BLOB data in byte[] format
 						descriptor = PRIMITIVE_ARRAY_BINDING;
 					}
-					else if ( options.useStreamForLobBinding() ) {
+					else if ( options.useStreamForLobBinding() || value instanceof ReadableByteChannel ) {
+						// a channel is streamed, since its length is unknown
 						descriptor = STREAM_BINDING;
 					}
 					descriptor.getBlobBinder( javaType ).doBind( st, value, name, options );
@@ -145,13 +149,25 @@ public abstract class BlobJdbcType implements JdbcType {
 				@Override
 				public void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
 						throws SQLException {
-					st.setBytes( index, javaType.unwrap( value, byte[].class, options ) );
+					if ( value instanceof ReadableByteChannel ) {
+						// a channel is streamed instead of being read into memory
+						STREAM_BINDING.getBlobBinder( javaType ).doBind( st, value, index, options );
+					}
+					else {
+						st.setBytes( index, javaType.unwrap( value, byte[].class, options ) );
+					}
 				}
 
 				@Override
 				protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
 						throws SQLException {
-					st.setBytes( name, javaType.unwrap( value, byte[].class, options ) );
+					if ( value instanceof ReadableByteChannel ) {
+						// a channel is streamed instead of being read into memory
+						STREAM_BINDING.getBlobBinder( javaType ).doBind( st, value, name, options );
+					}
+					else {
+						st.setBytes( name, javaType.unwrap( value, byte[].class, options ) );
+					}
 				}
 			};
 		}
@@ -174,13 +190,25 @@ public abstract class BlobJdbcType implements JdbcType {
 				@Override
 				protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
 						throws SQLException {
-					st.setBlob( index, javaType.unwrap( value, Blob.class, options ) );
+					if ( value instanceof ReadableByteChannel ) {
+						// a Blob needs the content up front, a stream of unknown length does not
+						st.setBlob( index, javaType.unwrap( value, InputStream.class, options ) );
+					}
+					else {
+						st.setBlob( index, javaType.unwrap( value, Blob.class, options ) );
+					}
 				}
 
 				@Override
 				protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
 						throws SQLException {
-					st.setBlob( name, javaType.unwrap( value, Blob.class, options ) );
+					if ( value instanceof ReadableByteChannel ) {
+						// a Blob needs the content up front, a stream of unknown length does not
+						st.setBlob( name, javaType.unwrap( value, InputStream.class, options ) );
+					}
+					else {
+						st.setBlob( name, javaType.unwrap( value, Blob.class, options ) );
+					}
 				}
 			};
 		}
@@ -208,7 +236,12 @@ public abstract class BlobJdbcType implements JdbcType {
 							BinaryStream.class,
 							options
 					);
-					st.setBinaryStream( index, binaryStream.getInputStream(), binaryStream.getLength() );
+					if ( binaryStream.getLength() < 0 ) {
+						st.setBinaryStream( index, binaryStream.getInputStream() );
+					}
+					else {
+						st.setBinaryStream( index, binaryStream.getInputStream(), binaryStream.getLength() );
+					}
 				}
 
 				@Override
@@ -219,7 +252,12 @@ public abstract class BlobJdbcType implements JdbcType {
 							BinaryStream.class,
 							options
 					);
-					st.setBinaryStream( name, binaryStream.getInputStream(), binaryStream.getLength() );
+					if ( binaryStream.getLength() < 0 ) {
+						st.setBinaryStream( name, binaryStream.getInputStream() );
+					}
+					else {
+						st.setBinaryStream( name, binaryStream.getInputStream(), binaryStream.getLength() );
+					}
 				}
 			};
 		}
@@ -0,0 +1,339 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.transaction.Transaction;
+import jakarta.transaction.TransactionManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.orm.test.jpa.transaction.JtaPlatformSettingProvider;
+
+import org.hibernate.testing.jta.JtaAwareConnectionProviderImpl;
+import org.hibernate.testing.jta.TestingJtaPlatformImpl;
+import org.hibernate.testing.orm.junit.EntityManagerFactoryScope;
+import org.hibernate.testing.orm.junit.Jpa;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the execution of the batches of independent entity inserts on additional connections
+ */
+@Jpa(
+		annotatedClasses = {
+				PipelinedBatchTest.Author.class,
+				PipelinedBatchTest.Publisher.class,
+				PipelinedBatchTest.Reader.class,
+				PipelinedBatchTest.Review.class
+		},
+		integrationSettings = {
+				@Setting(name = AvailableSettings.JPA_TRANSACTION_TYPE, value = "JTA"),
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = AvailableSettings.ORDER_INSERTS, value = "true"),
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_PIPELINING, value = "2")
+		},
+		settingProviders = {
+				@SettingProvider(
+						settingName = AvailableSettings.CONNECTION_PROVIDER,
+						provider = PipelinedBatchTest.ConnectionProviderSettingProvider.class
+				),
+				@SettingProvider(
+						settingName = AvailableSettings.JTA_PLATFORM,
+						provider = JtaPlatformSettingProvider.class
+				)
+		}
+)
+public class PipelinedBatchTest {
+
+	@AfterEach
+	public void dropTestData(EntityManagerFactoryScope scope) {
+		scope.inTransaction( entityManager -> {
+			entityManager.createQuery( "delete Author" ).executeUpdate();
+			entityManager.createQuery( "delete Publisher" ).executeUpdate();
+			entityManager.createQuery( "delete Reader" ).executeUpdate();
+			entityManager.createQuery( "delete Review" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testIndependentBatchesUseAdditionalConnections(EntityManagerFactoryScope scope) throws Exception {
+		final TransactionManager transactionManager = TestingJtaPlatformImpl.INSTANCE.getTransactionManager();
+		BranchConnectionProvider.ENLISTED_CONNECTIONS.set( 0 );
+
+		scope.inEntityManager( entityManager -> {
+			try {
+				transactionManager.begin();
+				for ( long i = 1; i <= 25; i++ ) {
+					entityManager.persist( new Author( i ) );
+					entityManager.persist( new Publisher( i ) );
+					entityManager.persist( new Reader( i ) );
+				}
+				entityManager.flush();
+				// the session connection, and one for each batch executed in the background
+				assertEquals( 4, BranchConnectionProvider.ENLISTED_CONNECTIONS.get() );
+				transactionManager.commit();
+			}
+			catch (Exception e) {
+				try {
+					transactionManager.rollback();
+				}
+				catch (Exception ignore) {
+				}
+				throw new RuntimeException( e );
+			}
+		} );
+
+		scope.inTransaction( entityManager -> {
+			assertEquals( 25L, entityManager.createQuery( "select count(*) from Author" ).getSingleResult() );
+			assertEquals( 25L, entityManager.createQuery( "select count(*) from Publisher" ).getSingleResult() );
+			assertEquals( 25L, entityManager.createQuery( "select count(*) from Reader" ).getSingleResult() );
+		} );
+	}
+
+	@Test
+	public void testInsertsOfLobsUseTheSessionConnection(EntityManagerFactoryScope scope) throws Exception {
+		final TransactionManager transactionManager = TestingJtaPlatformImpl.INSTANCE.getTransactionManager();
+		BranchConnectionProvider.ENLISTED_CONNECTIONS.set( 0 );
+
+		scope.inEntityManager( entityManager -> {
+			try {
+				transactionManager.begin();
+				for ( long i = 1; i <= 25; i++ ) {
+					entityManager.persist( new Author( i ) );
+					entityManager.persist( new Review( i, "review " + i ) );
+				}
+				entityManager.flush();
+				// the session connection, and one for the authors
+				assertEquals( 2, BranchConnectionProvider.ENLISTED_CONNECTIONS.get() );
+				transactionManager.commit();
+			}
+			catch (Exception e) {
+				try {
+					transactionManager.rollback();
+				}
+				catch (Exception ignore) {
+				}
+				throw new RuntimeException( e );
+			}
+		} );
+
+		scope.inTransaction( entityManager -> {
+			assertEquals( 25L, entityManager.createQuery( "select count(*) from Author" ).getSingleResult() );
+			assertEquals( 25L, entityManager.createQuery( "select count(*) from Review" ).getSingleResult() );
+		} );
+	}
+
+	public static class ConnectionProviderSettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return BranchConnectionProvider.class.getName();
+		}
+	}
+
+	/**
+	 * Enlists each connection obtained within a transaction in a transaction branch of its own,
+	 * committed in two phases, where a real XA data source would join them.
+	 */
+	public static class BranchConnectionProvider extends JtaAwareConnectionProviderImpl {
+		static final AtomicInteger ENLISTED_CONNECTIONS = new AtomicInteger();
+
+		private final Set<Connection> enlistedConnections = Collections.synchronizedSet(
+				Collections.newSetFromMap( new IdentityHashMap<>() )
+		);
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Transaction transaction = findCurrentTransaction();
+			if ( transaction == null ) {
+				return super.getConnection();
+			}
+			final DriverManagerConnectionProviderImpl pool = unwrap( DriverManagerConnectionProviderImpl.class );
+			final Connection connection = pool.getConnection();
+			try {
+				transaction.enlistResource( new BranchResource( this, pool, connection ) );
+			}
+			catch (Exception e) {
+				pool.closeConnection( connection );
+				throw new SQLException( e );
+			}
+			enlistedConnections.add( connection );
+			ENLISTED_CONNECTIONS.incrementAndGet();
+			return connection;
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			// an enlisted connection is closed on completion of its branch
+			if ( !enlistedConnections.contains( connection ) ) {
+				super.closeConnection( connection );
+			}
+		}
+	}
+
+	private static class BranchResource implements XAResource {
+		private final BranchConnectionProvider provider;
+		private final DriverManagerConnectionProviderImpl pool;
+		private final Connection connection;
+
+		private BranchResource(
+				BranchConnectionProvider provider,
+				DriverManagerConnectionProviderImpl pool,
+				Connection connection) {
+			this.provider = provider;
+			this.pool = pool;
+			this.connection = connection;
+		}
+
+		@Override
+		public int prepare(Xid xid) {
+			return XA_OK;
+		}
+
+		@Override
+		public void commit(Xid xid, boolean onePhase) throws XAException {
+			try {
+				connection.commit();
+			}
+			catch (SQLException e) {
+				throw new XAException( e.toString() );
+			}
+			finally {
+				close();
+			}
+		}
+
+		@Override
+		public void rollback(Xid xid) throws XAException {
+			try {
+				connection.rollback();
+			}
+			catch (SQLException e) {
+				throw new XAException( e.toString() );
+			}
+			finally {
+				close();
+			}
+		}
+
+		private void close() {
+			provider.enlistedConnections.remove( connection );
+			try {
+				pool.closeConnection( connection );
+			}
+			catch (SQLException ignore) {
+			}
+		}
+
+		@Override
+		public void end(Xid xid, int flags) {
+		}
+
+		@Override
+		public void start(Xid xid, int flags) {
+		}
+
+		@Override
+		public void forget(Xid xid) {
+		}
+
+		@Override
+		public int getTransactionTimeout() {
+			return 0;
+		}
+
+		@Override
+		public boolean setTransactionTimeout(int seconds) {
+			return false;
+		}
+
+		@Override
+		public boolean isSameRM(XAResource xaResource) {
+			return xaResource == this;
+		}
+
+		@Override
+		public Xid[] recover(int flag) {
+			return new Xid[0];
+		}
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "pipelined_author")
+	public static class Author {
+		@Id
+		private Long id;
+
+		public Author() {
+		}
+
+		public Author(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	@Table(name = "pipelined_publisher")
+	public static class Publisher {
+		@Id
+		private Long id;
+
+		public Publisher() {
+		}
+
+		public Publisher(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Reader")
+	@Table(name = "pipelined_reader")
+	public static class Reader {
+		@Id
+		private Long id;
+
+		public Reader() {
+		}
+
+		public Reader(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Review")
+	@Table(name = "pipelined_review")
+	public static class Review {
+		@Id
+		private Long id;
+		@Lob
+		private String text;
+
+		public Review() {
+		}
+
+		public Review(Long id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
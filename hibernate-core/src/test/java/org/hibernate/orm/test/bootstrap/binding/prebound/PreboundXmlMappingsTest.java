@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bootstrap.binding.prebound;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.jaxb.internal.MappingBinder;
+import org.hibernate.boot.jaxb.internal.PreboundXmlMappings;
+import org.hibernate.boot.jaxb.mapping.JaxbEntityMappings;
+import org.hibernate.boot.registry.BootstrapServiceRegistry;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests bootstrapping with the mapping XML resources bound ahead of time by
+ * {@link PreboundXmlMappings} found on the classpath.
+ */
+@BaseUnitTest
+public class PreboundXmlMappingsTest {
+	private static final String RESOURCE_NAME = "org/hibernate/orm/test/bootstrap/binding/prebound/PreboundEntity.orm.xml";
+
+	@Test
+	public void testPreboundResource(@TempDir File mappingsDir) throws IOException {
+		final byte[] xml = readResource();
+		writeMappings( mappingsDir, xml );
+
+		try ( BootstrapServiceRegistry registry = bootstrapRegistry( mappingsDir ) ) {
+			final PreboundXmlMappings mappings = PreboundXmlMappings.load( registry.getService( ClassLoaderService.class ) );
+			assertNotNull( mappings );
+			assertEquals( 1, mappings.size() );
+
+			final JaxbEntityMappings root = (JaxbEntityMappings) mappings.getRoot( RESOURCE_NAME, xml );
+			assertNotNull( root );
+			assertEquals( "PreboundEntity", root.getEntities().get( 0 ).getName() );
+
+			// another content of the resource
+			assertNull( mappings.getRoot( RESOURCE_NAME, changed( xml ) ) );
+			// another resource
+			assertNull( mappings.getRoot( "META-INF/orm.xml", xml ) );
+		}
+	}
+
+	@Test
+	public void testHbmDocumentIsAdded() throws IOException {
+		final String resourceName = "org/hibernate/orm/test/namingstrategy/synchronizedTables/mapping.hbm.xml";
+		final PreboundXmlMappings mappings = new PreboundXmlMappings();
+		assertTrue( mappings.add( resourceName, readResource( resourceName ), mappingBinder() ) );
+		assertEquals( 1, mappings.size() );
+	}
+
+	@Test
+	public void testNonMappingDocumentIsSkipped() {
+		final PreboundXmlMappings mappings = new PreboundXmlMappings();
+		final byte[] xml = "<?xml version=\"1.0\"?><platform><name>x</name></platform>".getBytes( StandardCharsets.UTF_8 );
+		assertFalse( mappings.add( "META-INF/platform.orm.xml", xml, mappingBinder() ) );
+		assertEquals( 0, mappings.size() );
+	}
+
+	@Test
+	public void testBootstrapWithPreboundMappings(@TempDir File mappingsDir) throws IOException {
+		writeMappings( mappingsDir, readResource() );
+
+		final Metadata metadata = buildMetadata( mappingsDir );
+		assertEquals( "PreboundEntity", metadata.getEntityBinding( PreboundEntity.class.getName() ).getJpaEntityName() );
+	}
+
+	@Test
+	public void testBootstrapWithObsoletePreboundMappings(@TempDir File mappingsDir) throws IOException {
+		// the binding of a previous content of the resource, mapping the entity under another name
+		writeMappings( mappingsDir, changed( readResource() ) );
+
+		final Metadata metadata = buildMetadata( mappingsDir );
+		assertEquals( "PreboundEntity", metadata.getEntityBinding( PreboundEntity.class.getName() ).getJpaEntityName() );
+	}
+
+	private static Metadata buildMetadata(File mappingsDir) {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder( bootstrapRegistry( mappingsDir ) )
+				.build();
+		try {
+			return new MetadataSources( registry ).addResource( RESOURCE_NAME ).buildMetadata();
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	private static BootstrapServiceRegistry bootstrapRegistry(File mappingsDir) {
+		try {
+			return new BootstrapServiceRegistryBuilder()
+					.applyClassLoader( new URLClassLoader(
+							new URL[] { mappingsDir.toURI().toURL() },
+							PreboundXmlMappingsTest.class.getClassLoader()
+					) )
+					.build();
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private static void writeMappings(File mappingsDir, byte[] xml) throws IOException {
+		final PreboundXmlMappings mappings = new PreboundXmlMappings();
+		mappings.add(
+				RESOURCE_NAME,
+				xml,
+				mappingBinder()
+		);
+
+		final File mappingsFile = new File( mappingsDir, PreboundXmlMappings.RESOURCE_NAME );
+		//noinspection ResultOfMethodCallIgnored
+		mappingsFile.getParentFile().mkdirs();
+		try ( OutputStream outputStream = new FileOutputStream( mappingsFile ) ) {
+			mappings.write( outputStream );
+		}
+	}
+
+	private static MappingBinder mappingBinder() {
+		return new MappingBinder( PreboundXmlMappingsTest.class.getClassLoader()::getResourceAsStream, MappingBinder.VALIDATING );
+	}
+
+	private static byte[] readResource() throws IOException {
+		return readResource( RESOURCE_NAME );
+	}
+
+	private static byte[] readResource(String resourceName) throws IOException {
+		try ( InputStream inputStream = PreboundXmlMappingsTest.class.getClassLoader().getResourceAsStream( resourceName ) ) {
+			assertNotNull( inputStream );
+			return inputStream.readAllBytes();
+		}
+	}
+
+	private static byte[] changed(byte[] xml) {
+		return new String( xml, StandardCharsets.UTF_8 )
+				.replace( "name=\"PreboundEntity\"", "name=\"RenamedEntity\"" )
+				.getBytes( StandardCharsets.UTF_8 );
+	}
+}
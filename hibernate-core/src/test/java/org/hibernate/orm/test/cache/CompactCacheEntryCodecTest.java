@@ -0,0 +1,228 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.CompactCacheEntryCodec;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntryCodec;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CompactCacheEntryCodec}
+ */
+@DomainModel(annotatedClasses = {
+		CompactCacheEntryCodecTest.Article.class,
+		CompactCacheEntryCodecTest.FeaturedArticle.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_ENTRY_CODEC, value = CompactCacheEntryCodec.SHORT_NAME),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class CompactCacheEntryCodecTest {
+
+	private static final Instant CREATED_ON = Instant.parse( "2022-06-01T10:15:30.123456Z" );
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "from Article", Article.class )
+				.list()
+				.forEach( session::remove ) );
+		scope.getSessionFactory().getCache().evictAll();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testEntitiesAreCachedAsBytes(SessionFactoryScope scope) {
+		final UUID reference = UUID.randomUUID();
+		scope.inTransaction( session -> {
+			final Article article = new Article( 1, "Encoding" );
+			article.views = 1_000_000L;
+			article.published = true;
+			article.createdOn = CREATED_ON;
+			article.price = new BigDecimal( "4.50" );
+			article.reference = reference;
+			article.ratings.put( "alice", 5 );
+			article.ratings.put( "bob", 3 );
+			session.persist( article );
+		} );
+
+		final EntityPersister persister = scope.getSessionFactory()
+				.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Article.class );
+		scope.inSession( session -> {
+			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			final Object key = cacheAccess.generateCacheKey( 1, persister, scope.getSessionFactory(), null );
+			assertInstanceOf( byte[].class, cacheAccess.get( session, key ) );
+		} );
+
+		// collections are only cached once they are loaded
+		scope.inTransaction( session -> session.find( Article.class, 1 ).ratings.size() );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Article article = session.find( Article.class, 1 );
+			assertEquals( "Encoding", article.title );
+			assertEquals( 1_000_000L, article.views );
+			assertTrue( article.published );
+			assertEquals( CREATED_ON, article.createdOn );
+			assertEquals( new BigDecimal( "4.50" ), article.price );
+			assertEquals( reference, article.reference );
+			assertEquals( Map.of( "alice", 5, "bob", 3 ), new HashMap<>( article.ratings ) );
+		} );
+		assertEquals( 2, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 0, statistics.getSecondLevelCacheMissCount() );
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testSubclassIsReadFromCache(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final FeaturedArticle article = new FeaturedArticle( 2, "Subclass" );
+			article.headline = "Read all about it";
+			session.persist( article );
+		} );
+		scope.inTransaction( session -> session.find( Article.class, 2 ).title = "Updated subclass" );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Article article = session.find( Article.class, 2 );
+			assertInstanceOf( FeaturedArticle.class, article );
+			assertEquals( "Updated subclass", article.title );
+			assertEquals( "Read all about it", ( (FeaturedArticle) article ).headline );
+			assertEquals( 1, article.version );
+		} );
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testQueryResultsAreCached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Article( 3, "Query" ) ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> assertEquals(
+					"Query",
+					session.createQuery( "select a.title from Article a where a.id = :id", String.class )
+							.setParameter( "id", 3 )
+							.setCacheable( true )
+							.getSingleResult()
+			) );
+		}
+		assertEquals( 1, statistics.getQueryCacheMissCount() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testEntryOfUnknownFormatIsNotRead(SessionFactoryScope scope) {
+		final CacheEntryCodec codec = scope.getSessionFactory().getSessionFactoryOptions().getCacheEntryCodec();
+		assertInstanceOf( CompactCacheEntryCodec.class, codec );
+
+		final EntityPersister persister = scope.getSessionFactory()
+				.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getEntityDescriptor( FeaturedArticle.class );
+		final Serializable[] state = new Serializable[persister.getPropertyNames().length];
+		state[Arrays.asList( persister.getPropertyNames() ).indexOf( "title" )] = "Stamped";
+		final byte[] data = codec.encode( new StandardCacheEntryImpl( state, persister.getEntityName(), 0 ), persister );
+
+		final CacheEntry decoded = codec.decodeEntity( data, persister );
+		assertEquals( persister.getEntityName(), decoded.getSubclass() );
+		assertEquals( 0, decoded.getVersion() );
+		assertArrayEquals( state, decoded.getDisassembledState() );
+
+		data[0]++;
+		assertNull( codec.decodeEntity( data, persister ) );
+	}
+
+	@Entity(name = "Article")
+	@Table(name = "codec_article")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Article {
+		@Id
+		private Integer id;
+
+		@Version
+		private int version;
+
+		private String title;
+
+		private long views;
+
+		private boolean published;
+
+		private Instant createdOn;
+
+		private BigDecimal price;
+
+		private UUID reference;
+
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private Map<String, Integer> ratings = new HashMap<>();
+
+		public Article() {
+		}
+
+		public Article(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "FeaturedArticle")
+	public static class FeaturedArticle extends Article {
+		private String headline;
+
+		public FeaturedArticle() {
+		}
+
+		public FeaturedArticle(Integer id, String title) {
+			super( id, title );
+		}
+	}
+}
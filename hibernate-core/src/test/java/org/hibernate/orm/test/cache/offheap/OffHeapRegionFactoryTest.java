@@ -0,0 +1,199 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache.offheap;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.offheap.OffHeapRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link OffHeapRegionFactory}
+ */
+@DomainModel(annotatedClasses = OffHeapRegionFactoryTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.offheap.OffHeapRegionFactory"),
+		@Setting(name = AvailableSettings.CACHE_OFFHEAP_REGION_MAX_SIZE, value = "8192"),
+		@Setting(name = AvailableSettings.CACHE_OFFHEAP_SLAB_SIZE, value = "1024"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class OffHeapRegionFactoryTest {
+
+	private static final String REGION = "books";
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "from Book", Book.class )
+				.list()
+				.forEach( session::remove ) );
+		scope.getSessionFactory().getCache().evictAll();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testEntityAndCollectionAreReadFromCache(SessionFactoryScope scope) {
+		final UUID isbn = UUID.randomUUID();
+		scope.inTransaction( session -> {
+			final Book book = new Book( 1, "Persistence — in depth", isbn );
+			book.price = new BigDecimal( "39.90" );
+			book.published = LocalDate.of( 2022, 6, 1 );
+			book.tags.add( "orm" );
+			book.tags.add( "java" );
+			session.persist( book );
+		} );
+
+		// collections are only cached once they are loaded
+		scope.inTransaction( session -> session.find( Book.class, 1 ).tags.size() );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1 );
+			assertEquals( "Persistence — in depth", book.title );
+			assertEquals( isbn, book.isbn );
+			assertEquals( new BigDecimal( "39.90" ), book.price );
+			assertEquals( LocalDate.of( 2022, 6, 1 ), book.published );
+			assertEquals( List.of( "orm", "java" ), new ArrayList<>( book.tags ) );
+		} );
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( REGION );
+		assertEquals( 2, regionStatistics.getHitCount() );
+		assertEquals( 0, regionStatistics.getMissCount() );
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+		assertEquals( 2, regionStatistics.getElementCountInMemory() );
+		assertTrue( regionStatistics.getSizeInMemory() > 0 );
+	}
+
+	@Test
+	public void testUpdatedEntityIsReadFromCache(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1, "First edition", null ) ) );
+		scope.inTransaction( session -> session.find( Book.class, 1 ).title = "Second edition" );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1 );
+			assertEquals( "Second edition", book.title );
+			assertEquals( 1, book.version );
+		} );
+		assertEquals( 1, statistics.getDomainDataRegionStatistics( REGION ).getHitCount() );
+	}
+
+	@Test
+	public void testQueryResultsAreCached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1, "Cached", null ) ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> assertEquals(
+					1,
+					session.createQuery( "from Book where title = :title", Book.class )
+							.setParameter( "title", "Cached" )
+							.setCacheable( true )
+							.list()
+							.size()
+			) );
+		}
+		assertEquals( 1, statistics.getQueryCacheMissCount() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testOldestEntriesAreEvictedWhenRegionIsFull(SessionFactoryScope scope) {
+		final int count = 200;
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < count; i++ ) {
+				session.persist( new Book( i, "Book #" + i, UUID.randomUUID() ) );
+			}
+		} );
+
+		final CacheRegionStatistics regionStatistics = scope.getSessionFactory()
+				.getStatistics()
+				.getDomainDataRegionStatistics( REGION );
+		assertTrue( regionStatistics.getElementCountInMemory() < count );
+		assertTrue( regionStatistics.getSizeInMemory() <= 8192 );
+
+		// the evicted entries are loaded from the database
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < count; i++ ) {
+				assertNotNull( session.find( Book.class, i ) );
+			}
+		} );
+		assertTrue( regionStatistics.getMissCount() > 0 );
+
+		// while the entries loaded last are still cached
+		scope.getSessionFactory().getStatistics().clear();
+		scope.inTransaction( session -> {
+			for ( int i = count - 10; i < count; i++ ) {
+				session.find( Book.class, i );
+			}
+		} );
+		assertEquals( 10, scope.getSessionFactory().getStatistics().getDomainDataRegionStatistics( REGION ).getHitCount() );
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "offheap_book")
+	@Cacheable
+	@Cache(region = REGION, usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@Version
+		private int version;
+
+		private String title;
+
+		private UUID isbn;
+
+		private BigDecimal price;
+
+		private LocalDate published;
+
+		@ElementCollection
+		@Cache(region = REGION, usage = CacheConcurrencyStrategy.READ_WRITE)
+		private List<String> tags = new ArrayList<>();
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, UUID isbn) {
+			this.id = id;
+			this.title = title;
+			this.isbn = isbn;
+		}
+	}
+}
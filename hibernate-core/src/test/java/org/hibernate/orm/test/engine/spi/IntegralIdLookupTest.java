@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.engine.spi;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests looking entities up in the persistence context by a primitive identifier
+ */
+@DomainModel(annotatedClasses = {
+		IntegralIdLookupTest.Animal.class,
+		IntegralIdLookupTest.Dog.class,
+		IntegralIdLookupTest.Counter.class,
+		IntegralIdLookupTest.Flag.class
+})
+@SessionFactory
+public class IntegralIdLookupTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Animal" ).executeUpdate();
+			session.createMutationQuery( "delete Counter" ).executeUpdate();
+			session.createMutationQuery( "delete Flag" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testLongIdentifier(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Animal animal = new Animal( 1L );
+			final Dog dog = new Dog( 2L );
+			session.persist( animal );
+			session.persist( dog );
+
+			final PersistenceContext persistenceContext = session.getPersistenceContext();
+			final EntityPersister animalPersister = session.getEntityPersister( null, animal );
+			final EntityPersister dogPersister = session.getEntityPersister( null, dog );
+			assertSame( animal, persistenceContext.getEntity( animalPersister, 1L ) );
+			assertSame( dog, persistenceContext.getEntity( animalPersister, 2L ) );
+			assertSame( dog, persistenceContext.getEntity( dogPersister, 2L ) );
+			assertNull( persistenceContext.getEntity( animalPersister, 3L ) );
+		} );
+	}
+
+	@Test
+	public void testIntegerIdentifier(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Counter counter = new Counter( 1 );
+			session.persist( counter );
+
+			final PersistenceContext persistenceContext = session.getPersistenceContext();
+			final EntityPersister persister = session.getEntityPersister( null, counter );
+			assertSame( counter, persistenceContext.getEntity( persister, 1 ) );
+			assertNull( persistenceContext.getEntity( persister, 2 ) );
+			// 1 once truncated to an int
+			assertNull( persistenceContext.getEntity( persister, ( 1L << 32 ) + 1 ) );
+			// entities of other types having the same identifier value are ignored
+			assertNull( persistenceContext.getEntity( session.getEntityPersister( null, new Animal() ), 1L ) );
+		} );
+	}
+
+	@Test
+	public void testOtherIntegralIdentifier(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Flag flag = new Flag( (short) 1 );
+			session.persist( flag );
+
+			final PersistenceContext persistenceContext = session.getPersistenceContext();
+			final EntityPersister persister = session.getEntityPersister( null, flag );
+			assertSame( flag, persistenceContext.getEntity( persister, 1 ) );
+			assertNull( persistenceContext.getEntity( persister, 2 ) );
+		} );
+	}
+
+	@Entity(name = "Animal")
+	@Table(name = "integral_animal")
+	public static class Animal {
+		@Id
+		private Long id;
+
+		public Animal() {
+		}
+
+		public Animal(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(Long id) {
+			super( id );
+		}
+	}
+
+	@Entity(name = "Counter")
+	@Table(name = "integral_counter")
+	public static class Counter {
+		@Id
+		private Integer id;
+
+		public Counter() {
+		}
+
+		public Counter(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Flag")
+	@Table(name = "integral_flag")
+	public static class Flag {
+		@Id
+		private Short id;
+
+		public Flag() {
+		}
+
+		public Flag(Short id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests flushes comparing the entities with their loaded state on several threads
+ */
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckTest.Shelf.class,
+		ParallelDirtyCheckTest.Book.class,
+		ParallelDirtyCheckTest.Journal.class,
+		ParallelDirtyCheckTest.Tally.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PARALLEL_DIRTY_CHECK_THRESHOLD, value = "10"))
+@SessionFactory
+public class ParallelDirtyCheckTest {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Shelf first = new Shelf( 1, "first" );
+			final Shelf second = new Shelf( 2, "second" );
+			session.persist( first );
+			session.persist( second );
+			for ( int i = 1; i <= 100; i++ ) {
+				session.persist( new Book( i, "book " + i, i % 2 == 0 ? first : second ) );
+			}
+			for ( int i = 1; i <= 20; i++ ) {
+				session.persist( new Journal( i, "journal " + i ) );
+			}
+			session.persist( new Tally( 1 ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Shelf" ).executeUpdate();
+			session.createMutationQuery( "delete from Journal" ).executeUpdate();
+			session.createMutationQuery( "delete from Tally" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testChangesAreDetected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createQuery( "from Book order by id", Book.class ).list();
+			final Shelf first = session.find( Shelf.class, 1 );
+			for ( Book book : books ) {
+				if ( book.id % 10 == 0 ) {
+					book.title = "changed " + book.id;
+				}
+				if ( book.id % 25 == 0 ) {
+					// reassigned association, checked by the flushing thread
+					book.shelf = first;
+				}
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createQuery( "from Book order by id", Book.class ).list();
+			assertEquals( 100, books.size() );
+			for ( Book book : books ) {
+				assertEquals( book.id % 10 == 0 ? "changed " + book.id : "book " + book.id, book.title );
+				assertEquals( book.id % 2 == 0 || book.id % 25 == 0 ? 1 : 2, book.shelf.id );
+			}
+		} );
+	}
+
+	@Test
+	public void testEmbeddableChangesAreDetected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( Book book : session.createQuery( "from Book order by id", Book.class ).list() ) {
+				if ( book.id % 10 == 0 ) {
+					book.edition.number = 2;
+				}
+				else if ( book.id % 15 == 0 ) {
+					book.edition = new Edition( 3, "reprint" );
+				}
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			for ( Book book : session.createQuery( "from Book order by id", Book.class ).list() ) {
+				if ( book.id % 10 == 0 ) {
+					assertEquals( 2, book.edition.number );
+					assertEquals( "first", book.edition.name );
+				}
+				else if ( book.id % 15 == 0 ) {
+					assertEquals( 3, book.edition.number );
+					assertEquals( "reprint", book.edition.name );
+				}
+				else {
+					assertEquals( 1, book.edition.number );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testRemovedEntityIsNotUpdated(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createQuery( "from Book order by id", Book.class ).list();
+			final Book removed = books.get( 0 );
+			removed.title = "removed";
+			session.remove( removed );
+			books.get( 1 ).title = "kept";
+		} );
+
+		scope.inTransaction( session -> {
+			assertEquals( 99L, session.createQuery( "select count(*) from Book", Long.class ).getSingleResult() );
+			final Book kept = session.find( Book.class, 2 );
+			assertEquals( "kept", kept.title );
+			assertSame( kept.shelf, session.find( Shelf.class, 1 ) );
+		} );
+	}
+
+	@Test
+	public void testChangesMadeByCallbacksAreDetected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "from Book", Book.class ).list();
+			final List<Journal> journals = session.createQuery( "from Journal order by id", Journal.class ).list();
+			// flushed after the journals, whose callbacks modify it
+			final Tally tally = session.find( Tally.class, 1 );
+			for ( Journal journal : journals ) {
+				journal.title = "changed " + journal.id;
+				journal.tally = tally;
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			assertEquals( 20, session.find( Tally.class, 1 ).updates );
+			for ( Journal journal : session.createQuery( "from Journal", Journal.class ).list() ) {
+				assertEquals( "changed " + journal.id, journal.title );
+			}
+		} );
+	}
+
+	@Entity(name = "Shelf")
+	@Table(name = "parallel_shelf")
+	public static class Shelf {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Shelf() {
+		}
+
+		public Shelf(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "parallel_book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne
+		private Shelf shelf;
+
+		// only basic values, so compared in parallel
+		private Edition edition;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Shelf shelf) {
+			this.id = id;
+			this.title = title;
+			this.shelf = shelf;
+			this.edition = new Edition( 1, "first" );
+		}
+	}
+
+	@Embeddable
+	public static class Edition {
+		private Integer number;
+
+		private String name;
+
+		public Edition() {
+		}
+
+		public Edition(Integer number, String name) {
+			this.number = number;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Journal")
+	@Table(name = "parallel_journal")
+	public static class Journal {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@Transient
+		private Tally tally;
+
+		public Journal() {
+		}
+
+		public Journal(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		@PreUpdate
+		public void countUpdate() {
+			if ( tally != null ) {
+				tally.updates++;
+			}
+		}
+	}
+
+	@Entity(name = "Tally")
+	@Table(name = "parallel_tally")
+	public static class Tally {
+		@Id
+		private Integer id;
+
+		private int updates;
+
+		public Tally() {
+		}
+
+		public Tally(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.time.LocalDate;
+import java.util.Date;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import org.hibernate.testing.orm.junit.BootstrapServiceRegistry;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that flushes report the entities known to be unchanged without a full dirty check
+ */
+@BootstrapServiceRegistry(integrators = UnchangedEntityFlushTest.FlushListenerIntegrator.class)
+@DomainModel(annotatedClasses = {
+		UnchangedEntityFlushTest.Note.class,
+		UnchangedEntityFlushTest.Sketch.class
+})
+@SessionFactory
+public class UnchangedEntityFlushTest {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Note( i, "note " + i, LocalDate.of( 2022, 1, i ) ) );
+			}
+			session.persist( new Sketch( 1, new Date() ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Note" ).executeUpdate();
+			session.createMutationQuery( "delete from Sketch" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntitiesWithSameImmutableValuesAreSkipped(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "from Note", Note.class ).list();
+			final Sketch sketch = session.find( Sketch.class, 1 );
+
+			session.flush();
+			assertEquals( 4, FlushListener.INSTANCE.entitiesProcessed );
+			// the date of the sketch might have been modified in place
+			assertEquals( 3, FlushListener.INSTANCE.entitiesSkipped );
+
+			session.find( Note.class, 2 ).title = "changed";
+			sketch.drawnOn = new Date( 0 );
+			session.flush();
+			assertEquals( 2, FlushListener.INSTANCE.entitiesSkipped );
+		} );
+
+		scope.inTransaction( session -> {
+			assertEquals( "changed", session.find( Note.class, 2 ).title );
+			assertEquals( 0, session.find( Sketch.class, 1 ).drawnOn.getTime() );
+		} );
+	}
+
+	@Test
+	public void testReadOnlyEntitiesAreSkipped(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			session.find( Sketch.class, 1 ).drawnOn.setTime( 0 );
+			session.flush();
+			assertEquals( 1, FlushListener.INSTANCE.entitiesSkipped );
+		} );
+	}
+
+	@Entity(name = "Note")
+	@Table(name = "unchanged_note")
+	public static class Note {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		private LocalDate writtenOn;
+
+		public Note() {
+		}
+
+		public Note(Integer id, String title, LocalDate writtenOn) {
+			this.id = id;
+			this.title = title;
+			this.writtenOn = writtenOn;
+		}
+	}
+
+	@Entity(name = "Sketch")
+	@Table(name = "unchanged_sketch")
+	public static class Sketch {
+		@Id
+		private Integer id;
+
+		private Date drawnOn;
+
+		public Sketch() {
+		}
+
+		public Sketch(Integer id, Date drawnOn) {
+			this.id = id;
+			this.drawnOn = drawnOn;
+		}
+	}
+
+	public static class FlushListener implements FlushEventListener {
+		static final FlushListener INSTANCE = new FlushListener();
+
+		private int entitiesProcessed;
+		private int entitiesSkipped;
+
+		@Override
+		public void onFlush(FlushEvent event) {
+			entitiesProcessed = event.getNumberOfEntitiesProcessed();
+			entitiesSkipped = event.getNumberOfEntitiesSkipped();
+		}
+	}
+
+	public static class FlushListenerIntegrator implements Integrator {
+		@Override
+		public void integrate(
+				Metadata metadata,
+				SessionFactoryImplementor sessionFactory,
+				SessionFactoryServiceRegistry serviceRegistry) {
+			serviceRegistry.getService( EventListenerRegistry.class )
+					.getEventListenerGroup( EventType.FLUSH )
+					.appendListener( FlushListener.INSTANCE );
+		}
+
+		@Override
+		public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+		}
+	}
+}
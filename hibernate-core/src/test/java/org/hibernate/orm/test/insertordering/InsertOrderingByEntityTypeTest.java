@@ -0,0 +1,220 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests inserts ordered by the entity type order computed from the mapping model,
+ * and inserts of entity types whose foreign keys form a cycle
+ */
+@DomainModel(annotatedClasses = {
+		InsertOrderingByEntityTypeTest.Publisher.class,
+		InsertOrderingByEntityTypeTest.Author.class,
+		InsertOrderingByEntityTypeTest.Book.class,
+		InsertOrderingByEntityTypeTest.Chapter.class,
+		InsertOrderingByEntityTypeTest.Employee.class,
+		InsertOrderingByEntityTypeTest.Department.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.ORDER_INSERTS, value = "true"),
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "50"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class InsertOrderingByEntityTypeTest {
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Chapter" ).executeUpdate();
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+			session.createMutationQuery( "delete from Publisher" ).executeUpdate();
+			session.createMutationQuery( "update Department set manager = null" ).executeUpdate();
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+			session.createMutationQuery( "delete from Department" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertsAreGroupedByEntityType(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				// the entity types are interleaved in the action queue
+				final Author author = new Author( i );
+				final Publisher publisher = new Publisher( i );
+				final Book book = new Book( i, author, publisher );
+				for ( int j = 0; j < 3; j++ ) {
+					book.chapters.add( new Chapter( i * 10 + j, book ) );
+				}
+				session.persist( author );
+				session.persist( publisher );
+				session.persist( book );
+			}
+		} );
+		// one batch per entity type
+		assertEquals( 4, statistics.getPrepareStatementCount() );
+
+		scope.inTransaction( session -> {
+			assertEquals( 30L, session.createQuery( "select count(*) from Chapter c join c.book b join b.author join b.publisher", Long.class )
+					.getSingleResult() );
+		} );
+	}
+
+	@Test
+	public void testEntityTypesWithCyclicForeignKeys(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 5; i++ ) {
+				final Department department = new Department( i );
+				final Employee employee = new Employee( i, department );
+				department.manager = employee;
+				session.persist( employee );
+				session.persist( department );
+			}
+			final Publisher publisher = new Publisher( 1 );
+			session.persist( new Book( 1, null, publisher ) );
+			session.persist( publisher );
+		} );
+
+		scope.inTransaction( session -> {
+			final Department department = session.find( Department.class, 3 );
+			assertEquals( 3, department.manager.id );
+			assertEquals( department, department.manager.department );
+			assertEquals( 1, session.find( Book.class, 1 ).publisher.id );
+		} );
+	}
+
+	@Entity(name = "Publisher")
+	@Table(name = "ordering_publisher")
+	public static class Publisher {
+		@Id
+		private Integer id;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "ordering_author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		public Author() {
+		}
+
+		public Author(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "ordering_book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Author author;
+
+		@ManyToOne
+		private Publisher publisher;
+
+		@OneToMany(mappedBy = "book", cascade = CascadeType.ALL)
+		private List<Chapter> chapters = new ArrayList<>();
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author, Publisher publisher) {
+			this.id = id;
+			this.author = author;
+			this.publisher = publisher;
+		}
+	}
+
+	@Entity(name = "Chapter")
+	@Table(name = "ordering_chapter")
+	public static class Chapter {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Book book;
+
+		public Chapter() {
+		}
+
+		public Chapter(Integer id, Book book) {
+			this.id = id;
+			this.book = book;
+		}
+	}
+
+	@Entity(name = "Employee")
+	@Table(name = "ordering_employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+
+	@Entity(name = "Department")
+	@Table(name = "ordering_department")
+	public static class Department {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Employee manager;
+
+		public Department() {
+		}
+
+		public Department(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.internal.util.StringHelper;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@value AvailableSettings#USE_ARRAY_PARAMETER_FOR_ID_LOADING}
+ */
+@RequiresDialect(H2Dialect.class)
+@RequiresDialect(PostgreSQLDialect.class)
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.USE_ARRAY_PARAMETER_FOR_ID_LOADING, value = "true" )
+)
+@DomainModel( annotatedClasses = MultiLoadArrayParameterTest.Item.class )
+@SessionFactory( useCollectingStatementInspector = true )
+public class MultiLoadArrayParameterTest {
+
+	@BeforeEach
+	public void before(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 60; i++ ) {
+						session.persist( new Item( i, "Item #" + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void after(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete Item" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testMultiLoadUsesSingleParameter(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					statementInspector.clear();
+
+					List<Item> list = session.byMultipleIds( Item.class ).multiLoad( ids( 5 ) );
+					assertEquals( 5, list.size() );
+					assertEquals( "Item #5", list.get( 4 ).name );
+
+					session.clear();
+					list = session.byMultipleIds( Item.class ).multiLoad( ids( 56 ) );
+					assertEquals( 56, list.size() );
+
+					// all the ids are loaded by a single statement, whatever their number
+					statementInspector.assertExecutedCount( 2 );
+					final String sql = statementInspector.getSqlQueries().get( 0 );
+					assertEquals( 1, StringHelper.countUnquoted( sql, '?' ) );
+					assertEquals( sql, statementInspector.getSqlQueries().get( 1 ) );
+				}
+		);
+	}
+
+	@Test
+	public void testUnorderedMultiLoadUsesSingleParameter(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					statementInspector.clear();
+
+					final List<Item> list = session.byMultipleIds( Item.class )
+							.enableOrderedReturn( false )
+							.multiLoad( ids( 56 ) );
+					assertEquals( 56, list.size() );
+
+					statementInspector.assertExecutedCount( 1 );
+					assertEquals( 1, StringHelper.countUnquoted( statementInspector.getSqlQueries().get( 0 ), '?' ) );
+				}
+		);
+	}
+
+	@Test
+	public void testBatchFetchUsesSingleParameter(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final List<Item> references = new ArrayList<>();
+					for ( int i = 1; i <= 8; i++ ) {
+						references.add( session.getReference( Item.class, i ) );
+					}
+					statementInspector.clear();
+
+					Hibernate.initialize( references.get( 0 ) );
+					statementInspector.assertExecutedCount( 1 );
+					assertEquals( 1, StringHelper.countUnquoted( statementInspector.getSqlQueries().get( 0 ), '?' ) );
+					for ( Item reference : references ) {
+						assertTrue( Hibernate.isInitialized( reference ) );
+					}
+				}
+		);
+	}
+
+	private Integer[] ids(int count) {
+		Integer[] ids = new Integer[count];
+		for ( int i = 1; i <= count; i++ ) {
+			ids[i - 1] = i;
+		}
+		return ids;
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "multi_load_item" )
+	@BatchSize( size = 10 )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.lob;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.ReadableByteChannelJavaType;
+import org.hibernate.type.descriptor.jdbc.BlobJdbcType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that {@link ReadableByteChannel} values are bound as streams, whichever way the dialect binds {@code BLOB}s
+ */
+public class ReadableByteChannelBindingTest {
+
+	@Test
+	public void testDefaultBinding() throws Exception {
+		assertEquals( "setBinaryStream(int,InputStream)", bind( BlobJdbcType.DEFAULT ) );
+	}
+
+	@Test
+	public void testBlobBinding() throws Exception {
+		assertEquals( "setBlob(int,InputStream)", bind( BlobJdbcType.BLOB_BINDING ) );
+	}
+
+	@Test
+	public void testPrimitiveArrayBinding() throws Exception {
+		assertEquals( "setBinaryStream(int,InputStream)", bind( BlobJdbcType.PRIMITIVE_ARRAY_BINDING ) );
+	}
+
+	private static String bind(BlobJdbcType jdbcType) throws Exception {
+		final List<String> calls = new ArrayList<>();
+		final PreparedStatement statement = proxy( PreparedStatement.class, (method, args) -> {
+			calls.add( method.getName() + signature( method ) );
+			return null;
+		} );
+		final WrapperOptions options = proxy( WrapperOptions.class, (method, args) -> {
+			if ( method.getReturnType() == boolean.class ) {
+				return false;
+			}
+			throw new UnsupportedOperationException( method.getName() );
+		} );
+
+		final ReadableByteChannel channel = Channels.newChannel( new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+		jdbcType.getBinder( ReadableByteChannelJavaType.INSTANCE ).bind( statement, channel, 1, options );
+
+		assertEquals( 1, calls.size() );
+		// nothing was read from the channel
+		assertEquals( 3, Channels.newInputStream( channel ).readAllBytes().length );
+		return calls.get( 0 );
+	}
+
+	private static String signature(Method method) {
+		final StringBuilder signature = new StringBuilder( "(" );
+		for ( Class<?> parameterType : method.getParameterTypes() ) {
+			if ( signature.length() > 1 ) {
+				signature.append( ',' );
+			}
+			signature.append( parameterType == InputStream.class ? "InputStream" : parameterType.getSimpleName() );
+		}
+		return signature.append( ')' ).toString();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, Handler handler) {
+		return (T) Proxy.newProxyInstance(
+				ReadableByteChannelBindingTest.class.getClassLoader(),
+				new Class[] { type },
+				(proxy, method, args) -> handler.invoke( method, args )
+		);
+	}
+
+	private interface Handler {
+		Object invoke(Method method, Object[] args);
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.lob;
+
+import java.nio.channels.ReadableByteChannel;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.MappingException;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests that entities holding a {@link ReadableByteChannel} cannot be cached
+ */
+@BaseUnitTest
+public class ReadableByteChannelCachingTest {
+
+	@Test
+	public void testCacheableEntityIsRejected() {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" )
+				.applySetting( AvailableSettings.CACHE_REGION_FACTORY, new CachingRegionFactory() )
+				.build();
+		try {
+			final SessionFactory sessionFactory = new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( CachedDocument.class )
+					.buildMetadata()
+					.buildSessionFactory();
+			sessionFactory.close();
+			fail( MappingException.class.getName() + " expected when a cacheable entity holds a channel" );
+		}
+		catch (MappingException e) {
+			assertTrue( e.getMessage().contains( "'content'" ) );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	@Entity(name = "CachedDocument")
+	@Table(name = "channel_cached_document")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class CachedDocument {
+		@Id
+		private Integer id;
+
+		private ReadableByteChannel content;
+	}
+}
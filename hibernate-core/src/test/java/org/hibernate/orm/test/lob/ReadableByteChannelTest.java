@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.lob;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests attributes of type {@link ReadableByteChannel}, streamed to and from a {@code BLOB}
+ */
+@DomainModel(annotatedClasses = ReadableByteChannelTest.Document.class)
+@SessionFactory
+public class ReadableByteChannelTest {
+
+	private static final int LENGTH = 4 * 1024 * 1024;
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Document" ).executeUpdate() );
+	}
+
+	@Test
+	public void testContentIsStreamed(SessionFactoryScope scope) {
+		final GeneratedContent content = new GeneratedContent( LENGTH );
+		scope.inTransaction( session -> session.persist( new Document( 1, content ) ) );
+		assertEquals( LENGTH, content.position );
+
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			final ByteBuffer buffer = ByteBuffer.allocate( 8192 );
+			long read = 0;
+			try ( ReadableByteChannel channel = document.content ) {
+				while ( channel.read( buffer ) >= 0 ) {
+					buffer.flip();
+					while ( buffer.hasRemaining() ) {
+						assertEquals( GeneratedContent.byteAt( read++ ), buffer.get() );
+					}
+					buffer.clear();
+				}
+			}
+			catch (IOException e) {
+				throw new RuntimeException( e );
+			}
+			assertEquals( LENGTH, read );
+		} );
+	}
+
+	@Test
+	public void testNullContent(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Document( 2, null ) ) );
+		scope.inTransaction( session -> assertNull( session.find( Document.class, 2 ).content ) );
+	}
+
+	/**
+	 * A channel producing its content as it is read.
+	 */
+	private static class GeneratedContent implements ReadableByteChannel {
+		private final long length;
+		private long position;
+		private boolean closed;
+
+		private GeneratedContent(long length) {
+			this.length = length;
+		}
+
+		static byte byteAt(long position) {
+			return (byte) ( position % 251 );
+		}
+
+		@Override
+		public int read(ByteBuffer destination) {
+			if ( position == length ) {
+				return -1;
+			}
+			int count = 0;
+			while ( destination.hasRemaining() && position < length ) {
+				destination.put( byteAt( position++ ) );
+				count++;
+			}
+			return count;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return !closed;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+
+	@Entity(name = "Document")
+	@Table(name = "channel_document")
+	public static class Document {
+		@Id
+		private Integer id;
+
+		private ReadableByteChannel content;
+
+		public Document() {
+		}
+
+		public Document(Integer id, ReadableByteChannel content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
+}
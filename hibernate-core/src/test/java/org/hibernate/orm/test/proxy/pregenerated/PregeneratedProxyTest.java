@@ -0,0 +1,231 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.proxy.pregenerated;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.implementation.FixedValue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the proxy and instantiator classes generated at build time, as the enhancement
+ * plugins do, and loaded instead of generating them at runtime.
+ */
+@BaseUnitTest
+public class PregeneratedProxyTest {
+	private static final String ENTITY_CLASS_NAME = PregeneratedEntity.class.getName();
+	private static final String PROXY_CLASS_NAME = ENTITY_CLASS_NAME + "$HibernateProxy";
+	private static final String INSTANTIATOR_CLASS_NAME = ENTITY_CLASS_NAME + "$HibernateInstantiator";
+	private static final String ENTITY_RESOURCE_NAME = ENTITY_CLASS_NAME.replace( '.', '/' ) + ".class";
+
+	@Test
+	public void testPregenerateClasses() {
+		final Map<String, byte[]> classes = pregenerateClasses();
+		assertEquals( 2, classes.size() );
+		assertTrue( classes.containsKey( PROXY_CLASS_NAME ) );
+		assertTrue( classes.containsKey( INSTANTIATOR_CLASS_NAME ) );
+
+		// not an entity
+		assertTrue(
+				Environment.getBytecodeProvider()
+						.pregenerateClasses( getClass().getName(), getClass().getClassLoader() )
+						.isEmpty()
+		);
+	}
+
+	@Test
+	public void testBootstrapWithPregeneratedClasses() throws Exception {
+		final Class<?> entityClass = new PregeneratedClassLoader( pregenerateClasses() ).loadClass( ENTITY_CLASS_NAME );
+
+		try ( SessionFactory sessionFactory = buildSessionFactory( entityClass ) ) {
+			final Statistics statistics = sessionFactory.getStatistics();
+			assertEquals( 1, statistics.getPregeneratedProxyClassCount() );
+			assertEquals( 0, statistics.getProxyClassGenerationCount() );
+
+			persistEntity( sessionFactory, entityClass );
+			try ( Session session = sessionFactory.openSession() ) {
+				final Object reference = session.getReference( entityClass, 1L );
+				assertEquals( PROXY_CLASS_NAME, reference.getClass().getName() );
+				assertFalse( Hibernate.isInitialized( reference ) );
+
+				Hibernate.initialize( reference );
+				assertTrue( Hibernate.isInitialized( reference ) );
+				assertEquals( "pre-generated", entityClass.getMethod( "getName" ).invoke( reference ) );
+			}
+		}
+	}
+
+	@Test
+	public void testBootstrapWithoutPregeneratedClasses() throws Exception {
+		final Class<?> entityClass = new PregeneratedClassLoader( new HashMap<>() ).loadClass( ENTITY_CLASS_NAME );
+
+		try ( SessionFactory sessionFactory = buildSessionFactory( entityClass ) ) {
+			final Statistics statistics = sessionFactory.getStatistics();
+			assertEquals( 0, statistics.getPregeneratedProxyClassCount() );
+			assertEquals( 1, statistics.getProxyClassGenerationCount() );
+
+			persistEntity( sessionFactory, entityClass );
+			try ( Session session = sessionFactory.openSession() ) {
+				final Object reference = session.getReference( entityClass, 1L );
+				assertNotSame( entityClass, reference.getClass() );
+				assertTrue( reference.getClass().getName().startsWith( PROXY_CLASS_NAME + "$" ) );
+			}
+		}
+	}
+
+	@Test
+	public void testBootstrapWithOutdatedPregeneratedClasses() throws Exception {
+		// the entity class changed since the classes were pre-generated
+		final byte[] entityClassFile = new ByteBuddy()
+				.redefine( PregeneratedEntity.class )
+				.defineMethod( "getDescription", String.class, Visibility.PUBLIC )
+				.intercept( FixedValue.value( "changed" ) )
+				.make()
+				.getBytes();
+		final Class<?> entityClass = new PregeneratedClassLoader( pregenerateClasses(), entityClassFile )
+				.loadClass( ENTITY_CLASS_NAME );
+
+		try ( SessionFactory sessionFactory = buildSessionFactory( entityClass ) ) {
+			final Statistics statistics = sessionFactory.getStatistics();
+			assertEquals( 0, statistics.getPregeneratedProxyClassCount() );
+			assertEquals( 1, statistics.getProxyClassGenerationCount() );
+		}
+
+		final ReflectionOptimizer optimizer = Environment.getBytecodeProvider().getReflectionOptimizer(
+				entityClass,
+				new String[] { "getName" },
+				new String[] { "setName" },
+				new Class[] { String.class }
+		);
+		assertNotEquals( INSTANTIATOR_CLASS_NAME, optimizer.getInstantiationOptimizer().getClass().getName() );
+	}
+
+	@Test
+	public void testPregeneratedInstantiator() throws Exception {
+		final Class<?> entityClass = new PregeneratedClassLoader( pregenerateClasses() ).loadClass( ENTITY_CLASS_NAME );
+
+		final ReflectionOptimizer optimizer = Environment.getBytecodeProvider().getReflectionOptimizer(
+				entityClass,
+				new String[] { "getName" },
+				new String[] { "setName" },
+				new Class[] { String.class }
+		);
+		assertNotNull( optimizer.getInstantiationOptimizer() );
+		assertEquals( INSTANTIATOR_CLASS_NAME, optimizer.getInstantiationOptimizer().getClass().getName() );
+		assertEquals( entityClass, optimizer.getInstantiationOptimizer().newInstance().getClass() );
+	}
+
+	private static Map<String, byte[]> pregenerateClasses() {
+		final BytecodeProvider bytecodeProvider = Environment.getBytecodeProvider();
+		return bytecodeProvider.pregenerateClasses( ENTITY_CLASS_NAME, PregeneratedProxyTest.class.getClassLoader() );
+	}
+
+	private static SessionFactory buildSessionFactory(Class<?> entityClass) {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder(
+				new BootstrapServiceRegistryBuilder().applyClassLoader( entityClass.getClassLoader() ).build()
+		)
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, true )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.build();
+		try {
+			return new MetadataSources( registry )
+					.addAnnotatedClass( entityClass )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	private static void persistEntity(SessionFactory sessionFactory, Class<?> entityClass) throws Exception {
+		final Object entity = entityClass.getConstructor().newInstance();
+		entityClass.getMethod( "setId", Long.class ).invoke( entity, 1L );
+		entityClass.getMethod( "setName", String.class ).invoke( entity, "pre-generated" );
+		sessionFactory.inTransaction( session -> session.persist( entity ) );
+	}
+
+	/**
+	 * Defines the entity class along with the classes pre-generated for it, as if they
+	 * were all part of the application.
+	 */
+	private static class PregeneratedClassLoader extends ClassLoader {
+		private final Map<String, byte[]> classes;
+
+		private PregeneratedClassLoader(Map<String, byte[]> classes) {
+			this( classes, readEntityClass() );
+		}
+
+		private PregeneratedClassLoader(Map<String, byte[]> classes, byte[] entityClassFile) {
+			super( PregeneratedProxyTest.class.getClassLoader() );
+			this.classes = classes;
+			this.classes.put( ENTITY_CLASS_NAME, entityClassFile );
+		}
+
+		@Override
+		public InputStream getResourceAsStream(String name) {
+			if ( name.equals( ENTITY_RESOURCE_NAME ) ) {
+				return new ByteArrayInputStream( classes.get( ENTITY_CLASS_NAME ) );
+			}
+			return super.getResourceAsStream( name );
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			synchronized ( getClassLoadingLock( name ) ) {
+				final byte[] bytes = classes.get( name );
+				if ( bytes == null ) {
+					return super.loadClass( name, resolve );
+				}
+				Class<?> loadedClass = findLoadedClass( name );
+				if ( loadedClass == null ) {
+					loadedClass = defineClass( name, bytes, 0, bytes.length );
+				}
+				return loadedClass;
+			}
+		}
+
+		private static byte[] readEntityClass() {
+			try ( InputStream inputStream = PregeneratedProxyTest.class.getClassLoader().getResourceAsStream( ENTITY_RESOURCE_NAME ) ) {
+				assertNotNull( inputStream );
+				return inputStream.readAllBytes();
+			}
+			catch (IOException e) {
+				throw new IllegalStateException( e );
+			}
+		}
+	}
+}
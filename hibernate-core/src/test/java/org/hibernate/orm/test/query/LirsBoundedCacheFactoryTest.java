@@ -0,0 +1,45 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.query.internal.LirsBoundedCacheFactory;
+import org.hibernate.query.spi.BoundedCache;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LirsBoundedCacheFactoryTest extends BaseUnitTestCase {
+
+	@Test
+	public void testEvictionsAreReported() {
+		final AtomicInteger evictions = new AtomicInteger();
+		final BoundedCache<Integer, Integer> cache = LirsBoundedCacheFactory.INSTANCE.createCache(
+				100,
+				evictions::incrementAndGet
+		);
+		for ( int i = 0; i < 10_000; i++ ) {
+			cache.put( i, i );
+		}
+		assertEquals( 10_000 - cache.size(), evictions.get() );
+	}
+
+	@Test
+	public void testRemovalsAreNotEvictions() {
+		final AtomicInteger evictions = new AtomicInteger();
+		final BoundedCache<Integer, Integer> cache = LirsBoundedCacheFactory.INSTANCE.createCache(
+				100,
+				evictions::incrementAndGet
+		);
+		cache.put( 1, 1 );
+		cache.clear();
+		assertEquals( 0, evictions.get() );
+	}
+}
@@ -0,0 +1,317 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.LockMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.SelectionQuery;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link org.hibernate.Session#listAll}
+ */
+@DomainModel(annotatedClasses = {
+		ListAllQueriesTest.Team.class,
+		ListAllQueriesTest.Player.class,
+		ListAllQueriesTest.Profile.class
+})
+@ServiceRegistry(
+		settings = @Setting(
+				name = AvailableSettings.JDBC_ASYNC_EXECUTOR,
+				value = "org.hibernate.orm.test.query.ListAllQueriesTest$RecordingExecutor"
+		)
+)
+@SessionFactory
+public class ListAllQueriesTest {
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Team reds = new Team( 1, "Reds" );
+			final Team blues = new Team( 2, "Blues" );
+			session.persist( reds );
+			session.persist( blues );
+			for ( int i = 1; i <= 6; i++ ) {
+				session.persist( new Player( i, "Player " + i, i % 2 == 0 ? reds : blues ) );
+			}
+			session.persist( new Profile( 1, "A long story" ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Player" ).executeUpdate();
+			session.createMutationQuery( "delete from Team" ).executeUpdate();
+			session.createMutationQuery( "delete from Profile" ).executeUpdate();
+		} );
+	}
+
+	@BeforeEach
+	public void resetExecutor() {
+		RecordingExecutor.EXECUTIONS.set( 0 );
+	}
+
+	@Test
+	public void testQueriesAreFannedOutWithoutTransaction(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final SelectionQuery<Player> reds = session.createSelectionQuery(
+					"from Player p join fetch p.team where p.team.id = :team order by p.id",
+					Player.class
+			).setParameter( "team", 1 );
+			final SelectionQuery<Team> teams = session.createSelectionQuery( "from Team t order by t.id", Team.class );
+			final SelectionQuery<Long> count = session.createSelectionQuery( "select count(p) from Player p", Long.class );
+
+			final List<List<?>> results = session.listAll( reds, teams, count );
+
+			assertEquals( 3, RecordingExecutor.EXECUTIONS.get() );
+			assertEquals( 3, results.size() );
+			final List<?> players = results.get( 0 );
+			assertEquals( 3, players.size() );
+			assertEquals( 2, ( (Player) players.get( 0 ) ).id );
+			assertEquals( 2, results.get( 1 ).size() );
+			// the entities of all the queries belong to the persistence context of the session
+			assertSame( ( (Player) players.get( 0 ) ).team, results.get( 1 ).get( 0 ) );
+			assertSame( session.find( Team.class, 2 ), results.get( 1 ).get( 1 ) );
+			assertTrue( session.contains( players.get( 2 ) ) );
+			assertEquals( 6L, results.get( 2 ).get( 0 ) );
+		} );
+	}
+
+	@Test
+	public void testQueriesAreListedInTurnInTransaction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Team( 3, "Greens" ) );
+			final List<List<?>> results = session.listAll(
+					session.createSelectionQuery( "from Team t order by t.id", Team.class ),
+					session.createSelectionQuery( "from Player p where p.id = 1", Player.class )
+			);
+
+			// other connections would not see the new team
+			assertEquals( 0, RecordingExecutor.EXECUTIONS.get() );
+			assertEquals( 3, results.get( 0 ).size() );
+			assertEquals( 1, results.get( 1 ).size() );
+			session.remove( session.find( Team.class, 3 ) );
+		} );
+	}
+
+	@Test
+	public void testQueriesAreFannedOutInTransactionBeforeAnyStatement(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final List<List<?>> results = session.listAll(
+					session.createSelectionQuery( "from Team t order by t.id", Team.class ),
+					session.createSelectionQuery( "from Player p order by p.id", Player.class )
+			);
+
+			assertEquals( 2, RecordingExecutor.EXECUTIONS.get() );
+			assertEquals( 2, results.get( 0 ).size() );
+			assertEquals( 6, results.get( 1 ).size() );
+			assertTrue( session.isReadOnly( results.get( 1 ).get( 0 ) ) );
+		} );
+	}
+
+	@Test
+	public void testQueriesAreListedInTurnInReadOnlyTransactionAfterStatements(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			// the transaction now has a view of the database the other connections do not share
+			assertEquals( "Reds", session.find( Team.class, 1 ).name );
+			final List<List<?>> results = session.listAll(
+					session.createSelectionQuery( "from Team t order by t.id", Team.class ),
+					session.createSelectionQuery( "from Player p order by p.id", Player.class )
+			);
+
+			assertEquals( 0, RecordingExecutor.EXECUTIONS.get() );
+			assertEquals( 2, results.get( 0 ).size() );
+			assertEquals( 6, results.get( 1 ).size() );
+		} );
+	}
+
+	@Test
+	public void testQueriesAreFannedOutAgainInNextTransaction(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			session.find( Team.class, 1 );
+			session.getTransaction().commit();
+
+			session.getTransaction().begin();
+			final List<List<?>> results = session.listAll(
+					session.createSelectionQuery( "from Team t order by t.id", Team.class ),
+					session.createSelectionQuery( "from Player p order by p.id", Player.class )
+			);
+			session.getTransaction().commit();
+
+			assertEquals( 2, RecordingExecutor.EXECUTIONS.get() );
+			assertEquals( 2, results.get( 0 ).size() );
+			assertEquals( 6, results.get( 1 ).size() );
+		} );
+	}
+
+	@Test
+	public void testQueriesWhichCannotBeFannedOutAreListedInTheirTurn(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final List<List<?>> results = session.listAll(
+					session.createSelectionQuery( "from Team t where t.id = 1", Team.class ),
+					session.createNativeQuery( "select id from async_fan_out_player where id < 3", Integer.class ),
+					session.createSelectionQuery( "from Player p where p.id = 2", Player.class )
+							.setHibernateLockMode( LockMode.PESSIMISTIC_WRITE ),
+					session.createSelectionQuery( "from Team t where t.id = 2", Team.class )
+			);
+
+			assertEquals( 2, RecordingExecutor.EXECUTIONS.get() );
+			assertEquals( "Reds", ( (Team) results.get( 0 ).get( 0 ) ).name );
+			assertEquals( 2, results.get( 1 ).size() );
+			assertEquals( 2, ( (Player) results.get( 2 ).get( 0 ) ).id );
+			assertEquals( "Blues", ( (Team) results.get( 3 ).get( 0 ) ).name );
+		} );
+	}
+
+	@Test
+	public void testQueriesAreListedInTurnInSerializableTransaction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			session.doWork( connection -> connection.setTransactionIsolation( Connection.TRANSACTION_SERIALIZABLE ) );
+			try {
+				final List<List<?>> results = session.listAll(
+						session.createSelectionQuery( "from Team t order by t.id", Team.class ),
+						session.createSelectionQuery( "from Player p order by p.id", Player.class )
+				);
+
+				// the other connections would not share the snapshot of the transaction
+				assertEquals( 0, RecordingExecutor.EXECUTIONS.get() );
+				assertEquals( 2, results.get( 0 ).size() );
+				assertEquals( 6, results.get( 1 ).size() );
+			}
+			finally {
+				session.doWork( connection -> connection.setTransactionIsolation( Connection.TRANSACTION_READ_COMMITTED ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testQueriesReadingLobsAreListedInTheirTurn(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<List<?>> results = session.listAll(
+					session.createSelectionQuery( "from Team t order by t.id", Team.class ),
+					session.createSelectionQuery( "from Profile p", Profile.class ),
+					session.createSelectionQuery( "from Player p order by p.id", Player.class )
+			);
+
+			assertEquals( 2, RecordingExecutor.EXECUTIONS.get() );
+			assertEquals( 2, results.get( 0 ).size() );
+			assertEquals( "A long story", ( (Profile) results.get( 1 ).get( 0 ) ).story );
+			assertEquals( 6, results.get( 2 ).size() );
+		} );
+	}
+
+	@Test
+	public void testFailureOfOneQuery(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			assertThrows(
+					RuntimeException.class,
+					() -> session.listAll(
+							session.createSelectionQuery( "from Team", Team.class ),
+							session.createSelectionQuery( "select 1 / (p.id - p.id) from Player p", Integer.class )
+					)
+			);
+			assertEquals( 2, session.createSelectionQuery( "from Team", Team.class ).list().size() );
+		} );
+	}
+
+	public static class RecordingExecutor implements Executor {
+		static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+		@Override
+		public void execute(Runnable command) {
+			EXECUTIONS.incrementAndGet();
+			ForkJoinPool.commonPool().execute( command );
+		}
+	}
+
+	@Entity(name = "Team")
+	@Table(name = "async_fan_out_team")
+	public static class Team {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Team() {
+		}
+
+		public Team(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Player")
+	@Table(name = "async_fan_out_player")
+	public static class Player {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ManyToOne
+		private Team team;
+
+		public Player() {
+		}
+
+		public Player(Integer id, String name, Team team) {
+			this.id = id;
+			this.name = name;
+			this.team = team;
+		}
+	}
+
+	@Entity(name = "Profile")
+	@Table(name = "async_fan_out_profile")
+	public static class Profile {
+		@Id
+		private Integer id;
+
+		@Lob
+		private String story;
+
+		public Profile() {
+		}
+
+		public Profile(Integer id, String story) {
+			this.id = id;
+			this.story = story;
+		}
+	}
+}
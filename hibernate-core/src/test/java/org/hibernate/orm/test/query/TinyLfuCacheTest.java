@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.query.internal.TinyLfuCache;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TinyLfuCacheTest extends BaseUnitTestCase {
+
+	@Test
+	public void testBasicOperations() {
+		final TinyLfuCache<String, String> cache = new TinyLfuCache<>( 10, null );
+		assertNull( cache.get( "a" ) );
+		cache.put( "a", "1" );
+		assertEquals( "1", cache.get( "a" ) );
+		cache.put( "a", "2" );
+		assertEquals( "2", cache.get( "a" ) );
+		assertEquals( 1, cache.size() );
+
+		final String created = cache.computeIfAbsent( "b", key -> key + "!" );
+		assertEquals( "b!", created );
+		assertSame( created, cache.computeIfAbsent( "b", key -> "unexpected" ) );
+
+		cache.clear();
+		assertEquals( 0, cache.size() );
+		assertNull( cache.get( "a" ) );
+		cache.put( "a", "3" );
+		assertEquals( "3", cache.get( "a" ) );
+	}
+
+	@Test
+	public void testSizeIsBounded() {
+		final AtomicInteger evictions = new AtomicInteger();
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 100, evictions::incrementAndGet );
+		for ( int i = 0; i < 10_000; i++ ) {
+			cache.put( i, i );
+			assertTrue( cache.size() <= 100 );
+		}
+		assertEquals( 100, cache.size() );
+		assertEquals( 9_900, evictions.get() );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>( 100, null );
+		for ( int round = 0; round < 5; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				cache.computeIfAbsent( i, key -> key );
+			}
+		}
+		// a burst of one-off keys, which would flush an LRU cache entirely
+		for ( int i = 1_000; i < 5_000; i++ ) {
+			cache.put( i, i );
+		}
+		int retained = 0;
+		for ( int i = 0; i < 50; i++ ) {
+			if ( cache.get( i ) != null ) {
+				retained++;
+			}
+		}
+		assertTrue( "Only " + retained + " hot entries were retained", retained >= 45 );
+	}
+}
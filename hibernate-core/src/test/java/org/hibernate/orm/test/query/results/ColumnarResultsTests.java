@@ -0,0 +1,184 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query.results;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.type.YesNoConverter;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests reading the results of scalar projections by columns
+ */
+@DomainModel(annotatedClasses = ColumnarResultsTests.Measurement.class)
+@SessionFactory
+public class ColumnarResultsTests {
+
+	@BeforeEach
+	public void prepareTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Measurement( (long) i, i * 10, i / 2.0, i / 10f, BigDecimal.valueOf( i, 1 ), i % 2 == 0 ) );
+			}
+			session.persist( new Measurement( 6L, null, null, null, null, null ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPrimitiveColumns(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Integer> batchSizes = new ArrayList<>();
+			final long[] sums = new long[2];
+			final double[] ratios = new double[1];
+			final long rows = session.createQuery(
+					"select m.id, m.quantity, m.ratio, m.amount from Measurement m where m.id <= 5 order by m.id",
+					Object[].class
+			).consumeColumns( 2, batch -> {
+				assertThat( batch.getColumnCount() ).isEqualTo( 4 );
+				assertThat( batch.getColumnType( 0 ) ).isEqualTo( long.class );
+				assertThat( batch.getColumnType( 1 ) ).isEqualTo( long.class );
+				assertThat( batch.getColumnType( 2 ) ).isEqualTo( double.class );
+				assertThat( batch.getColumnType( 3 ) ).isEqualTo( Object.class );
+				batchSizes.add( batch.getRowCount() );
+				final long[] ids = batch.getLongs( 0 );
+				for ( int row = 0; row < batch.getRowCount(); row++ ) {
+					sums[0] += ids[row];
+					sums[1] += batch.getLong( 1, row );
+					ratios[0] += batch.getDouble( 2, row );
+					assertThat( (BigDecimal) batch.getObject( 3, row ) )
+							.isEqualByComparingTo( BigDecimal.valueOf( ids[row], 1 ) );
+				}
+			} );
+
+			assertThat( rows ).isEqualTo( 5 );
+			assertThat( batchSizes ).containsExactly( 2, 2, 1 );
+			assertThat( sums ).containsExactly( 15, 150 );
+			assertThat( ratios[0] ).isEqualTo( 7.5 );
+		} );
+	}
+
+	@Test
+	public void testFloatColumn(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object> values = new ArrayList<>();
+			session.createQuery( "select m.weight from Measurement m where m.id <= 3 order by m.id", Float.class )
+					.consumeColumns( 10, batch -> {
+						assertThat( batch.getColumnType( 0 ) ).isEqualTo( double.class );
+						for ( int row = 0; row < batch.getRowCount(); row++ ) {
+							// the very float which was stored, widened
+							assertThat( batch.getDouble( 0, row ) ).isEqualTo( (double) ( ( row + 1 ) / 10f ) );
+							values.add( batch.getObject( 0, row ) );
+						}
+					} );
+			assertThat( values ).containsExactly( 0.1f, 0.2f, 0.3f );
+		} );
+	}
+
+	@Test
+	public void testNullValues(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery(
+					"select m.quantity, m.ratio, m.amount, m.even from Measurement m where m.id = 6",
+					Object[].class
+			).consumeColumns( 10, batch -> {
+				assertThat( batch.getRowCount() ).isEqualTo( 1 );
+				for ( int column = 0; column < batch.getColumnCount(); column++ ) {
+					assertThat( batch.isNull( column, 0 ) ).isTrue();
+					assertThat( batch.getObject( column, 0 ) ).isNull();
+				}
+				assertThat( batch.getLong( 0, 0 ) ).isEqualTo( 0 );
+			} );
+		} );
+	}
+
+	@Test
+	public void testConvertedValues(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object> values = new ArrayList<>();
+			session.createQuery(
+					"select m.even from Measurement m where m.id <= 2 order by m.id",
+					Boolean.class
+			).consumeColumns( 10, batch -> {
+				assertThat( batch.getColumnType( 0 ) ).isEqualTo( Object.class );
+				for ( int row = 0; row < batch.getRowCount(); row++ ) {
+					values.add( batch.getObject( 0, row ) );
+				}
+			} );
+			assertThat( values ).containsExactly( false, true );
+		} );
+	}
+
+	@Test
+	public void testEntitySelectionIsRejected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThrows(
+				IllegalStateException.class,
+				() -> session.createQuery( "from Measurement", Measurement.class )
+						.consumeColumns( 10, batch -> {} )
+		) );
+	}
+
+	@Test
+	public void testWrongColumnType(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery(
+				"select m.ratio from Measurement m where m.id = 1",
+				Double.class
+		).consumeColumns( 10, batch -> {
+			assertThrows( IllegalArgumentException.class, () -> batch.getLongs( 0 ) );
+			assertThrows( IndexOutOfBoundsException.class, () -> batch.getDouble( 0, 1 ) );
+		} ) );
+	}
+
+	@Entity(name = "Measurement")
+	@Table(name = "columnar_measurement")
+	public static class Measurement {
+		@Id
+		private Long id;
+
+		private Integer quantity;
+
+		private Double ratio;
+
+		private Float weight;
+
+		private BigDecimal amount;
+
+		@Convert(converter = YesNoConverter.class)
+		private Boolean even;
+
+		public Measurement() {
+		}
+
+		public Measurement(Long id, Integer quantity, Double ratio, Float weight, BigDecimal amount, Boolean even) {
+			this.id = id;
+			this.quantity = quantity;
+			this.ratio = ratio;
+			this.weight = weight;
+			this.amount = amount;
+			this.even = even;
+		}
+	}
+}
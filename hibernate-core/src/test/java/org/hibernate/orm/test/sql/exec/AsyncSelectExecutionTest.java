@@ -0,0 +1,203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.exec;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.LockMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.query.sqm.internal.ConcreteSqmSelectQueryPlan;
+import org.hibernate.query.sqm.internal.SqmSelectionQueryImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link SelectionQuery#listAsync()} and {@link SelectQueryPlan#performListAsync} with an executor specified by
+ * {@value AvailableSettings#JDBC_ASYNC_EXECUTOR}
+ */
+@DomainModel(annotatedClasses = { AsyncSelectExecutionTest.Team.class, AsyncSelectExecutionTest.Player.class })
+@ServiceRegistry(
+		settings = @Setting(
+				name = AvailableSettings.JDBC_ASYNC_EXECUTOR,
+				value = "org.hibernate.orm.test.sql.exec.AsyncSelectExecutionTest$RecordingExecutor"
+		)
+)
+@SessionFactory
+public class AsyncSelectExecutionTest {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Team team = new Team( 1, "Reds" );
+			session.persist( team );
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Player( i, "Player " + i, team ) );
+			}
+		} );
+		RecordingExecutor.EXECUTIONS.set( 0 );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Player" ).executeUpdate();
+			session.createMutationQuery( "delete from Team" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testResultsAreAssembledIntoTheSession(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final SqmSelectionQueryImpl<Player> query = (SqmSelectionQueryImpl<Player>) session.createSelectionQuery(
+					"from Player p join fetch p.team where p.id > :id order by p.id",
+					Player.class
+			);
+			query.setParameter( "id", 2 );
+
+			final List<Player> players = performListAsync( query ).toCompletableFuture().join();
+
+			assertEquals( 1, RecordingExecutor.EXECUTIONS.get() );
+			assertEquals( 3, players.size() );
+			for ( int i = 0; i < players.size(); i++ ) {
+				final Player player = players.get( i );
+				assertEquals( i + 3, player.id );
+				assertTrue( session.contains( player ) );
+				assertSame( session.find( Team.class, 1 ), player.team );
+			}
+			assertSame( players.get( 0 ), session.find( Player.class, 3 ) );
+		} );
+	}
+
+	@Test
+	public void testListAsync(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Player> players = session.createSelectionQuery( "from Player p order by p.id", Player.class )
+					.listAsync()
+					.toCompletableFuture()
+					.join();
+
+			assertEquals( 1, RecordingExecutor.EXECUTIONS.get() );
+			assertEquals( 5, players.size() );
+			assertSame( players.get( 0 ), session.find( Player.class, 1 ) );
+		} );
+	}
+
+	@Test
+	public void testPendingChangesAreFlushedBeforeExecution(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Team( 2, "Blues" ) );
+			final SqmSelectionQueryImpl<Team> query = (SqmSelectionQueryImpl<Team>) session.createSelectionQuery(
+					"from Team t order by t.id",
+					Team.class
+			);
+
+			final List<Team> teams = performListAsync( query ).toCompletableFuture().join();
+
+			assertEquals( 1, RecordingExecutor.EXECUTIONS.get() );
+			assertEquals( 2, teams.size() );
+			assertEquals( "Blues", teams.get( 1 ).name );
+		} );
+	}
+
+	@Test
+	public void testLockingQueryIsExecutedSynchronously(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final SqmSelectionQueryImpl<Player> query = (SqmSelectionQueryImpl<Player>) session.createSelectionQuery(
+					"from Player p where p.id = 1",
+					Player.class
+			);
+			query.setHibernateLockMode( LockMode.PESSIMISTIC_WRITE );
+
+			final CompletionStage<List<Player>> stage = performListAsync( query );
+
+			assertTrue( stage.toCompletableFuture().isDone() );
+			assertEquals( 0, RecordingExecutor.EXECUTIONS.get() );
+			assertEquals( 1, stage.toCompletableFuture().join().size() );
+		} );
+	}
+
+	private static <R> CompletionStage<List<R>> performListAsync(SqmSelectionQueryImpl<R> query) {
+		final SelectQueryPlan<R> queryPlan = new ConcreteSqmSelectQueryPlan<>(
+				query.getSqmStatement(),
+				query.getQueryString(),
+				query.getDomainParameterXref(),
+				query.getResultType(),
+				null,
+				query.getQueryOptions()
+		);
+		return queryPlan.performListAsync( query );
+	}
+
+	public static class RecordingExecutor implements Executor {
+		static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+		@Override
+		public void execute(Runnable command) {
+			EXECUTIONS.incrementAndGet();
+			ForkJoinPool.commonPool().execute( command );
+		}
+	}
+
+	@Entity(name = "Team")
+	@Table(name = "async_team")
+	public static class Team {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Team() {
+		}
+
+		public Team(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Player")
+	@Table(name = "async_player")
+	public static class Player {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ManyToOne
+		private Team team;
+
+		public Player() {
+		}
+
+		public Player(Integer id, String name, Team team) {
+			this.id = id;
+			this.name = name;
+			this.team = team;
+		}
+	}
+}
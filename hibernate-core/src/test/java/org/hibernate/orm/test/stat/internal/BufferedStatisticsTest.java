@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.hibernate.stat.internal.BufferedStatisticsImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@value AvailableSettings#STATISTICS_BUFFERING}
+ */
+@DomainModel(annotatedClasses = BufferedStatisticsTest.Product.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.STATISTICS_BUFFERING, value = "true")
+})
+@SessionFactory
+public class BufferedStatisticsTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Product( i, "Product #" + i ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testBufferedStatisticsAreUsed(SessionFactoryScope scope) {
+		assertTrue( scope.getSessionFactory().getStatistics() instanceof BufferedStatisticsImpl );
+	}
+
+	@Test
+	public void testCountsOfTerminatedThreadAreMergedOnRead(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		CompletableFuture.runAsync( () -> scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.find( Product.class, i );
+			}
+		} ) ).join();
+
+		assertEquals( 3, statistics.getEntityStatistics( Product.class.getName() ).getLoadCount() );
+		assertEquals( 3, statistics.getEntityLoadCount() );
+		assertTrue( statistics.getPrepareStatementCount() >= 3 );
+		assertEquals( 1, statistics.getFlushCount() );
+	}
+
+	@Test
+	public void testCountsOfRunningThreadAreMergedOnRead(SessionFactoryScope scope) throws Exception {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final CountDownLatch loaded = new CountDownLatch( 1 );
+		final CountDownLatch read = new CountDownLatch( 1 );
+
+		// the other thread keeps its session open while the counts are read
+		final CompletableFuture<Void> work = CompletableFuture.runAsync( () -> scope.inSession( session -> {
+			session.find( Product.class, 1 );
+			session.find( Product.class, 2 );
+			loaded.countDown();
+			try {
+				read.await();
+			}
+			catch (InterruptedException e) {
+				throw new IllegalStateException( e );
+			}
+		} ) );
+		try {
+			loaded.await();
+			assertEquals( 2, statistics.getEntityStatistics( Product.class.getName() ).getLoadCount() );
+			assertEquals( 2, statistics.getEntityLoadCount() );
+		}
+		finally {
+			read.countDown();
+			work.join();
+		}
+	}
+
+	@Test
+	public void testStopMergesAndStopsBuffering(SessionFactoryScope scope) {
+		final BufferedStatisticsImpl statistics = (BufferedStatisticsImpl) scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.find( Product.class, 1 ) );
+
+		statistics.stop();
+		scope.inTransaction( session -> session.find( Product.class, 2 ) );
+
+		assertEquals( 2, statistics.getEntityStatistics( Product.class.getName() ).getLoadCount() );
+		assertEquals( 2, statistics.getEntityLoadCount() );
+	}
+
+	@Test
+	public void testCountsOfCurrentThreadAreMergedOnRead(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.find( Product.class, 1 );
+			session.find( Product.class, 2 );
+			assertEquals( 2, statistics.getEntityLoadCount() );
+
+			session.find( Product.class, 3 ).setName( "Updated" );
+			session.flush();
+			assertEquals( 3, statistics.getEntityLoadCount() );
+			assertEquals( 1, statistics.getEntityUpdateCount() );
+		} );
+	}
+
+	@Test
+	public void testClearDiscardsBufferedCounts(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.find( Product.class, 1 );
+			statistics.clear();
+			session.find( Product.class, 2 );
+		} );
+		assertEquals( 1, statistics.getEntityLoadCount() );
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "buffered_stats_product")
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
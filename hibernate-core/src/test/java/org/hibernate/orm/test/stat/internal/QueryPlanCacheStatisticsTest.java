@@ -20,6 +20,7 @@ import org.hibernate.cfg.Environment;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.Query;
 import org.hibernate.query.spi.QueryImplementor;
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
 import org.hibernate.stat.QueryStatistics;
 import org.hibernate.stat.Statistics;
 
@@ -344,6 +345,36 @@ public class QueryPlanCacheStatisticsTest {
 		} );
 	}
 
+	@Test
+	public void testInterpretationCacheStatistics(SessionFactoryScope scope) {
+		scope.inTransaction( entityManager -> {
+			entityManager.createQuery( "select e from Employee e", Employee.class ).getResultList();
+			entityManager.createQuery( "select e from Employee e", Employee.class ).getResultList();
+
+			final QueryInterpretationCacheStatistics hqlStatistics = statistics.getQueryInterpretationCacheStatistics(
+					QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS
+			);
+			assertEquals( 1, hqlStatistics.getMissCount() );
+			assertEquals( 1, hqlStatistics.getHitCount() );
+
+			final QueryInterpretationCacheStatistics planStatistics = statistics.getQueryInterpretationCacheStatistics(
+					QueryInterpretationCacheStatistics.SELECT_QUERY_PLANS
+			);
+			assertEquals( 1, planStatistics.getMissCount() );
+			assertEquals( 1, planStatistics.getHitCount() );
+
+			entityManager.createNativeQuery( "select count(*) from employee" ).getSingleResult();
+			entityManager.createNativeQuery( "select count(*) from employee" ).getSingleResult();
+
+			final QueryInterpretationCacheStatistics nativeStatistics = statistics.getQueryInterpretationCacheStatistics(
+					QueryInterpretationCacheStatistics.NATIVE_QUERY_PARAMETERS
+			);
+			assertEquals( 1, nativeStatistics.getMissCount() );
+			assertEquals( 1, nativeStatistics.getHitCount() );
+			assertEquals( 0, nativeStatistics.getEvictionCount() );
+		} );
+	}
+
 	private void assertQueryStatistics(String hql, int hitCount) {
 		QueryStatistics queryStatistics = statistics.getQueryStatistics( hql );
 
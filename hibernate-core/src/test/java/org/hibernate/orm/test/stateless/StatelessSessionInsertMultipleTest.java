@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#insertMultiple}
+ */
+@DomainModel(annotatedClasses = {
+		StatelessSessionInsertMultipleTest.Reading.class,
+		StatelessSessionInsertMultipleTest.Item.class,
+		StatelessSessionInsertMultipleTest.SpecialItem.class,
+		StatelessSessionInsertMultipleTest.Tag.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "100"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsIdentityColumns.class)
+public class StatelessSessionInsertMultipleTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from SpecialItem" ).executeUpdate();
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from Tag" ).executeUpdate();
+			session.createMutationQuery( "delete from Reading" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsMultiRowValuesInsert.class)
+	public void testRowsAreInsertedByFewStatements(SessionFactoryScope scope) {
+		final List<Reading> readings = new ArrayList<>();
+		for ( int i = 0; i < 250; i++ ) {
+			readings.add( new Reading( (long) i, i * 0.5 ) );
+		}
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inStatelessTransaction( session -> {
+			final List<Object> ids = session.insertMultiple( readings );
+			assertEquals( 250, ids.size() );
+			assertEquals( 249L, ids.get( 249 ) );
+		} );
+		// one statement per 100 rows
+		assertEquals( 3, statistics.getPrepareStatementCount() );
+
+		scope.inTransaction( session -> {
+			for ( Reading reading : readings ) {
+				assertEquals( reading.value, session.find( Reading.class, reading.id ).value );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntitiesOfSeveralTypes(SessionFactoryScope scope) {
+		final Item item = new Item( "first" );
+		final SpecialItem specialItem = new SpecialItem( "second", "special" );
+		final SpecialItem plainSpecialItem = new SpecialItem( "third", null );
+		final Tag tag = new Tag( "tag" );
+		final Item last = new Item( "last" );
+
+		scope.inStatelessTransaction( session -> {
+			final List<Object> ids = session.insertMultiple( List.of( item, specialItem, plainSpecialItem, tag, last ) );
+			assertEquals( List.of( item.id, specialItem.id, plainSpecialItem.id, tag.id, last.id ), ids );
+		} );
+		assertNotNull( tag.id );
+
+		scope.inTransaction( session -> {
+			assertEquals( "first", session.find( Item.class, item.id ).name );
+			assertEquals( "special", session.find( SpecialItem.class, specialItem.id ).feature );
+			assertEquals( "third", session.find( SpecialItem.class, plainSpecialItem.id ).name );
+			assertEquals( "tag", session.find( Tag.class, tag.id ).label );
+			assertEquals( "last", session.find( Item.class, last.id ).name );
+		} );
+	}
+
+	@Entity(name = "Reading")
+	@Table(name = "multi_reading")
+	public static class Reading {
+		@Id
+		private Long id;
+
+		@Column(name = "reading_value")
+		private double value;
+
+		public Reading() {
+		}
+
+		public Reading(Long id, double value) {
+			this.id = id;
+			this.value = value;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "multi_item")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Item {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "multi_item_seq")
+		@SequenceGenerator(name = "multi_item_seq", allocationSize = 50)
+		protected Long id;
+
+		protected String name;
+
+		public Item() {
+		}
+
+		public Item(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "SpecialItem")
+	@Table(name = "multi_special_item")
+	public static class SpecialItem extends Item {
+		private String feature;
+
+		public SpecialItem() {
+		}
+
+		public SpecialItem(String name, String feature) {
+			super( name );
+			this.feature = feature;
+		}
+	}
+
+	@Entity(name = "Tag")
+	@Table(name = "multi_tag")
+	public static class Tag {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String label;
+
+		public Tag() {
+		}
+
+		public Tag(String label) {
+			this.label = label;
+		}
+	}
+}
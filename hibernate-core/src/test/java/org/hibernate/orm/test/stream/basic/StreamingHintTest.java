@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stream.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.SelectionQuery;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests streams of query results with {@link HibernateHints#HINT_STREAMING}
+ */
+@DomainModel(annotatedClasses = { StreamingHintTest.Author.class, StreamingHintTest.Book.class })
+@SessionFactory
+public class StreamingHintTest {
+
+	private static final int AUTHORS = 10;
+	private static final int BOOKS = 200;
+
+	@BeforeAll
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Author> authors = new ArrayList<>();
+			for ( int i = 0; i < AUTHORS; i++ ) {
+				final Author author = new Author( i );
+				session.persist( author );
+				authors.add( author );
+			}
+			for ( int i = 0; i < BOOKS; i++ ) {
+				session.persist( new Book( i, authors.get( i % AUTHORS ) ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntitiesAreDetachedAsTheStreamAdvances(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final AtomicInteger count = new AtomicInteger();
+			final List<Book> consumed = new ArrayList<>();
+			try ( Stream<Book> books = session.createQuery( "from Book b join fetch b.author order by b.id", Book.class )
+					.setHint( HibernateHints.HINT_STREAMING, true )
+					.getResultStream() ) {
+				books.forEach( book -> {
+					// only the current book and its author are managed
+					assertTrue( session.contains( book ) );
+					assertTrue( session.contains( book.author ) );
+					assertEquals( 2, persistenceContext.getNumberOfManagedEntities() );
+					if ( !consumed.isEmpty() ) {
+						assertFalse( session.contains( consumed.get( consumed.size() - 1 ) ) );
+					}
+					consumed.add( book );
+					count.incrementAndGet();
+				} );
+			}
+			assertEquals( BOOKS, count.get() );
+			assertEquals( 0, persistenceContext.getNumberOfManagedEntities() );
+		} );
+	}
+
+	@Test
+	public void testTuplesAreDetachedAsTheStreamAdvances(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			try ( Stream<Object[]> rows = session.createQuery( "select b, b.id from Book b", Object[].class )
+					.setHint( HibernateHints.HINT_STREAMING, true )
+					.getResultStream() ) {
+				assertEquals( BOOKS, rows.peek( row -> {
+					assertNotNull( ( (Book) row[0] ).author );
+					assertTrue( persistenceContext.getNumberOfManagedEntities() <= 2 );
+				} ).count() );
+			}
+			assertEquals( 0, persistenceContext.getNumberOfManagedEntities() );
+		} );
+	}
+
+	@Test
+	public void testEntitiesStayManagedWithoutTheHint(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Book> books = session.createQuery( "from Book", Book.class ).getResultStream() ) {
+				assertEquals( BOOKS, books.count() );
+			}
+			assertEquals( BOOKS + AUTHORS, session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+		} );
+	}
+
+	@Test
+	public void testEntitiesLoadedBeforeTheStreamStayManaged(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 0 );
+			try ( Stream<Book> books = session.createQuery( "from Book b where b.author.id <> 0", Book.class )
+					.setHint( HibernateHints.HINT_STREAMING, true )
+					.getResultStream() ) {
+				assertEquals( BOOKS - BOOKS / AUTHORS, books.count() );
+			}
+			assertTrue( session.contains( author ) );
+			assertEquals( 1, session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+		} );
+	}
+
+	@Test
+	public void testEntitiesManagedBeforeTheResultKeepTheirChanges(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 0 );
+			author.name = "changed";
+			try ( Stream<Book> books = session.createQuery( "from Book b join fetch b.author order by b.id", Book.class )
+					.setHint( HibernateHints.HINT_STREAMING, true )
+					.getResultStream() ) {
+				books.forEach( book -> {
+					if ( book.author.id == 0 ) {
+						assertSame( author, book.author );
+					}
+				} );
+			}
+			assertTrue( session.contains( author ) );
+			assertEquals( 1, session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+		} );
+		scope.inTransaction( session -> assertEquals( "changed", session.find( Author.class, 0 ).name ) );
+	}
+
+	@Test
+	public void testStreamingFetchSizeOnlyAppliesToTheExecution(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final SelectionQuery<Book> query = session.createSelectionQuery( "from Book", Book.class );
+			query.setHint( HibernateHints.HINT_STREAMING, true );
+			try ( Stream<Book> books = query.stream() ) {
+				assertEquals( BOOKS, books.count() );
+			}
+			assertNull( query.getFetchSize() );
+
+			query.setFetchSize( 50 );
+			try ( Stream<Book> books = query.stream() ) {
+				assertEquals( BOOKS, books.count() );
+			}
+			assertEquals( 50, query.getFetchSize() );
+		} );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "streaming_author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "streaming_book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class OpenAddressingHashMapTest extends BaseUnitTestCase {
+
+	@Test
+	public void testBasicOperations() {
+		final Map<Long, String> map = new OpenAddressingHashMap<>();
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( 1L, "one" ) );
+		assertNull( map.put( 2L, "two" ) );
+		assertEquals( "one", map.put( 1L, "uno" ) );
+		assertEquals( 2, map.size() );
+		assertEquals( "uno", map.get( 1L ) );
+		assertTrue( map.containsKey( 2L ) );
+		assertTrue( map.containsValue( "two" ) );
+		assertFalse( map.containsKey( 3L ) );
+		assertNull( map.get( null ) );
+		assertEquals( "two", map.remove( 2L ) );
+		assertNull( map.remove( 2L ) );
+		assertEquals( 1, map.size() );
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( 1L ) );
+	}
+
+	@Test
+	public void testAgainstHashMap() {
+		final Random random = new Random( 42 );
+		final Map<Long, Long> expected = new HashMap<>();
+		final Map<Long, Long> actual = new OpenAddressingHashMap<>( 4 );
+		for ( int i = 0; i < 200_000; i++ ) {
+			final long key = random.nextInt( 20_000 );
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertEquals( expected.remove( key ), actual.remove( key ) );
+			}
+			else {
+				assertEquals( expected.put( key, (long) i ), actual.put( key, (long) i ) );
+			}
+		}
+		assertEquals( expected.size(), actual.size() );
+		assertEquals( expected, actual );
+		assertEquals( actual, expected );
+	}
+
+	@Test
+	public void testCollidingKeys() {
+		// all keys share the same hash code, so every operation walks a single probe sequence
+		final Map<CollidingKey, Integer> expected = new HashMap<>();
+		final Map<CollidingKey, Integer> actual = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 100; i++ ) {
+			expected.put( new CollidingKey( i ), i );
+			actual.put( new CollidingKey( i ), i );
+		}
+		for ( int i = 0; i < 100; i += 3 ) {
+			assertEquals( expected.remove( new CollidingKey( i ) ), actual.remove( new CollidingKey( i ) ) );
+		}
+		for ( int i = 0; i < 100; i++ ) {
+			assertEquals( expected.get( new CollidingKey( i ) ), actual.get( new CollidingKey( i ) ) );
+		}
+		assertEquals( expected, actual );
+	}
+
+	@Test
+	public void testLookupByMatcher() {
+		final OpenAddressingHashMap<CollidingKey, Integer> map = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 10; i++ ) {
+			map.put( new CollidingKey( i ), i );
+		}
+		for ( int i = 0; i < 10; i++ ) {
+			final int value = i;
+			assertEquals( (Integer) i, map.get( 7, key -> key.value == value ) );
+		}
+		assertNull( map.get( 7, key -> key.value == 10 ) );
+		// the matcher is only consulted for keys having the hash code
+		assertNull( map.get( 8, key -> true ) );
+	}
+
+	@Test
+	public void testIteration() {
+		final Map<Integer, Integer> map = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			map.put( i, i * 2 );
+		}
+		int count = 0;
+		long sum = 0;
+		for ( Map.Entry<Integer, Integer> entry : map.entrySet() ) {
+			assertEquals( entry.getKey() * 2, (int) entry.getValue() );
+			entry.setValue( entry.getKey() );
+			sum += entry.getKey();
+			count++;
+		}
+		assertEquals( 1000, count );
+		assertEquals( 999 * 1000 / 2, sum );
+		for ( Integer value : map.values() ) {
+			assertEquals( value, map.get( value ) );
+		}
+		assertEquals( 1000, map.keySet().size() );
+	}
+
+	@Test
+	public void testIteratorRemoval() {
+		final Map<Integer, Integer> map = new OpenAddressingHashMap<>();
+		final Map<CollidingKey, Integer> colliding = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			map.put( i, i );
+			colliding.put( new CollidingKey( i ), i );
+		}
+
+		int visited = 0;
+		for ( Iterator<Integer> iterator = map.values().iterator(); iterator.hasNext(); ) {
+			final Integer value = iterator.next();
+			visited++;
+			if ( value % 2 == 0 ) {
+				iterator.remove();
+			}
+		}
+		assertEquals( 1000, visited );
+		assertEquals( 500, map.size() );
+		for ( int i = 0; i < 1000; i++ ) {
+			assertEquals( i % 2 == 0 ? null : (Integer) i, map.get( i ) );
+		}
+
+		// removals shift the entries of a probe sequence, which must neither be skipped nor visited twice
+		visited = 0;
+		for ( Iterator<Map.Entry<CollidingKey, Integer>> iterator = colliding.entrySet().iterator(); iterator.hasNext(); ) {
+			final Map.Entry<CollidingKey, Integer> entry = iterator.next();
+			visited++;
+			if ( entry.getValue() % 3 == 0 ) {
+				iterator.remove();
+			}
+			else {
+				entry.setValue( -entry.getValue() );
+			}
+		}
+		assertEquals( 1000, visited );
+		for ( int i = 0; i < 1000; i++ ) {
+			assertEquals( i % 3 == 0 ? null : (Integer) ( -i ), colliding.get( new CollidingKey( i ) ) );
+		}
+
+		final Iterator<Integer> iterator = map.keySet().iterator();
+		try {
+			iterator.remove();
+			fail( "Should have thrown IllegalStateException" );
+		}
+		catch (IllegalStateException ex) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testIterationFailsFast() {
+		final Map<Integer, Integer> map = new OpenAddressingHashMap<>();
+		map.put( 1, 1 );
+		map.put( 2, 2 );
+		final Iterator<Integer> iterator = map.keySet().iterator();
+		iterator.next();
+		map.put( 3, 3 );
+		try {
+			iterator.next();
+			fail( "Should have thrown ConcurrentModificationException" );
+		}
+		catch (ConcurrentModificationException ex) {
+			// expected
+		}
+	}
+
+	private static final class CollidingKey {
+		private final int value;
+
+		private CollidingKey(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof CollidingKey && ( (CollidingKey) o ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return 7;
+		}
+	}
+}
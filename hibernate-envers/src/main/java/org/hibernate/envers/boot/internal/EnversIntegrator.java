@@ -115,6 +115,10 @@ public class EnversIntegrator implements Integrator {
 					new EnversPreCollectionUpdateEventListenerImpl( enversService )
 			);
 		}
+
+		if ( enversService.getAuditOutbox() != null ) {
+			enversService.getAuditOutbox().start( sessionFactory );
+		}
 	}
 
 	@Override
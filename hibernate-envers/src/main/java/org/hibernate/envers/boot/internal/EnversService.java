@@ -14,6 +14,7 @@ import org.hibernate.envers.internal.entities.EntitiesConfigurations;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.synchronization.AuditProcessManager;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.service.Service;
@@ -59,6 +60,14 @@ public interface EnversService extends Service {
 
 	AuditProcessManager getAuditProcessManager();
 
+	/**
+	 * The outbox of the audit data written asynchronously, if
+	 * {@value org.hibernate.envers.configuration.EnversSettings#AUDIT_OUTBOX_ENABLED} is set.
+	 *
+	 * @return The audit outbox, or {@code null} if the audit data is written synchronously.
+	 */
+	AuditOutbox getAuditOutbox();
+
 	AuditStrategy getAuditStrategy();
 
 	EntitiesConfigurations getEntitiesConfigurations();
@@ -22,6 +22,7 @@ import org.hibernate.envers.internal.entities.PropertyData;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.synchronization.AuditProcessManager;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.envers.strategy.AuditStrategy;
@@ -59,6 +60,7 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 	//			keyed by Transaction (Session)
 	private Configuration configuration;
 	private AuditProcessManager auditProcessManager;
+	private AuditOutbox auditOutbox;
 	private EntitiesConfigurations entitiesConfigurations;
 
 	@Override
@@ -102,7 +104,10 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 		properties.putAll( cfgService.getSettings() );
 
 		this.configuration = new Configuration( properties, this, metadata );
-		this.auditProcessManager = new AuditProcessManager( configuration.getRevisionInfo().getRevisionInfoGenerator() );
+		this.auditProcessManager = new AuditProcessManager(
+				configuration.getRevisionInfo().getRevisionInfoGenerator(),
+				configuration.getAuditStrategy()
+		);
 
 		final EnversMetadataBuildingContext metadataBuildingContext = new EnversMetadataBuildingContextImpl(
 				configuration,
@@ -127,6 +132,10 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 		);
 		
 		this.entitiesConfigurations = new EntitiesConfigurator().configure( metadataBuildingContext );
+
+		if ( configuration.isAuditOutboxEnabled() ) {
+			this.auditOutbox = new AuditOutbox( this );
+		}
 	}
 
 	@Override
@@ -145,6 +154,14 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 		return auditProcessManager;
 	}
 
+	@Override
+	public AuditOutbox getAuditOutbox() {
+		if ( !initialized ) {
+			throw new IllegalStateException( "Service is not yet initialized" );
+		}
+		return auditOutbox;
+	}
+
 	@Override
 	@Deprecated
 	public AuditStrategy getAuditStrategy() {
@@ -204,6 +221,8 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 
 	@Override
 	public void stop() {
-		// anything to release?
+		if ( auditOutbox != null ) {
+			auditOutbox.stop();
+		}
 	}
 }
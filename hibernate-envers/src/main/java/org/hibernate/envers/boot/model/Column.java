@@ -25,6 +25,7 @@ public class Column extends Selection<JaxbHbmColumnType> implements Cloneable<Co
 	private final String read;
 	private final String write;
 	private String name;
+	private String index;
 
 	/**
 	 * Create a column with just a name.
@@ -97,6 +98,7 @@ public class Column extends Selection<JaxbHbmColumnType> implements Cloneable<Co
 		this.sqlType = other.sqlType;
 		this.read = other.read;
 		this.write = other.write;
+		this.index = other.index;
 	}
 
 	public String getName() {
@@ -107,6 +109,20 @@ public class Column extends Selection<JaxbHbmColumnType> implements Cloneable<Co
 		this.name = name;
 	}
 
+	public String getIndex() {
+		return index;
+	}
+
+	/**
+	 * Sets the name of the index the column belongs to.  Columns of a table sharing the
+	 * same index name are part of the same index, in the order they are bound.
+	 *
+	 * @param index the index name, may be {@code null}
+	 */
+	public void setIndex(String index) {
+		this.index = index;
+	}
+
 	@Override
 	public Column deepCopy() {
 		return new Column( this );
@@ -141,6 +157,10 @@ public class Column extends Selection<JaxbHbmColumnType> implements Cloneable<Co
 			column.setWrite( write );
 		}
 
+		if ( !StringTools.isEmpty( index ) ) {
+			column.setIndex( index );
+		}
+
 		return column;
 	}
 
@@ -50,6 +50,7 @@ public class Configuration {
 	private static final String DEFAULT_REVEND_FIELD = "REVEND";
 	private static final String DEFAULT_REV_TSTMP_FIELD = "REVEND_TSTMP";
 	private static final String DEFAULT_SETORDINAL_FIELD = "SETORDINAL";
+	private static final String DEFAULT_OUTBOX_TABLE_NAME = "REVOUTBOX";
 
 	private final EnversService enversService;
 
@@ -91,6 +92,13 @@ public class Configuration {
 	private final boolean revisionEndTimestampEnabled;
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
+	private final int revisionEndUpdateBatchSize;
+	private final boolean revisionRangeIndexEnabled;
+
+	private final boolean auditOutboxEnabled;
+	private final String auditOutboxTableName;
+	private final int auditOutboxBatchSize;
+	private final long auditOutboxPollInterval;
 
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
 
@@ -171,6 +179,27 @@ public class Configuration {
 			revisionEndTimestampUseLegacyPlacement = true;
 		}
 
+		revisionEndUpdateBatchSize = configProps.getInt(
+				EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_UPDATE_BATCH_SIZE,
+				0
+		);
+
+		revisionRangeIndexEnabled = configProps.getBoolean(
+				EnversSettings.AUDIT_STRATEGY_VALIDITY_REVISION_RANGE_INDEX,
+				true
+		);
+
+		auditOutboxEnabled = configProps.getBoolean( EnversSettings.AUDIT_OUTBOX_ENABLED, false );
+		auditOutboxTableName = configProps.getString( EnversSettings.AUDIT_OUTBOX_TABLE_NAME, DEFAULT_OUTBOX_TABLE_NAME );
+		auditOutboxBatchSize = configProps.getInt( EnversSettings.AUDIT_OUTBOX_BATCH_SIZE, 500 );
+		auditOutboxPollInterval = configProps.getInt( EnversSettings.AUDIT_OUTBOX_POLL_INTERVAL, 1000 );
+		if ( auditOutboxEnabled && ( auditOutboxBatchSize <= 0 || auditOutboxPollInterval <= 0 ) ) {
+			throw new EnversMappingException(
+					"Settings `" + EnversSettings.AUDIT_OUTBOX_BATCH_SIZE + "` and `"
+							+ EnversSettings.AUDIT_OUTBOX_POLL_INTERVAL + "` must be positive"
+			);
+		}
+
 		embeddableSetOrdinalPropertyName = configProps.getString(
 				EnversSettings.EMBEDDABLE_SET_ORDINAL_FIELD_NAME,
 				DEFAULT_SETORDINAL_FIELD
@@ -245,6 +274,30 @@ public class Configuration {
 		return revisionEndTimestampUseLegacyPlacement;
 	}
 
+	public int getRevisionEndUpdateBatchSize() {
+		return revisionEndUpdateBatchSize;
+	}
+
+	public boolean isRevisionRangeIndexEnabled() {
+		return revisionRangeIndexEnabled;
+	}
+
+	public boolean isAuditOutboxEnabled() {
+		return auditOutboxEnabled;
+	}
+
+	public String getAuditOutboxTableName() {
+		return auditOutboxTableName;
+	}
+
+	public int getAuditOutboxBatchSize() {
+		return auditOutboxBatchSize;
+	}
+
+	public long getAuditOutboxPollInterval() {
+		return auditOutboxPollInterval;
+	}
+
 	public String getDefaultCatalogName() {
 		return defaultCatalogName;
 	}
@@ -428,6 +481,10 @@ public class Configuration {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
@@ -128,6 +128,25 @@ public interface EnversSettings {
 	 */
 	String AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_LEGACY_PLACEMENT = "org.hibernate.envers.audit_strategy_validity_revend_timestamp_legacy_placement";
 
+	/**
+	 * The maximum number of statements setting the end revision of previous audit rows which are
+	 * executed together as a JDBC batch by the validity audit strategy. When positive, these updates
+	 * are collected per audit table until the end of the transaction, instead of being executed one
+	 * by one for each audited change. Defaults to {@literal 0}, disabling batching.
+	 *
+	 * @since 6.2
+	 */
+	String AUDIT_STRATEGY_VALIDITY_REVEND_UPDATE_BATCH_SIZE = "org.hibernate.envers.audit_strategy_validity_revend_update_batch_size";
+
+	/**
+	 * Whether the validity audit strategy should add an index on the revision and end revision
+	 * columns of each audit table to the exported schema, serving the revision range predicates
+	 * of its audit queries. Defaults to {@code true}.
+	 *
+	 * @since 6.2
+	 */
+	String AUDIT_STRATEGY_VALIDITY_REVISION_RANGE_INDEX = "org.hibernate.envers.audit_strategy_validity_revision_range_index";
+
 	/**
 	 * Name of column used for storing ordinal of the change in sets of embeddable elements. Defaults to {@literal SETORDINAL}.
 	 */
@@ -183,4 +202,42 @@ public interface EnversSettings {
 	 * that the exception is thrown.
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
+
+	/**
+	 * Whether the audit data of a transaction should be written asynchronously. When enabled, the
+	 * transaction only persists its revision entity, along with one compact record per audited
+	 * change in a single outbox table. A background worker then writes the audit rows from these
+	 * records, in batches, with the configured audit strategy. Audit queries only see a change
+	 * once the worker has written its audit rows.
+	 * <p>
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 6.2
+	 */
+	String AUDIT_OUTBOX_ENABLED = "org.hibernate.envers.audit_outbox_enabled";
+
+	/**
+	 * The name of the outbox table holding the audited changes waiting to be written, when
+	 * {@link #AUDIT_OUTBOX_ENABLED} is set. Defaults to {@literal REVOUTBOX}.
+	 *
+	 * @since 6.2
+	 */
+	String AUDIT_OUTBOX_TABLE_NAME = "org.hibernate.envers.audit_outbox_table_name";
+
+	/**
+	 * The maximum number of outbox records written to the audit tables by each transaction of
+	 * the background worker. Defaults to {@literal 500}.
+	 *
+	 * @since 6.2
+	 */
+	String AUDIT_OUTBOX_BATCH_SIZE = "org.hibernate.envers.audit_outbox_batch_size";
+
+	/**
+	 * The delay, in milliseconds, between two runs of the background worker emptying the outbox
+	 * table. Each run writes the audit rows of all the records found in the table. Defaults to
+	 * {@literal 1000}.
+	 *
+	 * @since 6.2
+	 */
+	String AUDIT_OUTBOX_POLL_INTERVAL = "org.hibernate.envers.audit_outbox_poll_interval";
 }
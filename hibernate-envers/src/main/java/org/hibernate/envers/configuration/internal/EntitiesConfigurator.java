@@ -10,18 +10,26 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
+import org.hibernate.Length;
 import org.hibernate.boot.jaxb.hbm.spi.JaxbHbmHibernateMapping;
 import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.envers.boot.model.BasicAttribute;
+import org.hibernate.envers.boot.model.Column;
 import org.hibernate.envers.boot.model.PersistentEntity;
+import org.hibernate.envers.boot.model.RootPersistentEntity;
+import org.hibernate.envers.boot.model.SimpleIdentifier;
 import org.hibernate.envers.boot.spi.EnversMetadataBuildingContext;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.configuration.internal.metadata.AuditMetadataGenerator;
+import org.hibernate.envers.configuration.internal.metadata.AuditTableData;
 import org.hibernate.envers.configuration.internal.metadata.EntityMappingData;
 import org.hibernate.envers.configuration.internal.metadata.reader.AnnotationsMetadataReader;
 import org.hibernate.envers.configuration.internal.metadata.reader.ClassAuditingData;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.tools.StringTools;
 import org.hibernate.envers.internal.tools.graph.GraphTopologicalSort;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import org.hibernate.mapping.PersistentClass;
 
 import org.jboss.logging.Logger;
@@ -104,6 +112,14 @@ public class EntitiesConfigurator {
 
 				metadataBuildingContext.getMappingCollector().addDocument( mappingData.getMapping() );
 			}
+
+			if ( configuration.isAuditOutboxEnabled() ) {
+				final EntityMappingData mappingData = new EntityMappingData();
+				mappingData.addMapping( generateAuditOutboxMapping( configuration ) );
+				mappingData.build();
+
+				metadataBuildingContext.getMappingCollector().addDocument( mappingData.getMapping() );
+			}
 		}
 
 		return new EntitiesConfigurations(
@@ -111,4 +127,53 @@ public class EntitiesConfigurator {
 				auditMetaGen.getNotAuditedEntityConfigurations()
 		);
 	}
+
+	private RootPersistentEntity generateAuditOutboxMapping(Configuration configuration) {
+		final String tableName = configuration.getAuditOutboxTableName();
+		final RootPersistentEntity mapping = new RootPersistentEntity(
+				new AuditTableData(
+						AuditOutbox.ENTITY_NAME,
+						tableName,
+						configuration.getDefaultSchemaName(),
+						configuration.getDefaultCatalogName()
+				),
+				null
+		);
+
+		final SimpleIdentifier identifier = new SimpleIdentifier( AuditOutbox.ID_PROPERTY, "long" );
+		// a pooled sequence, so that the records of a transaction are inserted in JDBC batches
+		identifier.setGeneratorClass( SequenceStyleGenerator.class.getName() );
+		identifier.setParameter( SequenceStyleGenerator.SEQUENCE_PARAM, tableName + "_SEQ" );
+		identifier.setParameter( SequenceStyleGenerator.INCREMENT_PARAM, "50" );
+		identifier.addColumn( new Column( "ID" ) );
+		mapping.setIdentifier( identifier );
+
+		mapping.addAttribute( configuration.getRevisionInfo().getRevisionInfoRelationMapping() );
+
+		final BasicAttribute entityName = new BasicAttribute( AuditOutbox.ENTITY_NAME_PROPERTY, "string", true, false );
+		entityName.addColumn( new Column( "ENTITY_NAME" ) );
+		mapping.addAttribute( entityName );
+
+		final BasicAttribute entityId = new BasicAttribute( AuditOutbox.ENTITY_ID_PROPERTY, "string", true, false );
+		entityId.addColumn( new Column( "ENTITY_ID", (long) AuditOutbox.ENTITY_ID_LENGTH, null, null, null, null, null ) );
+		mapping.addAttribute( entityId );
+
+		final BasicAttribute propertyName = new BasicAttribute( AuditOutbox.PROPERTY_NAME_PROPERTY, "string", true, false );
+		propertyName.addColumn( new Column( "PROPERTY_NAME" ) );
+		mapping.addAttribute( propertyName );
+
+		final BasicAttribute auditEntityName = new BasicAttribute( AuditOutbox.AUDIT_ENTITY_NAME_PROPERTY, "string", true, false );
+		auditEntityName.addColumn( new Column( "AUDIT_ENTITY_NAME" ) );
+		mapping.addAttribute( auditEntityName );
+
+		final BasicAttribute data = new BasicAttribute( AuditOutbox.DATA_PROPERTY, "string", true, false );
+		data.addColumn( new Column( "DATA", (long) Length.LONG32, null, null, null, null, null ) );
+		mapping.addAttribute( data );
+
+		final BasicAttribute failure = new BasicAttribute( AuditOutbox.FAILURE_PROPERTY, "string", true, true, false );
+		failure.addColumn( new Column( "FAILURE", (long) AuditOutbox.FAILURE_LENGTH, null, null, null, null, null ) );
+		mapping.addAttribute( failure );
+
+		return mapping;
+	}
 }
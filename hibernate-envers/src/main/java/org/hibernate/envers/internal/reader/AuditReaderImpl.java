@@ -155,7 +155,8 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		checkNotNull( primaryKey, "Primary key" );
 		checkSession();
 
-		return createQuery().forRevisionsOfEntity( cls, entityName, false, true )
+		// only the revision numbers are selected, which the audit rows hold, without joining the revision entity
+		return createQuery().forRevisionsOfEntity( cls, entityName, true, true )
 				.addProjection( AuditEntity.revisionNumber() )
 				.addOrder( AuditEntity.revisionNumber().asc() )
 				.add( AuditEntity.id().eq( primaryKey ) )
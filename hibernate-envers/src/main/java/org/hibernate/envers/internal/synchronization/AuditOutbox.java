@@ -0,0 +1,694 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.Hibernate;
+import org.hibernate.LockMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.internal.ForeignKeys;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.CustomType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+import org.hibernate.usertype.EnhancedUserType;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Writes the audit data of transactions asynchronously, when {@value EnversSettings#AUDIT_OUTBOX_ENABLED}
+ * is set.
+ * <p>
+ * Instead of the audit rows, each audited change of a transaction is saved as a record of the outbox
+ * entity, {@value #ENTITY_NAME}, which references the revision entity of the transaction and holds
+ * a compact form of the audit data of the change. A background worker regularly reads the records,
+ * ordered by revision, writes the audit rows of each record with the configured audit strategy, and
+ * deletes the record, in transactions of at most {@value EnversSettings#AUDIT_OUTBOX_BATCH_SIZE} records.
+ * <p>
+ * The audit data of a record is a line of text per property of the audit entity, {@code path=value},
+ * where the path of a property of a component is prefixed with the path of the component, and where
+ * a {@code null} value is a line holding only the path. Basic values are written in the string form of
+ * their {@link org.hibernate.type.descriptor.java.JavaType}, with their backslashes and line breaks
+ * escaped by a backslash, and entities as their identifier.
+ * <p>
+ * The records are locked while being written, so that the workers of several applications sharing
+ * the database write the audit rows of the revisions one after the other. The records left over
+ * when the session factory is closed are written once it is started again.
+ * <p>
+ * Should the audit rows of a transaction fail to be written, the records of the transaction are
+ * written one by one instead, and each record which still fails is set aside: the failure is saved
+ * in its {@value #FAILURE_PROPERTY} property. The worker no longer reads it, nor the later records
+ * of the same entity, so that the audit rows of the entity are still written in revision order, while
+ * the records of the other entities keep flowing. Clearing the failure of a record makes the worker
+ * write it again, followed by the records it holds back.
+ *
+ * @since 6.2
+ */
+public class AuditOutbox {
+	private static final Logger log = Logger.getLogger( AuditOutbox.class );
+
+	public static final String ENTITY_NAME = "org.hibernate.envers.AuditOutboxRecord";
+
+	public static final String ID_PROPERTY = "id";
+	public static final String ENTITY_NAME_PROPERTY = "entityName";
+	public static final String ENTITY_ID_PROPERTY = "entityId";
+	public static final String PROPERTY_NAME_PROPERTY = "propertyName";
+	public static final String AUDIT_ENTITY_NAME_PROPERTY = "auditEntityName";
+	public static final String DATA_PROPERTY = "data";
+	public static final String FAILURE_PROPERTY = "failure";
+
+	/**
+	 * The maximum length of the identifier saved by a record, as the key of the audited entity.
+	 */
+	public static final int ENTITY_ID_LENGTH = 255;
+
+	/**
+	 * The maximum length of the failure saved by a record which cannot be written.
+	 */
+	public static final int FAILURE_LENGTH = 1000;
+
+	// the value of a property missing from the audit data
+	private static final Object ABSENT = new Object();
+
+	private final EnversService enversService;
+	private final Configuration configuration;
+
+	// serializes the runs of the worker and of explicit flushes
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final ReentrantLock lifecycleLock = new ReentrantLock();
+
+	private volatile SessionFactoryImplementor sessionFactory;
+	// Guarded by the lifecycle lock.
+	private ScheduledExecutorService worker;
+
+	public AuditOutbox(EnversService enversService) {
+		this.enversService = enversService;
+		this.configuration = enversService.getConfig();
+	}
+
+	/**
+	 * Saves the record of a change of an audited entity, in place of its audit row.
+	 *
+	 * @return The saved outbox record.
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<String, Object> write(Session session, String entityName, Object id, Object data, Object revision) {
+		return saveRecord(
+				(SessionImplementor) session,
+				entityName,
+				id,
+				null,
+				configuration.getAuditEntityName( entityName ),
+				(Map<String, Object>) data,
+				revision
+		);
+	}
+
+	/**
+	 * Saves the record of a change of an audited collection, in place of its audit row.
+	 */
+	public void writeCollectionChange(
+			Session session,
+			String entityName,
+			Object ownerId,
+			String propertyName,
+			PersistentCollectionChangeData persistentCollectionChangeData,
+			Object revision) {
+		saveRecord(
+				(SessionImplementor) session,
+				entityName,
+				ownerId,
+				propertyName,
+				persistentCollectionChangeData.getEntityName(),
+				persistentCollectionChangeData.getData(),
+				revision
+		);
+	}
+
+	private Map<String, Object> saveRecord(
+			SessionImplementor session,
+			String entityName,
+			Object id,
+			String propertyName,
+			String auditEntityName,
+			Map<String, Object> data,
+			Object revision) {
+		final Map<String, Object> record = new HashMap<>();
+		record.put( configuration.getRevisionFieldName(), revision );
+		record.put( ENTITY_NAME_PROPERTY, entityName );
+		record.put( ENTITY_ID_PROPERTY, entityKey( session, entityName, id ) );
+		record.put( PROPERTY_NAME_PROPERTY, propertyName );
+		record.put( AUDIT_ENTITY_NAME_PROPERTY, auditEntityName );
+		record.put( DATA_PROPERTY, writeData( session, auditEntityName, data ) );
+		session.persist( ENTITY_NAME, record );
+		return record;
+	}
+
+	/**
+	 * Starts the background worker once the given session factory is ready, and stops it when
+	 * the session factory is closed.
+	 */
+	public void start(SessionFactoryImplementor sessionFactory) {
+		sessionFactory.addObserver(
+				new SessionFactoryObserver() {
+					@Override
+					public void sessionFactoryCreated(SessionFactory factory) {
+						startWorker( sessionFactory );
+					}
+
+					@Override
+					public void sessionFactoryClosing(SessionFactory factory) {
+						stop();
+					}
+				}
+		);
+	}
+
+	private void startWorker(SessionFactoryImplementor sessionFactory) {
+		lifecycleLock.lock();
+		try {
+			this.sessionFactory = sessionFactory;
+			worker = Executors.newSingleThreadScheduledExecutor(
+					runnable -> {
+						final Thread thread = new Thread( runnable, "Envers audit outbox worker" );
+						thread.setDaemon( true );
+						return thread;
+					}
+			);
+			final long interval = configuration.getAuditOutboxPollInterval();
+			worker.scheduleWithFixedDelay( this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS );
+		}
+		finally {
+			lifecycleLock.unlock();
+		}
+	}
+
+	public void stop() {
+		lifecycleLock.lock();
+		try {
+			if ( worker != null ) {
+				worker.shutdownNow();
+				try {
+					if ( !worker.awaitTermination( 10, TimeUnit.SECONDS ) ) {
+						log.warn( "Envers audit outbox worker did not stop in time" );
+					}
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				worker = null;
+			}
+			sessionFactory = null;
+		}
+		finally {
+			lifecycleLock.unlock();
+		}
+	}
+
+	private void flushQuietly() {
+		try {
+			flush();
+		}
+		catch (RuntimeException e) {
+			// the records are left in the outbox and retried by the next run
+			log.warn( "Unable to write the audit data of the audit outbox", e );
+		}
+	}
+
+	/**
+	 * Writes the audit rows of all the records of the outbox, without waiting for the worker.
+	 *
+	 * @return The number of records written.
+	 */
+	public int flush() {
+		final SessionFactoryImplementor sessionFactory = this.sessionFactory;
+		if ( sessionFactory == null ) {
+			throw new IllegalStateException( "Audit outbox is not started" );
+		}
+
+		flushLock.lock();
+		try {
+			final int batchSize = configuration.getAuditOutboxBatchSize();
+			int written = 0;
+			int batch;
+			do {
+				try {
+					batch = sessionFactory.fromTransaction( session -> writeBatch( (SessionImplementor) session, batchSize ) );
+					written += batch;
+				}
+				catch (RuntimeException e) {
+					log.debug( "Unable to write the audit data of a batch of audit outbox records, writing them one by one", e );
+					final List<Long> ids = sessionFactory.fromTransaction( session -> findRecordIds( session, batchSize ) );
+					for ( Long id : ids ) {
+						written += writeRecord( sessionFactory, id );
+					}
+					batch = ids.size();
+				}
+			} while ( batch == batchSize && !Thread.currentThread().isInterrupted() );
+			return written;
+		}
+		finally {
+			flushLock.unlock();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private int writeBatch(SessionImplementor session, int batchSize) {
+		final List<Map<String, Object>> records = (List<Map<String, Object>>) session.createSelectionQuery(
+				"from " + ENTITY_NAME + " r" + pendingRecordsRestriction()
+						+ " order by r." + configuration.getRevisionFieldName() + ", r." + ID_PROPERTY
+		)
+				.setHibernateLockMode( LockMode.PESSIMISTIC_WRITE )
+				.setMaxResults( batchSize )
+				.list();
+		return writeRecords( session, records );
+	}
+
+	private List<Long> findRecordIds(Session session, int batchSize) {
+		return session.createSelectionQuery(
+				"select r." + ID_PROPERTY + " from " + ENTITY_NAME + " r" + pendingRecordsRestriction()
+						+ " order by r." + configuration.getRevisionFieldName() + ", r." + ID_PROPERTY,
+				Long.class
+		)
+				.setMaxResults( batchSize )
+				.list();
+	}
+
+	/**
+	 * Restricts the records read by the worker to those which are neither set aside, nor held back by
+	 * a record of the same entity which is set aside.
+	 */
+	private static String pendingRecordsRestriction() {
+		return " where r." + FAILURE_PROPERTY + " is null"
+				+ " and not exists (select f." + ID_PROPERTY + " from " + ENTITY_NAME + " f"
+				+ " where f." + FAILURE_PROPERTY + " is not null"
+				+ " and f." + ENTITY_NAME_PROPERTY + " = r." + ENTITY_NAME_PROPERTY
+				+ " and f." + ENTITY_ID_PROPERTY + " = r." + ENTITY_ID_PROPERTY + ")";
+	}
+
+	private static boolean isHeldBack(Session session, Map<String, Object> record) {
+		return session.createSelectionQuery(
+				"select count(f) from " + ENTITY_NAME + " f"
+						+ " where f." + FAILURE_PROPERTY + " is not null"
+						+ " and f." + ENTITY_NAME_PROPERTY + " = :entityName"
+						+ " and f." + ENTITY_ID_PROPERTY + " = :entityId",
+				Long.class
+		)
+				.setParameter( "entityName", record.get( ENTITY_NAME_PROPERTY ) )
+				.setParameter( "entityId", record.get( ENTITY_ID_PROPERTY ) )
+				.getSingleResult() > 0;
+	}
+
+	/**
+	 * Writes the audit rows of a single record in a transaction of its own, or sets the record aside
+	 * should they fail to be written.
+	 *
+	 * @return The number of records written.
+	 */
+	@SuppressWarnings("unchecked")
+	private int writeRecord(SessionFactoryImplementor sessionFactory, Long id) {
+		try {
+			return sessionFactory.fromTransaction( session -> {
+				final Map<String, Object> record = (Map<String, Object>) session.get(
+						ENTITY_NAME,
+						id,
+						LockMode.PESSIMISTIC_WRITE
+				);
+				if ( record == null || record.get( FAILURE_PROPERTY ) != null ) {
+					// written or set aside by another worker in the meantime
+					return 0;
+				}
+				if ( isHeldBack( session, record ) ) {
+					// an earlier record of the entity was set aside, possibly by this very run
+					return 0;
+				}
+				return writeRecords( (SessionImplementor) session, List.of( record ) );
+			} );
+		}
+		catch (RuntimeException e) {
+			log.warnf( e, "Unable to write the audit data of audit outbox record [%s]; the record is set aside", id );
+			sessionFactory.inTransaction( session -> {
+				final Map<String, Object> record = (Map<String, Object>) session.get( ENTITY_NAME, id );
+				if ( record != null ) {
+					record.put( FAILURE_PROPERTY, failureMessage( e ) );
+				}
+			} );
+			return 0;
+		}
+	}
+
+	private static String failureMessage(Throwable failure) {
+		Throwable cause = failure;
+		while ( cause.getCause() != null && cause.getCause() != cause ) {
+			cause = cause.getCause();
+		}
+		final String message = cause == failure ? failure.toString() : failure + "; caused by " + cause;
+		return message.length() > FAILURE_LENGTH ? message.substring( 0, FAILURE_LENGTH ) : message;
+	}
+
+	@SuppressWarnings("unchecked")
+	private int writeRecords(SessionImplementor session, List<Map<String, Object>> records) {
+		final String revisionFieldName = configuration.getRevisionFieldName();
+		boolean success = false;
+		try {
+			for ( Map<String, Object> record : records ) {
+				final String entityName = (String) record.get( ENTITY_NAME_PROPERTY );
+				final String propertyName = (String) record.get( PROPERTY_NAME_PROPERTY );
+				final String auditEntityName = (String) record.get( AUDIT_ENTITY_NAME_PROPERTY );
+				// the strategies read the revision number and timestamp from the fields of the revision entity
+				final Object revision = Hibernate.unproxy( record.get( revisionFieldName ) );
+				final Map<String, Object> data = readData( session, auditEntityName, (String) record.get( DATA_PROPERTY ) );
+
+				if ( propertyName == null ) {
+					final Object id = enversService.getEntitiesConfigurations()
+							.get( entityName )
+							.getIdMapper()
+							.mapToIdFromMap( (Map<String, Object>) data.get( configuration.getOriginalIdPropertyName() ) );
+					configuration.getAuditStrategy().perform(
+							session,
+							entityName,
+							configuration,
+							id,
+							data,
+							revision
+					);
+				}
+				else {
+					// the changed element is only used when the change is recorded, not by the audit strategies
+					configuration.getAuditStrategy().performCollectionChange(
+							session,
+							entityName,
+							propertyName,
+							configuration,
+							new PersistentCollectionChangeData( auditEntityName, data, null ),
+							revision
+					);
+				}
+				session.remove( record );
+			}
+
+			// the end revision updates of the audit strategy follow the inserts of the audit rows
+			session.flush();
+			success = true;
+		}
+		finally {
+			configuration.getAuditStrategy().completePerform( session, success );
+		}
+		return records.size();
+	}
+
+	/**
+	 * The key of an audited entity among the records, the text form of its identifier, which is
+	 * truncated to {@value #ENTITY_ID_LENGTH} characters: should the identifiers of two entities only
+	 * differ after it, the failure of a record of either one holds back the records of both.
+	 */
+	private static String entityKey(SessionImplementor session, String entityName, Object id) {
+		final Type idType = session.getFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( entityName )
+				.getIdentifierType();
+		final String key;
+		if ( idType instanceof CompositeType || idType instanceof EntityType ) {
+			final StringBuilder text = new StringBuilder();
+			appendValue( text, ID_PROPERTY, idType, id, session );
+			key = text.toString();
+		}
+		else {
+			key = toText( idType, id );
+		}
+		return key.length() > ENTITY_ID_LENGTH ? key.substring( 0, ENTITY_ID_LENGTH ) : key;
+	}
+
+	private static String writeData(SessionImplementor session, String auditEntityName, Map<String, Object> data) {
+		final EntityPersister persister = session.getFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( auditEntityName );
+		final StringBuilder text = new StringBuilder();
+		int written = 0;
+
+		final String identifierName = persister.getIdentifierPropertyName();
+		if ( data.containsKey( identifierName ) ) {
+			appendValue( text, identifierName, persister.getIdentifierType(), data.get( identifierName ), session );
+			written++;
+		}
+		final String[] propertyNames = persister.getPropertyNames();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			if ( data.containsKey( propertyNames[i] ) ) {
+				appendValue( text, propertyNames[i], propertyTypes[i], data.get( propertyNames[i] ), session );
+				written++;
+			}
+		}
+
+		if ( written != data.size() ) {
+			throw new AuditException(
+					"Unable to write the audit data of entity [" + auditEntityName + "] to the audit outbox;"
+							+ " it holds values of properties which are not mapped"
+			);
+		}
+		return text.toString();
+	}
+
+	private static void appendValue(StringBuilder text, String path, Type type, Object value, SessionImplementor session) {
+		if ( value == null ) {
+			text.append( path ).append( '\n' );
+		}
+		else if ( type instanceof CompositeType ) {
+			final CompositeType compositeType = (CompositeType) type;
+			final String[] propertyNames = compositeType.getPropertyNames();
+			final Type[] subtypes = compositeType.getSubtypes();
+			if ( value instanceof Map ) {
+				// the components of the audit entities, which only hold the properties present in the audit data
+				final Map<?, ?> values = (Map<?, ?>) value;
+				for ( int i = 0; i < propertyNames.length; i++ ) {
+					if ( values.containsKey( propertyNames[i] ) ) {
+						appendValue( text, path + '.' + propertyNames[i], subtypes[i], values.get( propertyNames[i] ), session );
+					}
+				}
+			}
+			else {
+				final Object[] values = compositeType.getPropertyValues( value, session );
+				for ( int i = 0; i < propertyNames.length; i++ ) {
+					appendValue( text, path + '.' + propertyNames[i], subtypes[i], values[i], session );
+				}
+			}
+		}
+		else if ( type instanceof EntityType ) {
+			final EntityType entityType = (EntityType) type;
+			if ( !entityType.isReferenceToPrimaryKey() ) {
+				throw new AuditException(
+						"Unable to write the reference to entity [" + entityType.getAssociatedEntityName()
+								+ "] to the audit outbox; it does not reference its identifier"
+				);
+			}
+			final String entityName = entityType.getAssociatedEntityName();
+			appendValue(
+					text,
+					path,
+					session.getFactory().getMappingMetamodel().getEntityDescriptor( entityName ).getIdentifierType(),
+					ForeignKeys.getEntityIdentifierIfNotUnsaved( entityName, value, session ),
+					session
+			);
+		}
+		else {
+			text.append( path ).append( '=' );
+			appendEscaped( text, toText( type, value ) );
+			text.append( '\n' );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static String toText(Type type, Object value) {
+		if ( value instanceof RevisionType ) {
+			return ( (RevisionType) value ).getRepresentation().toString();
+		}
+		if ( type instanceof CustomType && !( ( (CustomType<?>) type ).getUserType() instanceof EnhancedUserType ) ) {
+			throw new AuditException(
+					"Unable to write the values of type [" + type.getName() + "] to the audit outbox;"
+							+ " user types must implement " + EnhancedUserType.class.getName()
+			);
+		}
+		if ( type instanceof BasicType ) {
+			return ( (BasicType<Object>) type ).getJavaTypeDescriptor().toString( value );
+		}
+		throw new AuditException( "Unable to write the values of type [" + type.getName() + "] to the audit outbox" );
+	}
+
+	private static void appendEscaped(StringBuilder text, String value) {
+		for ( int i = 0; i < value.length(); i++ ) {
+			final char c = value.charAt( i );
+			switch ( c ) {
+				case '\\':
+					text.append( "\\\\" );
+					break;
+				case '\n':
+					text.append( "\\n" );
+					break;
+				case '\r':
+					text.append( "\\r" );
+					break;
+				default:
+					text.append( c );
+			}
+		}
+	}
+
+	private static Map<String, Object> readData(SessionImplementor session, String auditEntityName, String data) {
+		final EntityPersister persister = session.getFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( auditEntityName );
+		final Map<String, String> values = parseData( data );
+		final Map<String, Object> result = new HashMap<>();
+
+		putValue( result, values, persister.getIdentifierPropertyName(), persister.getIdentifierType(), session );
+		final String[] propertyNames = persister.getPropertyNames();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			putValue( result, values, propertyNames[i], propertyTypes[i], session );
+		}
+		return result;
+	}
+
+	private static void putValue(
+			Map<String, Object> result,
+			Map<String, String> values,
+			String name,
+			Type type,
+			SessionImplementor session) {
+		final Object value = readValue( values, name, type, session );
+		if ( value != ABSENT ) {
+			result.put( name, value );
+		}
+	}
+
+	private static Object readValue(Map<String, String> values, String path, Type type, SessionImplementor session) {
+		if ( values.containsKey( path ) && values.get( path ) == null ) {
+			return null;
+		}
+		else if ( type instanceof CompositeType ) {
+			final CompositeType compositeType = (CompositeType) type;
+			final String[] propertyNames = compositeType.getPropertyNames();
+			final Type[] subtypes = compositeType.getSubtypes();
+			final Object[] propertyValues = new Object[propertyNames.length];
+			boolean present = false;
+			for ( int i = 0; i < propertyNames.length; i++ ) {
+				propertyValues[i] = readValue( values, path + '.' + propertyNames[i], subtypes[i], session );
+				present = present || propertyValues[i] != ABSENT;
+			}
+			if ( !present ) {
+				return ABSENT;
+			}
+			else if ( Map.class.isAssignableFrom( compositeType.getReturnedClass() ) ) {
+				final Map<String, Object> component = new LinkedHashMap<>();
+				for ( int i = 0; i < propertyNames.length; i++ ) {
+					if ( propertyValues[i] != ABSENT ) {
+						component.put( propertyNames[i], propertyValues[i] );
+					}
+				}
+				return component;
+			}
+			else if ( compositeType instanceof ComponentType ) {
+				for ( int i = 0; i < propertyValues.length; i++ ) {
+					if ( propertyValues[i] == ABSENT ) {
+						propertyValues[i] = null;
+					}
+				}
+				return ( (ComponentType) compositeType ).getMappingModelPart()
+						.getEmbeddableTypeDescriptor()
+						.getRepresentationStrategy()
+						.getInstantiator()
+						.instantiate( () -> propertyValues, session.getFactory() );
+			}
+			throw new AuditException( "Unable to read the values of type [" + type.getName() + "] from the audit outbox" );
+		}
+		else if ( type instanceof EntityType ) {
+			final String entityName = ( (EntityType) type ).getAssociatedEntityName();
+			final Object id = readValue(
+					values,
+					path,
+					session.getFactory().getMappingMetamodel().getEntityDescriptor( entityName ).getIdentifierType(),
+					session
+			);
+			return id == ABSENT ? ABSENT : session.getReference( entityName, id );
+		}
+		else if ( values.containsKey( path ) ) {
+			final String text = values.get( path );
+			if ( type.getReturnedClass() == RevisionType.class ) {
+				return RevisionType.fromRepresentation( Byte.parseByte( text ) );
+			}
+			return ( (BasicType<?>) type ).getJavaTypeDescriptor().fromString( text );
+		}
+		return ABSENT;
+	}
+
+	private static Map<String, String> parseData(String data) {
+		final Map<String, String> values = new HashMap<>();
+		int start = 0;
+		while ( start < data.length() ) {
+			int end = data.indexOf( '\n', start );
+			if ( end < 0 ) {
+				end = data.length();
+			}
+			final int separator = data.indexOf( '=', start );
+			if ( separator < 0 || separator > end ) {
+				values.put( data.substring( start, end ), null );
+			}
+			else {
+				values.put( data.substring( start, separator ), unescape( data, separator + 1, end ) );
+			}
+			start = end + 1;
+		}
+		return values;
+	}
+
+	private static String unescape(String data, int start, int end) {
+		final StringBuilder value = new StringBuilder( end - start );
+		for ( int i = start; i < end; i++ ) {
+			final char c = data.charAt( i );
+			if ( c != '\\' ) {
+				value.append( c );
+				continue;
+			}
+			final char escaped = ++i < end ? data.charAt( i ) : 0;
+			switch ( escaped ) {
+				case '\\':
+					value.append( '\\' );
+					break;
+				case 'n':
+					value.append( '\n' );
+					break;
+				case 'r':
+					value.append( '\r' );
+					break;
+				default:
+					throw new AuditException( "Unable to read the audit data of an audit outbox record; it is malformed" );
+			}
+		}
+		return value.toString();
+	}
+}
@@ -18,6 +18,7 @@ import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoGenerator;
 import org.hibernate.envers.internal.synchronization.work.AuditWorkUnit;
+import org.hibernate.envers.strategy.spi.AuditStrategy;
 import org.hibernate.envers.tools.Pair;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.jboss.logging.Logger;
@@ -30,6 +31,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private static final Logger log = Logger.getLogger( AuditProcess.class );
 
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final AuditStrategy auditStrategy;
 	private final SessionImplementor session;
 
 	private final LinkedList<AuditWorkUnit> workUnits;
@@ -39,8 +41,12 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final EntityChangeNotifier entityChangeNotifier;
 	private Object revisionData;
 
-	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			AuditStrategy auditStrategy,
+			SessionImplementor session) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.auditStrategy = auditStrategy;
 		this.session = session;
 
 		workUnits = new LinkedList<>();
@@ -111,19 +117,31 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	}
 
 	private void executeInSession(Session session) {
-		// Making sure the revision data is persisted.
-		final Object currentRevisionData = getCurrentRevisionData( session, true );
+		boolean success = false;
+		try {
+			// Making sure the revision data is persisted.
+			final Object currentRevisionData = getCurrentRevisionData( session, true );
 
-		AuditWorkUnit vwu;
+			AuditWorkUnit vwu;
 
-		// First undoing any performed work units
-		while ( (vwu = undoQueue.poll()) != null ) {
-			vwu.undo( session );
-		}
+			// First undoing any performed work units
+			while ( (vwu = undoQueue.poll()) != null ) {
+				vwu.undo( session );
+			}
 
-		while ( (vwu = workUnits.poll()) != null ) {
-			vwu.perform( session, revisionData );
-			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			while ( (vwu = workUnits.poll()) != null ) {
+				vwu.perform( session, revisionData );
+				entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			}
+
+			// Explicitly flushing the session, as the auto-flush may have already happened.
+			session.flush();
+			success = true;
+		}
+		finally {
+			// Executes the work deferred by the strategy in this very session, which may be a temporary one
+			// whose transaction completion processes never run.
+			auditStrategy.completePerform( session, success );
 		}
 	}
 
@@ -163,7 +181,6 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 						.noInterceptor()
 						.openSession();
 				executeInSession( temporarySession );
-				temporarySession.flush();
 			}
 			finally {
 				if ( temporarySession != null ) {
@@ -173,9 +190,6 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 		}
 		else {
 			executeInSession( session );
-
-			// Explicitly flushing the session, as the auto-flush may have already happened.
-			session.flush();
 		}
 	}
 }
@@ -15,6 +15,7 @@ import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoGenerator;
+import org.hibernate.envers.strategy.spi.AuditStrategy;
 import org.hibernate.event.spi.EventSource;
 
 /**
@@ -23,11 +24,13 @@ import org.hibernate.event.spi.EventSource;
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final AuditStrategy auditStrategy;
 
-	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator, AuditStrategy auditStrategy) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.auditStrategy = auditStrategy;
 	}
 
 	public AuditProcess get(EventSource session) {
@@ -36,7 +39,7 @@ public class AuditProcessManager {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, auditStrategy, session );
 			auditProcesses.put( transaction, auditProcess );
 
 			session.getActionQueue().registerProcess(
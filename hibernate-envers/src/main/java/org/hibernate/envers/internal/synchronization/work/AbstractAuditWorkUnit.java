@@ -15,6 +15,7 @@ import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.strategy.AuditStrategy;
 
 /**
@@ -64,9 +65,15 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 	public void perform(Session session, Object revisionData) {
 		final Map<String, Object> data = generateData( revisionData );
 
-		auditStrategy.perform( session, getEntityName(), enversService, id, data, revisionData );
+		final AuditOutbox auditOutbox = enversService.getAuditOutbox();
+		if ( auditOutbox != null ) {
+			setPerformed( auditOutbox.write( session, getEntityName(), id, data, revisionData ) );
+		}
+		else {
+			auditStrategy.perform( session, getEntityName(), enversService, id, data, revisionData );
 
-		setPerformed( data );
+			setPerformed( data );
+		}
 	}
 
 	@Override
@@ -90,8 +97,11 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 
 	public void undo(Session session) {
 		if ( isPerformed() ) {
+			// the performed data is the outbox record, when the audit data is written asynchronously
 			session.delete(
-					enversService.getConfig().getAuditEntityName( getEntityName() ),
+					enversService.getAuditOutbox() != null
+							? AuditOutbox.ENTITY_NAME
+							: enversService.getConfig().getAuditEntityName( getEntityName() ),
 					performedData
 			);
 			session.flush();
@@ -20,6 +20,7 @@ import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 
 /**
  * @author Adam Warski (adam at warski dot org)
@@ -79,20 +80,33 @@ public class PersistentCollectionChangeWorkUnit extends AbstractAuditWorkUnit im
 	@SuppressWarnings("unchecked")
 	public void perform(Session session, Object revisionData) {
 		final Configuration configuration = enversService.getConfig();
+		final AuditOutbox auditOutbox = enversService.getAuditOutbox();
 
 		for ( PersistentCollectionChangeData persistentCollectionChangeData : collectionChanges ) {
 			// Setting the revision number
 			( (Map<String, Object>) persistentCollectionChangeData.getData().get( configuration.getOriginalIdPropertyName() ) )
 					.put( configuration.getRevisionFieldName(), revisionData );
 
-			auditStrategy.performCollectionChange(
-					session,
-					getEntityName(),
-					referencingPropertyName,
-					enversService,
-					persistentCollectionChangeData,
-					revisionData
-			);
+			if ( auditOutbox != null ) {
+				auditOutbox.writeCollectionChange(
+						session,
+						getEntityName(),
+						( (PersistentCollectionChangeWorkUnitId) id ).getOwnerId(),
+						referencingPropertyName,
+						persistentCollectionChangeData,
+						revisionData
+				);
+			}
+			else {
+				auditStrategy.performCollectionChange(
+						session,
+						getEntityName(),
+						referencingPropertyName,
+						enversService,
+						persistentCollectionChangeData,
+						revisionData
+				);
+			}
 		}
 	}
 
@@ -11,12 +11,15 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
@@ -25,10 +28,13 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.boot.model.Attribute;
 import org.hibernate.envers.boot.model.BasicAttribute;
 import org.hibernate.envers.boot.model.Column;
 import org.hibernate.envers.boot.model.ManyToOneAttribute;
+import org.hibernate.envers.boot.model.RootPersistentEntity;
 import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.configuration.internal.metadata.AuditTableData;
 import org.hibernate.envers.configuration.internal.metadata.RevisionInfoHelper;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
@@ -42,10 +48,12 @@ import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.AuditStrategyContext;
 import org.hibernate.envers.strategy.spi.MappingContext;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.mapping.Constraint;
 import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.property.access.spi.Getter;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.sql.Update;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.CollectionType;
@@ -84,6 +92,9 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 	private final SessionCacheCleaner sessionCacheCleaner;
 
+	// The end revision updates of each session, waiting for the end of its transaction
+	private final Map<EventSource, EndRevisionUpdates> endRevisionUpdates = new ConcurrentHashMap<>();
+
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
 	}
@@ -112,6 +123,10 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			);
 
 			mappingContext.getEntityMapping().addAttribute( revEndMapping );
+
+			if ( mappingContext.getConfiguration().isRevisionRangeIndexEnabled() ) {
+				addRevisionRangeIndex( mappingContext, revEndMapping.getColumns().get( 0 ) );
+			}
 		}
 
 		if ( mappingContext.getConfiguration().isRevisionEndTimestampEnabled() ) {
@@ -148,6 +163,35 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 	}
 
+	/**
+	 * Adds the revision and end revision columns of a root audit table to a single index, which
+	 * serves the {@code REV <= ? and (REVEND > ? or REVEND is null)} predicates of the audit queries.
+	 */
+	private void addRevisionRangeIndex(MappingContext mappingContext, Column revisionEndColumn) {
+		if ( !( mappingContext.getEntityMapping() instanceof RootPersistentEntity ) ) {
+			return;
+		}
+		final RootPersistentEntity entity = (RootPersistentEntity) mappingContext.getEntityMapping();
+		final String revisionFieldName = mappingContext.getConfiguration().getRevisionFieldName();
+		for ( Attribute attribute : entity.getIdentifier().getAttributes() ) {
+			if ( revisionFieldName.equals( attribute.getName() ) && attribute.getColumns().size() == 1 ) {
+				final Column revisionColumn = attribute.getColumns().get( 0 );
+				final AuditTableData tableData = entity.getAuditTableData();
+				final String indexName = "IDX" + Constraint.hashedName(
+						"table`" + tableData.getCatalog()
+								+ "`" + tableData.getSchema()
+								+ "`" + tableData.getAuditTableName()
+								+ "`column`" + revisionColumn.getName()
+								+ "`column`" + revisionEndColumn.getName() + "`"
+				);
+				// the revision column is bound first, as part of the identifier
+				revisionColumn.setIndex( indexName );
+				revisionEndColumn.setIndex( indexName );
+				return;
+			}
+		}
+	}
+
 	@Override
 	public void perform(
 			final Session session,
@@ -169,7 +213,14 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
+		final boolean updateRequired = reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD;
+		if ( updateRequired && configuration.getRevisionEndUpdateBatchSize() > 0 ) {
+			// The UPDATE statement is batched with the ones of the other changes, once all the audit data
+			// of the transaction is performed and flushed.
+			getEndRevisionUpdates( (EventSource) session, configuration )
+					.add( entityName, auditedEntityName, id, data, revision );
+		}
+		else if ( updateRequired ) {
 			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
 			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
 				// Construct the update contexts
@@ -195,26 +246,49 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 				for ( UpdateContext context : contexts ) {
 					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
+					checkUpdatedRows( rows, configuration, auditedEntityName, id, data );
 				}
 			} );
 		}
 		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
 
+	private void checkUpdatedRows(
+			int rows,
+			Configuration configuration,
+			String auditedEntityName,
+			Object id,
+			Object data) {
+		if ( rows != 1 ) {
+			final RevisionType revisionType = getRevisionType( configuration, data );
+			if ( !configuration.isAllowIdentifierReuse() || revisionType != RevisionType.ADD ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Cannot update previous revision for entity %s and id %s (%s rows modified).",
+								auditedEntityName,
+								id,
+								rows
+						)
+				);
+			}
+		}
+	}
+
+	private EndRevisionUpdates getEndRevisionUpdates(EventSource session, Configuration configuration) {
+		// No worries about concurrent access - a session is single thread
+		return endRevisionUpdates.computeIfAbsent( session, s -> new EndRevisionUpdates( configuration ) );
+	}
+
+	@Override
+	public void completePerform(Session session, boolean success) {
+		final EndRevisionUpdates updates = endRevisionUpdates.remove( (EventSource) session );
+		if ( updates != null && success ) {
+			// The audit rows were inserted by the flush of the session.
+			updates.execute( (SessionImplementor) session );
+		}
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public void performCollectionChange(
@@ -485,6 +559,72 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		);
 	}
 
+	/**
+	 * Executes the given updates, all having the same SQL, in JDBC batches.
+	 *
+	 * @param session the session
+	 * @param configuration the configuration
+	 * @param sql the SQL of the updates
+	 * @param updates the updates to execute, with the changes they are executed for
+	 */
+	private void executeBatchedUpdates(
+			SessionImplementor session,
+			Configuration configuration,
+			String sql,
+			List<EndRevisionUpdate> updates) {
+		final int batchSize = configuration.getRevisionEndUpdateBatchSize();
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		try {
+			for ( int start = 0; start < updates.size(); start += batchSize ) {
+				final List<EndRevisionUpdate> batch = updates.subList( start, Math.min( start + batchSize, updates.size() ) );
+				for ( EndRevisionUpdate update : batch ) {
+					int index = 1;
+					for ( QueryParameterBinding binding : update.context.getBindings() ) {
+						index += binding.bind( index, statement, session );
+					}
+					statement.addBatch();
+				}
+
+				final int[] rowCounts;
+				try {
+					observer.jdbcExecuteBatchStart();
+					rowCounts = statement.executeBatch();
+				}
+				finally {
+					observer.jdbcExecuteBatchEnd();
+				}
+
+				for ( int i = 0; i < rowCounts.length; i++ ) {
+					// some drivers do not report the number of rows of the statements of a batch
+					if ( rowCounts[i] != Statement.SUCCESS_NO_INFO ) {
+						final EndRevisionUpdate update = batch.get( i );
+						checkUpdatedRows(
+								rowCounts[i],
+								configuration,
+								update.change.auditedEntityName,
+								update.change.id,
+								update.change.data
+						);
+					}
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Unable to update the end revision of previous audit rows",
+					sql
+			);
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
 	private List<UpdateContext> getUpdateContexts(
 			String entityName,
 			String auditEntityName,
@@ -654,6 +794,82 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return rootAuditEntity.getTableName();
 	}
 
+	/**
+	 * The end revision updates required by the changes audited in a transaction, which are
+	 * executed in JDBC batches, one statement after the other, before the transaction completes.
+	 */
+	private class EndRevisionUpdates {
+		private final Configuration configuration;
+		private final List<AuditedChange> changes = new ArrayList<>();
+
+		private EndRevisionUpdates(Configuration configuration) {
+			this.configuration = configuration;
+		}
+
+		void add(String entityName, String auditedEntityName, Object id, Object data, Object revision) {
+			changes.add( new AuditedChange( entityName, auditedEntityName, id, data, revision ) );
+		}
+
+		void execute(SessionImplementor session) {
+			// group the updates of the changes by statement, each audit table having its own
+			final Map<String, List<EndRevisionUpdate>> updatesBySql = new LinkedHashMap<>();
+			for ( AuditedChange change : changes ) {
+				final List<UpdateContext> contexts = getUpdateContexts(
+						change.entityName,
+						change.auditedEntityName,
+						session,
+						configuration,
+						change.id,
+						change.revision
+				);
+				if ( contexts.isEmpty() ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Failed to build update contexts for entity %s and id %s",
+									change.auditedEntityName,
+									change.id
+							)
+					);
+				}
+				for ( UpdateContext context : contexts ) {
+					updatesBySql.computeIfAbsent( context.toStatementString(), sql -> new ArrayList<>() )
+							.add( new EndRevisionUpdate( change, context ) );
+				}
+			}
+
+			for ( Map.Entry<String, List<EndRevisionUpdate>> entry : updatesBySql.entrySet() ) {
+				executeBatchedUpdates( session, configuration, entry.getKey(), entry.getValue() );
+			}
+		}
+	}
+
+	private static class AuditedChange {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Object id;
+		private final Object data;
+		private final Object revision;
+
+		private AuditedChange(String entityName, String auditedEntityName, Object id, Object data, Object revision) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.id = id;
+			this.data = data;
+			this.revision = revision;
+		}
+	}
+
+	private static class EndRevisionUpdate {
+		private final AuditedChange change;
+		private final UpdateContext context;
+
+		private EndRevisionUpdate(AuditedChange change, UpdateContext context) {
+			this.change = change;
+			this.context = context;
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
@@ -87,6 +87,19 @@ public interface AuditStrategy {
 			PersistentCollectionChangeData persistentCollectionChangeData,
 			Object revision);
 
+	/**
+	 * Completes the persistence of the audited data performed in a session, once all the audit data of
+	 * the transaction has been performed and flushed.  Strategies deferring work until then execute it
+	 * here, or discard it if the audit data could not be performed.
+	 *
+	 * @param session Session, in which the audit data was performed.
+	 * @param success Whether all the audit data was performed and flushed.
+	 *
+	 * @since 6.2
+	 */
+	default void completePerform(Session session, boolean success) {
+	}
+
 	/**
 	 * Update the rootQueryBuilder with an extra WHERE clause to restrict the revision for a two-entity relation.
 	 * This WHERE clause depends on the AuditStrategy.
@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.outbox;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the {@link AuditOutbox} sets aside the records it cannot write, holds back the later
+ * records of the same entity, and writes the others.
+ */
+public class AuditOutboxFailureTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer failedId;
+	private Integer writtenId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( EnversSettings.AUDIT_OUTBOX_ENABLED, "true" );
+		// the outbox is flushed explicitly by the test
+		options.put( EnversSettings.AUDIT_OUTBOX_POLL_INTERVAL, "3600000" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity failed = new StrTestEntity( "x" );
+		final StrTestEntity written = new StrTestEntity( "y" );
+		em.persist( failed );
+		em.persist( written );
+		em.getTransaction().commit();
+		failedId = failed.getId();
+		writtenId = written.getId();
+
+		final Long failedRecordId = em.createQuery(
+				"select r.id from " + AuditOutbox.ENTITY_NAME + " r"
+						+ " where r." + AuditOutbox.ENTITY_ID_PROPERTY + " = :entityId",
+				Long.class
+		)
+				.setParameter( "entityId", failedId.toString() )
+				.getSingleResult();
+		final String data = em.createQuery(
+				"select r." + AuditOutbox.DATA_PROPERTY + " from " + AuditOutbox.ENTITY_NAME + " r where r.id = :id",
+				String.class
+		)
+				.setParameter( "id", failedRecordId )
+				.getSingleResult();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, failedId ).setStr( "x2" );
+		em.find( StrTestEntity.class, writtenId ).setStr( "y2" );
+		em.getTransaction().commit();
+
+		em.getTransaction().begin();
+		// not a valid escape sequence
+		setRecordData( em, failedRecordId, data + "str=\\q\n" );
+		em.getTransaction().commit();
+
+		// the record of revision 2 of the failed entity waits for the record of revision 1
+		assertEquals( 2, getAuditOutbox().flush() );
+		assertEquals( 0, getAuditOutbox().flush() );
+		final List<Object[]> records = em.createQuery(
+				"select r.id, r." + AuditOutbox.FAILURE_PROPERTY + " from " + AuditOutbox.ENTITY_NAME + " r order by r.id",
+				Object[].class
+		).getResultList();
+		assertEquals( 2, records.size() );
+		assertEquals( failedRecordId, records.get( 0 )[0] );
+		final String failure = (String) records.get( 0 )[1];
+		assertNotNull( failure );
+		assertTrue( failure.length() <= AuditOutbox.FAILURE_LENGTH );
+		assertNull( records.get( 1 )[1] );
+		assertTrue( getAuditReader().getRevisions( StrTestEntity.class, failedId ).isEmpty() );
+
+		// clearing the failure of the repaired record writes it, then the record it held back
+		em.getTransaction().begin();
+		setRecordData( em, failedRecordId, data );
+		em.getTransaction().commit();
+		assertEquals( 2, getAuditOutbox().flush() );
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, failedId ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, writtenId ) );
+	}
+
+	@Test
+	public void testHistoryOfFailed() {
+		assertEquals( "x", getAuditReader().find( StrTestEntity.class, failedId, 1 ).getStr() );
+		assertEquals( "x2", getAuditReader().find( StrTestEntity.class, failedId, 2 ).getStr() );
+	}
+
+	@Test
+	public void testOneRowWithoutEndRevisionPerEntity() {
+		final EntityManager em = getEntityManager();
+		try {
+			final Number rows = (Number) em.createNativeQuery(
+					"select count(*) from STR_TEST_AUD where REVEND is null"
+			).getSingleResult();
+			assertEquals( 2, rows.intValue() );
+		}
+		finally {
+			em.close();
+		}
+	}
+
+	private static void setRecordData(EntityManager em, Long recordId, String data) {
+		em.createQuery(
+				"update " + AuditOutbox.ENTITY_NAME + " r set r.data = :data, r.failure = null where r.id = :id"
+		)
+				.setParameter( "data", data )
+				.setParameter( "id", recordId )
+				.executeUpdate();
+	}
+
+	private AuditOutbox getAuditOutbox() {
+		return entityManagerFactory().unwrap( SessionFactoryImplementor.class )
+				.getServiceRegistry()
+				.getService( EnversService.class )
+				.getAuditOutbox();
+	}
+}
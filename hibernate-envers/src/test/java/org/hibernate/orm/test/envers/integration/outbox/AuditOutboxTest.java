@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.outbox;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.collection.StringSetEntity;
+import org.hibernate.orm.test.envers.tools.TestTools;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the audit data of entities and collections written through the {@link AuditOutbox}.
+ */
+public class AuditOutboxTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer strId;
+	private Integer setId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, StringSetEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( EnversSettings.AUDIT_OUTBOX_ENABLED, "true" );
+		options.put( EnversSettings.AUDIT_OUTBOX_BATCH_SIZE, "2" );
+		// the outbox is flushed explicitly by the test
+		options.put( EnversSettings.AUDIT_OUTBOX_POLL_INTERVAL, "3600000" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity str = new StrTestEntity( "x" );
+		final StringSetEntity set = new StringSetEntity();
+		set.getStrings().add( "a" );
+		set.getStrings().add( "b" );
+		em.persist( str );
+		em.persist( set );
+		em.getTransaction().commit();
+		strId = str.getId();
+		setId = set.getId();
+
+		// nothing is audited until the records of the outbox are written
+		assertEquals( 4L, countOutboxRecords( em ) );
+		final String data = em.createQuery(
+				"select r." + AuditOutbox.DATA_PROPERTY + " from " + AuditOutbox.ENTITY_NAME + " r"
+						+ " where r." + AuditOutbox.ENTITY_NAME_PROPERTY + " = :entityName",
+				String.class
+		)
+				.setParameter( "entityName", StrTestEntity.class.getName() )
+				.getSingleResult();
+		assertEquals( "originalId.REV=1\noriginalId.id=" + strId + "\nREVTYPE=0\nstr=x\n", data );
+		assertTrue( getAuditReader().getRevisions( StrTestEntity.class, strId ).isEmpty() );
+		assertEquals( 4, getAuditOutbox().flush() );
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, strId ).setStr( "y" );
+		em.find( StringSetEntity.class, setId ).getStrings().remove( "a" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, strId ) );
+		em.getTransaction().commit();
+
+		// the records of both revisions are written together, in revision order
+		assertEquals( 4, getAuditOutbox().flush() );
+		assertEquals( 0L, countOutboxRecords( em ) );
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, strId ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StringSetEntity.class, setId ) );
+	}
+
+	@Test
+	public void testHistoryOfStr() {
+		assertEquals( "x", getAuditReader().find( StrTestEntity.class, strId, 1 ).getStr() );
+		assertEquals( "y", getAuditReader().find( StrTestEntity.class, strId, 2 ).getStr() );
+		assertNull( getAuditReader().find( StrTestEntity.class, strId, 3 ) );
+	}
+
+	@Test
+	public void testHistoryOfSet() {
+		assertEquals(
+				TestTools.makeSet( "a", "b" ),
+				getAuditReader().find( StringSetEntity.class, setId, 1 ).getStrings()
+		);
+		assertEquals(
+				Collections.singleton( "b" ),
+				getAuditReader().find( StringSetEntity.class, setId, 2 ).getStrings()
+		);
+	}
+
+	@Test
+	public void testOneRowWithoutEndRevisionPerElement() {
+		final EntityManager em = getEntityManager();
+		try {
+			final Number rows = (Number) em.createNativeQuery(
+					"select count(*) from StringSetEntity_strings_AUD where REVEND is null"
+			).getSingleResult();
+			// the removal of "a" in revision 2 is an audit row without end revision too
+			assertEquals( 2, rows.intValue() );
+		}
+		finally {
+			em.close();
+		}
+	}
+
+	private AuditOutbox getAuditOutbox() {
+		return entityManagerFactory().unwrap( SessionFactoryImplementor.class )
+				.getServiceRegistry()
+				.getService( EnversService.class )
+				.getAuditOutbox();
+	}
+
+	private static long countOutboxRecords(EntityManager em) {
+		return em.createQuery( "select count(r) from " + AuditOutbox.ENTITY_NAME + " r", Long.class )
+				.getSingleResult();
+	}
+}
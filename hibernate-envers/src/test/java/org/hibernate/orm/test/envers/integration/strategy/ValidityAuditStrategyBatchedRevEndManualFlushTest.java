@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the end revisions set by {@link ValidityAuditStrategy} in JDBC batches, when the flush mode
+ * of the session is manual, so that the audit data is written through a temporary session.
+ */
+public class ValidityAuditStrategyBatchedRevEndManualFlushTest extends BaseEnversFunctionalTestCase {
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addSettings(Map<String, Object> settings) {
+		super.addSettings( settings );
+		settings.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		settings.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_UPDATE_BATCH_SIZE, "2" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final Session session = openSession();
+		session.setHibernateFlushMode( FlushMode.MANUAL );
+
+		// Revision 1
+		session.getTransaction().begin();
+		for ( int i = 0; i < 3; i++ ) {
+			final StrTestEntity entity = new StrTestEntity( "a" + i );
+			session.persist( entity );
+			ids.add( entity.getId() );
+		}
+		session.flush();
+		session.getTransaction().commit();
+
+		// Revision 2
+		session.getTransaction().begin();
+		for ( Integer id : ids ) {
+			final StrTestEntity entity = session.find( StrTestEntity.class, id );
+			entity.setStr( entity.getStr().replace( 'a', 'b' ) );
+		}
+		session.flush();
+		session.getTransaction().commit();
+
+		// Revision 3
+		session.getTransaction().begin();
+		session.remove( session.find( StrTestEntity.class, ids.get( 0 ) ) );
+		session.find( StrTestEntity.class, ids.get( 1 ) ).setStr( "c1" );
+		session.flush();
+		session.getTransaction().commit();
+
+		session.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, ids.get( 0 ) ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, ids.get( 1 ) ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, ids.get( 2 ) ) );
+	}
+
+	@Test
+	public void testEntitiesAtRevisions() {
+		assertEquals( Arrays.asList( "a0", "a1", "a2" ), findStrsAtRevision( 1 ) );
+		assertEquals( Arrays.asList( "b0", "b1", "b2" ), findStrsAtRevision( 2 ) );
+		assertEquals( Arrays.asList( "b2", "c1" ), findStrsAtRevision( 3 ) );
+	}
+
+	@Test
+	public void testOneRowWithoutEndRevisionPerEntity() {
+		try ( Session session = openSession() ) {
+			final Number rows = (Number) session.createNativeQuery( "select count(*) from STR_TEST_AUD where REVEND is null" )
+					.getSingleResult();
+			assertEquals( 3, rows.intValue() );
+		}
+	}
+
+	private List<String> findStrsAtRevision(int revision) {
+		final List<String> strs = new ArrayList<>();
+		for ( Object entity : getAuditReader().createQuery()
+				.forEntitiesAtRevision( StrTestEntity.class, revision )
+				.getResultList() ) {
+			strs.add( ( (StrTestEntity) entity ).getStr() );
+		}
+		strs.sort( Comparator.naturalOrder() );
+		return strs;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the end revisions set by {@link ValidityAuditStrategy} when the updates are executed
+ * in JDBC batches, with a batch size smaller than the number of updates of a transaction.
+ */
+public class ValidityAuditStrategyBatchedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_UPDATE_BATCH_SIZE, "2" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < 5; i++ ) {
+			final StrTestEntity entity = new StrTestEntity( "a" + i );
+			em.persist( entity );
+			ids.add( entity.getId() );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			final StrTestEntity entity = em.find( StrTestEntity.class, id );
+			entity.setStr( entity.getStr().replace( 'a', 'b' ) );
+		}
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, ids.get( 0 ) ) );
+		em.remove( em.find( StrTestEntity.class, ids.get( 1 ) ) );
+		em.find( StrTestEntity.class, ids.get( 2 ) ).setStr( "c2" );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		for ( int i = 0; i < 5; i++ ) {
+			assertEquals(
+					i < 3 ? Arrays.asList( 1, 2, 3 ) : Arrays.asList( 1, 2 ),
+					getAuditReader().getRevisions( StrTestEntity.class, ids.get( i ) )
+			);
+		}
+	}
+
+	@Test
+	public void testEntitiesAtRevisions() {
+		assertEquals( Arrays.asList( "a0", "a1", "a2", "a3", "a4" ), findStrsAtRevision( 1 ) );
+		assertEquals( Arrays.asList( "b0", "b1", "b2", "b3", "b4" ), findStrsAtRevision( 2 ) );
+		assertEquals( Arrays.asList( "b3", "b4", "c2" ), findStrsAtRevision( 3 ) );
+	}
+
+	@Test
+	public void testOneRowWithoutEndRevisionPerEntity() {
+		final EntityManager em = getEntityManager();
+		try {
+			final Number rows = (Number) em.createNativeQuery( "select count(*) from STR_TEST_AUD where REVEND is null" )
+					.getSingleResult();
+			assertEquals( 5, rows.intValue() );
+		}
+		finally {
+			em.close();
+		}
+	}
+
+	private List<String> findStrsAtRevision(int revision) {
+		final List<String> strs = new ArrayList<>();
+		for ( Object entity : getAuditReader().createQuery()
+				.forEntitiesAtRevision( StrTestEntity.class, revision )
+				.getResultList() ) {
+			strs.add( ( (StrTestEntity) entity ).getStr() );
+		}
+		strs.sort( Comparator.naturalOrder() );
+		return strs;
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.Table;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwnedEntity;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwningEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the index on the revision and end revision columns added to the audit tables by the
+ * {@link ValidityAuditStrategy}, and the revisions of entities read with the range predicates
+ * this index serves.
+ */
+public class ValidityAuditStrategyRevisionRangeIndexTest extends BaseEnversJPAFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SetOwningEntity.class, SetOwnedEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final SetOwnedEntity owned = new SetOwnedEntity( 1, "owned" );
+		final SetOwningEntity owning = new SetOwningEntity( 2, "owning" );
+		owning.setReferences( new HashSet<>() );
+		em.persist( owned );
+		em.persist( owning );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( SetOwningEntity.class, 2 ).getReferences().add( em.find( SetOwnedEntity.class, 1 ) );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.find( SetOwningEntity.class, 2 ).setData( "owning2" );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testAuditTablesIndexed() {
+		final List<String> auditTables = new ArrayList<>();
+		for ( Table table : metadata().collectTableMappings() ) {
+			if ( table.getName().endsWith( "_AUD" ) ) {
+				auditTables.add( table.getName() );
+				assertTrue(
+						"Audit table " + table.getName() + " has no index on its revision range",
+						hasRevisionRangeIndex( table )
+				);
+			}
+		}
+		// the audit tables of both entities and of the join table
+		assertEquals( 3, auditTables.size() );
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( SetOwnedEntity.class, 1 ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( SetOwningEntity.class, 2 ) );
+	}
+
+	@Test
+	public void testHistoryOfReferences() {
+		assertEquals( 0, getAuditReader().find( SetOwningEntity.class, 2, 1 ).getReferences().size() );
+		assertEquals( 1, getAuditReader().find( SetOwningEntity.class, 2, 2 ).getReferences().size() );
+		assertEquals( "owning2", getAuditReader().find( SetOwningEntity.class, 2, 3 ).getData() );
+		assertEquals( 1, getAuditReader().find( SetOwnedEntity.class, 1, 3 ).getReferencing().size() );
+	}
+
+	private static boolean hasRevisionRangeIndex(Table table) {
+		final Iterator<Index> indexes = table.getIndexIterator();
+		while ( indexes.hasNext() ) {
+			final Index index = indexes.next();
+			final List<String> columns = new ArrayList<>();
+			final Iterator<Column> iterator = index.getColumnIterator();
+			while ( iterator.hasNext() ) {
+				columns.add( iterator.next().getName() );
+			}
+			if ( columns.equals( Arrays.asList( "REV", "REVEND" ) ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.lang.NonNullApi;
+import io.micrometer.core.lang.NonNullFields;
+import io.micrometer.core.lang.Nullable;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.spi.Instrumentation;
+import org.hibernate.stat.spi.InstrumentationListener;
+
+/**
+ * A {@link MeterBinder} implementation that records the latency of Hibernate operations
+ * as {@link Timer}s publishing percentile histograms: the acquisition of JDBC connections,
+ * the execution of JDBC statements and batches, the execution of queries, flushes, the
+ * loading of entities, and the accesses to the second-level cache.
+ * <p>
+ * Unlike {@link HibernateMetrics}, these timers do not require statistics to be enabled.
+ * The operations are only timed while at least one such binder is bound, and a binder
+ * stops recording once {@linkplain #close() closed}.
+ * <p>
+ * Be aware of the potential for high cardinality of unique Hibernate queries executed by your
+ * application when considering using this {@link MeterBinder}, since the query timer is
+ * tagged by query.
+ *
+ * @since 6.2
+ */
+@NonNullApi
+@NonNullFields
+public class HibernateLatencyMetrics implements MeterBinder, AutoCloseable {
+
+	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+
+	private final Iterable<Tag> tags;
+
+	private final SessionFactory sessionFactory;
+
+	private final List<TimingListener> listeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Create {@code HibernateLatencyMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 * @return the bound {@code HibernateLatencyMetrics}, to be {@linkplain #close() closed} to stop recording
+	 */
+	public static HibernateLatencyMetrics monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			String... tags) {
+		return monitor( registry, sessionFactory, sessionFactoryName, Tags.of( tags ) );
+	}
+
+	/**
+	 * Create {@code HibernateLatencyMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 * @return the bound {@code HibernateLatencyMetrics}, to be {@linkplain #close() closed} to stop recording
+	 */
+	public static HibernateLatencyMetrics monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags) {
+		final HibernateLatencyMetrics metrics = new HibernateLatencyMetrics( sessionFactory, sessionFactoryName, tags );
+		metrics.bindTo( registry );
+		return metrics;
+	}
+
+	/**
+	 * Create a {@code HibernateLatencyMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public HibernateLatencyMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
+		this.sessionFactory = sessionFactory;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		final Instrumentation instrumentation = getInstrumentation();
+		if ( instrumentation != null ) {
+			final TimingListener listener = new TimingListener( meterRegistry );
+			listeners.add( listener );
+			instrumentation.addListener( listener );
+		}
+	}
+
+	/**
+	 * Detach from every meter registry this binder was bound to, so that the operations
+	 * of the session factory are no longer timed on their behalf. The timers already
+	 * registered are left in the registries.
+	 */
+	@Override
+	public void close() {
+		final Instrumentation instrumentation = getInstrumentation();
+		for ( TimingListener listener : listeners ) {
+			listeners.remove( listener );
+			if ( instrumentation != null ) {
+				instrumentation.removeListener( listener );
+			}
+		}
+	}
+
+	@Nullable
+	private Instrumentation getInstrumentation() {
+		if ( sessionFactory instanceof SessionFactoryImplementor ) {
+			return ( (SessionFactoryImplementor) sessionFactory ).getServiceRegistry()
+					.getService( Instrumentation.class );
+		}
+		return null;
+	}
+
+	class TimingListener implements InstrumentationListener {
+
+		private final MeterRegistry meterRegistry;
+
+		private final Timer connectionAcquisition;
+		private final Timer statementExecution;
+		private final Timer batchExecution;
+		private final Timer flush;
+
+		// timers tagged by query, entity or region, built on first use
+		private final Map<String, Timer> queryExecution = new ConcurrentHashMap<>();
+		private final Map<String, Timer> entityLoad = new ConcurrentHashMap<>();
+		private final Map<String, Timer> cacheHit = new ConcurrentHashMap<>();
+		private final Map<String, Timer> cacheMiss = new ConcurrentHashMap<>();
+		private final Map<String, Timer> cachePut = new ConcurrentHashMap<>();
+
+		TimingListener(MeterRegistry meterRegistry) {
+			this.meterRegistry = meterRegistry;
+			this.connectionAcquisition = timer( "hibernate.connection.acquisition", "Time to acquire JDBC connections", Tags.empty() );
+			this.statementExecution = timer( "hibernate.statement.execution", "Time to execute JDBC statements", Tags.empty() );
+			this.batchExecution = timer( "hibernate.batch.execution", "Time to execute JDBC batches", Tags.empty() );
+			this.flush = timer( "hibernate.flush", "Time to flush sessions", Tags.empty() );
+		}
+
+		@Override
+		public void connectionAcquired(long durationNanos) {
+			connectionAcquisition.record( durationNanos, TimeUnit.NANOSECONDS );
+		}
+
+		@Override
+		public void statementExecuted(long durationNanos) {
+			statementExecution.record( durationNanos, TimeUnit.NANOSECONDS );
+		}
+
+		@Override
+		public void batchExecuted(long durationNanos) {
+			batchExecution.record( durationNanos, TimeUnit.NANOSECONDS );
+		}
+
+		@Override
+		public void queryExecuted(String query, long durationNanos) {
+			queryExecution.computeIfAbsent(
+					query,
+					q -> timer( "hibernate.query.execution", "Time to execute queries and read their results", Tags.of( "query", q ) )
+			).record( durationNanos, TimeUnit.NANOSECONDS );
+		}
+
+		@Override
+		public void flushed(long durationNanos) {
+			flush.record( durationNanos, TimeUnit.NANOSECONDS );
+		}
+
+		@Override
+		public void entityLoaded(String entityName, long durationNanos) {
+			entityLoad.computeIfAbsent(
+					entityName,
+					name -> timer( "hibernate.entity.load", "Time to load entities by id", Tags.of( "entity", name ) )
+			).record( durationNanos, TimeUnit.NANOSECONDS );
+		}
+
+		@Override
+		public void cacheGet(String regionName, boolean hit, long durationNanos) {
+			final Map<String, Timer> timers = hit ? cacheHit : cacheMiss;
+			timers.computeIfAbsent(
+					regionName,
+					name -> timer(
+							"hibernate.cache.get",
+							"Time to read from the second-level cache",
+							Tags.of( "region", name, "result", hit ? "hit" : "miss" )
+					)
+			).record( durationNanos, TimeUnit.NANOSECONDS );
+		}
+
+		@Override
+		public void cachePut(String regionName, long durationNanos) {
+			cachePut.computeIfAbsent(
+					regionName,
+					name -> timer( "hibernate.cache.put", "Time to write loaded data to the second-level cache", Tags.of( "region", name ) )
+			).record( durationNanos, TimeUnit.NANOSECONDS );
+		}
+
+		private Timer timer(String name, String description, Tags extraTags) {
+			return Timer.builder( name )
+					.tags( tags )
+					.tags( extraTags )
+					.description( description )
+					.publishPercentileHistogram()
+					.register( meterRegistry );
+		}
+	}
+}
@@ -335,6 +335,44 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+
+		// Proxy classes
+		counter(registry,
+				"hibernate.proxy.classes",
+				"The number of proxy classes generated at runtime",
+				Statistics::getProxyClassGenerationCount,
+				"source",
+				"runtime"
+		);
+		counter(registry,
+				"hibernate.proxy.classes",
+				"The number of proxy classes generated at build time",
+				Statistics::getPregeneratedProxyClassCount,
+				"source",
+				"build"
+		);
+
+		TimeGauge.builder(
+				"hibernate.proxy.classes.time",
+				statistics,
+				TimeUnit.MILLISECONDS,
+				Statistics::getProxyClassGenerationTime
+		)
+				.description( "The time spent generating proxy classes at runtime" )
+				.tags( tags )
+				.tags( "source", "runtime" )
+				.register( registry );
+
+		TimeGauge.builder(
+				"hibernate.proxy.classes.time",
+				statistics,
+				TimeUnit.MILLISECONDS,
+				Statistics::getPregeneratedProxyClassLoadTime
+		)
+				.description( "The time spent loading proxy classes generated at build time" )
+				.tags( tags )
+				.tags( "source", "build" )
+				.register( registry );
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import java.util.Map;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.HibernateLatencyMetrics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MicrometerLatencyMetricsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final String REGION = "LatencyRegion";
+
+	private SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private HibernateLatencyMetrics metrics;
+
+	@Override
+	protected void applyMetadataSources(MetadataSources metadataSources) {
+		super.applyMetadataSources( metadataSources );
+		metadataSources.addAnnotatedClass( Item.class );
+	}
+
+	@Override
+	protected void addSettings(Map<String,Object> settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, new CachingRegionFactory() );
+		// the timers must not depend on statistics
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "false" );
+	}
+
+	@Before
+	public void setUpMetrics() {
+		metrics = HibernateLatencyMetrics.monitor( registry, sessionFactory(), "something", Tags.empty() );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		metrics.close();
+		registry.clear();
+	}
+
+	@Test
+	public void testLatencyIsRecorded() {
+		inTransaction( session -> session.persist( new Item( 1, "first" ) ) );
+
+		assertTrue( timer( "hibernate.connection.acquisition" ).count() > 0 );
+		assertTrue( timer( "hibernate.statement.execution" ).count() > 0 );
+		assertEquals( 1, timer( "hibernate.flush" ).count() );
+
+		sessionFactory().getCache().evictEntityData( Item.class );
+		inTransaction( session -> session.find( Item.class, 1 ) );
+		inTransaction( session -> session.createQuery( "from Item", Item.class ).list() );
+
+		final String entityName = Item.class.getName();
+		assertEquals( 1, registry.get( "hibernate.entity.load" ).tags( "entity", entityName ).timer().count() );
+		assertTrue( registry.get( "hibernate.cache.get" ).tags( "region", REGION, "result", "miss" ).timer().count() > 0 );
+		assertTrue( registry.get( "hibernate.cache.put" ).tags( "region", REGION ).timer().count() > 0 );
+		assertEquals( 1, registry.get( "hibernate.query.execution" ).tags( "query", "from Item" ).timer().count() );
+
+		inTransaction( session -> session.find( Item.class, 1 ) );
+		assertEquals( 1, registry.get( "hibernate.cache.get" ).tags( "region", REGION, "result", "hit" ).timer().count() );
+		assertEquals( 2, registry.get( "hibernate.entity.load" ).tags( "entity", entityName ).timer().count() );
+
+		inTransaction( session -> session.remove( session.find( Item.class, 1 ) ) );
+	}
+
+	@Test
+	public void testClosedMetricsStopRecording() {
+		metrics.close();
+		inTransaction( session -> session.persist( new Item( 2, "second" ) ) );
+		assertEquals( 0, timer( "hibernate.flush" ).count() );
+
+		inTransaction( session -> session.remove( session.find( Item.class, 2 ) ) );
+	}
+
+	private Timer timer(String name) {
+		return registry.get( name ).tags( "entityManagerFactory", "something" ).timer();
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "latency_items" )
+	@Cacheable
+	@Cache( region = REGION, usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Item {
+		@Id
+		public Integer id;
+
+		public String name;
+
+		protected Item() {
+		}
+
+		public Item(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
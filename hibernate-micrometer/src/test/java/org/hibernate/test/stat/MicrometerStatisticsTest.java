@@ -110,6 +110,10 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.cache.query.puts").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "miss").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.proxy.classes").tags("source", "runtime").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.proxy.classes").tags("source", "build").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.proxy.classes.time").tags("source", "runtime").timeGauge());
+		Assert.assertNotNull(registry.get("hibernate.proxy.classes.time").tags("source", "build").timeGauge());
 
 		// prepare some test data...
 		Session session = openSession();
@@ -39,6 +39,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @ExtendWith( EntityManagerFactoryParameterResolver.class )
 
 @ExtendWith( FailureExpectedExtension.class )
+@ExtendWith( PinnedVirtualThreadsExtension.class )
 public @interface Jpa {
 	String persistenceUnitName() default "test-pu";
 
@@ -0,0 +1,166 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.testing.orm.junit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+/**
+ * When the system property {@value #TRACE_PINNED_THREADS} is set, runs each test method on a
+ * virtual thread, and fails the test if the virtual thread blocked while Hibernate code held a
+ * monitor, pinning the virtual thread to its carrier thread.
+ * <p>
+ * The pinning itself is detected by the JDK, which prints the stack of the pinned virtual thread
+ * to {@link System#out} when run with {@code -Djdk.tracePinnedThreads}. This requires JDK 21 or
+ * later. The build sets both system properties when run with {@code -Ptrace-pinned-threads=true}.
+ * <p>
+ * Note that the JDK prints the stack of a pinned thread only the first time it sees it, so a
+ * pinning is reported by the first test running into it.
+ */
+public class PinnedVirtualThreadsExtension implements InvocationInterceptor {
+	public static final String TRACE_PINNED_THREADS = "hibernate.test.trace_pinned_threads";
+
+	private static final boolean ENABLED = Boolean.getBoolean( TRACE_PINNED_THREADS );
+
+	// the marker of the frames holding a monitor, in the stacks printed by the JDK
+	private static final String MONITORS_MARKER = "<== monitors:";
+
+	@Override
+	public void interceptTestMethod(
+			Invocation<Void> invocation,
+			ReflectiveInvocationContext<Method> invocationContext,
+			ExtensionContext extensionContext) throws Throwable {
+		proceed( invocation );
+	}
+
+	@Override
+	public void interceptTestTemplateMethod(
+			Invocation<Void> invocation,
+			ReflectiveInvocationContext<Method> invocationContext,
+			ExtensionContext extensionContext) throws Throwable {
+		proceed( invocation );
+	}
+
+	private static void proceed(Invocation<Void> invocation) throws Throwable {
+		if ( !ENABLED ) {
+			invocation.proceed();
+			return;
+		}
+
+		final PrintStream out = System.out;
+		final ByteArrayOutputStream traces = new ByteArrayOutputStream();
+		System.setOut( new PrintStream( new TeeOutputStream( out, traces ), true ) );
+		try {
+			proceedOnVirtualThread( invocation );
+		}
+		finally {
+			System.out.flush();
+			System.setOut( out );
+		}
+
+		final List<String> pinningFrames = findHibernateFramesHoldingMonitors(
+				traces.toString( StandardCharsets.UTF_8 )
+		);
+		if ( !pinningFrames.isEmpty() ) {
+			throw new AssertionError(
+					"A virtual thread was pinned to its carrier thread by a monitor held by Hibernate, at:\n"
+							+ String.join( "\n", pinningFrames )
+			);
+		}
+	}
+
+	private static void proceedOnVirtualThread(Invocation<Void> invocation) throws Throwable {
+		final Throwable[] failure = new Throwable[1];
+		final Runnable test = () -> {
+			try {
+				invocation.proceed();
+			}
+			catch (Throwable t) {
+				failure[0] = t;
+			}
+		};
+
+		final Thread thread;
+		try {
+			// Thread.startVirtualThread() is not available to the Java release the tests are compiled for
+			final Method startVirtualThread = Thread.class.getMethod( "startVirtualThread", Runnable.class );
+			thread = (Thread) startVirtualThread.invoke( null, test );
+		}
+		catch (NoSuchMethodException e) {
+			throw new IllegalStateException(
+					"Property `" + TRACE_PINNED_THREADS + "` requires a JDK supporting virtual threads",
+					e
+			);
+		}
+		catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+
+		thread.join();
+		if ( failure[0] != null ) {
+			throw failure[0];
+		}
+	}
+
+	private static List<String> findHibernateFramesHoldingMonitors(String traces) {
+		final List<String> frames = new ArrayList<>();
+		for ( String line : traces.split( "\\R" ) ) {
+			final String frame = line.trim();
+			if ( frame.contains( MONITORS_MARKER ) && isHibernateFrame( frame ) ) {
+				frames.add( frame );
+			}
+		}
+		return frames;
+	}
+
+	private static boolean isHibernateFrame(String frame) {
+		// the method may be prefixed with the name of its class loader and module
+		final String methodName = frame.substring( frame.lastIndexOf( '/', frame.indexOf( '(' ) ) + 1 );
+		return methodName.startsWith( "org.hibernate." )
+				// monitors held by the tests themselves are none of our business
+				&& !methodName.startsWith( "org.hibernate.testing." )
+				&& !methodName.startsWith( "org.hibernate.orm.test." );
+	}
+
+	private static class TeeOutputStream extends OutputStream {
+		private final OutputStream first;
+		private final OutputStream second;
+
+		private TeeOutputStream(OutputStream first, OutputStream second) {
+			this.first = first;
+			this.second = second;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			first.write( b );
+			second.write( b );
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			first.write( b, off, len );
+			second.write( b, off, len );
+		}
+
+		@Override
+		public void flush() throws IOException {
+			first.flush();
+		}
+	}
+}
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @TestInstance( TestInstance.Lifecycle.PER_CLASS )
 
 @ExtendWith( FailureExpectedExtension.class )
+@ExtendWith( PinnedVirtualThreadsExtension.class )
 @ExtendWith( ServiceRegistryExtension.class )
 @ExtendWith( ServiceRegistryParameterResolver.class )
 
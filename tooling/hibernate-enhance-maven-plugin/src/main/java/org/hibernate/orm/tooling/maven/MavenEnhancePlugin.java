@@ -18,6 +18,7 @@ import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.maven.artifact.Artifact;
@@ -80,7 +81,14 @@ public class MavenEnhancePlugin extends AbstractMojo {
 	@Parameter(property = "enableExtendedEnhancement", defaultValue = "false")
 	private boolean enableExtendedEnhancement;
 
+	@Parameter(property = "enableClassPregeneration", defaultValue = "false")
+	private boolean enableClassPregeneration;
+
 	private boolean shouldApply() {
+		return shouldEnhance() || enableClassPregeneration;
+	}
+
+	private boolean shouldEnhance() {
 		return enableLazyInitialization || enableDirtyTracking || enableAssociationManagement || enableExtendedEnhancement;
 	}
 
@@ -108,7 +116,6 @@ public class MavenEnhancePlugin extends AbstractMojo {
 			return;
 		}
 
-		log.info( "Starting Hibernate enhancement for classes on " + dir );
 		final ClassLoader classLoader = toClassLoader( Collections.singletonList( new File( base ) ) );
 
 		EnhancementContext enhancementContext = new DefaultEnhancementContext() {
@@ -147,19 +154,30 @@ public class MavenEnhancePlugin extends AbstractMojo {
 			log.warn( "Extended enhancement is enabled. Classes other than entities may be modified. You should consider access the entities using getter/setter methods and disable this property. Use at your own risk." );
 		}
 
-		final Enhancer enhancer = Environment.getBytecodeProvider().getEnhancer( enhancementContext );
+		if ( shouldEnhance() ) {
+			log.info( "Starting Hibernate enhancement for classes on " + dir );
+			final Enhancer enhancer = Environment.getBytecodeProvider().getEnhancer( enhancementContext );
 
-		for ( File file : sourceSet ) {
+			for ( File file : sourceSet ) {
 
-			final byte[] enhancedBytecode = doEnhancement( file, enhancer );
+				final byte[] enhancedBytecode = doEnhancement( file, enhancer );
 
-			if ( enhancedBytecode == null ) {
-				continue;
+				if ( enhancedBytecode == null ) {
+					continue;
+				}
+
+				writeOutEnhancedClass( enhancedBytecode, file );
+				if ( log.isDebugEnabled() ) {
+					log.debug( "Successfully enhanced class [" + file + "]" );
+				}
 			}
+		}
 
-			writeOutEnhancedClass( enhancedBytecode, file );
-			if ( log.isDebugEnabled() ) {
-				log.debug( "Successfully enhanced class [" + file + "]" );
+		if ( enableClassPregeneration ) {
+			// after the enhancement, since the generated proxies override the enhanced methods
+			log.info( "Starting Hibernate class pre-generation for classes on " + dir );
+			for ( File file : sourceSet ) {
+				doPregeneration( file, classLoader );
 			}
 		}
 	}
@@ -237,6 +255,44 @@ public class MavenEnhancePlugin extends AbstractMojo {
 		}
 	}
 
+	private void doPregeneration(File javaClassFile, ClassLoader classLoader) throws MojoExecutionException {
+		final String className = javaClassFile.getAbsolutePath().substring(
+				base.length() + 1,
+				javaClassFile.getAbsolutePath().length() - ".class".length()
+		).replace( File.separatorChar, '.' );
+
+		final Map<String, byte[]> generatedClasses;
+		try {
+			generatedClasses = Environment.getBytecodeProvider().pregenerateClasses( className, classLoader );
+		}
+		catch (Exception e) {
+			// not an error: Hibernate generates the classes at runtime instead
+			buildContext.addMessage( javaClassFile, 0, 0, "Unable to pre-generate classes for class", BuildContext.SEVERITY_WARNING, e );
+			return;
+		}
+
+		for ( Map.Entry<String, byte[]> generatedClass : generatedClasses.entrySet() ) {
+			final File file = new File( base, generatedClass.getKey().replace( '.', File.separatorChar ) + ".class" );
+			writeOutGeneratedClass( generatedClass.getValue(), file );
+			if ( getLog().isDebugEnabled() ) {
+				getLog().debug( "Successfully generated class [" + file + "]" );
+			}
+		}
+	}
+
+	private void writeOutGeneratedClass(byte[] bytecode, File file) throws MojoExecutionException {
+		try ( OutputStream outputStream = buildContext.newFileOutputStream( file ) ) {
+			outputStream.write( bytecode );
+		}
+		catch (IOException e) {
+			String msg = String.format( "Error writing generated class to file [%s]", file.getAbsolutePath() );
+			if ( failOnError ) {
+				throw new MojoExecutionException( msg, e );
+			}
+			buildContext.addMessage( file, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+		}
+	}
+
 	/**
 	 * Expects a directory.
 	 */
@@ -6,6 +6,8 @@
  */
 package org.hibernate.orm.tooling.gradle;
 
+import java.util.Collections;
+
 import org.gradle.api.Action;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
@@ -21,6 +23,7 @@ import org.gradle.api.tasks.compile.JavaCompile;
 
 import org.hibernate.orm.tooling.gradle.enhance.EnhancementHelper;
 import org.hibernate.orm.tooling.gradle.metamodel.JpaMetamodelGenerationTask;
+import org.hibernate.orm.tooling.gradle.misc.PreBindXmlMappingsTask;
 
 import static org.hibernate.orm.tooling.gradle.Helper.determineCompileSourceSetName;
 import static org.hibernate.orm.tooling.gradle.HibernateOrmSpec.HIBERNATE;
@@ -42,6 +45,7 @@ public class HibernateOrmPlugin implements Plugin<Project> {
 		prepareEnhancement( ormDsl, project );
 		prepareModelGen( ormDsl, project );
 		prepareHbmTransformation( ormDsl, project );
+		prepareXmlMappingPreBinding( ormDsl, project );
 
 
 		//noinspection ConstantConditions
@@ -146,4 +150,28 @@ public class HibernateOrmPlugin implements Plugin<Project> {
 	private void prepareHbmTransformation(HibernateOrmSpec ormDsl, Project project) {
 
 	}
+
+	private void prepareXmlMappingPreBinding(HibernateOrmSpec ormDsl, Project project) {
+		final TaskProvider<PreBindXmlMappingsTask> preBindTaskRef = project.getTasks().register( PreBindXmlMappingsTask.TASK_NAME, PreBindXmlMappingsTask.class, (preBindTask) -> {
+			preBindTask.onlyIf( (t) -> ormDsl.getPreBindXmlMappings().get() );
+
+			preBindTask.setGroup( HIBERNATE );
+			preBindTask.setDescription( "Binds the hbm.xml and orm.xml resources ahead of bootstrapping Hibernate" );
+
+			preBindTask.source( ormDsl.getSourceSet().map( (sourceSet) -> sourceSet.getResources().getSourceDirectories() ) );
+			preBindTask.getOutputDirectory().convention( project.getLayout().getBuildDirectory().dir( "hibernate/prebound-xml-mappings" ) );
+		} );
+
+		project.afterEvaluate( (p) -> {
+			if ( !ormDsl.getPreBindXmlMappings().get() ) {
+				return;
+			}
+
+			// package the bound mappings along with the resources of the source-set
+			ormDsl.getSourceSet().get().getOutput().dir(
+					Collections.singletonMap( "builtBy", preBindTaskRef ),
+					preBindTaskRef.flatMap( PreBindXmlMappingsTask::getOutputDirectory )
+			);
+		} );
+	}
 }
@@ -35,6 +35,7 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 
 	private final Property<Boolean> useSameVersion;
 	private final Property<SourceSet> sourceSet;
+	private final Property<Boolean> preBindXmlMappings;
 
 	private final Provider<EnhancementSpec> enhancementDslAccess;
 	private final Provider<JpaMetamodelGenerationSpec> jpaMetamodelDslAccess;
@@ -50,6 +51,9 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 		sourceSet = project.getObjects().property( SourceSet.class );
 		sourceSet.convention( mainSourceSet( project ) );
 
+		preBindXmlMappings = project.getObjects().property( Boolean.class );
+		preBindXmlMappings.convention( false );
+
 		enhancementDslAccess = project.provider( () -> enhancementDsl );
 		jpaMetamodelDslAccess = project.provider( () -> jpaMetamodelDsl );
 	}
@@ -125,6 +129,33 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 		setSourceSet( sourceSet );
 	}
 
+	/**
+	 * Should the {@code hbm.xml} and {@code orm.xml} resources of the {@link #getSourceSet() source-set}
+	 * be bound at build time, so that Hibernate does not need to parse and validate them when
+	 * bootstrapping?  Resources changed after they were bound are still parsed.
+	 * <p>
+	 * Defaults to {@code false}.
+	 *
+	 * @see org.hibernate.orm.tooling.gradle.misc.PreBindXmlMappingsTask
+	 */
+	public Property<Boolean> getPreBindXmlMappings() {
+		return preBindXmlMappings;
+	}
+
+	/**
+	 * @see #getPreBindXmlMappings()
+	 */
+	public void setPreBindXmlMappings(boolean value) {
+		preBindXmlMappings.set( value );
+	}
+
+	/**
+	 * @see #getPreBindXmlMappings()
+	 */
+	public void preBindXmlMappings() {
+		preBindXmlMappings.set( true );
+	}
+
 	/**
 	 * DSL extension for configuring bytecode enhancement.  Also acts as the trigger for
 	 * opting into bytecode enhancement
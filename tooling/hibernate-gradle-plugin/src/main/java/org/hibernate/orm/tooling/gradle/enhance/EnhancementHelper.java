@@ -10,6 +10,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Map;
 
 import org.gradle.api.GradleException;
 import org.gradle.api.Project;
@@ -42,6 +43,11 @@ public class EnhancementHelper {
 		final Enhancer enhancer = generateEnhancer( classLoader, ormDsl );
 
 		walk( classesDir, classesDir, enhancer, project );
+
+		if ( ormDsl.getEnhancement().getEnableClassPregeneration().get() ) {
+			// after the enhancement, since the generated proxies override the enhanced methods
+			pregenerate( classesDir, classesDir, classLoader, project );
+		}
 	}
 
 	private static void walk(File classesDir, File dir, Enhancer enhancer, Project project) {
@@ -88,6 +94,41 @@ public class EnhancementHelper {
 		}
 	}
 
+	private static void pregenerate(File classesDir, File dir, ClassLoader classLoader, Project project) {
+		for ( File subLocation : dir.listFiles() ) {
+			if ( subLocation.isDirectory() ) {
+				pregenerate( classesDir, subLocation, classLoader, project );
+			}
+			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
+				final String className = determineClassName( classesDir, subLocation );
+
+				final Map<String, byte[]> generatedClasses;
+				try {
+					//noinspection deprecation
+					generatedClasses = Environment.getBytecodeProvider().pregenerateClasses( className, classLoader );
+				}
+				catch (Exception e) {
+					// Hibernate generates the classes at runtime instead
+					project.getLogger().warn( "Unable to pre-generate classes for class : " + className, e );
+					continue;
+				}
+				generatedClasses.forEach( (generatedClassName, bytecode) -> {
+					final File generatedClassFile = new File(
+							classesDir,
+							generatedClassName.replace( '.', File.separatorChar ) + ".class"
+					);
+					try {
+						Files.write( generatedClassFile.toPath(), bytecode );
+					}
+					catch (IOException e) {
+						throw new GradleException( "Error writing generated class to file [" + generatedClassFile.getAbsolutePath() + "]", e );
+					}
+					project.getLogger().info( "Successfully generated class : " + generatedClassName );
+				} );
+			}
+		}
+	}
+
 	public static Enhancer generateEnhancer(ClassLoader classLoader, HibernateOrmSpec ormDsl) {
 		final EnhancementSpec enhancementDsl = ormDsl.getEnhancement();
 
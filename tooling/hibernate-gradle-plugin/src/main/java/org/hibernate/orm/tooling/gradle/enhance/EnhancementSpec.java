@@ -28,7 +28,7 @@ public class EnhancementSpec {
 	private final Property<Boolean> enableDirtyTracking;
 	private final Property<Boolean> enableAssociationManagement;
 	private final Property<Boolean> enableExtendedEnhancement;
-
+	private final Property<Boolean> enableClassPregeneration;
 
 	@Inject
 	public EnhancementSpec(HibernateOrmSpec ormDsl, Project project) {
@@ -38,13 +38,15 @@ public class EnhancementSpec {
 		enableDirtyTracking = makeProperty( project );
 		enableAssociationManagement = makeProperty( project );
 		enableExtendedEnhancement = makeProperty( project );
+		enableClassPregeneration = makeProperty( project );
 	}
 
 	public boolean hasAnythingToDo() {
 		return enableLazyInitialization.get()
 				|| enableDirtyTracking.get()
 				|| enableAssociationManagement.get()
-				|| enableExtendedEnhancement.get();
+				|| enableExtendedEnhancement.get()
+				|| enableClassPregeneration.get();
 	}
 
 	public Property<Boolean> getEnableLazyInitialization() {
@@ -122,6 +124,32 @@ public class EnhancementSpec {
 		setEnableExtendedEnhancement( enable );
 	}
 
+	/**
+	 * Whether to generate the proxy classes of the entities, and the other classes Hibernate
+	 * otherwise generates when the SessionFactory is built, at build time.
+	 *
+	 * @since 6.2
+	 */
+	public Property<Boolean> getEnableClassPregeneration() {
+		return enableClassPregeneration;
+	}
+
+	public void setEnableClassPregeneration(boolean enable) {
+		enableClassPregeneration.set( enable );
+	}
+
+	public void enableClassPregeneration(boolean enable) {
+		setEnableClassPregeneration( enable );
+	}
+
+	public void classPregeneration(boolean enable) {
+		setEnableClassPregeneration( enable );
+	}
+
+	public void setClassPregeneration(boolean enable) {
+		setEnableClassPregeneration( enable );
+	}
+
 	@SuppressWarnings( "UnstableApiUsage" )
 	public static Property<Boolean> makeProperty(Project project) {
 		final Property<Boolean> createdProperty = project.getObjects().property( Boolean.class );
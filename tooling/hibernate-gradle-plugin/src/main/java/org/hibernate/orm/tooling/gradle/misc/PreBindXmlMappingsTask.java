@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.tooling.gradle.misc;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.SourceTask;
+import org.gradle.api.tasks.TaskAction;
+
+import org.hibernate.boot.jaxb.internal.MappingBinder;
+import org.hibernate.boot.jaxb.internal.PreboundXmlMappings;
+
+/**
+ * Task to bind the {@code hbm.xml} and {@code orm.xml} resources of the domain model
+ * ahead of time, into {@link PreboundXmlMappings} which Hibernate uses instead of
+ * parsing and validating the XML at runtime.  This does not save any of the processing
+ * of the mappings themselves, nor of the annotations.
+ * <p/>
+ * The bound mappings are written as the {@value PreboundXmlMappings#RESOURCE_NAME}
+ * resource of the {@link #getOutputDirectory() output directory}.  The paths of the
+ * source files are used as the names of their resources, so the sources should be
+ * resource directories.  By default, the task includes the files named {@code orm.xml},
+ * or ending with {@code .orm.xml} or {@code .hbm.xml}, and skips those which are not
+ * mapping documents.
+ *
+ * @see PreboundXmlMappings
+ *
+ * @since 6.2
+ */
+public abstract class PreBindXmlMappingsTask extends SourceTask {
+	public static final String TASK_NAME = "preBindXmlMappings";
+
+	private final DirectoryProperty outputDirectory;
+
+	public PreBindXmlMappingsTask() {
+		this.outputDirectory = getProject().getObjects().directoryProperty();
+
+		include( "**/*.hbm.xml", "**/orm.xml", "**/*.orm.xml" );
+	}
+
+	/**
+	 * The directory the bound mappings are written to, as the
+	 * {@value PreboundXmlMappings#RESOURCE_NAME} resource
+	 */
+	@OutputDirectory
+	public DirectoryProperty getOutputDirectory() {
+		return outputDirectory;
+	}
+
+	@TaskAction
+	public void preBindXmlMappings() {
+		final MappingBinder mappingBinder = new MappingBinder(
+				MappingBinder.class.getClassLoader()::getResourceAsStream,
+				MappingBinder.VALIDATING
+		);
+
+		final PreboundXmlMappings mappings = new PreboundXmlMappings();
+		getSource().visit( (details) -> {
+			if ( details.isDirectory() ) {
+				return;
+			}
+			final String resourceName = details.getRelativePath().getPathString();
+			final boolean added;
+			try {
+				added = mappings.add( resourceName, Files.readAllBytes( details.getFile().toPath() ), mappingBinder );
+			}
+			catch (IOException e) {
+				throw new RuntimeException( "Unable to read mapping file `" + details.getFile().getAbsolutePath() + "`", e );
+			}
+			if ( !added ) {
+				getLogger().info( "Skipped `{}`, which is not a mapping document", details.getFile().getAbsolutePath() );
+			}
+		} );
+
+		final File mappingsFile = outputDirectory.file( PreboundXmlMappings.RESOURCE_NAME ).get().getAsFile();
+		//noinspection ResultOfMethodCallIgnored
+		mappingsFile.getParentFile().mkdirs();
+		try ( OutputStream outputStream = new FileOutputStream( mappingsFile ) ) {
+			mappings.write( outputStream );
+		}
+		catch (IOException e) {
+			throw new RuntimeException( "Unable to write pre-bound mappings `" + mappingsFile.getAbsolutePath() + "`", e );
+		}
+
+		getLogger().info( "Wrote {} pre-bound mapping resources to `{}`", mappings.size(), mappingsFile.getAbsolutePath() );
+	}
+}